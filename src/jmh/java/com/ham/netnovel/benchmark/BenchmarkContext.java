@@ -0,0 +1,68 @@
+package com.ham.netnovel.benchmark;
+
+import com.ham.netnovel.NetnovelApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크에서 공유하는 스프링 컨텍스트와 합성 카탈로그를 관리하는 클래스입니다.
+ *
+ * <p>JMH fork(JVM)당 한번만 애플리케이션을 띄우고 카탈로그를 생성합니다.
+ * 애플리케이션은 {@code benchmark} 프로필(application-benchmark.properties)로 실행되며,
+ * 기본값은 인메모리 H2(MySQL 모드)와 localhost Redis 입니다.</p>
+ */
+@Slf4j
+public final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private static SyntheticCatalogueGenerator generator;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * 스프링 컨텍스트를 반환합니다. 처음 호출시 애플리케이션을 시작하고 카탈로그를 생성합니다.
+     *
+     * @return 벤치마크용 {@link ConfigurableApplicationContext}
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            SpringApplication application = new SpringApplication(NetnovelApplication.class);
+            application.setAdditionalProfiles("benchmark");
+            context = application.run();
+
+            generator = new SyntheticCatalogueGenerator(
+                    context.getBean(JdbcTemplate.class),
+                    context.getBean("redisTemplate", RedisTemplate.class),
+                    SyntheticCatalogueSpec.fromSystemProperties());
+            generator.generate();
+        }
+        return context;
+    }
+
+    //제목 검색(Full-Text) 벤치마크 실행 가능 여부
+    public static boolean supportsFullTextSearch() {
+        get();
+        return generator.isMySql();
+    }
+
+    /**
+     * 측정 구간에서 실행된 SQL 문 수를 요청 수로 나누어 출력합니다.
+     *
+     * @param benchmarkName   벤치마크 이름
+     * @param statementsStart 측정 시작시 {@link SqlStatementCounter#count()} 값
+     * @param requests        측정 구간의 요청 수
+     */
+    public static void reportStatementsPerRequest(String benchmarkName, long statementsStart, long requests) {
+        if (requests == 0) {
+            return;
+        }
+        double perRequest = (double) (SqlStatementCounter.count() - statementsStart) / requests;
+        System.out.printf("%n[SQL] %s : %.2f statements/request (%d requests)%n", benchmarkName, perRequest, requests);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ham.netnovel.benchmark;
+
+import com.ham.netnovel.common.utils.PageableUtil;
+import com.ham.netnovel.novel.data.NovelSearchType;
+import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.service.NovelSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 작가명 검색 서비스 계층 벤치마크입니다.
+ *
+ * <p>"작가1" 은 작가1, 작가10~19, 작가100~ 등 여러 작가와 부분일치하므로 결과가 많은 검색어,
+ * "작가199" 는 한명과 일치하는 검색어입니다.</p>
+ */
+@State(Scope.Benchmark)
+public class NovelAuthorSearchBenchmark extends SqlCountingBenchmark {
+
+    @Param({"작가1", "작가199"})
+    public String searchWord;
+
+    @Param({"0", "5"})
+    public int pageNumber;
+
+    private NovelSearchService novelSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        novelSearchService = BenchmarkContext.get().getBean(NovelSearchService.class);
+    }
+
+    @Benchmark
+    public List<NovelListDto> searchByAuthor() {
+        countRequest();
+        return novelSearchService.getNovelsBySearchWord(searchWord, NovelSearchType.AUTHOR_NAME,
+                PageableUtil.createPageable(pageNumber, 30));
+    }
+}
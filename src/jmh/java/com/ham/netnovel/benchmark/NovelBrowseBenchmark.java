@@ -0,0 +1,51 @@
+package com.ham.netnovel.benchmark;
+
+import com.ham.netnovel.common.utils.PageableUtil;
+import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.service.NovelSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 소설 둘러보기({@link NovelSearchService#getNovelsBySearchCondition}) 서비스 계층 벤치마크입니다.
+ *
+ * <p>정렬 기준(조회수, 좋아요수, 최신순), 선택한 태그 수(0/1/3), 페이지 번호(첫페이지, 깊은 페이지)별로 측정합니다.
+ * 태그는 사용 빈도가 가장 높은 앞번호 태그를 선택합니다.</p>
+ */
+@State(Scope.Benchmark)
+public class NovelBrowseBenchmark extends SqlCountingBenchmark {
+
+    @Param({"view", "favorites", "latest"})
+    public String sortBy;
+
+    @Param({"0", "1", "3"})
+    public int tagCount;
+
+    @Param({"0", "40"})
+    public int pageNumber;
+
+    @Param({"30"})
+    public int pageSize;
+
+    private NovelSearchService novelSearchService;
+
+    private List<Long> tagIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        novelSearchService = BenchmarkContext.get().getBean(NovelSearchService.class);
+        tagIds = tagCount == 0
+                ? Collections.emptyList()
+                : LongStream.rangeClosed(1, tagCount).boxed().toList();
+    }
+
+    @Benchmark
+    public List<NovelListDto> browse() {
+        countRequest();
+        return novelSearchService.getNovelsBySearchCondition(sortBy,
+                PageableUtil.createPageable(pageNumber, pageSize), tagIds);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ham.netnovel.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 소설 목록 API 단위 벤치마크입니다.
+ *
+ * <p>MockMvc 로 컨트롤러와 JSON 직렬화를 포함한 요청 처리를 측정합니다.
+ * 각 요청 경로는 {@link #uri} 파라미터로 지정합니다. 제목 검색 API 는 MySQL 에서만 동작합니다.</p>
+ */
+@State(Scope.Benchmark)
+public class NovelEndpointBenchmark extends SqlCountingBenchmark {
+
+    @Param({
+            "/api/novels/browse?sortBy=view&pageSize=30",
+            "/api/novels/browse?sortBy=latest&pageSize=30&pageNumber=40",
+            "/api/novels/browse?sortBy=favorites&pageSize=30&tagIds=1,2,3",
+            "/api/novels/search?searchWord=작가1&searchType=author",
+            "/api/novels/ranking?period=daily&pageSize=100"})
+    public String uri;
+
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WebApplicationContext context = (WebApplicationContext) BenchmarkContext.get();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        countRequest();
+        MvcResult result = mockMvc.perform(get(uri)).andReturn();
+        int status = result.getResponse().getStatus();
+        if (status != 200) {
+            throw new IllegalStateException("벤치마크 요청 실패 status=" + status + " uri=" + uri);
+        }
+        return result.getResponse().getContentAsByteArray().length;
+    }
+}
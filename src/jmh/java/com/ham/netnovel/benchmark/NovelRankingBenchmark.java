@@ -0,0 +1,39 @@
+package com.ham.netnovel.benchmark;
+
+import com.ham.netnovel.common.utils.PageableUtil;
+import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.service.NovelSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 랭킹 페이지 서비스 계층 벤치마크입니다.
+ *
+ * <p>랭킹 소설 id 는 합성 카탈로그 생성시 Redis 에 저장되므로 Redis 서버가 필요합니다.</p>
+ */
+@State(Scope.Benchmark)
+public class NovelRankingBenchmark extends SqlCountingBenchmark {
+
+    @Param({"daily", "weekly", "monthly"})
+    public String period;
+
+    @Param({"0", "4"})
+    public int pageNumber;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private NovelSearchService novelSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        novelSearchService = BenchmarkContext.get().getBean(NovelSearchService.class);
+    }
+
+    @Benchmark
+    public List<NovelListDto> ranking() {
+        countRequest();
+        return novelSearchService.getNovelsByRanking(period, PageableUtil.createPageable(pageNumber, pageSize));
+    }
+}
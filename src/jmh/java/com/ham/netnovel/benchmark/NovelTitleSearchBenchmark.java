@@ -0,0 +1,43 @@
+package com.ham.netnovel.benchmark;
+
+import com.ham.netnovel.common.utils.PageableUtil;
+import com.ham.netnovel.novel.data.NovelSearchType;
+import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.service.NovelSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 소설 제목 검색(Full-Text) 서비스 계층 벤치마크입니다.
+ *
+ * <p>MATCH AGAINST 문법과 FULLTEXT 인덱스가 필요하므로 MySQL 에서만 실행할 수 있습니다.
+ * {@code -Dbenchmark.datasource.url=jdbc:mysql://...} 로 빈 MySQL 스키마를 지정해야 합니다.</p>
+ */
+@State(Scope.Benchmark)
+public class NovelTitleSearchBenchmark extends SqlCountingBenchmark {
+
+    //제목 생성에 사용된 단어 및 일치하는 제목이 없는 검색어
+    @Param({"마법사", "회귀 황제", "없는검색어"})
+    public String searchWord;
+
+    @Param({"0", "10"})
+    public int pageNumber;
+
+    private NovelSearchService novelSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!BenchmarkContext.supportsFullTextSearch()) {
+            throw new IllegalStateException("제목 검색 벤치마크는 MySQL 데이터소스에서만 실행할 수 있습니다.");
+        }
+        novelSearchService = BenchmarkContext.get().getBean(NovelSearchService.class);
+    }
+
+    @Benchmark
+    public List<NovelListDto> searchByTitle() {
+        countRequest();
+        return novelSearchService.getNovelsBySearchWord(searchWord, NovelSearchType.NOVEL_TITLE,
+                PageableUtil.createPageable(pageNumber, 30));
+    }
+}
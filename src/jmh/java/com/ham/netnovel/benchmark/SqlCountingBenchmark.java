@@ -0,0 +1,35 @@
+package com.ham.netnovel.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정 iteration 마다 요청당 SQL 문 수를 출력하는 벤치마크 상위 클래스입니다.
+ *
+ * <p>하위 클래스의 벤치마크 메서드는 요청마다 {@link #countRequest()} 를 호출해야 합니다.
+ * 처리량, p50/p99 는 JMH(thrpt, sample 모드)가 측정합니다.</p>
+ */
+public abstract class SqlCountingBenchmark {
+
+    private final LongAdder requests = new LongAdder();
+
+    private long statementsStart;
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        requests.reset();
+        statementsStart = SqlStatementCounter.count();
+    }
+
+    @TearDown(Level.Iteration)
+    public void finishIteration() {
+        BenchmarkContext.reportStatementsPerRequest(getClass().getSimpleName(), statementsStart, requests.sum());
+    }
+
+    protected void countRequest() {
+        requests.increment();
+    }
+}
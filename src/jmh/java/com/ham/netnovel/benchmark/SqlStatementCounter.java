@@ -0,0 +1,27 @@
+package com.ham.netnovel.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 세는 {@link StatementInspector} 구현체입니다.
+ *
+ * <p>벤치마크 프로필에서 {@code hibernate.session_factory.statement_inspector} 로 등록되며,
+ * 요청당 SQL 문 수(N+1 여부)를 측정하는데 사용합니다. SQL 문은 변경하지 않고 그대로 반환합니다.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final LongAdder STATEMENTS = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.increment();
+        return sql;
+    }
+
+    //현재까지 실행된 SQL 문 수
+    public static long count() {
+        return STATEMENTS.sum();
+    }
+}
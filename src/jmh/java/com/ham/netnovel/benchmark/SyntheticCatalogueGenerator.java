@@ -0,0 +1,216 @@
+package com.ham.netnovel.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 벤치마크용 합성 카탈로그(작가, 독자, 소설, 메타데이터, 태그, 에피소드, 선호작, 랭킹)를 생성하는 클래스입니다.
+ *
+ * <p>스키마는 JPA(ddl-auto)로 생성된 테이블을 사용하며, 데이터는 JDBC batch insert 로 넣습니다.
+ * 모든 값은 {@link SyntheticCatalogueSpec#getSeed()} 로 초기화한 난수로 만들기 때문에 실행마다 동일합니다.
+ * 기준 시각도 고정값을 사용합니다.</p>
+ *
+ * <p>H2(MySQL 모드)와 MySQL 에서 동작합니다. MySQL 인 경우 제목 검색용 FULLTEXT 인덱스를 추가로 생성합니다.</p>
+ */
+@Slf4j
+public class SyntheticCatalogueGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    //카탈로그 기준 시각, 최근 업데이트 시간은 이 시각 이전 180일 범위에서 생성
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 9, 1, 0, 0);
+
+    //소설 제목을 만드는 단어, 제목 검색 벤치마크의 검색어로도 사용
+    static final String[] TITLE_WORDS = {
+            "마법사", "검성", "회귀", "귀환", "던전", "황제", "용사", "전생", "학원", "헌터",
+            "공작", "영애", "기사", "무림", "천재", "악역", "독자", "시점", "탑", "레벨업"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final SyntheticCatalogueSpec spec;
+
+    public SyntheticCatalogueGenerator(JdbcTemplate jdbcTemplate,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       SyntheticCatalogueSpec spec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.spec = spec;
+    }
+
+
+    /**
+     * 카탈로그를 생성합니다. 빈 스키마에서 한번만 호출해야 합니다.
+     */
+    public void generate() {
+        long start = System.currentTimeMillis();
+        Random random = new Random(spec.getSeed());
+
+        insertMembers();
+        insertCostPolicy();
+        insertTags();
+        insertNovels(random);
+        insertNovelTags(random);
+        insertEpisodes(random);
+        insertFavorites(random);
+        createFullTextIndexIfMySql();
+        saveRankingsToRedis(random);
+
+        log.info("합성 카탈로그 생성 완료, spec={}, 소요시간={}ms", spec, System.currentTimeMillis() - start);
+    }
+
+    //작가 id 는 1~authors, 독자 id 는 authors+1~members
+    private void insertMembers() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= spec.getMembers(); id++) {
+            boolean author = id <= spec.getAuthors();
+            rows.add(new Object[]{id, "member" + id + "@bench.test", "NAVER", "bench-" + id,
+                    author ? "AUTHOR" : "READER", (author ? "작가" : "독자") + id, id % 2 == 0 ? "FEMALE" : "MALE", 0});
+        }
+        batchInsert("insert into member (id, email, provider, provider_id, role, nick_name, gender, coin_count) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertCostPolicy() {
+        jdbcTemplate.update("insert into coin_cost_policy (id, name, coin_cost) values (1, 'FREE', 0)");
+    }
+
+    private void insertTags() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= spec.getTags(); id++) {
+            rows.add(new Object[]{id, "태그" + id, "ACTIVE"});
+        }
+        batchInsert("insert into tag (id, name, status) values (?, ?, ?)", rows);
+    }
+
+    //소설과 메타데이터를 함께 생성, 조회수/좋아요수는 소수 인기작에 몰리도록 거듭제곱 분포 사용
+    private void insertNovels(Random random) {
+        List<Object[]> novels = new ArrayList<>();
+        List<Object[]> metaData = new ArrayList<>();
+        for (long id = 1; id <= spec.getNovels(); id++) {
+            String title = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " "
+                    + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + id;
+            long authorId = 1 + random.nextInt(spec.getAuthors());
+            novels.add(new Object[]{id, title, title + " 소개글", "ONGOING", "ACTIVE", "thumbnail-" + id + ".png", authorId});
+
+            double popularity = Math.pow(random.nextDouble(), 4);
+            long totalViews = (long) (popularity * 1_000_000);
+            int totalFavorites = (int) (popularity * 10_000);
+            LocalDateTime latestEpisodeAt = BASE_TIME.minusMinutes(random.nextInt(180 * 24 * 60));
+            metaData.add(new Object[]{id, Timestamp.valueOf(latestEpisodeAt), totalViews, totalFavorites, id});
+        }
+        batchInsert("insert into novel (id, title, description, type, status, thumbnail_file_name, member_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?)", novels);
+        batchInsert("insert into novel_meta_data (id, latest_episode_at, total_views, total_favorites, novel_id) " +
+                "values (?, ?, ?, ?, ?)", metaData);
+    }
+
+    //태그 사용 빈도도 앞번호 태그에 몰리도록 생성
+    private void insertNovelTags(Random random) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long novelId = 1; novelId <= spec.getNovels(); novelId++) {
+            int tagCount = random.nextInt(spec.getMaxTagsPerNovel() + 1);
+            Set<Long> tagIds = new HashSet<>();
+            while (tagIds.size() < Math.min(tagCount, spec.getTags())) {
+                tagIds.add(1 + (long) (Math.pow(random.nextDouble(), 2) * spec.getTags()));
+            }
+            for (Long tagId : tagIds) {
+                rows.add(new Object[]{novelId, tagId});
+            }
+        }
+        batchInsert("insert into novel_tag (novel_id, tag_id) values (?, ?)", rows);
+    }
+
+    private void insertEpisodes(Random random) {
+        String content = "가".repeat(3_000);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long id = 1;
+        for (long novelId = 1; novelId <= spec.getNovels(); novelId++) {
+            for (int chapter = 1; chapter <= spec.getEpisodesPerNovel(); chapter++) {
+                Timestamp createdAt = Timestamp.valueOf(BASE_TIME.minusDays(spec.getEpisodesPerNovel() - chapter));
+                rows.add(new Object[]{id++, chapter, chapter + "화", content, random.nextInt(10_000),
+                        createdAt, createdAt, "ACTIVE", novelId, 1L});
+                //에피소드는 양이 많으므로 batch 단위로 바로 insert
+                if (rows.size() == BATCH_SIZE) {
+                    batchInsert(episodeInsertSql(), rows);
+                    rows.clear();
+                }
+            }
+        }
+        batchInsert(episodeInsertSql(), rows);
+    }
+
+    private String episodeInsertSql() {
+        return "insert into episode (id, chapter, title, content, view, created_at, updated_at, status, novel_id, coin_cost_policy_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    private void insertFavorites(Random random) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long memberId = spec.getAuthors() + 1L; memberId <= spec.getMembers(); memberId++) {
+            int favoriteCount = random.nextInt(spec.getMaxFavoritesPerMember() + 1);
+            Set<Long> novelIds = new HashSet<>();
+            while (novelIds.size() < Math.min(favoriteCount, spec.getNovels())) {
+                novelIds.add(1 + (long) random.nextInt(spec.getNovels()));
+            }
+            for (Long novelId : novelIds) {
+                rows.add(new Object[]{memberId, novelId});
+            }
+        }
+        batchInsert("insert into favorite_novel (member_id, novel_id) values (?, ?)", rows);
+    }
+
+    //제목 검색(MATCH AGAINST)은 MySQL FULLTEXT 인덱스가 필요함, H2 에서는 생략
+    private void createFullTextIndexIfMySql() {
+        if (!isMySql()) {
+            log.warn("H2 데이터베이스 사용중, 제목 검색 벤치마크는 MySQL 에서만 실행할 수 있습니다.");
+            return;
+        }
+        jdbcTemplate.execute("alter table novel add fulltext index ft_novel_title (title) with parser ngram");
+    }
+
+    //일간/주간/월간 랭킹을 Redis 에 저장, 키 형식은 NovelRankingService 와 동일
+    private void saveRankingsToRedis(Random random) {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        for (String period : List.of("daily", "weekly", "monthly")) {
+            String key = period + "_rankings:" + today;
+            redisTemplate.delete(key);
+            List<Long> novelIds = new ArrayList<>();
+            for (long id = 1; id <= spec.getNovels(); id++) {
+                novelIds.add(id);
+            }
+            Collections.shuffle(novelIds, random);
+            for (int rank = 1; rank <= Math.min(spec.getRankedNovels(), novelIds.size()); rank++) {
+                redisTemplate.opsForZSet().add(key, String.valueOf(novelIds.get(rank - 1)), rank);
+            }
+            redisTemplate.expire(key, Duration.ofDays(1));
+        }
+    }
+
+    /**
+     * 현재 데이터소스가 MySQL 인지 확인합니다.
+     *
+     * @return MySQL 이면 true
+     */
+    public boolean isMySql() {
+        String productName = jdbcTemplate.execute(
+                (Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        return productName != null && productName.toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ham.netnovel.benchmark;
+
+import lombok.*;
+
+/**
+ * 벤치마크용 합성 카탈로그의 크기와 시드값을 담는 클래스입니다.
+ *
+ * <p>모든 값은 {@code -Dbenchmark.<이름>} 시스템 프로퍼티로 변경할 수 있으며,
+ * 같은 값으로 생성한 카탈로그는 항상 동일한 데이터를 가집니다.</p>
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyntheticCatalogueSpec {
+
+    //난수 생성 시드, 같은 시드면 같은 카탈로그가 생성됨
+    private long seed;
+
+    //작가 수, 독자는 members - authors 명
+    private int authors;
+
+    private int members;
+
+    private int novels;
+
+    //소설당 에피소드 수
+    private int episodesPerNovel;
+
+    private int tags;
+
+    //소설당 최대 태그 수, 0~maxTagsPerNovel 개가 무작위로 할당됨
+    private int maxTagsPerNovel;
+
+    //유저당 최대 선호작 수
+    private int maxFavoritesPerMember;
+
+    //랭킹(Redis ZSET)에 저장할 소설 수
+    private int rankedNovels;
+
+
+    /**
+     * 시스템 프로퍼티로 카탈로그 크기를 읽어옵니다. 값이 없으면 기본값을 사용합니다.
+     *
+     * @return {@link SyntheticCatalogueSpec} 객체
+     */
+    public static SyntheticCatalogueSpec fromSystemProperties() {
+        return SyntheticCatalogueSpec.builder()
+                .seed(Long.getLong("benchmark.seed", 20240901L))
+                .authors(Integer.getInteger("benchmark.authors", 200))
+                .members(Integer.getInteger("benchmark.members", 2_000))
+                .novels(Integer.getInteger("benchmark.novels", 5_000))
+                .episodesPerNovel(Integer.getInteger("benchmark.episodesPerNovel", 20))
+                .tags(Integer.getInteger("benchmark.tags", 300))
+                .maxTagsPerNovel(Integer.getInteger("benchmark.maxTagsPerNovel", 5))
+                .maxFavoritesPerMember(Integer.getInteger("benchmark.maxFavoritesPerMember", 30))
+                .rankedNovels(Integer.getInteger("benchmark.rankedNovels", 500))
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import com.ham.netnovel.favoriteNovel.FavoriteNovelRepository;
 import com.ham.netnovel.member.Member;
 import com.ham.netnovel.member.service.MemberService;
 import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.novel.service.NovelService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,19 +26,21 @@ public class FavoriteNovelServiceImpl implements FavoriteNovelService {
     private final FavoriteNovelRepository favoriteNovelRepository;
     private final MemberService memberService;
     private final NovelService novelService;
+    private final NovelInfoReadModel novelInfoReadModel;
 
     @Autowired
-    public FavoriteNovelServiceImpl(FavoriteNovelRepository favoriteNovelRepository, MemberService memberService, NovelService novelService) {
+    public FavoriteNovelServiceImpl(FavoriteNovelRepository favoriteNovelRepository, MemberService memberService, NovelService novelService, NovelInfoReadModel novelInfoReadModel) {
         this.favoriteNovelRepository = favoriteNovelRepository;
         this.memberService = memberService;
         this.novelService = novelService;
+        this.novelInfoReadModel = novelInfoReadModel;
     }
 
     @Override
     @Transactional
     public Boolean toggleFavoriteNovel(String providerId, Long novelId) {
         //유저, 작품 레코드 DB 검증
-        Member member = memberService.getMember(providerId)
+        Member member = memberService.getMemberReference(providerId)
                 .orElseThrow(() -> new NoSuchElementException("toggleFavoriteNovel() Error : 존재하지 않는 Member 입니다."+providerId));
         Novel novel = novelService.getNovel(novelId)
                 .orElseThrow(() -> new NoSuchElementException("toggleFavoriteNovel() Error : 존재하지 않는 Novel 입니다."+novelId));
@@ -50,6 +53,8 @@ public class FavoriteNovelServiceImpl implements FavoriteNovelService {
             //이미 레코드가 있으면 삭제
             if (record.isPresent()) {
                 favoriteNovelRepository.delete(record.get());
+                //커밋 이후 소설 상세 정보의 선호작 수 감소
+                novelInfoReadModel.addFavoriteCount(novel.getId(), -1);
                 return false; // 이제 레코드 없음
             }
             //레코드가 없으면 새로 생성
@@ -60,6 +65,8 @@ public class FavoriteNovelServiceImpl implements FavoriteNovelService {
                         .novel(novel)
                         .build();
                 FavoriteNovel save = favoriteNovelRepository.save(newRecord);
+                //커밋 이후 소설 상세 정보의 선호작 수 증가
+                novelInfoReadModel.addFavoriteCount(novel.getId(), 1);
                 return true; // 이제 레코드 있음
             }
         } catch (Exception ex) {
@@ -70,7 +77,7 @@ public class FavoriteNovelServiceImpl implements FavoriteNovelService {
     @Override
     public Boolean checkFavorite(String providerId, Long novelId) {
         //유저, 작품 레코드 DB 검증
-        Member member = memberService.getMember(providerId)
+        Member member = memberService.getMemberReference(providerId)
                 .orElseThrow(() -> new NoSuchElementException("toggleFavoriteNovel() Error : 존재하지 않는 Member 입니다."));
         Novel novel = novelService.getNovel(novelId)
                 .orElseThrow(() -> new NoSuchElementException("toggleFavoriteNovel() Error : 존재하지 않는 Novel 입니다."));
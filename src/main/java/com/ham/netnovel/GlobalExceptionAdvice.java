@@ -1,8 +1,10 @@
 package com.ham.netnovel;
 
+import com.ham.netnovel.common.exception.EpisodeNotPurchasedException;
 import com.ham.netnovel.common.exception.NotEnoughCoinsException;
 import com.ham.netnovel.common.exception.RepositoryMethodException;
 import com.ham.netnovel.common.exception.ServiceMethodException;
+import com.ham.netnovel.episode.dto.EpisodePaymentDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -103,6 +105,18 @@ public class GlobalExceptionAdvice {
     }
 
 
+    /**
+     * 유료 에피소드 결제 내역이 없을 경우 예외처리
+     * @param ex EpisodeNotPurchasedException 커스텀 Exception, 결제에 필요한 에피소드 가격 정보를 담고 있음
+     * @return ResponseEntity 402 상태와 결제 정보 전달
+     */
+    @ExceptionHandler(EpisodeNotPurchasedException.class)
+    public ResponseEntity<EpisodePaymentDto> handleEpisodeNotPurchasedException(EpisodeNotPurchasedException ex) {
+        log.info("errorMessage EpisodeNotPurchasedException: {} ",ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED).body(ex.getPaymentInfo());
+    }
+
+
     //    RuntimeException 핸들링
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeExceptionException(Model model, RuntimeException ex) {
@@ -25,6 +25,29 @@ public interface CoinUseHistoryRepository extends JpaRepository<CoinUseHistory,
     Optional<CoinUseHistory> findByMemberAndEpisode(@Param("providerId") String providerId,
                                                     @Param("episodeId") Long episodeId);
 
+    /**
+     * 유저가 에피소드에 결제한 내역이 있는지 확인합니다. 결제 내역이 여러개여도 예외가 발생하지 않습니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param episodeId  에피소드 id
+     * @return 결제 내역이 있으면 true
+     */
+    @Query("select case when count(c) > 0 then true else false end from CoinUseHistory c " +
+            "where c.episode.id = :episodeId " +
+            "and c.member.providerId = :providerId")
+    boolean existsByMemberAndEpisode(@Param("providerId") String providerId,
+                                     @Param("episodeId") Long episodeId);
+
+    /**
+     * 유저가 결제한 에피소드 id 목록을 조회합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @return 결제한 에피소드 id List, 중복 없음
+     */
+    @Query("select distinct c.episode.id from CoinUseHistory c " +
+            "where c.member.providerId = :providerId")
+    List<Long> findPurchasedEpisodeIds(@Param("providerId") String providerId);
+
     /**
      * 주어진 소설 ID 목록에 대해 특정 기간 동안 사용된 코인의 총합을 조회합니다.
      *
@@ -7,6 +7,7 @@ import com.ham.netnovel.member.dto.MemberCoinUseHistoryDto;
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface CoinUseHistoryService {
 
@@ -27,6 +28,19 @@ public interface CoinUseHistoryService {
     boolean hasMemberUsedCoinsForEpisode(String providerId, Long episodeId);
 
 
+    /**
+     * 주어진 에피소드 중 유저가 결제한 에피소드 id 를 반환하는 메서드
+     *
+     * <p>결제 에피소드 인덱스로 한번에 확인하므로, 에피소드 목록의 모든 에피소드 결제 여부를 쿼리 없이 표시할 수 있습니다.</p>
+     *
+     * @param providerId 유저 정보
+     * @param episodeIds 확인할 에피소드 id 목록
+     * @return 결제한 에피소드 id Set
+     * @throws ServiceMethodException 메서드 실행 중 예외가 발생한 경우
+     */
+    Set<Long> getPurchasedEpisodeIds(String providerId, List<Long> episodeIds);
+
+
     /**
      * 주어진 소설 ID 목록과 날짜 범위에 대한 코인 사용 내역을 조회하여 반환하는 메서드 입니다.
      *
@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -31,17 +32,20 @@ public class CoinUseHistoryServiceImpl implements CoinUseHistoryService {
 
     private final EpisodeService episodeService;
 
-    public CoinUseHistoryServiceImpl(CoinUseHistoryRepository coinUseHistoryRepository, MemberService memberService, EpisodeService episodeService) {
+    private final EpisodeEntitlementIndex episodeEntitlementIndex;
+
+    public CoinUseHistoryServiceImpl(CoinUseHistoryRepository coinUseHistoryRepository, MemberService memberService, EpisodeService episodeService, EpisodeEntitlementIndex episodeEntitlementIndex) {
         this.coinUseHistoryRepository = coinUseHistoryRepository;
         this.memberService = memberService;
         this.episodeService = episodeService;
+        this.episodeEntitlementIndex = episodeEntitlementIndex;
     }
 
     @Override
     @Transactional
     public void saveCoinUseHistory(CoinUseCreateDto coinUseCreateDto) {
-        //유저 정보 유무 확인 확인
-        Member member = memberService.getMember(coinUseCreateDto.getProviderId())
+        //유저 정보 유무 확인, 코인 차감시 유저 엔티티를 조회하므로 여기서는 프록시만 사용
+        Member member = memberService.getMemberReference(coinUseCreateDto.getProviderId())
                 .orElseThrow(() -> new NoSuchElementException("Member 정보가 없습니다. providerId: " + coinUseCreateDto.getProviderId()));
 
         //에피소드 정보 유무 확인
@@ -54,7 +58,7 @@ public class CoinUseHistoryServiceImpl implements CoinUseHistoryService {
         TypeValidationUtil.validateCoinAmount(usedCoins);
 
         //유저의 코인수 차감, 유저 코인수가 null 이거나 현재 코인수가 사용 코인수보다 작을경우 예외로 던짐
-        memberService.deductMemberCoins(member.getProviderId(), usedCoins);
+        memberService.deductMemberCoins(coinUseCreateDto.getProviderId(), usedCoins);
         try {
             //새로운 코인 사용 기록 엔티티 생성
             CoinUseHistory coinUseHistory = CoinUseHistory.builder()
@@ -64,6 +68,8 @@ public class CoinUseHistoryServiceImpl implements CoinUseHistoryService {
                     .build();
             //DB에 저장
             coinUseHistoryRepository.save(coinUseHistory);
+            //커밋 이후 결제 에피소드 인덱스에 추가
+            episodeEntitlementIndex.add(coinUseCreateDto.getProviderId(), episode.getId());
 
         } catch (Exception ex) {
             throw new ServiceMethodException("saveCoinUseHistory 메서드에서 오류 발생" + ex.getMessage());
@@ -101,14 +107,8 @@ public class CoinUseHistoryServiceImpl implements CoinUseHistoryService {
     public boolean hasMemberUsedCoinsForEpisode(String providerId, Long episodeId) {
 
         try {
-
-            return coinUseHistoryRepository.findByMemberAndEpisode(providerId, episodeId)
-                    .map(coinUseHistory -> {
-                        Integer coinAmount = coinUseHistory.getAmount();
-                        TypeValidationUtil.validateCoinAmount(coinAmount);//코인 수 유효성 검사,null이거나 음수면 예외로 던짐
-                        return true;//유효성 검사 통과시 true 반환(코인 사용 기록 있음)
-                    }).orElse(false);//DB에서 엔티티 검색에 실패한경우 false 반환(코인 사용 기록이 없음)
-
+            //결제 에피소드 인덱스(서버 메모리 => Redis => DB 순서)에서 확인
+            return episodeEntitlementIndex.hasPurchased(providerId, episodeId);
 
         } catch (Exception ex) {
             throw new ServiceMethodException("hasMemberUsedCoinsForEpisode 메서드 에러 발생" + ex.getMessage());
@@ -117,6 +117,17 @@ public class CoinUseHistoryServiceImpl implements CoinUseHistoryService {
     }
 
 
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getPurchasedEpisodeIds(String providerId, List<Long> episodeIds) {
+        try {
+            return episodeEntitlementIndex.filterPurchased(providerId, episodeIds);
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getPurchasedEpisodeIds 메서드 에러 발생", ex);
+        }
+    }
+
+
     @Override
     @Transactional(readOnly = true)
     public List<NovelRevenueDto> getCoinUseHistoryByNovelAndDate(
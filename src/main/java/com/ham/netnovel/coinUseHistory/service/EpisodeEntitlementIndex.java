@@ -0,0 +1,264 @@
+package com.ham.netnovel.coinUseHistory.service;
+
+
+import com.ham.netnovel.coinUseHistory.CoinUseHistoryRepository;
+import com.ham.netnovel.common.cache.WeightedLruCache;
+import com.ham.netnovel.common.message.RedisMessagePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별로 결제한 에피소드 id 를 저장하는 인덱스입니다.
+ *
+ * <p>유저마다 결제한 에피소드 id 를 Redis SET({@code episode_entitlements:{providerId}})에 저장하고,
+ * 서버 메모리에는 정렬된 long 배열로 보관합니다. 결제 여부는 배열의 이진 탐색으로 확인합니다.
+ * 처음 조회하는 유저는 코인 사용 기록에서 결제한 에피소드를 읽어 인덱스를 만듭니다.</p>
+ *
+ * <p>결제는 취소되지 않으므로 인덱스에 있는 에피소드는 항상 결제된 에피소드입니다.
+ * 다른 서버에서 결제했거나 인덱스를 만드는 도중 결제한 경우 인덱스에 없을 수 있으므로,
+ * 결제 여부 확인에서 인덱스에 없는 에피소드는 DB 에서 한번 더 확인하고 인덱스에 추가합니다.</p>
+ *
+ * <p>결제가 추가되면 Redis SET 을 갱신한 뒤 Redis Pub/Sub 으로 다른 서버에 무효화 메시지를 보내고,
+ * 메시지를 받은 서버는 서버 메모리의 인덱스를 제거하여 다음 조회시 Redis 에서 다시 읽습니다.
+ * 서버 메모리 인덱스는 유저 수로 크기를 제한하는 LRU 캐시이며, 가득 차면 가장 오래 사용되지 않은 유저부터 제거합니다.</p>
+ */
+@Component
+@Slf4j
+public class EpisodeEntitlementIndex {
+
+    //무효화 메시지를 발송할 채널
+    public static final String INVALIDATION_CHANNEL = "episode-entitlement-invalidation-channel";
+
+    private static final String KEY_PREFIX = "episode_entitlements:";
+
+    //인덱스가 만들어졌는지 표시하는 값, 결제한 에피소드가 없어도 SET 이 존재하도록 함(에피소드 id 는 1부터 시작)
+    private static final String LOADED_MARKER = "0";
+
+    //인덱스가 있을때만 에피소드 id 를 추가, 없으면 다음 조회시 DB 에서 새로 만듦
+    private static final RedisScript<Long> ADD_IF_LOADED = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "redis.call('sadd', KEYS[1], ARGV[1]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private final CoinUseHistoryRepository coinUseHistoryRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisMessagePublisher redisMessagePublisher;
+
+    private final Duration redisTtl;
+
+    //providerId => 결제한 에피소드 id 정렬 배열, 유저 1명당 무게 1
+    private final WeightedLruCache<String, Entitlements> localCache;
+
+    //무효화 메시지를 보낸 서버를 구분하기 위한 id, 자신이 보낸 메시지는 무시함
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public EpisodeEntitlementIndex(CoinUseHistoryRepository coinUseHistoryRepository,
+                                   RedisTemplate<String, String> redisTemplate,
+                                   RedisMessagePublisher redisMessagePublisher,
+                                   @Value("${episode.entitlement.redis-ttl-days:7}") long redisTtlDays,
+                                   @Value("${episode.entitlement.local-ttl-minutes:10}") long localTtlMinutes,
+                                   @Value("${episode.entitlement.local-max-members:10000}") int maxLocalMembers) {
+        this.coinUseHistoryRepository = coinUseHistoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessagePublisher = redisMessagePublisher;
+        this.redisTtl = Duration.ofDays(redisTtlDays);
+        this.localCache = new WeightedLruCache<>(maxLocalMembers, TimeUnit.MINUTES.toNanos(localTtlMinutes),
+                entitlements -> 1L, System::nanoTime);
+    }
+
+
+    /**
+     * 유저가 에피소드를 결제했는지 확인합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param episodeId  에피소드 id
+     * @return 결제했으면 true
+     */
+    public boolean hasPurchased(String providerId, Long episodeId) {
+        if (load(providerId).contains(episodeId)) {
+            return true;
+        }
+        //인덱스에 없으면 DB 에서 확인, 결제 내역이 있으면 인덱스에 추가
+        if (coinUseHistoryRepository.existsByMemberAndEpisode(providerId, episodeId)) {
+            addNow(providerId, episodeId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 주어진 에피소드 중 유저가 결제한 에피소드 id 를 반환합니다. 에피소드 목록에 결제 여부를 표시할때 사용합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param episodeIds 확인할 에피소드 id 목록
+     * @return 결제한 에피소드 id Set
+     */
+    public Set<Long> filterPurchased(String providerId, Collection<Long> episodeIds) {
+        Entitlements entitlements = load(providerId);
+        Set<Long> purchased = new HashSet<>();
+        for (Long episodeId : episodeIds) {
+            if (entitlements.contains(episodeId)) {
+                purchased.add(episodeId);
+            }
+        }
+        return purchased;
+    }
+
+    /**
+     * 결제한 에피소드를 인덱스에 추가합니다. 트랜잭션 안에서 호출되면 커밋 이후에 추가합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param episodeId  결제한 에피소드 id
+     */
+    public void add(String providerId, Long episodeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(providerId, episodeId);
+                }
+            });
+            return;
+        }
+        addNow(providerId, episodeId);
+    }
+
+
+    /**
+     * 무효화 메시지를 받았을때 서버 메모리에서 유저의 인덱스를 제거합니다.
+     *
+     * @param message "서버 id:providerId" 형식의 메시지
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split(":", 2);
+        //자신이 보낸 메시지는 이미 서버 메모리에 반영되어 있으므로 무시
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        localCache.remove(parts[1]);
+    }
+
+
+    private void addNow(String providerId, Long episodeId) {
+        synchronized (localCache) {
+            Entitlements cached = localCache.get(providerId);
+            if (cached != null) {
+                localCache.put(providerId, cached.with(episodeId));
+            }
+        }
+        try {
+            redisTemplate.execute(ADD_IF_LOADED, List.of(key(providerId)), String.valueOf(episodeId));
+            //Redis 갱신 이후에 발송해야 다른 서버가 새 값을 읽음
+            redisMessagePublisher.publish(INVALIDATION_CHANNEL, nodeId + ":" + providerId);
+        } catch (Exception ex) {
+            log.error("add 메서드 에러 발생, 결제 에피소드 인덱스 갱신 실패, providerId={}, episodeId={}", providerId, episodeId, ex);
+        }
+    }
+
+    //서버 메모리 => Redis => DB 순서로 인덱스를 조회
+    private Entitlements load(String providerId) {
+        Entitlements cached = localCache.get(providerId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Entitlements loaded = readRedis(providerId);
+        if (loaded == null) {
+            loaded = readDatabase(providerId);
+        }
+        localCache.put(providerId, loaded);
+        return loaded;
+    }
+
+    private Entitlements readRedis(String providerId) {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key(providerId));
+            if (members == null || !members.contains(LOADED_MARKER)) {
+                return null;
+            }
+            long[] episodeIds = new long[members.size() - 1];
+            int index = 0;
+            for (String member : members) {
+                if (!member.equals(LOADED_MARKER)) {
+                    episodeIds[index++] = Long.parseLong(member);
+                }
+            }
+            return Entitlements.of(episodeIds);
+        } catch (Exception ex) {
+            log.error("readRedis 메서드 에러 발생, 결제 에피소드 인덱스 조회 실패, providerId={}", providerId, ex);
+            return null;
+        }
+    }
+
+    private Entitlements readDatabase(String providerId) {
+        List<Long> purchased = coinUseHistoryRepository.findPurchasedEpisodeIds(providerId);
+        long[] episodeIds = purchased.stream().mapToLong(Long::longValue).toArray();
+
+        try {
+            String key = key(providerId);
+            String[] members = new String[episodeIds.length + 1];
+            members[0] = LOADED_MARKER;
+            for (int i = 0; i < episodeIds.length; i++) {
+                members[i + 1] = String.valueOf(episodeIds[i]);
+            }
+            redisTemplate.opsForSet().add(key, members);
+            redisTemplate.expire(key, redisTtl);
+        } catch (Exception ex) {
+            log.error("readDatabase 메서드 에러 발생, 결제 에피소드 인덱스 저장 실패, providerId={}", providerId, ex);
+        }
+        return Entitlements.of(episodeIds);
+    }
+
+    private static String key(String providerId) {
+        return KEY_PREFIX + providerId;
+    }
+
+
+    /**
+     * 한 유저의 결제한 에피소드 id 정렬 배열, 변경시 새 객체 생성
+     */
+    private static final class Entitlements {
+
+        private final long[] episodeIds;
+
+        private Entitlements(long[] episodeIds) {
+            this.episodeIds = episodeIds;
+        }
+
+        private static Entitlements of(long[] episodeIds) {
+            Arrays.sort(episodeIds);
+            return new Entitlements(episodeIds);
+        }
+
+        private boolean contains(Long episodeId) {
+            return episodeId != null && Arrays.binarySearch(episodeIds, episodeId) >= 0;
+        }
+
+        private Entitlements with(Long episodeId) {
+            int index = Arrays.binarySearch(episodeIds, episodeId);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            long[] added = new long[episodeIds.length + 1];
+            System.arraycopy(episodeIds, 0, added, 0, insertAt);
+            added[insertAt] = episodeId;
+            System.arraycopy(episodeIds, insertAt, added, insertAt + 1, episodeIds.length - insertAt);
+            return new Entitlements(added);
+        }
+    }
+}
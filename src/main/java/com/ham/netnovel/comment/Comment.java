@@ -2,7 +2,6 @@ package com.ham.netnovel.comment;
 
 
 import com.ham.netnovel.commentLike.CommentLike;
-import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.episode.Episode;
 import com.ham.netnovel.member.Member;
 import com.ham.netnovel.reComment.ReComment;
@@ -10,6 +9,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -23,6 +23,11 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @Getter
+@Table(name = "comment", indexes = {
+        //에피소드, 소설 댓글 최신순 조회, 커서(created_at, id) 위치부터 읽음
+        @Index(name = "idx_comment_episode_created", columnList = "episode_id, status, created_at, id"),
+        //유저가 작성한 댓글 최신순 조회
+        @Index(name = "idx_comment_member_created", columnList = "member_id, created_at, id")})
 public class Comment {
 
 
@@ -66,6 +71,16 @@ public class Comment {
     @OneToMany(mappedBy = "comment", fetch = FetchType.LAZY)
     private List<CommentLike> commentLikes= new ArrayList<>();
 
+    //좋아요 수, 감정표현 등록/삭제시 DB 에서 원자적으로 증감, 조회시 좋아요 테이블을 읽지 않도록 저장
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer likes;
+
+    //싫어요 수, 좋아요 수와 같은 방식으로 증감
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer disLikes;
+
 
 
 
@@ -76,6 +91,8 @@ public class Comment {
         this.content =content;
         this.episode = episode;
         this.member = member;
+        this.likes = 0;
+        this.disLikes = 0;
 
     }
 
@@ -91,20 +108,6 @@ public class Comment {
 
 
 
-    //좋아요 수를 반환하는 메서드
-    public int getTotalLikes(){
-        return (int) commentLikes.stream()
-                .filter(commentLike -> commentLike.getLikeType() == LikeType.LIKE)
-                .count();
-
-    }
-    //싫어요 수를 반환하는 메서드
-    public int getTotalDisLikes(){
-        return (int) commentLikes.stream()
-                .filter(commentLike -> commentLike.getLikeType() == LikeType.DISLIKE)
-                .count();
-
-    }
 
 
 
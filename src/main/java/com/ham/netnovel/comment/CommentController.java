@@ -4,6 +4,7 @@ package com.ham.netnovel.comment;
 import com.ham.netnovel.comment.data.CommentSortOrder;
 import com.ham.netnovel.common.OAuth.CustomOAuth2User;
 import com.ham.netnovel.comment.dto.CommentCreateDto;
+import com.ham.netnovel.comment.dto.CommentCursorPageDto;
 import com.ham.netnovel.comment.dto.CommentDeleteDto;
 import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
 import com.ham.netnovel.comment.dto.CommentUpdateDto;
@@ -28,6 +29,9 @@ import java.util.List;
 @RequestMapping("/api")
 public class CommentController {
 
+    //무한 스크롤 1회 최대 댓글 수
+    private static final int MAX_SCROLL_SIZE = 50;
+
 
     private final CommentService commentService;
 
@@ -187,6 +191,34 @@ public class CommentController {
 
     }
 
+    /**
+     * 에피소드에 달린 댓글과 대댓글을 최신순으로 무한 스크롤하는 API 입니다.
+     * 첫 요청은 cursor 없이 보내고, 이후에는 응답의 nextCursor 를 보냅니다. nextCursor 가 null 이면 마지막 페이지입니다.
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param size   조회할 댓글 수, 1~{@value #MAX_SCROLL_SIZE}
+     * @return ResponseEntity 댓글 목록과 다음 커서를 {@link CommentCursorPageDto} 형태로 반환
+     */
+    @GetMapping("/episodes/{episodeId}/comments/scroll")
+    public ResponseEntity<CommentCursorPageDto> scrollEpisodeComments(
+            @PathVariable(name = "episodeId") Long episodeId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            Authentication authentication) {
+
+        //유저 인증정보가 있을경우 검증후 객체에 할당, 없으면 "NON_LOGIN" 할당
+        String providerId;
+        if (authentication == null) {
+            providerId = "NON_LOGIN";
+        } else {
+            CustomOAuth2User principal = authenticator.checkAuthenticate(authentication);
+            providerId = principal.getName();
+        }
+        validateScrollSize(size);
+
+        return ResponseEntity.ok(commentService.getEpisodeCommentsByCursor(episodeId, cursor, size, providerId));
+    }
+
     //ToDo 유저검증로직 추가(수정삭제용)
 
     /**
@@ -217,5 +249,30 @@ public class CommentController {
         }
     }
 
+    /**
+     * Novel(소설) Episode 에 달린 댓글과 대댓글을 최신순으로 무한 스크롤하는 API 입니다.
+     * 첫 요청은 cursor 없이 보내고, 이후에는 응답의 nextCursor 를 보냅니다. nextCursor 가 null 이면 마지막 페이지입니다.
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param size   조회할 댓글 수, 1~{@value #MAX_SCROLL_SIZE}
+     * @return ResponseEntity 댓글 목록과 다음 커서를 {@link CommentCursorPageDto} 형태로 반환
+     */
+    @GetMapping("/novels/{novelId}/comments/scroll")
+    public ResponseEntity<CommentCursorPageDto> scrollNovelComments(
+            @PathVariable(name = "novelId") Long novelId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+
+        validateScrollSize(size);
+        return ResponseEntity.ok(commentService.getNovelCommentsByCursor(novelId, cursor, size));
+    }
+
+    //조회할 댓글 수가 범위를 벗어나면 badRequest 응답
+    private static void validateScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("scroll 에러: size 는 1~" + MAX_SCROLL_SIZE + " 이어야 합니다. size=" + size);
+        }
+    }
+
 
 }
@@ -1,14 +1,17 @@
 package com.ham.netnovel.comment;
 
+import com.ham.netnovel.comment.repository.CommentBulkRepository;
 import com.ham.netnovel.comment.repository.CommentSearchRepository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long>, CommentSearchRepository {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentSearchRepository, CommentBulkRepository {
 
     /**
      * 유저가 작성한 댓글을 모두찾아 반환하는 메서드
@@ -30,19 +33,44 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
             "join fetch c.episode e " +//Episode 테이블과 join(N:1)
             "where c.episode.id =:episodeId " +
             "and c.status = 'ACTIVE' " + //ACTIVE 상태인 댓글만 가져옴
-            "order by c.createdAt desc ")//생성 시간으로 내림차순 정렬
+            "order by c.createdAt desc, c.id desc ")//생성 시간으로 내림차순 정렬, 같으면 id 역순
 //날짜순으로 역정렬, 최신순이 위로옴
     List<Comment> findByEpisodeIdByCreatedAt(@Param("episodeId") Long episodeId, Pageable pageable);
 
 
+    /**
+     * 에피소드의 댓글을 커서(생성시간, id) 이후부터 최신순으로 조회합니다. 무한 스크롤에서 사용합니다.
+     * offset 없이 인덱스(episode_id, status, created_at, id) 에서 커서 위치부터 읽으므로, 깊은 페이지도 조회 비용이 같습니다.
+     *
+     * @param episodeId 에피소드의 PK
+     * @param createdAt 이전 페이지 마지막 댓글의 생성시간
+     * @param commentId 이전 페이지 마지막 댓글의 id
+     * @param pageable  조회할 댓글 수, offset 은 항상 0
+     * @return List<Comment>
+     */
+    @Query("select c from Comment c " +
+            "join fetch c.member m " +//Member 테이블과 join(N:1)
+            "join fetch c.episode e " +//Episode 테이블과 join(N:1)
+            "where c.episode.id =:episodeId " +
+            "and c.status = 'ACTIVE' " + //ACTIVE 상태인 댓글만 가져옴
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :commentId)) " +//커서 이후 댓글
+            "order by c.createdAt desc, c.id desc ")
+    List<Comment> findByEpisodeIdByCreatedAtBefore(@Param("episodeId") Long episodeId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("commentId") Long commentId,
+                                                   Pageable pageable);
+
+
+    /**
+     * 에피소드의 댓글을 추천 점수(좋아요 수 - 싫어요 수) 순서로 조회합니다.
+     * 추천순 인덱스({@link com.ham.netnovel.comment.service.CommentScoreIndex}) 를 사용할 수 없을때 사용합니다.
+     */
     @Query("select c from Comment c " +
             "join fetch c.member m " +//Member 테이블과 join(N:1)
             "join fetch c.episode e " +
             "where c.episode.id =:episodeId " +
             "and c.status = 'ACTIVE' " + //ACTIVE 상태인 댓글만 가져옴
-            "order by (select count(cl) from CommentLike  cl " +//CommentLike 엔티티의 commentId 를 count
-            "where cl.comment.id = c.id and cl.likeType ='LIKE') desc ")//좋아요 순으로 내림차순으로 정렬(좋아요 많은 댓글이 위로옴)
-//날짜순으로 역정렬, 최신순이 위로옴
+            "order by (c.likes - c.disLikes) desc, c.id desc ")//저장된 좋아요/싫어요 수로 정렬, 같으면 최신 댓글이 위로옴
     List<Comment> findByEpisodeIdByCommentLikes(@Param("episodeId") Long episodeId, Pageable pageable);
 
 
@@ -57,14 +85,68 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
             "join fetch c.member m " +//Member 테이블과 join(N:1)
             "where e.novel.id = :novelId " +
             "and c.status = 'ACTIVE' " + //ACTIVE 상태인 댓글만 가져옴
-            "order by c.createdAt desc ")//생성 시간으로 내림차순 정렬
+            "order by c.createdAt desc, c.id desc ")//생성 시간으로 내림차순 정렬, 같으면 id 역순
 //댓글 생성시간으로 정렬
 //날짜순으로 역정렬, 최신순이 위로옴
     List<Comment> findByNovelOrderByCreatedAt(@Param("novelId") Long novelId, Pageable pageable);
 
 
     /**
-     * 소설(novel)의 에피소드에 달린 댓글을 DB에서 찾는 메서드
+     * 소설(novel)의 에피소드에 달린 ACTIVE 댓글 id 를 최신순으로 조회합니다. 무한 스크롤 첫 페이지에서 사용합니다.
+     *
+     * <p>소설의 에피소드마다 인덱스(episode_id, status, created_at, id) 에서 최신 댓글을 최대 {@code size} 개씩 읽은 뒤 합쳐서 정렬합니다.
+     * 사이트 전체 댓글을 최신순으로 읽으며 다른 소설의 댓글을 건너뛰지 않도록, 에피소드 id 에서 시작합니다.</p>
+     *
+     * @param novelId 소설의 PK
+     * @param size    조회할 댓글 수
+     * @return 댓글 id List, 생성시간 역순, 같으면 id 역순
+     */
+    @Query(value = "select c.id from episode e " +
+            "join lateral (" +
+            "select ec.id, ec.created_at from comment ec " +
+            "where ec.episode_id = e.id " +
+            "and ec.status = 'ACTIVE' " +
+            "order by ec.created_at desc, ec.id desc " +
+            "limit :size) c " +
+            "where e.novel_id = :novelId " +
+            "order by c.created_at desc, c.id desc " +
+            "limit :size",
+            nativeQuery = true)
+    List<Long> findIdsByNovelOrderByCreatedAt(@Param("novelId") Long novelId, @Param("size") int size);
+
+
+    /**
+     * 소설(novel)의 에피소드에 달린 ACTIVE 댓글 id 를 커서(생성시간, id) 이후부터 최신순으로 조회합니다. 무한 스크롤에서 사용합니다.
+     *
+     * <p>소설의 에피소드마다 인덱스(episode_id, status, created_at, id) 를 커서 위치부터 최대 {@code size} 개씩 읽은 뒤 합쳐서 정렬합니다.</p>
+     *
+     * @param novelId   소설의 PK
+     * @param createdAt 이전 페이지 마지막 댓글의 생성시간
+     * @param commentId 이전 페이지 마지막 댓글의 id
+     * @param size      조회할 댓글 수
+     * @return 댓글 id List, 생성시간 역순, 같으면 id 역순
+     */
+    @Query(value = "select c.id from episode e " +
+            "join lateral (" +
+            "select ec.id, ec.created_at from comment ec " +
+            "where ec.episode_id = e.id " +
+            "and ec.status = 'ACTIVE' " +
+            "and (ec.created_at < :createdAt or (ec.created_at = :createdAt and ec.id < :commentId)) " +//커서 이후 댓글
+            "order by ec.created_at desc, ec.id desc " +
+            "limit :size) c " +
+            "where e.novel_id = :novelId " +
+            "order by c.created_at desc, c.id desc " +
+            "limit :size",
+            nativeQuery = true)
+    List<Long> findIdsByNovelOrderByCreatedAtBefore(@Param("novelId") Long novelId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("commentId") Long commentId,
+                                                    @Param("size") int size);
+
+
+    /**
+     * 소설(novel)의 에피소드에 달린 댓글을 추천 점수(좋아요 수 - 싫어요 수) 순서로 찾는 메서드
+     * 추천순 인덱스({@link com.ham.netnovel.comment.service.CommentScoreIndex}) 를 사용할 수 없을때 사용합니다.
      *
      * @param novelId 소설의 PK
      * @return List<Comment>
@@ -74,10 +156,130 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
             "join fetch c.member m " +//Member 테이블과 join(N:1)
             "where e.novel.id = :novelId " +
             "and c.status = 'ACTIVE' " +  //ACTIVE 상태인 댓글만 가져옴
-            "order by (select count(cl) from CommentLike cl " + //CommentLike 엔티티의 commentId 를 count
-            "where cl.comment.id = c.id) desc ")//내림차순으로 정렬(좋아요 많은 댓글이 위로옴)
-//날짜순으로 역정렬, 최신순이 위로옴
+            "order by (c.likes - c.disLikes) desc, c.id desc ")//저장된 좋아요/싫어요 수로 정렬, 같으면 최신 댓글이 위로옴
     List<Comment> findByNovelOrderByCommentLikes(@Param("novelId") Long novelId, Pageable pageable);
 
+    /**
+     * 댓글 id 목록으로 ACTIVE 상태 댓글을 작성자, 에피소드와 함께 조회합니다. 추천순 인덱스에서 읽은 id 로 댓글을 조회할때 사용합니다.
+     *
+     * @param commentIds 댓글 id 목록
+     * @return 댓글 엔티티 List, 순서는 보장하지 않음
+     */
+    @Query("select c from Comment c " +
+            "join fetch c.member m " +
+            "join fetch c.episode e " +
+            "where c.id in :commentIds " +
+            "and c.status = 'ACTIVE'")
+    List<Comment> findActiveByIds(@Param("commentIds") List<Long> commentIds);
+
+    /**
+     * 에피소드의 ACTIVE 상태 댓글 id 와 추천 점수를 조회합니다. 추천순 인덱스를 만들때 사용합니다.
+     *
+     * @param episodeId 에피소드 id
+     * @return [commentId, 좋아요 수 - 싫어요 수] 배열 List
+     */
+    @Query("select c.id, c.likes - c.disLikes from Comment c " +
+            "where c.episode.id = :episodeId " +
+            "and c.status = 'ACTIVE'")
+    List<Object[]> findActiveScoresByEpisode(@Param("episodeId") Long episodeId);
+
+    /**
+     * 소설의 ACTIVE 상태 댓글 id 와 추천 점수를 조회합니다. 추천순 인덱스를 만들때 사용합니다.
+     *
+     * @param novelId 소설 id
+     * @return [commentId, 좋아요 수 - 싫어요 수] 배열 List
+     */
+    @Query("select c.id, c.likes - c.disLikes from Comment c " +
+            "join c.episode e " +
+            "where e.novel.id = :novelId " +
+            "and c.status = 'ACTIVE'")
+    List<Object[]> findActiveScoresByNovel(@Param("novelId") Long novelId);
+
+    /**
+     * 댓글이 달린 에피소드 id 와 소설 id 를 조회합니다.
+     *
+     * @param commentId 댓글 id
+     * @return [episodeId, novelId] 배열 List, 댓글이 없으면 빈 List
+     */
+    @Query("select e.id, e.novel.id from Comment c " +
+            "join c.episode e " +
+            "where c.id = :commentId")
+    List<Object[]> findEpisodeAndNovelId(@Param("commentId") Long commentId);
+
+    /**
+     * 댓글의 좋아요/싫어요 수를 DB 에서 원자적으로 증감합니다. 집계값만 변경하므로 수정일자는 변경하지 않습니다.
+     *
+     * @param commentId    댓글 id
+     * @param likeDelta    좋아요 수 증감값
+     * @param disLikeDelta 싫어요 수 증감값
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Comment c set c.likes = c.likes + :likeDelta, c.disLikes = c.disLikes + :disLikeDelta " +
+            "where c.id = :commentId")
+    int addLikeCounts(@Param("commentId") Long commentId,
+                      @Param("likeDelta") int likeDelta,
+                      @Param("disLikeDelta") int disLikeDelta);
+
+    /**
+     * {@code lastId} 보다 큰 댓글 id 를 id 순서로 조회합니다. 좋아요 수 보정 작업에서 배치 범위를 정할때 사용합니다.
+     *
+     * @param lastId 이전 배치의 마지막 댓글 id, 처음이면 0
+     * @return 댓글 id List
+     */
+    @Query("select c.id from Comment c " +
+            "where c.id > :lastId " +
+            "order by c.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * id 범위의 댓글이 달린 에피소드 id 와 소설 id 를 중복 없이 조회합니다. 좋아요 수 보정 후 추천순 인덱스를 무효화할때 사용합니다.
+     *
+     * @param fromId 범위 시작 id, 포함하지 않음
+     * @param toId   범위 끝 id, 포함
+     * @return [episodeId, novelId] 배열 List
+     */
+    @Query("select distinct e.id, e.novel.id from Comment c " +
+            "join c.episode e " +
+            "where c.id > :fromId " +
+            "and c.id <= :toId")
+    List<Object[]> findEpisodeAndNovelIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * id 범위 댓글의 좋아요/싫어요 수를 감정표현 테이블에서 센 값으로 보정합니다. 수정일자는 변경하지 않습니다.
+     *
+     * <p>UPDATE 문 안에서 감정표현 수를 세므로, 조회와 저장 사이에 커밋된 감정표현 등록/삭제를 덮어쓰지 않습니다.
+     * 저장된 값과 센 값이 다른 댓글만 변경합니다.</p>
+     *
+     * @param fromId 범위 시작 id, 포함하지 않음
+     * @param toId   범위 끝 id, 포함
+     * @return 보정된 댓글 수
+     */
+    @Modifying
+    @Query("update Comment c set " +
+            "c.likes = (select cast(count(l) as Integer) from CommentLike l where l.comment.id = c.id and l.likeType = 'LIKE'), " +
+            "c.disLikes = (select cast(count(l) as Integer) from CommentLike l where l.comment.id = c.id and l.likeType = 'DISLIKE') " +
+            "where c.id > :fromId " +
+            "and c.id <= :toId " +
+            "and (c.likes <> (select cast(count(l) as Integer) from CommentLike l where l.comment.id = c.id and l.likeType = 'LIKE') " +
+            "or c.disLikes <> (select cast(count(l) as Integer) from CommentLike l where l.comment.id = c.id and l.likeType = 'DISLIKE'))")
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 유저가 에피소드에 같은 생성시간으로 작성한 댓글이 있는지 확인합니다.
+     * 댓글 쓰기 버퍼가 저장 도중 중단된 댓글을 다시 저장할때, 이미 저장된 댓글을 제외하기 위해 사용합니다.
+     *
+     * @param memberId  유저 id
+     * @param episodeId 에피소드 id
+     * @param createdAt 생성시간
+     * @return 댓글이 있으면 true
+     */
+    @Query("select count(c) > 0 from Comment c " +
+            "where c.member.id = :memberId " +
+            "and c.episode.id = :episodeId " +
+            "and c.createdAt = :createdAt")
+    boolean existsByMemberAndEpisodeAndCreatedAt(@Param("memberId") Long memberId,
+                                                 @Param("episodeId") Long episodeId,
+                                                 @Param("createdAt") LocalDateTime createdAt);
 
 }
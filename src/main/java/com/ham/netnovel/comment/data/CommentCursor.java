@@ -0,0 +1,64 @@
+package com.ham.netnovel.comment.data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 댓글 목록의 다음 페이지 위치를 나타내는 커서입니다.
+ *
+ * <p>마지막으로 전달한 댓글의 (생성시간, id) 를 담으며, 다음 페이지는 이 값보다 작은 댓글부터 조회합니다.
+ * 생성시간이 같은 댓글은 id 로 구분하므로, 새 댓글이 작성되어도 중복/누락 없이 이어서 조회할 수 있습니다.</p>
+ *
+ * <p>클라이언트에는 {@code {생성시간}|{id}} 문자열을 URL-safe Base64 로 인코딩하여 전달합니다.</p>
+ *
+ * @param createdAt 마지막 댓글의 생성시간
+ * @param commentId 마지막 댓글의 id
+ */
+public record CommentCursor(LocalDateTime createdAt, Long commentId) {
+
+    private static final String SEPARATOR = "|";
+
+    public CommentCursor {
+        if (createdAt == null || commentId == null) {
+            throw new IllegalArgumentException("CommentCursor 에러: 생성시간과 id 는 null 일 수 없습니다.");
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환합니다.
+     *
+     * @return URL-safe Base64 문자열
+     */
+    public String encode() {
+        String raw = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + SEPARATOR + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 변환합니다.
+     *
+     * @param cursor 커서 문자열, 첫 페이지는 null 또는 빈 문자열
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("구분자가 없습니다.");
+            }
+            return new CommentCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    Long.valueOf(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("CommentCursor 에러: 잘못된 커서입니다. cursor=" + cursor, ex);
+        }
+    }
+}
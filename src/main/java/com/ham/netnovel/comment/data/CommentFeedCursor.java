@@ -0,0 +1,81 @@
+package com.ham.netnovel.comment.data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 유저가 작성한 댓글, 대댓글을 합친 목록의 다음 페이지 위치를 나타내는 커서입니다.
+ *
+ * <p>합친 목록은 생성시간 역순, 생성시간이 같으면 댓글(COMMENT), 대댓글(RECOMMENT) 순서, 같은 종류는 id 역순으로 정렬합니다.
+ * 커서는 마지막으로 전달한 항목의 (생성시간, 종류, id) 를 담으며, 다음 페이지는 이 항목 다음부터 조회합니다.</p>
+ *
+ * <p>클라이언트에는 {@code {생성시간}|{종류}|{id}} 문자열을 URL-safe Base64 로 인코딩하여 전달합니다.</p>
+ *
+ * @param createdAt 마지막 항목의 생성시간
+ * @param type      마지막 항목의 종류
+ * @param id        마지막 항목의 id
+ */
+public record CommentFeedCursor(LocalDateTime createdAt, CommentType type, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public CommentFeedCursor {
+        if (createdAt == null || type == null || id == null) {
+            throw new IllegalArgumentException("CommentFeedCursor 에러: 생성시간, 종류, id 는 null 일 수 없습니다.");
+        }
+    }
+
+    /**
+     * 커서 이후 항목을 조회할때, 생성시간이 커서와 같은 항목에 적용할 id 상한을 반환합니다.
+     * 각 종류별 목록은 {@code createdAt < 커서 생성시간 or (createdAt = 커서 생성시간 and id < 상한)} 조건으로 조회합니다.
+     *
+     * @param sourceType 조회할 목록의 종류
+     * @return 같은 종류면 커서 id, 커서보다 뒤에 정렬되는 종류면 Long.MAX_VALUE, 앞에 정렬되는 종류면 0
+     */
+    public long idBoundFor(CommentType sourceType) {
+        if (sourceType == type) {
+            return id;
+        }
+        //생성시간이 같으면 종류 순서로 정렬되므로, 커서보다 뒤의 종류는 모두 포함하고 앞의 종류는 모두 제외
+        return sourceType.compareTo(type) > 0 ? Long.MAX_VALUE : 0L;
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환합니다.
+     *
+     * @return URL-safe Base64 문자열
+     */
+    public String encode() {
+        String raw = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + SEPARATOR + type.name() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 변환합니다.
+     *
+     * @param cursor 커서 문자열, 첫 페이지는 null 또는 빈 문자열
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static CommentFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("구분자 수가 잘못되었습니다.");
+            }
+            return new CommentFeedCursor(
+                    LocalDateTime.parse(parts[0], DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    CommentType.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("CommentFeedCursor 에러: 잘못된 커서입니다. cursor=" + cursor, ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ham.netnovel.comment.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CommentCursorPageDto {//무한 스크롤 댓글 목록을 반환할때 사용하는 DTO
+
+    //댓글과 대댓글 목록, 최신순
+    private List<CommentEpisodeListDto> comments;
+
+    //다음 페이지 요청시 보낼 커서, 마지막 페이지면 null
+    private String nextCursor;
+
+}
@@ -0,0 +1,36 @@
+package com.ham.netnovel.comment.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 쓰기 버퍼에 보관하는 저장 대기 댓글 DTO 입니다.
+ *
+ * <p>검증을 마친 댓글을 JSON 으로 변환하여 Redis 큐에 넣고, 워커가 꺼내서 일괄 저장합니다.
+ * 저장 전 첫 페이지에 보여줄 수 있도록 작성자 닉네임과 에피소드 제목도 함께 보관합니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PendingCommentDto {
+
+    private Long memberId;
+
+    private String providerId;
+
+    private String nickName;
+
+    private Long episodeId;
+
+    private Long novelId;
+
+    private String episodeTitle;
+
+    private String content;
+
+    //저장될 생성시간, DB 컬럼 정밀도(마이크로초)에 맞춰 자름
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,75 @@
+package com.ham.netnovel.comment.job;
+
+import com.ham.netnovel.comment.service.CommentService;
+import com.ham.netnovel.reComment.service.ReCommentService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글, 대댓글에 저장된 좋아요/싫어요 수를 감정표현 테이블에서 센 값과 비교하여 보정하는 Job 입니다.
+ *
+ * <p>저장된 값은 감정표현 등록/삭제시 같은 트랜잭션에서 증감하므로 보통은 같지만, 값을 직접 수정하거나
+ * 이전에 작성된 댓글처럼 어긋난 값이 있으면 보정합니다. 이전 댓글은 첫 검사에서 0 에서 실제 값으로 채워집니다.</p>
+ *
+ * <p>한번 실행될때 댓글, 대댓글을 각각 최대 {@code maxBatchesPerRun} 개의 배치만큼 검사하며,
+ * 다음 실행은 마지막으로 검사한 id 다음부터 이어서 검사합니다. 모두 검사하면 처음부터 다시 검사합니다.
+ * 검사 위치는 실행마다 Job 객체가 새로 만들어지므로 JobDataMap 에 저장합니다.</p>
+ */
+@Component
+@Slf4j
+@DisallowConcurrentExecution
+@PersistJobDataAfterExecution
+public class CommentLikeCountReconcileJob implements Job {
+
+    //다음 실행에서 이어서 검사할 위치를 저장하는 JobDataMap key
+    private static final String COMMENT_LAST_ID_KEY = "commentLastId";
+    private static final String RE_COMMENT_LAST_ID_KEY = "reCommentLastId";
+
+    private final CommentService commentService;
+
+    private final ReCommentService reCommentService;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    public CommentLikeCountReconcileJob(CommentService commentService,
+                                        ReCommentService reCommentService,
+                                        @Value("${comment.like-count-reconcile.batch-size:500}") int batchSize,
+                                        @Value("${comment.like-count-reconcile.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.commentService = commentService;
+        this.reCommentService = reCommentService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
+
+        long commentLastId = jobDataMap.containsKey(COMMENT_LAST_ID_KEY) ? jobDataMap.getLong(COMMENT_LAST_ID_KEY) : 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Long checked = commentService.reconcileLikeCounts(commentLastId, batchSize);
+            if (checked == null) {
+                //모든 댓글을 검사했으면 처음부터 다시 검사
+                commentLastId = 0L;
+                break;
+            }
+            commentLastId = checked;
+        }
+        jobDataMap.put(COMMENT_LAST_ID_KEY, commentLastId);
+
+        long reCommentLastId = jobDataMap.containsKey(RE_COMMENT_LAST_ID_KEY) ? jobDataMap.getLong(RE_COMMENT_LAST_ID_KEY) : 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Long checked = reCommentService.reconcileLikeCounts(reCommentLastId, batchSize);
+            if (checked == null) {
+                reCommentLastId = 0L;
+                break;
+            }
+            reCommentLastId = checked;
+        }
+        jobDataMap.put(RE_COMMENT_LAST_ID_KEY, reCommentLastId);
+    }
+}
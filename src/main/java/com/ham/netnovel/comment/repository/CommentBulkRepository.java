@@ -0,0 +1,19 @@
+package com.ham.netnovel.comment.repository;
+
+import com.ham.netnovel.comment.dto.PendingCommentDto;
+
+import java.util.List;
+
+public interface CommentBulkRepository {
+
+    /**
+     * 저장 대기 댓글을 한번에 저장합니다.
+     *
+     * <p>유저, 에피소드 엔티티를 조회하지 않고 id 로만 저장하며, JDBC batch 로 실행합니다.
+     * 생성/수정일자는 대기 댓글의 생성시간을 사용합니다.</p>
+     *
+     * @param comments 저장할 댓글 List
+     * @return 저장된 댓글 id List, comments 와 같은 순서
+     */
+    List<Long> insertComments(List<PendingCommentDto> comments);
+}
@@ -0,0 +1,68 @@
+package com.ham.netnovel.comment.repository;
+
+import com.ham.netnovel.comment.CommentStatus;
+import com.ham.netnovel.comment.dto.PendingCommentDto;
+import com.ham.netnovel.common.exception.RepositoryMethodException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CommentBulkRepositoryImpl implements CommentBulkRepository {
+
+    private static final String INSERT_SQL = "insert into comment " +
+            "(content, status, created_at, updated_at, episode_id, member_id, likes, dis_likes) " +
+            "values (?, ?, ?, ?, ?, ?, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommentBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> insertComments(List<PendingCommentDto> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            PendingCommentDto comment = comments.get(i);
+                            Timestamp createdAt = Timestamp.valueOf(comment.getCreatedAt());
+                            statement.setString(1, comment.getContent());
+                            statement.setString(2, CommentStatus.ACTIVE.name());
+                            statement.setTimestamp(3, createdAt);
+                            statement.setTimestamp(4, createdAt);
+                            statement.setLong(5, comment.getEpisodeId());
+                            statement.setLong(6, comment.getMemberId());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return comments.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Long> ids = new ArrayList<>(comments.size());
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+            return ids;
+        } catch (Exception ex) {
+            throw new RepositoryMethodException("insertComments 메서드 에러 발생", ex);
+        }
+    }
+}
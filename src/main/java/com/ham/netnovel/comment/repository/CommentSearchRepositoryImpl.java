@@ -3,19 +3,18 @@ package com.ham.netnovel.comment.repository;
 
 import com.ham.netnovel.comment.QComment;
 import com.ham.netnovel.comment.data.CommentType;
-import com.ham.netnovel.commentLike.QCommentLike;
-import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.episode.QEpisode;
 import com.ham.netnovel.member.dto.MemberCommentDto;
 import com.ham.netnovel.novel.QNovel;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 @Slf4j
@@ -33,11 +32,25 @@ public class CommentSearchRepositoryImpl implements CommentSearchRepository {
 
     @Override
     public List<MemberCommentDto> findCommentByMember(String providerId, Pageable pageable) {
+        return findByMember(providerId, null, pageable.getOffset(), pageable.getPageSize());
+    }
+
+
+    @Override
+    public List<MemberCommentDto> findCommentByMemberBefore(String providerId, LocalDateTime createdAt, long idBound, int limit) {
+        QComment comment = QComment.comment;
+        //커서 이후 댓글만 조회, 첫 페이지면 조건 없음
+        BooleanExpression afterCursor = createdAt == null ? null
+                : comment.createdAt.lt(createdAt)
+                .or(comment.createdAt.eq(createdAt).and(comment.id.lt(idBound)));
+        return findByMember(providerId, afterCursor, 0, limit);
+    }
+
 
+    private List<MemberCommentDto> findByMember(String providerId, BooleanExpression afterCursor, long offset, long limit) {
 
         QComment comment = QComment.comment;
         QEpisode episode = QEpisode.episode;
-        QCommentLike commentLike = QCommentLike.commentLike;
         QNovel novel = QNovel.novel;
 
         return jpaQueryFactory.select(
@@ -46,8 +59,8 @@ public class CommentSearchRepositoryImpl implements CommentSearchRepository {
                         comment.createdAt,
                         episode.id,
                         episode.title,
-                        commentLike.likeType.when(LikeType.LIKE).then(1).otherwise(0).sum(), // as 없이 사용
-                        commentLike.likeType.when(LikeType.DISLIKE).then(1).otherwise(0).sum(), // as 없이 사용
+                        comment.likes, // 저장된 좋아요 수, 좋아요 테이블을 조인하지 않음
+                        comment.disLikes, // 저장된 싫어요 수
                         novel.title,
                         novel.id
 
@@ -55,9 +68,10 @@ public class CommentSearchRepositoryImpl implements CommentSearchRepository {
                 .from(comment)
                 .join(comment.episode, episode)
                 .join(comment.episode.novel, novel)
-                .leftJoin(comment.commentLikes, commentLike) // 좋아요/싫어요 테이블 조인
-                .where(comment.member.providerId.eq(providerId))
-                .groupBy(comment.id)
+                .where(comment.member.providerId.eq(providerId), afterCursor)
+                .orderBy(comment.createdAt.desc(), comment.id.desc())//최신순, 같으면 id 역순
+                .offset(offset)
+                .limit(limit)
                 .fetch()
                 .stream()
                 .map(tuple -> MemberCommentDto.builder()
@@ -68,8 +82,8 @@ public class CommentSearchRepositoryImpl implements CommentSearchRepository {
                         .createdAt(tuple.get(comment.createdAt))
                         .novelTitle(tuple.get(novel.title))
                         .novelId(tuple.get(novel.id))
-                        .likes(Optional.ofNullable(tuple.get(5, Integer.class)).orElse(0)) // 좋아요수 할당null 방지
-                        .disLikes(Optional.ofNullable(tuple.get(6, Integer.class)).orElse(0)) // 싫어요수 할당 null 방지
+                        .likes(tuple.get(comment.likes))
+                        .disLikes(tuple.get(comment.disLikes))
                         .isEditable(true)
                         .type(CommentType.COMMENT)
                         .build()).toList();
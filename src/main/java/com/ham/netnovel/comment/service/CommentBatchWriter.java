@@ -0,0 +1,73 @@
+package com.ham.netnovel.comment.service;
+
+import com.ham.netnovel.comment.CommentRepository;
+import com.ham.netnovel.comment.dto.PendingCommentDto;
+import com.ham.netnovel.episode.service.EpisodeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 쓰기 버퍼에서 꺼낸 댓글을 한 트랜잭션으로 저장하는 컴포넌트입니다.
+ *
+ * <p>댓글은 JDBC batch 로 저장하고, 에피소드 댓글 수는 에피소드별로 한번만 변경합니다.
+ * 추천순 인덱스에는 커밋 이후에 추가합니다.</p>
+ */
+@Component
+@Slf4j
+public class CommentBatchWriter {
+
+    private final CommentRepository commentRepository;
+
+    private final EpisodeService episodeService;
+
+    private final CommentScoreIndex commentScoreIndex;
+
+    public CommentBatchWriter(CommentRepository commentRepository, EpisodeService episodeService, CommentScoreIndex commentScoreIndex) {
+        this.commentRepository = commentRepository;
+        this.episodeService = episodeService;
+        this.commentScoreIndex = commentScoreIndex;
+    }
+
+
+    /**
+     * 대기 댓글을 저장합니다. 하나라도 실패하면 모두 저장되지 않습니다.
+     *
+     * @param comments 저장할 댓글 List
+     */
+    @Transactional
+    public void write(List<PendingCommentDto> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        List<Long> ids = commentRepository.insertComments(comments);
+
+        //에피소드별 댓글 수 증가
+        Map<Long, Long> countByEpisode = comments.stream()
+                .collect(Collectors.groupingBy(PendingCommentDto::getEpisodeId, Collectors.counting()));
+        countByEpisode.forEach((episodeId, count) -> episodeService.addCommentCount(episodeId, count.intValue()));
+
+        //추천순 인덱스에 추가
+        for (int i = 0; i < ids.size(); i++) {
+            PendingCommentDto comment = comments.get(i);
+            commentScoreIndex.added(ids.get(i), comment.getEpisodeId(), comment.getNovelId());
+        }
+        log.info("댓글 일괄 저장 완료, 저장 수={}, 에피소드 수={}", ids.size(), countByEpisode.size());
+    }
+
+    /**
+     * 대기 댓글이 이미 저장되었는지 확인합니다.
+     *
+     * @param comment 확인할 댓글
+     * @return 같은 유저, 에피소드, 생성시간의 댓글이 있으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean isPersisted(PendingCommentDto comment) {
+        return commentRepository.existsByMemberAndEpisodeAndCreatedAt(
+                comment.getMemberId(), comment.getEpisodeId(), comment.getCreatedAt());
+    }
+}
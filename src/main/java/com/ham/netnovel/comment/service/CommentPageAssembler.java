@@ -0,0 +1,86 @@
+package com.ham.netnovel.comment.service;
+
+
+import com.ham.netnovel.comment.Comment;
+import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
+import com.ham.netnovel.reComment.ReComment;
+import com.ham.netnovel.reComment.dto.ReCommentListDto;
+import com.ham.netnovel.reComment.repository.ReCommentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 댓글 페이지를 {@link CommentEpisodeListDto} List 로 만드는 컴포넌트입니다.
+ *
+ * <p>댓글은 작성자, 에피소드를 함께 조회한 상태로 받으며, 페이지의 모든 댓글에 달린 대댓글을 작성자와 함께 쿼리 1번으로 조회합니다.
+ * 좋아요/싫어요 수는 댓글, 대댓글에 저장된 값을 사용하므로 추가 쿼리가 없습니다.
+ * 따라서 페이지 크기와 관계없이 댓글 페이지 1개는 SQL 2번(댓글 페이지, 대댓글)으로 만들어집니다.</p>
+ */
+@Component
+public class CommentPageAssembler {
+
+    private final ReCommentRepository reCommentRepository;
+
+    public CommentPageAssembler(ReCommentRepository reCommentRepository) {
+        this.reCommentRepository = reCommentRepository;
+    }
+
+
+    /**
+     * 댓글 페이지를 DTO List 로 변환합니다. 댓글 순서를 유지합니다.
+     *
+     * @param comments   작성자(member), 에피소드(episode)를 fetch join 으로 함께 조회한 댓글 List
+     * @param providerId 접속한 유저의 providerId, 작성자와 같으면 수정가능여부 true, 수정가능여부가 필요없으면 null
+     * @return 대댓글 목록을 포함한 댓글 DTO List
+     */
+    List<CommentEpisodeListDto> assemble(List<Comment> comments, String providerId) {
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        //페이지의 모든 대댓글을 한번에 조회하여 댓글 id 별로 묶음
+        List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+        Map<Long, List<ReCommentListDto>> repliesByCommentId = new HashMap<>();
+        for (ReComment reComment : reCommentRepository.findByCommentIdsWithMember(commentIds)) {
+            repliesByCommentId.computeIfAbsent(reComment.getComment().getId(), id -> new ArrayList<>())
+                    .add(toReCommentDto(reComment, providerId));
+        }
+
+        List<CommentEpisodeListDto> page = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            page.add(CommentEpisodeListDto.builder()
+                    .id(comment.getId())
+                    .nickName(comment.getMember().getNickName())//작성자 닉네임
+                    .episodeTitle(comment.getEpisode().getTitle())//에피소드 제목
+                    .content(comment.getContent())
+                    .createdAt(comment.getCreatedAt())
+                    .updatedAt(comment.getUpdatedAt())
+                    .likes(comment.getLikes())//댓글에 달린 좋아요 수
+                    .disLikes(comment.getDisLikes())//댓글에 달린 싫어요 수
+                    .isEditable(isWriter(comment.getMember().getProviderId(), providerId))//수정가능여부
+                    .reCommentList(repliesByCommentId.getOrDefault(comment.getId(), Collections.emptyList()))
+                    .build());
+        }
+        return page;
+    }
+
+
+    private ReCommentListDto toReCommentDto(ReComment reComment, String providerId) {
+        return ReCommentListDto.builder()
+                .id(reComment.getId())
+                .nickName(reComment.getMember().getNickName())
+                .content(reComment.getContent())
+                .createdAt(reComment.getCreatedAt())
+                .updatedAt(reComment.getUpdatedAt())
+                .likes(reComment.getLikes())//대댓글에 달린 좋아요 수
+                .disLikes(reComment.getDisLikes())//대댓글에 달린 싫어요 수
+                .isEditable(isWriter(reComment.getMember().getProviderId(), providerId))//수정가능여부
+                .build();
+    }
+
+    //작성자와 접속자가 같으면 true, 접속자 정보가 없으면 false
+    private static boolean isWriter(String writerProviderId, String providerId) {
+        return providerId != null && providerId.equals(writerProviderId);
+    }
+}
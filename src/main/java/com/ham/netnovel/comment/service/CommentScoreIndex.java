@@ -0,0 +1,257 @@
+package com.ham.netnovel.comment.service;
+
+
+import com.ham.netnovel.comment.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 에피소드별, 소설별 ACTIVE 상태 댓글을 추천 점수(좋아요 수 - 싫어요 수) 순서로 보관하는 Redis ZSET 인덱스입니다.
+ *
+ * <p>키는 {@code comment_score:episode:{episodeId}}, {@code comment_score:novel:{novelId}} 이며,
+ * member 는 19자리로 0을 채운 댓글 id 입니다. 점수가 같으면 member 역순, 즉 최근 댓글이 먼저 조회됩니다.
+ * 추천순 댓글 페이지는 ZREVRANGE 1번으로 댓글 id 를 읽고, 그 id 들만 DB 에서 조회합니다.</p>
+ *
+ * <p>인덱스가 없으면 ACTIVE 상태 댓글의 (id, 점수) 를 조회하는 쿼리 1번으로 만들고, 만료시간이 지나면 다시 만듭니다.
+ * 댓글 작성/삭제, 감정표현 등록/삭제는 커밋 이후에 인덱스가 있을때만 반영합니다.
+ * 인덱스를 만드는 동안의 변경은 누락될 수 있으며, 만료 후 다시 만들때 보정됩니다.</p>
+ *
+ * <p>인덱스는 한 요청만 만들도록 SETNX 잠금({@code {키}:building-lock})을 사용합니다. 잠금을 얻지 못한 요청은
+ * 인덱스가 만들어질때까지 기다리지 않고 DB 정렬 쿼리로 조회합니다.</p>
+ */
+@Component
+@Slf4j
+public class CommentScoreIndex {
+
+    private static final String EPISODE_KEY_PREFIX = "comment_score:episode:";
+
+    private static final String NOVEL_KEY_PREFIX = "comment_score:novel:";
+
+    private static final String BUILD_LOCK_SUFFIX = ":building-lock";
+
+    //인덱스를 만드는 요청이 비정상 종료되어도 잠금이 남지 않도록 만료시간 설정
+    //ACTIVE 댓글이 없어 인덱스를 만들지 않은 경우에는 잠금을 만료시간까지 유지하여 반복 조회를 막음
+    private static final Duration BUILD_LOCK_TTL = Duration.ofSeconds(30);
+
+    //인덱스가 있을때만 댓글을 추가, 이미 있는 댓글은 변경하지 않음
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "redis.call('zadd', KEYS[1], 'NX', ARGV[1], ARGV[2]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0", Long.class);
+
+    //인덱스에 댓글이 있을때만 점수를 더함, 삭제된 댓글은 다시 추가하지 않음
+    private static final RedisScript<Long> INCREMENT_IF_MEMBER = new DefaultRedisScript<>(
+            "if redis.call('zscore', KEYS[1], ARGV[2]) then " +
+                    "redis.call('zincrby', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private final CommentRepository commentRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Duration ttl;
+
+    public CommentScoreIndex(CommentRepository commentRepository,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Value("${comment.score-index.ttl-hours:6}") long ttlHours) {
+        this.commentRepository = commentRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+
+    /**
+     * 에피소드의 추천순 댓글 id 를 페이지 범위만큼 반환합니다. 인덱스가 없으면 만들어 저장합니다.
+     *
+     * @param episodeId 에피소드 id
+     * @param pageable  페이지 정보
+     * @return 추천순 댓글 id List, Redis 에러시 null
+     */
+    List<Long> findEpisodePage(Long episodeId, Pageable pageable) {
+        return findPage(EPISODE_KEY_PREFIX + episodeId, pageable,
+                () -> commentRepository.findActiveScoresByEpisode(episodeId));
+    }
+
+    /**
+     * 소설의 추천순 댓글 id 를 페이지 범위만큼 반환합니다. 인덱스가 없으면 만들어 저장합니다.
+     *
+     * @param novelId  소설 id
+     * @param pageable 페이지 정보
+     * @return 추천순 댓글 id List, Redis 에러시 null
+     */
+    List<Long> findNovelPage(Long novelId, Pageable pageable) {
+        return findPage(NOVEL_KEY_PREFIX + novelId, pageable,
+                () -> commentRepository.findActiveScoresByNovel(novelId));
+    }
+
+    /**
+     * 작성된 댓글을 인덱스에 추가합니다. 댓글 작성 트랜잭션 안에서 호출하면 커밋 이후에 반영합니다.
+     */
+    void added(Long commentId, Long episodeId, Long novelId) {
+        afterCommit(() -> {
+            execute(ADD_IF_PRESENT, EPISODE_KEY_PREFIX + episodeId, 0, commentId);
+            execute(ADD_IF_PRESENT, NOVEL_KEY_PREFIX + novelId, 0, commentId);
+        });
+    }
+
+    /**
+     * 댓글의 추천 점수를 변경합니다. 감정표현 등록/삭제 트랜잭션 안에서 호출하면 커밋 이후에 반영합니다.
+     *
+     * @param delta 더할 점수, 좋아요 등록/싫어요 삭제시 1, 좋아요 삭제/싫어요 등록시 -1
+     */
+    void addScore(Long commentId, Long episodeId, Long novelId, int delta) {
+        afterCommit(() -> {
+            execute(INCREMENT_IF_MEMBER, EPISODE_KEY_PREFIX + episodeId, delta, commentId);
+            execute(INCREMENT_IF_MEMBER, NOVEL_KEY_PREFIX + novelId, delta, commentId);
+        });
+    }
+
+    /**
+     * 삭제된 댓글을 인덱스에서 제거합니다. 댓글 삭제 트랜잭션 안에서 호출하면 커밋 이후에 반영합니다.
+     */
+    void removed(Long commentId, Long episodeId, Long novelId) {
+        afterCommit(() -> remove(List.of(commentId), episodeId, novelId));
+    }
+
+    /**
+     * 에피소드와 소설의 인덱스를 삭제합니다. 좋아요 수 보정으로 점수가 바뀐 경우 호출하며, 트랜잭션 안에서 호출하면 커밋 이후에 반영합니다.
+     * 다음 조회때 DB 의 점수로 다시 만듭니다.
+     */
+    void invalidate(Long episodeId, Long novelId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(List.of(EPISODE_KEY_PREFIX + episodeId, NOVEL_KEY_PREFIX + novelId));
+            } catch (Exception ex) {
+                log.error("invalidate 메서드 에러 발생, 댓글 추천순 인덱스 삭제 실패, episodeId={}, novelId={}", episodeId, novelId, ex);
+            }
+        });
+    }
+
+    /**
+     * 인덱스에는 있지만 조회시 ACTIVE 상태가 아니었던 댓글을 바로 제거합니다.
+     */
+    void remove(Collection<Long> commentIds, Long episodeId, Long novelId) {
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        Object[] members = commentIds.stream().map(CommentScoreIndex::member).toArray();
+        try {
+            if (episodeId != null) {
+                redisTemplate.opsForZSet().remove(EPISODE_KEY_PREFIX + episodeId, members);
+            }
+            if (novelId != null) {
+                redisTemplate.opsForZSet().remove(NOVEL_KEY_PREFIX + novelId, members);
+            }
+        } catch (Exception ex) {
+            log.error("remove 메서드 에러 발생, 댓글 추천순 인덱스 변경 실패, commentIds={}", commentIds, ex);
+        }
+    }
+
+
+    private List<Long> findPage(String key, Pageable pageable, Supplier<List<Object[]>> source) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key)) && !buildOnce(key, source)) {
+                //다른 요청이 인덱스를 만드는 중이면 DB 정렬로 조회
+                return null;
+            }
+            long start = pageable.getOffset();
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, start + pageable.getPageSize() - 1);
+            if (members == null) {
+                return Collections.emptyList();
+            }
+            return members.stream().map(Long::valueOf).toList();
+        } catch (Exception ex) {
+            //Redis 에러시 DB 정렬로 조회
+            log.error("findPage 메서드 에러 발생, 댓글 추천순 인덱스 조회 실패, key={}", key, ex);
+            return null;
+        }
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 인덱스를 만듭니다.
+     *
+     * @return 인덱스를 만들었으면 true, 다른 요청이 잠금을 가지고 있거나 ACTIVE 댓글이 없으면 false
+     */
+    private boolean buildOnce(String key, Supplier<List<Object[]>> source) {
+        String lockKey = key + BUILD_LOCK_SUFFIX;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", BUILD_LOCK_TTL))) {
+            return false;
+        }
+        List<Object[]> rows;
+        try {
+            rows = source.get();
+        } catch (RuntimeException ex) {
+            redisTemplate.delete(lockKey);
+            throw ex;
+        }
+        if (rows.isEmpty()) {
+            return false;
+        }
+        try {
+            build(key, rows);
+            return true;
+        } finally {
+            redisTemplate.delete(lockKey);
+        }
+    }
+
+    //임시 키에 만든 뒤 이름을 바꿔, 만드는 중인 인덱스를 읽지 않도록 함
+    private void build(String key, List<Object[]> rows) {
+        String buildingKey = key + ":building:" + UUID.randomUUID();
+        redisTemplate.opsForZSet().add(buildingKey, toTuples(rows));
+        redisTemplate.expire(buildingKey, ttl);
+        redisTemplate.rename(buildingKey, key);
+    }
+
+    private void execute(RedisScript<Long> script, String key, int score, Long commentId) {
+        try {
+            redisTemplate.execute(script, List.of(key), String.valueOf(score), member(commentId));
+        } catch (Exception ex) {
+            log.error("댓글 추천순 인덱스 변경 실패, key={}, commentId={}", key, commentId, ex);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    //[commentId, 좋아요 수 - 싫어요 수] 행을 ZSET 항목으로 변환
+    static Set<ZSetOperations.TypedTuple<String>> toTuples(List<Object[]> rows) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Object[] row : rows) {
+            tuples.add(new DefaultTypedTuple<>(member((Long) row[0]), ((Number) row[1]).doubleValue()));
+        }
+        return tuples;
+    }
+
+    //점수가 같을때 문자열 역순이 id 역순이 되도록 0을 채움
+    static String member(Long commentId) {
+        return String.format("%019d", commentId);
+    }
+}
@@ -1,11 +1,14 @@
 package com.ham.netnovel.comment.service;
 
 import com.ham.netnovel.comment.Comment;
+import com.ham.netnovel.comment.data.CommentFeedCursor;
 import com.ham.netnovel.comment.data.CommentSortOrder;
 import com.ham.netnovel.comment.dto.CommentCreateDto;
+import com.ham.netnovel.comment.dto.CommentCursorPageDto;
 import com.ham.netnovel.comment.dto.CommentDeleteDto;
 import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
 import com.ham.netnovel.comment.dto.CommentUpdateDto;
+import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.member.dto.MemberCommentDto;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +56,19 @@ public interface CommentService {
     List<MemberCommentDto> getMemberCommentList(String providerId,Pageable pageable);
 
 
+    /**
+     * 유저가 작성한 댓글을 커서 이후부터 최신순으로 최대 limit 개 반환하는 메서드 입니다.
+     * 댓글, 대댓글을 합친 목록을 만들때 사용합니다.
+     *
+     * @param providerId 유저 정보
+     * @param after      합친 목록의 커서, 첫 페이지는 null
+     * @param limit      조회할 최대 댓글 수
+     * @return 생성시간 역순, 같으면 id 역순으로 정렬된 {@link MemberCommentDto} List
+     * @throws ServiceMethodException 댓글을 가져오는 중 오류가 발생한 경우
+     */
+    List<MemberCommentDto> getMemberCommentList(String providerId, CommentFeedCursor after, int limit);
+
+
     /**
      * 주어진 에피소드에 대한 댓글 목록을 정렬 기준에 따라 가져옵니다.
      *
@@ -87,7 +103,58 @@ public interface CommentService {
     List<CommentEpisodeListDto> getNovelCommentListByLikes(Long novelId, Pageable pageable);
 
 
+    /**
+     * 에피소드에 달린 댓글과 대댓글을 커서 이후부터 최신순으로 반환하는 메서드 입니다. 무한 스크롤에서 사용합니다.
+     *
+     * <p>offset 대신 이전 페이지 마지막 댓글의 (생성시간, id) 위치부터 조회하므로,
+     * 깊은 페이지도 조회 비용이 같고 새 댓글이 작성되어도 중복/누락이 없습니다.</p>
+     *
+     * @param episodeId  에피소드의 PK
+     * @param cursor     이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size       조회할 댓글 수
+     * @param providerId 접속한 유저의 정보, 로그인을 안한경우 <b>NON_LOGIN</b> 할당
+     * @return 댓글 목록과 다음 커서를 담은 {@link CommentCursorPageDto}
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 size 가 1보다 작은 경우
+     * @throws ServiceMethodException   댓글을 가져오는 중 오류가 발생한 경우
+     */
+    CommentCursorPageDto getEpisodeCommentsByCursor(Long episodeId, String cursor, int size, String providerId);
 
 
+    /**
+     * Novel에 달린 댓글과 대댓글을 커서 이후부터 최신순으로 반환하는 메서드 입니다. 무한 스크롤에서 사용합니다.
+     *
+     * @param novelId Novel 의 PK 값
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size    조회할 댓글 수
+     * @return 댓글 목록과 다음 커서를 담은 {@link CommentCursorPageDto}
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 size 가 1보다 작은 경우
+     * @throws ServiceMethodException   댓글을 가져오는 중 오류가 발생한 경우
+     */
+    CommentCursorPageDto getNovelCommentsByCursor(Long novelId, String cursor, int size);
+
+
+    /**
+     * 댓글의 좋아요/싫어요 수를 변경하는 메서드 입니다. 감정표현 등록/삭제 트랜잭션 안에서 호출합니다.
+     *
+     * @param commentId 댓글의 ID
+     * @param likeType  변경할 감정표현 종류
+     * @param delta     더할 값, 등록시 1, 삭제시 -1
+     */
+    void addLikeCount(Long commentId, LikeType likeType, int delta);
+
+
+    /**
+     * 저장된 좋아요/싫어요 수를 감정표현 테이블에서 센 값과 비교하여 보정하는 메서드 입니다.
+     *
+     * <p>{@code lastId} 보다 큰 id 를 가진 댓글을 id 순서로 최대 {@code batchSize} 개 검사하며,
+     * 감정표현 수를 세는 것과 저장을 UPDATE 문 하나로 실행하여 값이 다른 댓글만 변경합니다. 수정일자는 변경하지 않습니다.
+     * 보정된 댓글이 있으면 범위에 포함된 에피소드와 소설의 추천순 인덱스를 삭제합니다.</p>
+     *
+     * @param lastId    이전 배치에서 마지막으로 검사한 댓글 id, 처음 호출시 0
+     * @param batchSize 한번에 검사할 댓글 수
+     * @return 이번 배치에서 마지막으로 검사한 댓글 id, 검사할 댓글이 없으면 null
+     * @throws ServiceMethodException 메서드 실행 중 예외가 발생한 경우
+     */
+    Long reconcileLikeCounts(Long lastId, int batchSize);
 
 }
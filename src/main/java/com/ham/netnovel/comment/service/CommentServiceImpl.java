@@ -4,20 +4,24 @@ package com.ham.netnovel.comment.service;
 import com.ham.netnovel.comment.Comment;
 import com.ham.netnovel.comment.CommentRepository;
 import com.ham.netnovel.comment.CommentStatus;
+import com.ham.netnovel.comment.data.CommentCursor;
+import com.ham.netnovel.comment.data.CommentFeedCursor;
 import com.ham.netnovel.comment.data.CommentSortOrder;
+import com.ham.netnovel.comment.data.CommentType;
 import com.ham.netnovel.comment.dto.CommentCreateDto;
+import com.ham.netnovel.comment.dto.CommentCursorPageDto;
 import com.ham.netnovel.comment.dto.CommentDeleteDto;
 import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
 import com.ham.netnovel.comment.dto.CommentUpdateDto;
+import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.episode.Episode;
 import com.ham.netnovel.episode.service.EpisodeService;
 import com.ham.netnovel.common.exception.ServiceMethodException;
-import com.ham.netnovel.member.Member;
+import com.ham.netnovel.member.dto.MemberIdentityDto;
 import com.ham.netnovel.member.service.MemberService;
 import com.ham.netnovel.member.dto.MemberCommentDto;
-import com.ham.netnovel.reComment.ReComment;
-import com.ham.netnovel.reComment.dto.ReCommentListDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,10 +40,19 @@ public class CommentServiceImpl implements CommentService {
 
     private final EpisodeService episodeService;
 
-    public CommentServiceImpl(CommentRepository commentRepository, MemberService memberService, EpisodeService episodeService) {
+    private final CommentScoreIndex commentScoreIndex;
+
+    private final CommentPageAssembler commentPageAssembler;
+
+    private final CommentWriteBuffer commentWriteBuffer;
+
+    public CommentServiceImpl(CommentRepository commentRepository, MemberService memberService, EpisodeService episodeService, CommentScoreIndex commentScoreIndex, CommentPageAssembler commentPageAssembler, CommentWriteBuffer commentWriteBuffer) {
         this.commentRepository = commentRepository;
         this.memberService = memberService;
         this.episodeService = episodeService;
+        this.commentScoreIndex = commentScoreIndex;
+        this.commentPageAssembler = commentPageAssembler;
+        this.commentWriteBuffer = commentWriteBuffer;
     }
 
     @Override
@@ -52,8 +65,8 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public void createComment(CommentCreateDto commentCreateDto) {
 
-        //Member 엔티티 조회, null이면 예외로 던짐
-        Member member = memberService.getMember(commentCreateDto.getProviderId())
+        //유저 식별 정보 조회(캐시), null이면 예외로 던짐
+        MemberIdentityDto writer = memberService.getMemberIdentity(commentCreateDto.getProviderId())
                 .orElseThrow(() -> new NoSuchElementException("createComment 에러, Member 정보가 없습니다."
                         + commentCreateDto.getProviderId()));
         //Episode 엔티티 조회, null이면 예외로 던짐
@@ -61,11 +74,21 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new NoSuchElementException("createComment 에러, Episode 정보가 없습니다."
                         + commentCreateDto.getEpisodeId()));
 
+        //댓글이 몰리는 에피소드면 쓰기 버퍼에 넣고 반환, 워커가 모아서 저장
+        if (commentWriteBuffer.offer(writer, episode, commentCreateDto.getContent())) {
+            return;
+        }
+
         try {
-            //Comment 엔티티 생성
-            Comment comment = new Comment(commentCreateDto.getContent(), episode, member);
+            //Comment 엔티티 생성, 유저는 조회하지 않고 프록시로 연결
+            Comment comment = new Comment(commentCreateDto.getContent(), episode,
+                    memberService.getMemberReference(writer.getMemberId()));
             //Comment 엔티티 저장
             commentRepository.save(comment);
+            //에피소드 댓글 수 1 증가
+            episodeService.addCommentCount(episode.getId(), 1);
+            //추천순 인덱스에 추가
+            commentScoreIndex.added(comment.getId(), episode.getId(), episode.getNovel().getId());
 
         } catch (Exception ex) {
             //나머지 예외처리
@@ -120,12 +143,21 @@ public class CommentServiceImpl implements CommentService {
             //댓글 삭제 에피소드와 기존 댓글과 mapping된 에피소드가 일치하는지 확인
             if (providerId.equals(commentDeleteDto.getProviderId()) && Objects.equals(episodeId, commentDeleteDto.getEpisodeId())) {
 
+                //이미 삭제된 댓글은 댓글 수를 다시 줄이지 않음
+                boolean wasActive = comment.getStatus() == CommentStatus.ACTIVE;
+
                 //엔티티의 상태를 삭제 상태로 변경
                 comment.changeStatus(CommentStatus.DELETED_BY_USER);
 
                 //변경된 엔티티를 저장
                 commentRepository.save(comment);
 
+                //에피소드 댓글 수 1 감소, 추천순 인덱스에서 제거
+                if (wasActive) {
+                    episodeService.addCommentCount(episodeId, -1);
+                    commentScoreIndex.removed(comment.getId(), episodeId, comment.getEpisode().getNovel().getId());
+                }
+
             } else {
                 throw new IllegalArgumentException("deleteComment 메서드 에러 발생, 잘못된 파라미터 입력");
             }
@@ -150,6 +182,19 @@ public class CommentServiceImpl implements CommentService {
     }
 
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberCommentDto> getMemberCommentList(String providerId, CommentFeedCursor after, int limit) {
+        try {
+            return (after == null)
+                    ? commentRepository.findCommentByMemberBefore(providerId, null, Long.MAX_VALUE, limit)
+                    : commentRepository.findCommentByMemberBefore(providerId, after.createdAt(), after.idBoundFor(CommentType.COMMENT), limit);
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getMemberCommentList 메서드 에러 발생" + ex + ex.getMessage()); // 예외 던지기
+        }
+    }
+
+
     @Override
     @Transactional
     public List<CommentEpisodeListDto> getEpisodeComment(Long episodeId,
@@ -160,11 +205,13 @@ public class CommentServiceImpl implements CommentService {
             // 정렬 기준에 따라 서로 다른 repository 메서드를 호출(최신순/좋아요순)
             List<Comment> comments = (sortOrder.equals(CommentSortOrder.RECENT))
                     ? commentRepository.findByEpisodeIdByCreatedAt(episodeId, pageable)
-                    : commentRepository.findByEpisodeIdByCommentLikes(episodeId, pageable);
-            // DTO 로 변환하여 반환
-            return comments.stream()
-                    .map(comment -> convertToCommentEpisodeListDto(comment, providerId)) // DTO로 변환
-                    .toList();
+                    : findEpisodeCommentsByScore(episodeId, pageable);
+            // 대댓글을 한번에 조회하여 DTO 로 변환
+            List<CommentEpisodeListDto> page = commentPageAssembler.assemble(comments, providerId);
+            // 최신순 첫 페이지에는 쓰기 버퍼의 저장 전 댓글을 함께 반환
+            return (sortOrder.equals(CommentSortOrder.RECENT) && pageable.getOffset() == 0)
+                    ? commentWriteBuffer.overlay(episodeId, page)
+                    : page;
         } catch (Exception ex) {
             throw new ServiceMethodException("getReCommentList 메서드 에러 발생" + ex.getMessage()); // 예외 던지기
         }
@@ -175,12 +222,8 @@ public class CommentServiceImpl implements CommentService {
     @Transactional(readOnly = true)
     public List<CommentEpisodeListDto> getNovelCommentListByRecent(Long novelId, Pageable pageable) {
         try {
-            return commentRepository.findByNovelOrderByCreatedAt(novelId, pageable).stream()
-                    //엔티티 DTO로 convert
-                    .map(this::convertToCommentEpisodeListDto)
-                    //생성시간 역순으로 정렬(최신 댓글이 먼저 나오도록)
-                    .sorted(Comparator.comparing(CommentEpisodeListDto::getCreatedAt).reversed())
-                    .collect(Collectors.toList());
+            //생성시간 역순으로 조회한 순서를 유지하여 DTO로 convert
+            return commentPageAssembler.assemble(commentRepository.findByNovelOrderByCreatedAt(novelId, pageable), null);
         } catch (Exception e) {
             throw new ServiceMethodException("getNovelCommentListByRecent 메서드 에러 발생"); // 예외 던지기
         }
@@ -191,12 +234,8 @@ public class CommentServiceImpl implements CommentService {
     @Transactional(readOnly = true)
     public List<CommentEpisodeListDto> getNovelCommentListByLikes(Long novelId, Pageable pageable) {
         try {
-            return commentRepository.findByNovelOrderByCommentLikes(novelId, pageable).stream()
-                    //엔티티 DTO로 convert
-                    .map(this::convertToCommentEpisodeListDto)
-                    //좋아요 순으로 정렬, 기본값은 오름차순 정렬이므로 reversed 추가
-                    .sorted(Comparator.comparing(CommentEpisodeListDto::getLikes).reversed())
-                    .collect(Collectors.toList());
+            //엔티티 DTO로 convert, 추천순 인덱스의 순서를 유지
+            return commentPageAssembler.assemble(findNovelCommentsByScore(novelId, pageable), null);
         } catch (Exception e) {
             throw new ServiceMethodException("getNovelCommentListByLikes 메서드 에러 발생"); // 예외 던지기
         }
@@ -204,96 +243,167 @@ public class CommentServiceImpl implements CommentService {
     }
 
 
-    /**
-     * Comment 엔티티를 CommentEpisodeListDto로 convert하는 메서드
-     * 댓글(Comment)에 달린 대댓글(reComment) 정보도 List로 포함됨
-     *
-     * @param comment 파라미터로 받을 댓글 엔티티
-     * @return CommentEpisodeListDto DTO로 변환하여 반환
-     */
-
-    private CommentEpisodeListDto convertToCommentEpisodeListDto(Comment comment) {
-
-        return CommentEpisodeListDto.builder()
-                .nickName(comment.getMember().getNickName())//작성자 닉네임
-                .episodeTitle(comment.getEpisode().getTitle())//에피소드 제목
-                .content(comment.getContent())
-                .id(comment.getId())
-                .updatedAt(comment.getUpdatedAt())
-                .createdAt(comment.getCreatedAt())
-                .likes(comment.getTotalLikes())//댓글에 달린  좋아요 수
-                .disLikes(comment.getTotalDisLikes())//댓글에 달린 싫어요 수
-                .reCommentList(Optional.ofNullable(comment.getReComments())//대댓글 null 체크
-                        .orElse(Collections.emptyList()) // null일 경우 빈 리스트 반환
-                        .stream()//연관된 대댓글 엔티티를 DTO 형태로 변환하여 List로 반환
-                        .map(reComment -> ReCommentListDto.builder()
-                                .nickName(reComment.getMember().getNickName())
-                                .content(reComment.getContent())
-                                .id(reComment.getId())
-                                .createdAt(reComment.getCreatedAt())
-                                .updatedAt(reComment.getUpdatedAt())
-                                .likes(reComment.getTotalLikes())//댓글에 달린 싫어요 수
-                                .disLikes(reComment.getTotalDisLikes())//대댓글에 달린 싫어요 수
-                                .build())
-                        .collect(Collectors.toList())) // List로 변환
-                .build();
+    @Override
+    @Transactional(readOnly = true)
+    public CommentCursorPageDto getEpisodeCommentsByCursor(Long episodeId, String cursor, int size, String providerId) {
+        //커서, 조회 수가 잘못되었으면 IllegalArgumentException 으로 던짐
+        CommentCursor after = CommentCursor.decode(cursor);
+        validateCursorPageSize(size);
+        try {
+            //다음 페이지가 있는지 확인하기 위해 1개 더 조회
+            Pageable pageable = PageRequest.of(0, size + 1);
+            List<Comment> comments = (after == null)
+                    ? commentRepository.findByEpisodeIdByCreatedAt(episodeId, pageable)
+                    : commentRepository.findByEpisodeIdByCreatedAtBefore(episodeId, after.createdAt(), after.commentId(), pageable);
+            CommentCursorPageDto page = toCursorPage(comments, size, providerId);
+            if (after != null) {
+                return page;
+            }
+            //첫 페이지에는 쓰기 버퍼의 저장 전 댓글을 함께 반환
+            return CommentCursorPageDto.builder()
+                    .comments(commentWriteBuffer.overlay(episodeId, page.getComments()))
+                    .nextCursor(page.getNextCursor())
+                    .build();
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getEpisodeCommentsByCursor 메서드 에러 발생" + ex.getMessage());
+        }
     }
 
-    //Comment 엔티티를 CommentEpisodeListDto 변환하는 메서드
-    private CommentEpisodeListDto convertToCommentEpisodeListDto(Comment comment, String providerId) {
-
-        //댓글 작성자와, 접속자가 같으면 수정가능여부 true 할당 아닐경우 false 할당
-        boolean isEditable = comment.getMember().getProviderId().equals(providerId);
-
-        CommentEpisodeListDto commentEpisodeListDto = CommentEpisodeListDto.builder()
-                .nickName(comment.getMember().getNickName())//작성자 닉네임
-                .episodeTitle(comment.getEpisode().getTitle())//에피소드 제목
-                .content(comment.getContent())
-                .id(comment.getId())
-                .updatedAt(comment.getUpdatedAt())
-                .createdAt(comment.getCreatedAt())
-                .likes(comment.getTotalLikes())//댓글에 달린  좋아요 수
-                .disLikes(comment.getTotalDisLikes())//댓글에 달린 싫어요 수
-                .isEditable(isEditable)//수정가능여부
-                .build();
-
 
-        if (!comment.getReComments().isEmpty()) {
-            List<ReCommentListDto> reCommentListDtos = convertReCommentsToDtoList(comment.getReComments(), providerId);
-            commentEpisodeListDto.setReCommentList(reCommentListDtos);
+    @Override
+    @Transactional(readOnly = true)
+    public CommentCursorPageDto getNovelCommentsByCursor(Long novelId, String cursor, int size) {
+        //커서, 조회 수가 잘못되었으면 IllegalArgumentException 으로 던짐
+        CommentCursor after = CommentCursor.decode(cursor);
+        validateCursorPageSize(size);
+        try {
+            //다음 페이지가 있는지 확인하기 위해 1개 더 조회
+            List<Long> commentIds = (after == null)
+                    ? commentRepository.findIdsByNovelOrderByCreatedAt(novelId, size + 1)
+                    : commentRepository.findIdsByNovelOrderByCreatedAtBefore(novelId, after.createdAt(), after.commentId(), size + 1);
+            return toCursorPage(findInOrder(commentIds), size, null);
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getNovelCommentsByCursor 메서드 에러 발생" + ex.getMessage());
         }
-        return commentEpisodeListDto;
+    }
+
 
+    private static void validateCursorPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("조회할 댓글 수는 1 이상이어야 합니다. size=" + size);
+        }
     }
 
-    //대댓글을 ReCommentListDto 변환하는 메서드
-    private List<ReCommentListDto> convertReCommentsToDtoList(List<ReComment> reComments, String providerId) {
+    //size 개를 넘게 조회되었으면 다음 페이지가 있으므로, 마지막으로 반환하는 댓글로 다음 커서를 만듦
+    private CommentCursorPageDto toCursorPage(List<Comment> comments, int size, String providerId) {
+        boolean hasNext = comments.size() > size;
+        List<Comment> page = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CommentCursorPageDto.builder()
+                .comments(commentPageAssembler.assemble(page, providerId))
+                .nextCursor(nextCursor)
+                .build();
+    }
 
-        //반환용 객체
-        List<ReCommentListDto> reCommentListDtos = new ArrayList<>();
 
-        for (ReComment reComment : reComments) {
+    //추천순 인덱스에서 페이지의 댓글 id 를 읽고 댓글을 조회, 인덱스를 사용할 수 없으면 DB 에서 정렬
+    private List<Comment> findEpisodeCommentsByScore(Long episodeId, Pageable pageable) {
+        List<Long> commentIds = commentScoreIndex.findEpisodePage(episodeId, pageable);
+        if (commentIds == null) {
+            return commentRepository.findByEpisodeIdByCommentLikes(episodeId, pageable);
+        }
+        return findActiveInOrder(commentIds, episodeId, null);
+    }
 
-            //댓글 작성자와, 접속자가 같으면 수정가능여부 true 할당 아닐경우 false 할당
-            boolean isEditable = reComment.getMember().getProviderId().equals(providerId);
+    private List<Comment> findNovelCommentsByScore(Long novelId, Pageable pageable) {
+        List<Long> commentIds = commentScoreIndex.findNovelPage(novelId, pageable);
+        if (commentIds == null) {
+            return commentRepository.findByNovelOrderByCommentLikes(novelId, pageable);
+        }
+        return findActiveInOrder(commentIds, null, novelId);
+    }
 
-            //DTO 생성
-            ReCommentListDto dto = ReCommentListDto.builder()
-                    .nickName(reComment.getMember().getNickName())
-                    .content(reComment.getContent())
-                    .id(reComment.getId())
-                    .createdAt(reComment.getCreatedAt())
-                    .updatedAt(reComment.getUpdatedAt())
-                    .likes(reComment.getTotalLikes())//댓글에 달린 싫어요 수
-                    .disLikes(reComment.getTotalDisLikes())//대댓글에 달린 싫어요 수
-                    .isEditable(isEditable)//수정가능여부
-                    .build();
+    //댓글 id 목록 순서대로 ACTIVE 상태 댓글을 반환, id 를 조회한 뒤 상태가 바뀐 댓글은 제외
+    private List<Comment> findInOrder(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Comment> found = commentRepository.findActiveByIds(commentIds).stream()
+                .collect(Collectors.toMap(Comment::getId, comment -> comment));
+        return commentIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-            reCommentListDtos.add(dto);
+    /**
+     * 댓글 id 목록 순서대로 ACTIVE 상태 댓글을 반환합니다.
+     * ACTIVE 상태가 아닌 댓글은 제외하고, 조회한 추천순 인덱스에서 제거합니다.
+     */
+    private List<Comment> findActiveInOrder(List<Long> commentIds, Long episodeId, Long novelId) {
+        if (commentIds.isEmpty()) {
+            return Collections.emptyList();
         }
+        Map<Long, Comment> found = commentRepository.findActiveByIds(commentIds).stream()
+                .collect(Collectors.toMap(Comment::getId, comment -> comment));
+        List<Comment> ordered = new ArrayList<>(commentIds.size());
+        List<Long> inactiveIds = new ArrayList<>();
+        for (Long commentId : commentIds) {
+            Comment comment = found.get(commentId);
+            if (comment == null) {
+                inactiveIds.add(commentId);
+            } else {
+                ordered.add(comment);
+            }
+        }
+        commentScoreIndex.remove(inactiveIds, episodeId, novelId);
+        return ordered;
+    }
 
-        return reCommentListDtos;
 
+    @Override
+    @Transactional
+    public void addLikeCount(Long commentId, LikeType likeType, int delta) {
+        int updated = likeType == LikeType.LIKE
+                ? commentRepository.addLikeCounts(commentId, delta, 0)
+                : commentRepository.addLikeCounts(commentId, 0, delta);
+        if (updated == 0) {
+            throw new NoSuchElementException("addLikeCount 메서드 에러, 댓글 정보가 없습니다. commentId=" + commentId);
+        }
+        //추천 점수는 좋아요 수 - 싫어요 수
+        List<Object[]> location = commentRepository.findEpisodeAndNovelId(commentId);
+        if (!location.isEmpty()) {
+            commentScoreIndex.addScore(commentId, (Long) location.get(0)[0], (Long) location.get(0)[1],
+                    likeType == LikeType.LIKE ? delta : -delta);
+        }
+    }
 
+    @Override
+    @Transactional
+    public Long reconcileLikeCounts(Long lastId, int batchSize) {
+        try {
+            List<Long> ids = commentRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return null;
+            }
+            Long lastCheckedId = ids.get(ids.size() - 1);
+            //감정표현 수를 세는 것과 저장을 UPDATE 문 하나로 실행
+            int corrected = commentRepository.reconcileLikeCounts(lastId, lastCheckedId);
+            if (corrected > 0) {
+                //보정된 댓글의 추천 점수가 틀렸으므로 범위의 추천순 인덱스를 커밋 이후 삭제, 다음 조회때 DB 에서 다시 만듦
+                for (Object[] location : commentRepository.findEpisodeAndNovelIdsBetween(lastId, lastCheckedId)) {
+                    commentScoreIndex.invalidate((Long) location[0], (Long) location[1]);
+                }
+                log.warn("댓글 좋아요 수 보정 완료, 보정 수={}, lastId={}", corrected, lastCheckedId);
+            }
+            return lastCheckedId;
+        } catch (Exception ex) {
+            throw new ServiceMethodException("reconcileLikeCounts 메서드 에러 발생", ex);
+        }
     }
+
 }
@@ -0,0 +1,472 @@
+package com.ham.netnovel.comment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
+import com.ham.netnovel.comment.dto.PendingCommentDto;
+import com.ham.netnovel.episode.Episode;
+import com.ham.netnovel.member.dto.MemberIdentityDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글이 몰리는 에피소드의 댓글 작성을 Redis 큐에 모아서 일괄 저장하는 쓰기 버퍼입니다.
+ *
+ * <p>에피소드의 분당 댓글 작성 수가 {@code hotThresholdPerMinute} 를 넘으면, 검증을 마친 댓글을 DB 에 바로 저장하지 않고
+ * {@code comment_write_queue} 리스트에 넣은 뒤 응답합니다. 워커는 일정 시간마다 큐에서 {@code batchSize} 개씩 꺼내
+ * {@link CommentBatchWriter} 로 저장하므로, 댓글마다 실행하던 INSERT 와 에피소드 댓글 수 변경이 배치마다 한번으로 줄어듭니다.</p>
+ *
+ * <p>큐에서 꺼낸 댓글은 저장이 끝날때까지 {@code comment_write_queue:processing} 리스트에 보관합니다.
+ * 워커는 Redis lock 을 얻은 서버 하나만 실행하며, lock 을 얻었을때 처리 중 리스트가 남아있으면 이전 워커가 중단된 것이므로
+ * 이미 저장된 댓글을 제외하고 다시 저장합니다. 저장 중에는 lock 만료시간을 주기적으로 연장하고,
+ * 처리 중 리스트에서는 lock 을 가지고 있을때만 저장이 끝난 댓글을 하나씩 제거합니다.</p>
+ *
+ * <p>저장에 실패한 배치는 댓글을 하나씩 다시 저장하고, 데이터 에러(유저, 에피소드 삭제 등)로 실패한 댓글만 버립니다.
+ * DB 연결 실패처럼 다시 시도하면 저장될 수 있는 에러면 남은 댓글을 처리 중 리스트에 두고 이번 실행을 멈춥니다.</p>
+ *
+ * <p>저장 전 댓글은 {@code comment_pending:episode:{episodeId}} 리스트에도 넣어, 에피소드 최신순 댓글 첫 페이지에 함께 보여줍니다.
+ * 저장 전 댓글은 id 가 없으므로 수정/삭제할 수 없습니다.</p>
+ */
+@Component
+@Slf4j
+public class CommentWriteBuffer {
+
+    private static final String QUEUE_KEY = "comment_write_queue";
+
+    private static final String PROCESSING_KEY = "comment_write_queue:processing";
+
+    private static final String LOCK_KEY = "comment_write_queue:lock";
+
+    private static final String PENDING_KEY_PREFIX = "comment_pending:episode:";
+
+    private static final String RATE_KEY_PREFIX = "comment_write_rate:";
+
+    //첫 페이지에 함께 보여줄 저장 전 댓글 최대 수
+    private static final int OVERLAY_LIMIT = 50;
+
+    //저장 전 댓글 목록 만료시간, 워커가 멈춰도 첫 페이지에 계속 남지 않도록 함
+    private static final Duration PENDING_TTL = Duration.ofMinutes(10);
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+
+    //저장 중 lock 만료시간 연장 주기
+    private static final Duration LOCK_RENEW_INTERVAL = Duration.ofSeconds(10);
+
+    //큐와 에피소드의 저장 전 댓글 목록에 함께 넣음
+    private static final RedisScript<Long> ENQUEUE = new DefaultRedisScript<>(
+            "redis.call('lpush', KEYS[1], ARGV[1]) " +
+                    "redis.call('lpush', KEYS[2], ARGV[1]) " +
+                    "redis.call('expire', KEYS[2], ARGV[2]) " +
+                    "return 1", Long.class);
+
+    //가장 오래된 댓글부터 최대 ARGV[1] 개를 처리 중 리스트로 옮김
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MOVE_BATCH = new DefaultRedisScript<>(
+            "local moved = {} " +
+                    "for i = 1, tonumber(ARGV[1]) do " +
+                    "local value = redis.call('rpoplpush', KEYS[1], KEYS[2]) " +
+                    "if not value then break end " +
+                    "moved[#moved + 1] = value " +
+                    "end " +
+                    "return moved", List.class);
+
+    //자신이 얻은 lock 만 해제
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    //자신이 얻은 lock 의 만료시간만 연장
+    private static final RedisScript<Long> RENEW_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    //lock 을 가지고 있을때만 처리 중 리스트에서 ARGV[2..] 를 하나씩 제거, lock 이 없으면 -1
+    private static final RedisScript<Long> REMOVE_PROCESSED = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then " +
+                    "return -1 " +
+                    "end " +
+                    "local removed = 0 " +
+                    "for i = 2, #ARGV do " +
+                    "removed = removed + redis.call('lrem', KEYS[2], 1, ARGV[i]) " +
+                    "end " +
+                    "return removed", Long.class);
+
+    private final CommentBatchWriter commentBatchWriter;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final long hotThresholdPerMinute;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerFlush;
+
+    private final long flushIntervalMillis;
+
+    //lock 소유자 구분값
+    private final String workerId = UUID.randomUUID().toString();
+
+    //저장 중 다른 스레드에서 lock 을 연장할 수 있도록 스레드 2개 사용
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "comment-write-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    //이번 실행 중 lock 을 잃었는지 여부, lock 연장 스레드에서 변경
+    private volatile boolean lockLost;
+
+    private final Counter enqueuedCounter;
+
+    private final Counter insertedCounter;
+
+    private final Counter droppedCounter;
+
+    public CommentWriteBuffer(CommentBatchWriter commentBatchWriter,
+                              RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${comment.write-buffer.enabled:false}") boolean enabled,
+                              @Value("${comment.write-buffer.hot-threshold-per-minute:120}") long hotThresholdPerMinute,
+                              @Value("${comment.write-buffer.batch-size:200}") int batchSize,
+                              @Value("${comment.write-buffer.max-batches-per-flush:20}") int maxBatchesPerFlush,
+                              @Value("${comment.write-buffer.flush-interval-millis:500}") long flushIntervalMillis) {
+        this.commentBatchWriter = commentBatchWriter;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.hotThresholdPerMinute = hotThresholdPerMinute;
+        this.batchSize = batchSize;
+        this.maxBatchesPerFlush = maxBatchesPerFlush;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.enqueuedCounter = Counter.builder("comment.write_buffer.enqueued").register(meterRegistry);
+        this.insertedCounter = Counter.builder("comment.write_buffer.inserted").register(meterRegistry);
+        this.droppedCounter = Counter.builder("comment.write_buffer.dropped").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    //애플리케이션 종료시 큐에 남은 댓글은 다른 서버 또는 재시작 후의 워커가 저장
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+    }
+
+
+    /**
+     * 댓글이 몰리는 에피소드면 검증을 마친 댓글을 큐에 넣습니다.
+     *
+     * @param writer  작성자 식별 정보
+     * @param episode 댓글을 작성할 에피소드
+     * @param content 댓글 내용
+     * @return 큐에 넣었으면 true, 버퍼를 사용하지 않거나 Redis 에러시 false(바로 저장해야 함)
+     */
+    boolean offer(MemberIdentityDto writer, Episode episode, String content) {
+        if (!enabled || !isHot(episode.getId())) {
+            return false;
+        }
+        PendingCommentDto comment = PendingCommentDto.builder()
+                .memberId(writer.getMemberId())
+                .providerId(writer.getProviderId())
+                .nickName(writer.getNickName())
+                .episodeId(episode.getId())
+                .novelId(episode.getNovel().getId())
+                .episodeTitle(episode.getTitle())
+                .content(content)
+                .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+        try {
+            redisTemplate.execute(ENQUEUE, List.of(QUEUE_KEY, PENDING_KEY_PREFIX + episode.getId()),
+                    objectMapper.writeValueAsString(comment), String.valueOf(PENDING_TTL.toSeconds()));
+            enqueuedCounter.increment();
+            return true;
+        } catch (Exception ex) {
+            log.error("offer 메서드 에러 발생, 댓글 쓰기 버퍼 저장 실패, episodeId={}", episode.getId(), ex);
+            return false;
+        }
+    }
+
+    /**
+     * 에피소드 최신순 댓글 첫 페이지 앞에 저장 전 댓글을 최신순으로 붙입니다.
+     *
+     * @param episodeId 에피소드 id
+     * @param firstPage DB 에서 조회한 첫 페이지
+     * @return 저장 전 댓글을 붙인 List, 버퍼를 사용하지 않거나 Redis 에러시 firstPage
+     */
+    List<CommentEpisodeListDto> overlay(Long episodeId, List<CommentEpisodeListDto> firstPage) {
+        if (!enabled) {
+            return firstPage;
+        }
+        try {
+            List<String> values = redisTemplate.opsForList().range(PENDING_KEY_PREFIX + episodeId, 0, OVERLAY_LIMIT - 1);
+            if (values == null || values.isEmpty()) {
+                return firstPage;
+            }
+            List<PendingCommentDto> pending = new ArrayList<>(values.size());
+            for (String value : values) {
+                pending.add(objectMapper.readValue(value, PendingCommentDto.class));
+            }
+            return prependPending(pending, firstPage);
+        } catch (Exception ex) {
+            log.error("overlay 메서드 에러 발생, 저장 전 댓글 조회 실패, episodeId={}", episodeId, ex);
+            return firstPage;
+        }
+    }
+
+    /**
+     * 저장 전 댓글을 페이지 앞에 붙입니다. 저장과 목록 제거 사이에 조회되어 페이지에 이미 있는 댓글은 제외합니다.
+     *
+     * @param pending 저장 전 댓글, 최신순
+     * @param page    DB 에서 조회한 페이지
+     * @return 저장 전 댓글을 앞에 붙인 List
+     */
+    static List<CommentEpisodeListDto> prependPending(List<PendingCommentDto> pending, List<CommentEpisodeListDto> page) {
+        Set<String> persisted = new HashSet<>();
+        for (CommentEpisodeListDto comment : page) {
+            persisted.add(overlayKey(comment.getNickName(), comment.getContent(), comment.getCreatedAt()));
+        }
+        List<CommentEpisodeListDto> merged = new ArrayList<>(pending.size() + page.size());
+        for (PendingCommentDto comment : pending) {
+            if (persisted.contains(overlayKey(comment.getNickName(), comment.getContent(), comment.getCreatedAt()))) {
+                continue;
+            }
+            merged.add(CommentEpisodeListDto.builder()
+                    .content(comment.getContent())
+                    .nickName(comment.getNickName())
+                    .episodeTitle(comment.getEpisodeTitle())
+                    .createdAt(comment.getCreatedAt())
+                    .updatedAt(comment.getCreatedAt())
+                    .isEditable(false)
+                    .reCommentList(Collections.emptyList())
+                    .build());
+        }
+        merged.addAll(page);
+        return merged;
+    }
+
+
+    /**
+     * 큐의 댓글을 배치 단위로 저장합니다. lock 을 얻지 못하면 다른 서버가 저장 중이므로 실행하지 않습니다.
+     */
+    void flush() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, workerId, LOCK_TTL))) {
+                return;
+            }
+        } catch (Exception ex) {
+            log.error("flush 메서드 에러 발생, 댓글 쓰기 버퍼 lock 획득 실패", ex);
+            return;
+        }
+        lockLost = false;
+        ScheduledFuture<?> renewal = null;
+        try {
+            renewal = scheduler.scheduleAtFixedRate(this::renewLock,
+                    LOCK_RENEW_INTERVAL.toMillis(), LOCK_RENEW_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            //이전 워커가 저장 도중 중단되어 남은 댓글
+            List<String> leftovers = redisTemplate.opsForList().range(PROCESSING_KEY, 0, -1);
+            if (leftovers != null && !leftovers.isEmpty()) {
+                log.warn("댓글 쓰기 버퍼 처리 중 댓글 재처리, 댓글 수={}", leftovers.size());
+                if (!process(leftovers, true)) {
+                    return;
+                }
+            }
+            for (int i = 0; i < maxBatchesPerFlush && !lockLost; i++) {
+                @SuppressWarnings("unchecked")
+                List<String> batch = redisTemplate.execute(MOVE_BATCH, List.of(QUEUE_KEY, PROCESSING_KEY), String.valueOf(batchSize));
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                if (!process(batch, false)) {
+                    break;
+                }
+            }
+        } catch (Exception ex) {
+            //처리 중 리스트는 그대로 두고 다음 실행때 다시 처리
+            log.error("flush 메서드 에러 발생, 댓글 쓰기 버퍼 저장 실패", ex);
+        } finally {
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            try {
+                redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), workerId);
+            } catch (Exception ex) {
+                log.error("flush 메서드 에러 발생, 댓글 쓰기 버퍼 lock 해제 실패", ex);
+            }
+        }
+    }
+
+
+    /**
+     * 처리 중 리스트의 댓글을 저장하고, 저장했거나 버린 댓글만 리스트에서 제거합니다.
+     * 다시 시도하면 저장될 수 있는 에러로 저장하지 못한 댓글은 리스트에 남겨 다음 실행때 다시 처리합니다.
+     *
+     * @return 모든 댓글을 처리했으면 true, 남은 댓글이 있거나 lock 을 잃었으면 false(이번 실행을 멈춤)
+     */
+    private boolean process(List<String> values, boolean recovered) {
+        //처리 중 리스트에서 제거할 값
+        List<String> done = new ArrayList<>(values.size());
+        List<String> raws = new ArrayList<>(values.size());
+        List<PendingCommentDto> comments = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                PendingCommentDto comment = objectMapper.readValue(value, PendingCommentDto.class);
+                if (recovered && commentBatchWriter.isPersisted(comment)) {
+                    done.add(value);
+                    continue;
+                }
+                raws.add(value);
+                comments.add(comment);
+            } catch (JsonProcessingException ex) {
+                droppedCounter.increment();
+                done.add(value);
+                log.error("process 메서드 에러 발생, 잘못된 댓글 버퍼 값, value={}", value, ex);
+            }
+        }
+
+        //저장했거나 버린 댓글 수, 앞에서부터 처리함
+        int handled;
+        try {
+            commentBatchWriter.write(comments);
+            insertedCounter.increment(comments.size());
+            handled = comments.size();
+        } catch (Exception ex) {
+            if (!isDataError(ex)) {
+                log.error("process 메서드 에러 발생, 댓글 일괄 저장 실패, 다음 실행때 다시 저장, 댓글 수={}", comments.size(), ex);
+                removeProcessed(done);
+                return false;
+            }
+            log.error("process 메서드 에러 발생, 댓글 일괄 저장 실패, 하나씩 다시 저장, 댓글 수={}", comments.size(), ex);
+            handled = writeEach(comments);
+        }
+
+        done.addAll(raws.subList(0, handled));
+        if (!removeProcessed(done)) {
+            return false;
+        }
+        //저장이 끝난 댓글은 첫 페이지의 저장 전 댓글에서 제거
+        for (int i = 0; i < handled; i++) {
+            redisTemplate.opsForList().remove(PENDING_KEY_PREFIX + comments.get(i).getEpisodeId(), 1, raws.get(i));
+        }
+        return handled == comments.size();
+    }
+
+    /**
+     * 댓글을 하나씩 저장합니다. 데이터 에러로 실패한 댓글은 버리고, 그 외의 에러면 멈춥니다.
+     *
+     * @return 앞에서부터 저장했거나 버린 댓글 수
+     */
+    private int writeEach(List<PendingCommentDto> comments) {
+        for (int i = 0; i < comments.size(); i++) {
+            PendingCommentDto comment = comments.get(i);
+            try {
+                commentBatchWriter.write(List.of(comment));
+                insertedCounter.increment();
+            } catch (Exception ex) {
+                if (!isDataError(ex)) {
+                    log.error("writeEach 메서드 에러 발생, 댓글 저장 실패, 다음 실행때 다시 저장, memberId={}, episodeId={}",
+                            comment.getMemberId(), comment.getEpisodeId(), ex);
+                    return i;
+                }
+                //유저, 에피소드가 삭제된 경우 등 저장할 수 없는 댓글은 버림
+                droppedCounter.increment();
+                log.error("writeEach 메서드 에러 발생, 댓글 저장 실패, 댓글 버림, memberId={}, episodeId={}",
+                        comment.getMemberId(), comment.getEpisodeId(), ex);
+            }
+        }
+        return comments.size();
+    }
+
+    //lock 을 가지고 있을때만 처리 중 리스트에서 값을 하나씩 제거, lock 을 잃었으면 false
+    private boolean removeProcessed(List<String> values) {
+        if (values.isEmpty()) {
+            return !lockLost;
+        }
+        List<String> args = new ArrayList<>(values.size() + 1);
+        args.add(workerId);
+        args.addAll(values);
+        Long removed = redisTemplate.execute(REMOVE_PROCESSED, List.of(LOCK_KEY, PROCESSING_KEY), args.toArray());
+        if (removed == null || removed < 0) {
+            lockLost = true;
+            log.warn("removeProcessed 메서드, 댓글 쓰기 버퍼 lock 을 잃어 처리 중 댓글을 제거하지 않음, 댓글 수={}", values.size());
+            return false;
+        }
+        return true;
+    }
+
+    //저장 중 lock 만료시간 연장, 다른 워커가 lock 을 가져갔으면 이번 실행을 멈춤
+    private void renewLock() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_LOCK, List.of(LOCK_KEY), workerId, String.valueOf(LOCK_TTL.toMillis()));
+            if (renewed == null || renewed == 0) {
+                lockLost = true;
+                log.warn("renewLock 메서드, 댓글 쓰기 버퍼 lock 을 잃음");
+            }
+        } catch (Exception ex) {
+            log.error("renewLock 메서드 에러 발생, 댓글 쓰기 버퍼 lock 연장 실패", ex);
+        }
+    }
+
+    //유저, 에피소드가 삭제되었거나 값이 컬럼 제약을 넘는 등 다시 시도해도 저장할 수 없는 에러인지 확인
+    static boolean isDataError(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException || cause instanceof SQLIntegrityConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //에피소드의 현재 분 댓글 작성 수를 세어 기준을 넘었는지 확인, 기준이 0 이하면 항상 버퍼 사용
+    private boolean isHot(Long episodeId) {
+        if (hotThresholdPerMinute <= 0) {
+            return true;
+        }
+        String key = RATE_KEY_PREFIX + episodeId + ":" + (System.currentTimeMillis() / 60_000);
+        try {
+            Long count = redisTemplate.opsForValue().increment(key);
+            if (count != null && count == 1) {
+                redisTemplate.expire(key, Duration.ofMinutes(2));
+            }
+            return count != null && count > hotThresholdPerMinute;
+        } catch (Exception ex) {
+            log.error("isHot 메서드 에러 발생, 댓글 작성 수 집계 실패, episodeId={}", episodeId, ex);
+            return false;
+        }
+    }
+
+    private static String overlayKey(String nickName, String content, LocalDateTime createdAt) {
+        return nickName + "\n" + content + "\n" + createdAt;
+    }
+}
@@ -67,7 +67,11 @@ public class CommentLikeController {
         commentLikeToggleDto.setProviderId(principal.getName());
 
         //댓글 감정표현 저장 결과 반환, 감정표현 생성시 CREATION , 삭제시 DELETION 실패시 FAILURE 반환
-        LikeResult likeResult = commentLikeService.toggleCommentLikeStatus(commentLikeToggleDto);
+        //로그인시 저장한 유저 id 가 있으면 유저 조회 없이 반영, 이전 세션이면 providerId 로 조회
+        LikeResult likeResult = (principal.getMemberId() != null)
+                ? commentLikeService.toggleCommentLikeStatus(principal.getMemberId(),
+                commentLikeToggleDto.getCommentId(), commentLikeToggleDto.getLikeType())
+                : commentLikeService.toggleCommentLikeStatus(commentLikeToggleDto);
 
 
         // LikeResult에 따른 결과 처리
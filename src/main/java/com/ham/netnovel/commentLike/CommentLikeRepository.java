@@ -1,10 +1,54 @@
 package com.ham.netnovel.commentLike;
 
+import com.ham.netnovel.commentLike.data.LikeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike,Long> {
 
 
     Optional<CommentLike> findById(CommentLikeId id);
+
+    /**
+     * 유저가 댓글에 남긴 감정표현 종류를 조회합니다.
+     *
+     * @param commentId 댓글 id
+     * @param memberId  유저 id
+     * @return 감정표현 종류, 없으면 빈 Optional
+     */
+    @Query("select l.likeType from CommentLike l " +
+            "where l.id.commentId = :commentId and l.id.memberId = :memberId")
+    Optional<LikeType> findLikeType(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    /**
+     * 유저가 댓글에 남긴 감정표현이 likeType 과 같을때만 삭제합니다.
+     *
+     * @return 삭제된 행 수, 감정표현이 없거나 종류가 다르면 0
+     */
+    @Modifying
+    @Query("delete from CommentLike l " +
+            "where l.id.commentId = :commentId and l.id.memberId = :memberId and l.likeType = :likeType")
+    int deleteIfType(@Param("commentId") Long commentId,
+                     @Param("memberId") Long memberId,
+                     @Param("likeType") LikeType likeType);
+
+    /**
+     * 댓글이 있고 유저가 남긴 감정표현이 없을때만 감정표현을 저장합니다. 엔티티를 조회하지 않고 쿼리 1번으로 저장합니다.
+     *
+     * @param likeType 감정표현 종류 이름(LIKE, DISLIKE)
+     * @return 저장된 행 수, 댓글이 없거나 이미 감정표현이 있으면 0
+     */
+    @Modifying
+    @Query(value = "insert into comment_like (comment_id, member_id, like_type) " +
+            "select c.id, :memberId, :likeType from comment c " +
+            "where c.id = :commentId " +
+            "and not exists (select 1 from comment_like l where l.comment_id = :commentId and l.member_id = :memberId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId,
+                       @Param("memberId") Long memberId,
+                       @Param("likeType") String likeType);
 }
@@ -1,6 +1,7 @@
 package com.ham.netnovel.commentLike.service;
 
 import com.ham.netnovel.commentLike.data.LikeResult;
+import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.commentLike.dto.CommentLikeToggleDto;
 import com.ham.netnovel.common.exception.ServiceMethodException;
 
@@ -22,4 +23,20 @@ public interface CommentLikeService {
      */
     LikeResult toggleCommentLikeStatus(CommentLikeToggleDto commentLikeToggleDto);
 
+
+    /**
+     * 유저 id 로 댓글 감정 표현을 전환하는 메소드입니다. 유저, 댓글 엔티티를 조회하지 않습니다.
+     *
+     * <p>조건부 삭제/저장 쿼리로 반영하며, 같은 유저가 같은 댓글에 짧은 시간 동안 반복한 전환은 합쳐서 최종 변경만 반영합니다.
+     * 반환값은 전환마다 {@link #toggleCommentLikeStatus(CommentLikeToggleDto)} 와 같습니다.</p>
+     *
+     * @param memberId  유저 id
+     * @param commentId 댓글 id
+     * @param likeType  요청된 감정표현 종류
+     * @return LikeResult 감정 표현 상태를 나타내는 열거형 값 {@code CREATION} {@code DELETION} {@code FAILURE} 중 하나
+     * @throws NoSuchElementException 주어진 commentId 에 해당하는 댓글을 찾을 수 없는 경우
+     * @throws ServiceMethodException 서비스 메서드 처리 중 에러가 발생한 경우
+     */
+    LikeResult toggleCommentLikeStatus(Long memberId, Long commentId, LikeType likeType);
+
 }
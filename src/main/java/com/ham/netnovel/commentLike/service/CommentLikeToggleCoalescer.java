@@ -0,0 +1,239 @@
+package com.ham.netnovel.commentLike.service;
+
+import com.ham.netnovel.commentLike.data.LikeResult;
+import com.ham.netnovel.commentLike.data.LikeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 유저가 같은 댓글에 짧은 시간 동안 반복한 감정표현 전환을 합쳐서 반영하는 컴포넌트입니다.
+ *
+ * <p>(유저, 댓글) 의 첫 전환은 바로 DB 에 반영하고, 이후 {@code windowMillis} 동안의 전환은 메모리에서만 상태를 바꿉니다.
+ * 시간이 지나면 처음 DB 상태와 마지막 상태를 비교하여 바뀐 경우에만 한번 반영합니다.
+ * 좋아요 -> 취소 -> 좋아요 처럼 결과가 같으면 DB 에 쓰지 않습니다.</p>
+ *
+ * <p>응답(CREATION/DELETION/FAILURE)은 메모리의 상태로 바로 계산하므로 전환마다 기존과 같은 결과를 반환합니다.
+ * 같은 (유저, 댓글) 의 전환과 반영은 그 키의 {@link Burst} 를 lock 으로 사용하여 순서대로 실행하고, 다른 키의 요청은 기다리지 않습니다.
+ * 반영에 실패하면 {@code windowMillis} 뒤에 한번 더 반영하고, 다시 실패하면 버립니다.
+ * 서버를 여러대 실행하면 각 서버가 자신이 받은 전환만 합치며, 반영 쿼리는 조건부이므로 DB 상태가 다르면 반영되지 않습니다.</p>
+ */
+@Component
+@Slf4j
+public class CommentLikeToggleCoalescer {
+
+    private final CommentLikeWriter commentLikeWriter;
+
+    private final long windowMillis;
+
+    private final int maxBursts;
+
+    //(유저, 댓글) => 합치는 중인 전환
+    private final Map<BurstKey, Burst> bursts = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "comment-like-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter coalescedCounter;
+
+    private final Counter flushFailedCounter;
+
+    public CommentLikeToggleCoalescer(CommentLikeWriter commentLikeWriter,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${comment-like.coalesce.window-millis:2000}") long windowMillis,
+                                      @Value("${comment-like.coalesce.max-bursts:100000}") int maxBursts) {
+        this.commentLikeWriter = commentLikeWriter;
+        this.windowMillis = windowMillis;
+        this.maxBursts = maxBursts;
+        this.coalescedCounter = Counter.builder("comment_like.toggle.coalesced").register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("comment_like.toggle.flush_failed").register(meterRegistry);
+        Gauge.builder("comment_like.toggle.bursts", bursts, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (windowMillis > 0) {
+            scheduler.scheduleWithFixedDelay(() -> flush(false), windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    //애플리케이션 종료시 합치는 중인 전환 반영, 실패하여 다시 넣은 전환은 두번째 flush 에서 한번 더 반영
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        flush(true);
+        flush(true);
+    }
+
+
+    /**
+     * 감정표현을 전환합니다.
+     *
+     * @param memberId  유저 id
+     * @param commentId 댓글 id
+     * @param likeType  요청된 감정표현 종류
+     * @return 저장시 CREATION, 삭제시 DELETION, 다른 종류의 감정표현이 있으면 FAILURE
+     * @throws java.util.NoSuchElementException 댓글이 없는 경우
+     */
+    public LikeResult toggle(Long memberId, Long commentId, LikeType likeType) {
+        if (windowMillis <= 0) {
+            return commentLikeWriter.toggle(memberId, commentId, likeType);
+        }
+        BurstKey key = new BurstKey(memberId, commentId);
+        while (true) {
+            Burst burst = bursts.get(key);
+            if (burst == null) {
+                if (bursts.size() >= maxBursts) {
+                    //합치는 중인 전환이 너무 많으면 합치지 않고 바로 반영
+                    return commentLikeWriter.toggle(memberId, commentId, likeType);
+                }
+                Burst placeholder = new Burst();
+                //다른 요청이 상태를 읽지 못하도록 lock 을 잡은 뒤 등록
+                synchronized (placeholder) {
+                    if (bursts.putIfAbsent(key, placeholder) == null) {
+                        return toggleFirst(key, placeholder, likeType);
+                    }
+                }
+                continue;
+            }
+            synchronized (burst) {
+                if (burst.removed) {
+                    //반영이 끝난 전환이면 다시 조회
+                    continue;
+                }
+                //합치는 중이면 메모리의 상태만 변경
+                coalescedCounter.increment();
+                return burst.toggle(likeType);
+            }
+        }
+    }
+
+    //첫 전환은 바로 반영, burst 의 lock 안에서 호출
+    private LikeResult toggleFirst(BurstKey key, Burst burst, LikeType likeType) {
+        try {
+            LikeResult result = commentLikeWriter.toggle(key.memberId(), key.commentId(), likeType);
+            burst.start(stateAfter(result, likeType), System.currentTimeMillis() + windowMillis);
+            return result;
+        } catch (RuntimeException ex) {
+            //반영하지 못했으면 등록을 취소, 기다리던 요청은 다시 첫 전환을 실행
+            burst.removed = true;
+            bursts.remove(key, burst);
+            throw ex;
+        }
+    }
+
+    /**
+     * 합치는 시간이 지난 전환을 DB 에 반영합니다.
+     *
+     * @param all true 면 시간과 관계없이 모두 반영
+     */
+    void flush(boolean all) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<BurstKey, Burst> entry : bursts.entrySet()) {
+            Burst burst = entry.getValue();
+            if (!all && burst.expiresAt > now) {
+                continue;
+            }
+            BurstKey key = entry.getKey();
+            synchronized (burst) {
+                //첫 전환을 반영 중이거나 이미 반영한 전환은 건너뜀
+                if (!burst.started || burst.removed) {
+                    continue;
+                }
+                if (burst.stored != burst.current) {
+                    try {
+                        commentLikeWriter.apply(key.memberId(), key.commentId(), burst.stored, burst.current);
+                    } catch (Exception ex) {
+                        flushFailedCounter.increment();
+                        if (!burst.retried) {
+                            //한번은 남겨두고 다음 flush 에서 다시 반영, 그 사이의 전환도 합쳐짐
+                            burst.retry(now + windowMillis);
+                            log.warn("flush 메서드 에러 발생, 댓글 감정표현 반영 실패, 다시 반영합니다. memberId={}, commentId={}",
+                                    key.memberId(), key.commentId(), ex);
+                            continue;
+                        }
+                        //다시 실패한 전환은 버림, DB 상태가 유지됨
+                        log.error("flush 메서드 에러 발생, 댓글 감정표현 반영 실패, memberId={}, commentId={}",
+                                key.memberId(), key.commentId(), ex);
+                    }
+                }
+                //반영이 끝날때까지 map 에 남겨두어, 같은 키의 다음 첫 전환이 반영보다 먼저 실행되지 않도록 함
+                burst.removed = true;
+                bursts.remove(key, burst);
+            }
+        }
+    }
+
+    //첫 전환 결과로 DB 의 감정표현 상태를 구함, FAILURE 는 요청과 다른 종류의 감정표현이 있는 상태
+    private static LikeType stateAfter(LikeResult result, LikeType likeType) {
+        return switch (result) {
+            case CREATION -> likeType;
+            case DELETION -> null;
+            case FAILURE -> likeType == LikeType.LIKE ? LikeType.DISLIKE : LikeType.LIKE;
+        };
+    }
+
+
+    private record BurstKey(Long memberId, Long commentId) {
+    }
+
+    //자신을 lock 으로 사용하며, expiresAt 외의 필드는 lock 안에서만 읽고 변경
+    private static final class Burst {
+
+        //DB 에 반영된 감정표현, 없으면 null
+        private LikeType stored;
+
+        //전환을 합친 현재 감정표현, 없으면 null
+        private LikeType current;
+
+        //첫 전환이 반영되기 전에는 flush 하지 않음
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        //첫 전환이 반영되었는지 여부
+        private boolean started;
+
+        //반영이 끝났거나 첫 전환이 실패하여 map 에서 제거되었는지 여부
+        private boolean removed;
+
+        //반영에 한번 실패했는지 여부
+        private boolean retried;
+
+        private void start(LikeType stored, long expiresAt) {
+            this.stored = stored;
+            this.current = stored;
+            this.started = true;
+            this.expiresAt = expiresAt;
+        }
+
+        private void retry(long expiresAt) {
+            this.retried = true;
+            this.expiresAt = expiresAt;
+        }
+
+        private LikeResult toggle(LikeType likeType) {
+            if (current == null) {
+                current = likeType;
+                return LikeResult.CREATION;
+            }
+            if (current == likeType) {
+                current = null;
+                return LikeResult.DELETION;
+            }
+            return LikeResult.FAILURE;
+        }
+    }
+}
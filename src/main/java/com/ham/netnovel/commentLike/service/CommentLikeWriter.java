@@ -0,0 +1,91 @@
+package com.ham.netnovel.commentLike.service;
+
+import com.ham.netnovel.comment.service.CommentService;
+import com.ham.netnovel.commentLike.CommentLikeRepository;
+import com.ham.netnovel.commentLike.data.LikeResult;
+import com.ham.netnovel.commentLike.data.LikeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 댓글 감정표현을 조건부 삭제/저장 쿼리로 DB 에 반영하는 컴포넌트입니다.
+ *
+ * <p>유저, 댓글 엔티티를 조회하지 않고 id 로만 반영하며, 감정표현이 바뀌면 댓글의 좋아요/싫어요 수도 같은 트랜잭션에서 변경합니다.</p>
+ */
+@Component
+@Slf4j
+public class CommentLikeWriter {
+
+    private final CommentLikeRepository commentLikeRepository;
+
+    private final CommentService commentService;
+
+    public CommentLikeWriter(CommentLikeRepository commentLikeRepository, CommentService commentService) {
+        this.commentLikeRepository = commentLikeRepository;
+        this.commentService = commentService;
+    }
+
+
+    /**
+     * 감정표현을 전환합니다. 같은 종류의 감정표현이 있으면 삭제하고, 없으면 저장합니다.
+     *
+     * <p>조건부 삭제 쿼리를 먼저 실행하고, 삭제된 행이 없을때만 조건부 저장 쿼리를 실행합니다.
+     * 둘 다 반영되지 않은 경우에만 기존 감정표현을 조회하여 다른 종류의 감정표현인지, 댓글이 없는지 구분합니다.</p>
+     *
+     * @param memberId  유저 id
+     * @param commentId 댓글 id
+     * @param likeType  요청된 감정표현 종류
+     * @return 저장시 CREATION, 삭제시 DELETION, 다른 종류의 감정표현이 있으면 FAILURE
+     * @throws NoSuchElementException 댓글이 없는 경우
+     */
+    @Transactional
+    public LikeResult toggle(Long memberId, Long commentId, LikeType likeType) {
+        //같은 종류의 감정표현이 있으면 삭제
+        if (commentLikeRepository.deleteIfType(commentId, memberId, likeType) == 1) {
+            //댓글의 좋아요/싫어요 수 1 감소
+            commentService.addLikeCount(commentId, likeType, -1);
+            log.info("댓글 감정 삭제 완료, memberId={}, commentId={}", memberId, commentId);
+            return LikeResult.DELETION;
+        }
+        //감정표현이 없으면 저장
+        if (commentLikeRepository.insertIfAbsent(commentId, memberId, likeType.name()) == 1) {
+            //댓글의 좋아요/싫어요 수 1 증가
+            commentService.addLikeCount(commentId, likeType, 1);
+            log.info("댓글 감정 등록 완료, memberId={}, commentId={}", memberId, commentId);
+            return LikeResult.CREATION;
+        }
+        //다른 종류의 감정표현이 있거나 댓글이 없음
+        if (commentLikeRepository.findLikeType(commentId, memberId).isEmpty()) {
+            throw new NoSuchElementException("toggle 메서드 에러, 댓글 정보가 null입니다. commentId=" + commentId);
+        }
+        log.warn("toggle 메서드 경고, 기존 댓글 감정표현과 요청된 감정표현이 다릅니다." +
+                " memberId={}, commentId={}", memberId, commentId);
+        return LikeResult.FAILURE;
+    }
+
+    /**
+     * 감정표현 상태를 from 에서 to 로 바꿉니다. 여러번의 전환을 합친 최종 변경만 반영할때 사용합니다.
+     * DB 상태가 from 과 다르면 해당 쿼리는 반영되지 않습니다.
+     *
+     * @param memberId  유저 id
+     * @param commentId 댓글 id
+     * @param from      반영 전 감정표현, 없으면 null
+     * @param to        반영할 감정표현, 삭제면 null
+     */
+    @Transactional
+    public void apply(Long memberId, Long commentId, LikeType from, LikeType to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null && commentLikeRepository.deleteIfType(commentId, memberId, from) == 1) {
+            commentService.addLikeCount(commentId, from, -1);
+        }
+        if (to != null && commentLikeRepository.insertIfAbsent(commentId, memberId, to.name()) == 1) {
+            commentService.addLikeCount(commentId, to, 1);
+        }
+        log.info("댓글 감정 변경 반영 완료, memberId={}, commentId={}, {} => {}", memberId, commentId, from, to);
+    }
+}
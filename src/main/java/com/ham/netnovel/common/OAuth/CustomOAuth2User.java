@@ -13,6 +13,9 @@ import java.util.Map;
 
 public class CustomOAuth2User implements OAuth2User, Serializable {
 
+    //세션에 저장된 이전 형식도 복원되도록 기존 값으로 고정
+    private static final long serialVersionUID = 4155818562046899725L;
+
     private final MemberOAuthDto memberOAuthDto;
 
     public CustomOAuth2User(MemberOAuthDto memberOAuthDto) {
@@ -43,6 +46,16 @@ public class CustomOAuth2User implements OAuth2User, Serializable {
     }
 
 
+    /**
+     * 로그인시 저장한 유저 PK 를 반환합니다.
+     * 이 값이 추가되기 전에 로그인한 세션이면 null 이므로, providerId 로 조회해야 합니다.
+     *
+     * @return 유저 PK, 없으면 null
+     */
+    public Long getMemberId(){
+        return memberOAuthDto.getMemberId();
+    }
+
     public String getNickName(){
         return memberOAuthDto.getNickName();
     }
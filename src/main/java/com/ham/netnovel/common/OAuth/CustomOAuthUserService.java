@@ -79,10 +79,11 @@ public class CustomOAuthUserService extends DefaultOAuth2UserService {
                     .build();
 
             //유저 정보 생성
-            memberService.createNewMember(memberCreateDto);
+            Long memberId = memberService.createNewMember(memberCreateDto);
 
-            //반환을 위한 DTO 정보 바인딩
+            //반환을 위한 DTO 정보 바인딩, 요청마다 유저 id 를 조회하지 않도록 세션에 저장
             memberOAuthDto = MemberOAuthDto.builder()
+                    .memberId(memberId)
                     .providerId(oAuth2Response.getProviderId())
                     .nickName(oAuth2Response.getNickName())
                     .role(MemberRole.READER)
@@ -91,6 +92,7 @@ public class CustomOAuthUserService extends DefaultOAuth2UserService {
         }else {//유저 정보가 DB에 있으면, DB값 바탕으로 DTO 반환(닉네임,role 등 변경 가능성 존재)
             //반환을 위한 DTO 정보 바인딩
             memberOAuthDto = MemberOAuthDto.builder()
+                    .memberId(memberLoginInfo.getMemberId())
                     .providerId(memberLoginInfo.getProviderId())
                     .nickName(memberLoginInfo.getNickName())
                     .role(memberLoginInfo.getRole())
@@ -0,0 +1,17 @@
+package com.ham.netnovel.common.cache;
+
+/**
+ * {@code @Cacheable}, {@code @CacheEvict} 에서 사용하는 캐시 이름입니다.
+ * 이름별 설정은 {@link com.ham.netnovel.common.config.CacheConfig} 에 등록합니다.
+ */
+public final class CacheNames {
+
+    //태그 정보(TagDataDto), key 는 "id:{태그id}" 또는 "name:{태그명}"
+    public static final String TAGS = "tags";
+
+    //유저 식별 정보(MemberIdentityDto), key 는 providerId
+    public static final String MEMBER_IDENTITIES = "memberIdentities";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,356 @@
+package com.ham.netnovel.common.cache;
+
+import com.ham.netnovel.common.message.RedisMessagePublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 서버 메모리와 Redis 2단계로 값을 캐싱하는 Spring {@link org.springframework.cache.Cache} 구현체입니다.
+ *
+ * <p>조회는 서버 메모리, Redis, 원본(@Cacheable 메서드) 순서로 하며, 원본에서 읽은 값은 두 캐시에 모두 저장합니다.
+ * Redis 키는 {@code cache:{캐시이름}:{세대}:{key}} 형식입니다. 전체 삭제(clear)는 Redis 키를 지우지 않고
+ * {@code cache:{캐시이름}:generation} 의 세대 값을 증가시키며, 이전 세대 키는 만료시간이 지나면 삭제됩니다.</p>
+ *
+ * <p>값이 저장/삭제되면 Redis Pub/Sub 으로 다른 서버에 무효화 메시지를 보내 서버 메모리 캐시에서 제거합니다.
+ * {@link TwoLevelCacheManager} 가 트랜잭션 커밋 이후에 실행되도록 감싸서 사용합니다.</p>
+ *
+ * <p>같은 key 를 동시에 조회하면 한 스레드만 Redis/원본에서 값을 읽고, 나머지 스레드는 그 결과를 기다립니다.
+ * Redis 장애시에는 서버 메모리와 원본만 사용합니다.</p>
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    //무효화 메시지를 발송할 채널
+    public static final String INVALIDATION_CHANNEL = "two-level-cache-invalidation-channel";
+
+    private static final String KEY_PREFIX = "cache:";
+
+    private final String name;
+
+    private final String nodeId;
+
+    private final TwoLevelCacheSpec spec;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisMessagePublisher redisMessagePublisher;
+
+    private final TwoLevelCacheValueCodec valueCodec;
+
+    private final Executor refreshExecutor;
+
+    private final WeightedLruCache<String, Object> localCache;
+
+    //같은 key 에 대한 동시 조회를 하나로 합침
+    private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    //refresh-ahead 가 진행중인 key
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    //무효화될때마다 증가, 조회 중 무효화가 일어났으면 읽어온 값을 저장하지 않음
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    //Redis 키에 사용하는 현재 세대, null 이면 다음 조회시 Redis 에서 읽음
+    private volatile String generation;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter refreshes;
+
+    TwoLevelCache(String name, String nodeId, TwoLevelCacheSpec spec,
+                  RedisTemplate<String, String> redisTemplate,
+                  RedisMessagePublisher redisMessagePublisher,
+                  TwoLevelCacheValueCodec valueCodec,
+                  Executor refreshExecutor,
+                  MeterRegistry meterRegistry) {
+        super(spec.isAllowNullValues());
+        this.name = name;
+        this.nodeId = nodeId;
+        this.spec = spec;
+        this.redisTemplate = redisTemplate;
+        this.redisMessagePublisher = redisMessagePublisher;
+        this.valueCodec = valueCodec;
+        this.refreshExecutor = refreshExecutor;
+        this.localCache = new WeightedLruCache<>(spec.getLocalMaxWeight(), spec.getLocalTtl().toNanos(),
+                spec.getWeigher(), System::nanoTime);
+
+        this.localHits = Counter.builder("cache.two_level.hits").tag("cache", name).tag("tier", "local")
+                .register(meterRegistry);
+        this.redisHits = Counter.builder("cache.two_level.hits").tag("cache", name).tag("tier", "redis")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.two_level.misses").tag("cache", name).register(meterRegistry);
+        this.refreshes = Counter.builder("cache.two_level.refreshes").tag("cache", name).register(meterRegistry);
+        FunctionCounter.builder("cache.two_level.evictions", localCache, WeightedLruCache::evictionCount)
+                .tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.two_level.local.size", localCache, WeightedLruCache::size)
+                .tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.two_level.local.weight", localCache, WeightedLruCache::weightedSize)
+                .tag("cache", name).register(meterRegistry);
+    }
+
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toCacheKey(key);
+        Object cached = localCache.get(cacheKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        long invalidationsBefore = invalidationCount.get();
+        Object fromRedis = readRedis(cacheKey);
+        if (fromRedis != null) {
+            redisHits.increment();
+            putLocal(cacheKey, fromRedis, invalidationsBefore);
+            return fromRedis;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        WeightedLruCache.Hit<Object> hit = localCache.getHit(cacheKey);
+        if (hit != null) {
+            localHits.increment();
+            refreshAheadIfStale(cacheKey, hit, valueLoader);
+            return (T) fromStoreValue(hit.value());
+        }
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(cacheKey, created);
+        if (inFlight != null) {
+            //다른 스레드가 조회중이면 결과를 기다림
+            return (T) fromStoreValue(join(inFlight, key, valueLoader));
+        }
+
+        try {
+            created.complete(load(cacheKey, valueLoader));
+        } catch (Throwable ex) {
+            created.completeExceptionally(ex);
+        } finally {
+            inFlightLoads.remove(cacheKey, created);
+        }
+        return (T) fromStoreValue(join(created, key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+        Object storeValue = toStoreValue(value);
+        //Redis 를 먼저 변경한 뒤 무효화하여, 진행중인 조회가 이전 값을 서버 메모리에 저장하지 않도록 함
+        writeRedis(cacheKey, storeValue);
+        evictLocal(cacheKey);
+        localCache.put(cacheKey, storeValue);
+        publish(cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+        } catch (Exception ex) {
+            log.error("evict 메서드 에러 발생, Redis 캐시 삭제 실패, cache={}, key={}", name, cacheKey, ex);
+        }
+        evictLocal(cacheKey);
+        publish(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            //세대를 증가시켜 이전 키를 더이상 읽지 않음
+            redisTemplate.opsForValue().increment(generationKey());
+        } catch (Exception ex) {
+            log.error("clear 메서드 에러 발생, Redis 캐시 세대 변경 실패, cache={}", name, ex);
+        }
+        clearLocal();
+        publish(null);
+    }
+
+    /**
+     * 무효화 메시지를 받았을때 서버 메모리 캐시에서 항목을 제거합니다.
+     *
+     * @param cacheKey 문자열로 변환된 key
+     */
+    void evictLocal(String cacheKey) {
+        invalidationCount.incrementAndGet();
+        localCache.remove(cacheKey);
+    }
+
+    /**
+     * 전체 삭제 메시지를 받았을때 서버 메모리 캐시를 비우고, 다음 조회시 Redis 에서 세대를 다시 읽습니다.
+     */
+    void clearLocal() {
+        invalidationCount.incrementAndGet();
+        generation = null;
+        localCache.clear();
+    }
+
+
+    //Redis, 원본 순서로 값을 읽어 두 캐시에 저장
+    private Object load(String cacheKey, Callable<?> valueLoader) throws Exception {
+        long invalidationsBefore = invalidationCount.get();
+        Object fromRedis = readRedis(cacheKey);
+        if (fromRedis != null) {
+            redisHits.increment();
+            putLocal(cacheKey, fromRedis, invalidationsBefore);
+            return fromRedis;
+        }
+        misses.increment();
+        Object storeValue = toStoreValue(valueLoader.call());
+        store(cacheKey, storeValue, invalidationsBefore);
+        return storeValue;
+    }
+
+    //저장 후 refreshAfter 가 지난 항목이면 백그라운드에서 원본을 다시 읽어 교체
+    private void refreshAheadIfStale(String cacheKey, WeightedLruCache.Hit<Object> hit, Callable<?> valueLoader) {
+        if (spec.getRefreshAfter() == null || hit.ageNanos() < spec.getRefreshAfter().toNanos()) {
+            return;
+        }
+        //이미 갱신중인 key 는 건너뜀
+        if (!refreshingKeys.add(cacheKey)) {
+            return;
+        }
+        long invalidationsBefore = invalidationCount.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    store(cacheKey, toStoreValue(valueLoader.call()), invalidationsBefore);
+                    refreshes.increment();
+                } catch (Exception ex) {
+                    log.error("refreshAhead 에러 발생, 캐시 갱신 실패, cache={}, key={}", name, cacheKey, ex);
+                } finally {
+                    refreshingKeys.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            //갱신 작업이 밀려있으면 건너뛰고, 만료 후 조회시 다시 읽음
+            refreshingKeys.remove(cacheKey);
+        }
+    }
+
+    //조회하는 동안 무효화가 있었으면 이전 값일 수 있으므로 저장하지 않음
+    private void store(String cacheKey, Object storeValue, long invalidationsBefore) {
+        if (invalidationCount.get() != invalidationsBefore) {
+            return;
+        }
+        writeRedis(cacheKey, storeValue);
+        putLocal(cacheKey, storeValue, invalidationsBefore);
+    }
+
+    private void putLocal(String cacheKey, Object storeValue, long invalidationsBefore) {
+        if (invalidationCount.get() == invalidationsBefore) {
+            localCache.put(cacheKey, storeValue);
+        }
+    }
+
+    //Redis 장애시 원본 조회로 넘어가도록 예외를 기록하고 null 반환
+    private Object readRedis(String cacheKey) {
+        String encoded = withRedis(() -> redisTemplate.opsForValue().get(redisKey(cacheKey)));
+        if (encoded == null) {
+            return null;
+        }
+        try {
+            return valueCodec.decode(encoded);
+        } catch (IllegalArgumentException ex) {
+            //클래스 구조가 바뀐 이전 값은 캐시에 없는것으로 처리
+            log.warn("readRedis 메서드, 캐시 값 복원 실패, cache={}, key={}", name, cacheKey, ex);
+            return null;
+        }
+    }
+
+    private void writeRedis(String cacheKey, Object storeValue) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), valueCodec.encode(storeValue), spec.getRedisTtl());
+        } catch (Exception ex) {
+            log.error("writeRedis 메서드 에러 발생, cache={}, key={}", name, cacheKey, ex);
+        }
+    }
+
+    private void publish(String cacheKey) {
+        try {
+            redisMessagePublisher.publish(INVALIDATION_CHANNEL,
+                    TwoLevelCacheManager.invalidationMessage(nodeId, name, cacheKey));
+        } catch (Exception ex) {
+            log.error("publish 메서드 에러 발생, 캐시 무효화 메시지 발송 실패, cache={}, key={}", name, cacheKey, ex);
+        }
+    }
+
+    private <T> T withRedis(Supplier<T> reader) {
+        try {
+            return reader.get();
+        } catch (Exception ex) {
+            log.error("Redis 캐시 조회 실패, cache={}", name, ex);
+            return null;
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        String current = generation;
+        if (current == null) {
+            long invalidationsBefore = invalidationCount.get();
+            try {
+                String stored = redisTemplate.opsForValue().get(generationKey());
+                current = stored == null ? "0" : stored;
+                //읽는 동안 전체 삭제가 있었으면 이전 세대일 수 있으므로 보관하지 않음
+                if (invalidationCount.get() == invalidationsBefore) {
+                    generation = current;
+                }
+            } catch (Exception ex) {
+                //Redis 장애로 읽지 못했으면 다음 조회시 다시 읽음
+                log.error("Redis 캐시 세대 조회 실패, cache={}", name, ex);
+                current = "0";
+            }
+        }
+        return KEY_PREFIX + name + ":" + current + ":" + cacheKey;
+    }
+
+    private String generationKey() {
+        return KEY_PREFIX + name + ":generation";
+    }
+
+    private static String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object join(CompletableFuture<Object> future, Object key, Callable<?> valueLoader) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ham.netnovel.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ham.netnovel.common.message.RedisMessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link TwoLevelCache} 를 만들고 관리하는 Spring {@link org.springframework.cache.CacheManager} 입니다.
+ *
+ * <p>캐시 이름별 설정({@link TwoLevelCacheSpec})으로 캐시를 만들며, 설정이 없는 이름은 사용할 수 없습니다.
+ * 캐시는 트랜잭션 안에서 저장/삭제하면 커밋 이후에 실행되도록 감싸서 반환합니다.</p>
+ *
+ * <p>무효화 메시지 형식은 {@code {서버id}:{캐시이름}:{key}} 이며, 전체 삭제는 {@code {서버id}:{캐시이름}} 입니다.
+ * 자신이 보낸 메시지는 무시합니다.</p>
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
+
+    //refresh-ahead 대기 작업 최대 수, 넘으면 갱신하지 않음
+    private static final int REFRESH_QUEUE_CAPACITY = 1_000;
+
+    private final Map<String, TwoLevelCacheSpec> specs;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisMessagePublisher redisMessagePublisher;
+
+    private final TwoLevelCacheValueCodec valueCodec;
+
+    private final MeterRegistry meterRegistry;
+
+    //무효화 메시지를 보낸 서버를 구분하는 값
+    private final String nodeId = UUID.randomUUID().toString();
+
+    //캐시 이름 => 트랜잭션 처리로 감싸기 전의 캐시
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public TwoLevelCacheManager(Map<String, TwoLevelCacheSpec> specs,
+                                RedisTemplate<String, String> redisTemplate,
+                                RedisMessagePublisher redisMessagePublisher,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                int refreshThreads) {
+        for (String name : specs.keySet()) {
+            if (name.indexOf(':') >= 0) {
+                throw new IllegalArgumentException("캐시 이름에 ':' 를 사용할 수 없습니다. name=" + name);
+            }
+        }
+        this.specs = Map.copyOf(specs);
+        this.redisTemplate = redisTemplate;
+        this.redisMessagePublisher = redisMessagePublisher;
+        this.valueCodec = new TwoLevelCacheValueCodec(objectMapper);
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "two-level-cache-refresher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        //트랜잭션 안에서 저장/삭제하면 커밋 이후에 실행
+        setTransactionAware(true);
+    }
+
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        specs.forEach((name, spec) -> caches.add(twoLevelCaches.computeIfAbsent(name, key -> createCache(key, spec))));
+        return caches;
+    }
+
+    /**
+     * 다른 서버가 보낸 무효화 메시지를 처리합니다.
+     *
+     * @param message 무효화 메시지
+     */
+    public void handleInvalidation(String message) {
+        String[] parts = message.split(":", 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 메시지입니다. message=" + message);
+        }
+        //자신이 보낸 메시지는 이미 처리됨
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 2) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 무효화 메시지를 만듭니다.
+     *
+     * @param nodeId    메시지를 보내는 서버 id
+     * @param cacheName 캐시 이름
+     * @param cacheKey  문자열로 변환된 key, 전체 삭제는 null
+     * @return 무효화 메시지
+     */
+    static String invalidationMessage(String nodeId, String cacheName, String cacheKey) {
+        return cacheKey == null ? nodeId + ":" + cacheName : nodeId + ":" + cacheName + ":" + cacheKey;
+    }
+
+
+    private TwoLevelCache createCache(String name, TwoLevelCacheSpec spec) {
+        return new TwoLevelCache(name, nodeId, spec, redisTemplate, redisMessagePublisher, valueCodec,
+                refreshExecutor, meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ham.netnovel.common.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+/**
+ * 2단계 캐시 하나의 설정입니다.
+ *
+ * <p>서버 메모리 캐시는 {@code weigher} 로 계산한 무게의 합이 {@code localMaxWeight} 를 넘지 않도록 제한합니다.
+ * weigher 를 지정하지 않으면 항목당 1 이므로 {@code localMaxWeight} 가 최대 항목 수가 됩니다.</p>
+ *
+ * <p>{@code refreshAfter} 를 지정하면, 저장 후 그 시간이 지난 항목이 조회될때 기존 값을 반환하고
+ * 백그라운드에서 새 값을 읽어와 교체합니다(refresh-ahead). {@code @Cacheable(sync = true)} 로 조회하는 경우만 적용됩니다.</p>
+ */
+@Getter
+@Builder
+public class TwoLevelCacheSpec {
+
+    //서버 메모리 캐시 최대 무게
+    private final long localMaxWeight;
+
+    //항목의 무게를 계산하는 함수
+    @Builder.Default
+    private final ToLongFunction<Object> weigher = value -> 1L;
+
+    //서버 메모리 캐시 만료 시간
+    private final Duration localTtl;
+
+    //refresh-ahead 시작 시간, null 이면 사용하지 않음
+    private final Duration refreshAfter;
+
+    //Redis 캐시 만료 시간
+    private final Duration redisTtl;
+
+    //null 값 저장 여부
+    @Builder.Default
+    private final boolean allowNullValues = true;
+}
@@ -0,0 +1,69 @@
+package com.ham.netnovel.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import org.springframework.cache.support.NullValue;
+
+/**
+ * 2단계 캐시의 값을 Redis 에 저장할 문자열로 변환하는 클래스입니다.
+ *
+ * <p>값의 클래스 이름을 JSON 에 함께 저장하여, 조회할때 같은 타입으로 복원합니다.
+ * 복원할 수 있는 타입은 이 프로젝트의 클래스와 java.* 클래스로 제한합니다.
+ * null 값({@link NullValue}) 은 빈 문자열로 저장합니다.</p>
+ */
+public class TwoLevelCacheValueCodec {
+
+    //null 값을 나타내는 문자열, JSON 은 빈 문자열이 될 수 없으므로 구분됨
+    private static final String NULL_VALUE = "";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param objectMapper 애플리케이션의 ObjectMapper, 복사하여 타입 정보 설정을 추가함
+     */
+    public TwoLevelCacheValueCodec(ObjectMapper objectMapper) {
+        BasicPolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.ham.netnovel.")
+                .allowIfSubType("java.")
+                .build();
+        //final 클래스(record, enum, String 등)도 타입 정보를 저장해야 원래 타입으로 복원됨
+        this.objectMapper = objectMapper.copy()
+                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+    }
+
+    /**
+     * 캐시에 저장된 값을 문자열로 변환합니다.
+     *
+     * @param storeValue 캐시에 저장된 값, null 값은 {@link NullValue#INSTANCE}
+     * @return Redis 에 저장할 문자열
+     */
+    public String encode(Object storeValue) {
+        if (storeValue == null || storeValue == NullValue.INSTANCE) {
+            return NULL_VALUE;
+        }
+        try {
+            return objectMapper.writeValueAsString(storeValue);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("캐시 값을 변환할 수 없습니다. type=" + storeValue.getClass().getName(), ex);
+        }
+    }
+
+    /**
+     * Redis 에 저장된 문자열을 캐시 값으로 변환합니다.
+     *
+     * @param encoded Redis 에 저장된 문자열
+     * @return 캐시에 저장된 값, null 값은 {@link NullValue#INSTANCE}
+     */
+    public Object decode(String encoded) {
+        if (NULL_VALUE.equals(encoded)) {
+            return NullValue.INSTANCE;
+        }
+        try {
+            return objectMapper.readValue(encoded, Object.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("캐시 값을 복원할 수 없습니다.", ex);
+        }
+    }
+}
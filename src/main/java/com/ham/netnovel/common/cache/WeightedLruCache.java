@@ -0,0 +1,134 @@
+package com.ham.netnovel.common.cache;
+
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 항목 수가 아닌 무게(바이트)의 합으로 크기를 제한하는 LRU 캐시입니다.
+ *
+ * <p>무게의 합이 최대값을 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 최대 무게보다 무거운 항목은 저장하지 않습니다. 저장 후 ttl 이 지난 항목은 조회시 제거합니다.</p>
+ *
+ * @param <K> key 타입
+ * @param <V> value 타입
+ */
+public class WeightedLruCache<K, V> {
+
+    private final long maxWeight;
+
+    private final long ttlNanos;
+
+    private final ToLongFunction<V> weigher;
+
+    //System.nanoTime, 테스트에서 교체
+    private final LongSupplier nanoClock;
+
+    //accessOrder=true, 조회할때마다 맨 뒤로 이동
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weightedSize;
+
+    private long evictionCount;
+
+    public WeightedLruCache(long maxWeight, long ttlNanos, ToLongFunction<V> weigher, LongSupplier nanoClock) {
+        if (maxWeight <= 0 || ttlNanos <= 0) {
+            throw new IllegalArgumentException("maxWeight, ttlNanos 는 양수여야 합니다.");
+        }
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttlNanos;
+        this.weigher = weigher;
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized V get(K key) {
+        Hit<V> hit = getHit(key);
+        return hit == null ? null : hit.value();
+    }
+
+    /**
+     * 항목과 저장 후 지난 시간을 함께 조회합니다. refresh-ahead 처럼 항목의 나이가 필요한 경우 사용합니다.
+     *
+     * @return 저장된 값과 저장 후 지난 시간(ns), 없거나 만료되었으면 null
+     */
+    public synchronized Hit<V> getHit(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long ageNanos = nanoClock.getAsLong() - entry.storedAt;
+        if (ageNanos >= ttlNanos) {
+            entries.remove(key);
+            weightedSize -= entry.weight;
+            return null;
+        }
+        return new Hit<>(entry.value, ageNanos);
+    }
+
+    /**
+     * 항목을 저장하고, 최대 무게를 넘으면 오래된 항목부터 제거합니다.
+     *
+     * @return 저장되었으면 true, 최대 무게보다 무거워 저장하지 않았으면 false
+     */
+    public synchronized boolean put(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return false;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight, nanoClock.getAsLong()));
+        if (previous != null) {
+            weightedSize -= previous.weight;
+        }
+        weightedSize += weight;
+
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (weightedSize > maxWeight && iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            weightedSize -= eldest.getValue().weight;
+            iterator.remove();
+            evictionCount++;
+        }
+        return true;
+    }
+
+    public synchronized void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weightedSize -= removed.weight;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weightedSize = 0;
+    }
+
+    public synchronized long weightedSize() {
+        return weightedSize;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    //무게 초과로 제거된 항목 수, ttl 만료와 명시적 삭제는 제외
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+
+    /**
+     * 조회된 값과 저장 후 지난 시간(ns) 입니다.
+     */
+    public record Hit<V>(V value, long ageNanos) {
+    }
+
+    private record Entry<V>(V value, long weight, long storedAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.ham.netnovel.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ham.netnovel.common.cache.CacheNames;
+import com.ham.netnovel.common.cache.TwoLevelCacheManager;
+import com.ham.netnovel.common.cache.TwoLevelCacheSpec;
+import com.ham.netnovel.common.message.RedisMessagePublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Spring 캐시 설정 클래스입니다.
+ * 서버 메모리와 Redis 2단계 캐시를 {@code @Cacheable} 로 사용할 수 있도록 CacheManager 를 등록합니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 2단계 캐시를 관리하는 CacheManager Bean 을 생성합니다.
+     * 캐시를 추가할때는 {@link CacheNames} 에 이름을 추가하고, 여기에 설정을 등록합니다.
+     *
+     * @param redisTemplate         Redis 캐시에 사용할 {@link RedisTemplate} 객체
+     * @param redisMessagePublisher 무효화 메시지를 발송할 {@link RedisMessagePublisher} 객체
+     * @param objectMapper          Redis 에 저장할 값을 변환할 {@link ObjectMapper} 객체
+     * @param meterRegistry         캐시별 지표를 등록할 {@link MeterRegistry} 객체
+     * @return 2단계 캐시를 관리하는 {@link TwoLevelCacheManager} 객체
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisTemplate<String, String> redisTemplate,
+                                             RedisMessagePublisher redisMessagePublisher,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${cache.refresh-threads:2}") int refreshThreads,
+                                             @Value("${cache.tags.local-max-entries:10000}") long tagsLocalMaxEntries,
+                                             @Value("${cache.tags.local-ttl-minutes:10}") long tagsLocalTtlMinutes,
+                                             @Value("${cache.tags.refresh-after-minutes:8}") long tagsRefreshAfterMinutes,
+                                             @Value("${cache.tags.redis-ttl-hours:24}") long tagsRedisTtlHours,
+                                             @Value("${cache.member-identities.local-max-entries:100000}") long memberIdentitiesLocalMaxEntries,
+                                             @Value("${cache.member-identities.local-ttl-minutes:30}") long memberIdentitiesLocalTtlMinutes,
+                                             @Value("${cache.member-identities.redis-ttl-hours:24}") long memberIdentitiesRedisTtlHours) {
+        Map<String, TwoLevelCacheSpec> specs = Map.of(
+                CacheNames.TAGS, TwoLevelCacheSpec.builder()
+                        .localMaxWeight(tagsLocalMaxEntries)
+                        .localTtl(Duration.ofMinutes(tagsLocalTtlMinutes))
+                        .refreshAfter(Duration.ofMinutes(tagsRefreshAfterMinutes))
+                        .redisTtl(Duration.ofHours(tagsRedisTtlHours))
+                        .build(),
+                //변경시 삭제하므로 refresh-ahead 는 사용하지 않음
+                CacheNames.MEMBER_IDENTITIES, TwoLevelCacheSpec.builder()
+                        .localMaxWeight(memberIdentitiesLocalMaxEntries)
+                        .localTtl(Duration.ofMinutes(memberIdentitiesLocalTtlMinutes))
+                        .redisTtl(Duration.ofHours(memberIdentitiesRedisTtlHours))
+                        .build());
+        return new TwoLevelCacheManager(specs, redisTemplate, redisMessagePublisher, objectMapper, meterRegistry,
+                refreshThreads);
+    }
+}
@@ -1,6 +1,16 @@
 package com.ham.netnovel.common.config;
 
+import com.ham.netnovel.coinUseHistory.service.EpisodeEntitlementIndex;
+import com.ham.netnovel.common.cache.TwoLevelCache;
+import com.ham.netnovel.common.message.EpisodeChapterIndexInvalidationSubscriber;
+import com.ham.netnovel.common.message.EpisodeContentInvalidationSubscriber;
+import com.ham.netnovel.common.message.EpisodeEntitlementInvalidationSubscriber;
 import com.ham.netnovel.common.message.NovelUpdateMessageSubscriber;
+import com.ham.netnovel.common.message.TagAutocompleteInvalidationSubscriber;
+import com.ham.netnovel.common.message.TwoLevelCacheInvalidationSubscriber;
+import com.ham.netnovel.episode.service.EpisodeChapterIndexCache;
+import com.ham.netnovel.episode.service.EpisodeContentCache;
+import com.ham.netnovel.tag.service.TagAutocompleteIndex;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -72,13 +82,33 @@ public class RedisConfig {
      * @param redisConnectionFactory Redis 연결을 위한 {@link RedisConnectionFactory} 객체
      * @param novelUpdateMessageSubscriber 수신될 메시지를 처리할 {@link NovelUpdateMessageSubscriber} 객체
      * @param novelUpdateTopic                  메시지를 수신할 {@link ChannelTopic} 객체
+     * @param episodeContentInvalidationSubscriber 에피소드 본문 캐시 무효화 메시지를 처리할 {@link EpisodeContentInvalidationSubscriber} 객체
+     * @param episodeContentInvalidationTopic      에피소드 본문 캐시 무효화 메시지를 수신할 {@link ChannelTopic} 객체
+     * @param episodeChapterIndexInvalidationSubscriber 챕터 인덱스 무효화 메시지를 처리할 {@link EpisodeChapterIndexInvalidationSubscriber} 객체
+     * @param episodeChapterIndexInvalidationTopic      챕터 인덱스 무효화 메시지를 수신할 {@link ChannelTopic} 객체
+     * @param twoLevelCacheInvalidationSubscriber 2단계 캐시 무효화 메시지를 처리할 {@link TwoLevelCacheInvalidationSubscriber} 객체
+     * @param twoLevelCacheInvalidationTopic      2단계 캐시 무효화 메시지를 수신할 {@link ChannelTopic} 객체
+     * @param tagAutocompleteInvalidationSubscriber 태그 자동완성 인덱스 재구성 메시지를 처리할 {@link TagAutocompleteInvalidationSubscriber} 객체
+     * @param tagAutocompleteInvalidationTopic      태그 자동완성 인덱스 재구성 메시지를 수신할 {@link ChannelTopic} 객체
+     * @param episodeEntitlementInvalidationSubscriber 결제 에피소드 인덱스 무효화 메시지를 처리할 {@link EpisodeEntitlementInvalidationSubscriber} 객체
+     * @param episodeEntitlementInvalidationTopic      결제 에피소드 인덱스 무효화 메시지를 수신할 {@link ChannelTopic} 객체
      * @return Redis 메시지 리스너를 관리하는 {@link RedisMessageListenerContainer} 객체
      */
     @Bean
     RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory redisConnectionFactory,
             NovelUpdateMessageSubscriber novelUpdateMessageSubscriber,
-            ChannelTopic novelUpdateTopic) {
+            ChannelTopic novelUpdateTopic,
+            EpisodeContentInvalidationSubscriber episodeContentInvalidationSubscriber,
+            ChannelTopic episodeContentInvalidationTopic,
+            EpisodeChapterIndexInvalidationSubscriber episodeChapterIndexInvalidationSubscriber,
+            ChannelTopic episodeChapterIndexInvalidationTopic,
+            TwoLevelCacheInvalidationSubscriber twoLevelCacheInvalidationSubscriber,
+            ChannelTopic twoLevelCacheInvalidationTopic,
+            TagAutocompleteInvalidationSubscriber tagAutocompleteInvalidationSubscriber,
+            ChannelTopic tagAutocompleteInvalidationTopic,
+            EpisodeEntitlementInvalidationSubscriber episodeEntitlementInvalidationSubscriber,
+            ChannelTopic episodeEntitlementInvalidationTopic) {
 
         // RedisMessageListenerContainer 객체 생성
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
@@ -93,6 +123,21 @@ public class RedisConfig {
          */
         container.addMessageListener(novelUpdateMessageSubscriber, novelUpdateTopic);
 
+        //에피소드 본문 캐시 무효화 메시지 설정
+        container.addMessageListener(episodeContentInvalidationSubscriber, episodeContentInvalidationTopic);
+
+        //챕터 인덱스 무효화 메시지 설정
+        container.addMessageListener(episodeChapterIndexInvalidationSubscriber, episodeChapterIndexInvalidationTopic);
+
+        //2단계 캐시 무효화 메시지 설정
+        container.addMessageListener(twoLevelCacheInvalidationSubscriber, twoLevelCacheInvalidationTopic);
+
+        //태그 자동완성 인덱스 재구성 메시지 설정
+        container.addMessageListener(tagAutocompleteInvalidationSubscriber, tagAutocompleteInvalidationTopic);
+
+        //결제 에피소드 인덱스 무효화 메시지 설정
+        container.addMessageListener(episodeEntitlementInvalidationSubscriber, episodeEntitlementInvalidationTopic);
+
         // 설정이 완료된 RedisMessageListenerContainer 객체를 반환
         return container;
     }
@@ -106,6 +151,56 @@ public class RedisConfig {
         return new ChannelTopic("novel-update-channel");
     }
 
+    /**
+     * 에피소드 본문 캐시 무효화에 사용될 채널 토픽을 생성합니다.
+     *
+     * @return 무효화 메시지를 발행하고 수신할 {@link ChannelTopic} 객체
+     */
+    @Bean
+    public ChannelTopic episodeContentInvalidationTopic() {
+        return new ChannelTopic(EpisodeContentCache.INVALIDATION_CHANNEL);
+    }
+
+    /**
+     * 챕터 인덱스 무효화에 사용될 채널 토픽을 생성합니다.
+     *
+     * @return 무효화 메시지를 발행하고 수신할 {@link ChannelTopic} 객체
+     */
+    @Bean
+    public ChannelTopic episodeChapterIndexInvalidationTopic() {
+        return new ChannelTopic(EpisodeChapterIndexCache.INVALIDATION_CHANNEL);
+    }
+
+    /**
+     * 2단계 캐시 무효화에 사용될 채널 토픽을 생성합니다.
+     *
+     * @return 무효화 메시지를 발행하고 수신할 {@link ChannelTopic} 객체
+     */
+    @Bean
+    public ChannelTopic twoLevelCacheInvalidationTopic() {
+        return new ChannelTopic(TwoLevelCache.INVALIDATION_CHANNEL);
+    }
+
+    /**
+     * 태그 자동완성 인덱스 재구성에 사용될 채널 토픽을 생성합니다.
+     *
+     * @return 재구성 메시지를 발행하고 수신할 {@link ChannelTopic} 객체
+     */
+    @Bean
+    public ChannelTopic tagAutocompleteInvalidationTopic() {
+        return new ChannelTopic(TagAutocompleteIndex.INVALIDATION_CHANNEL);
+    }
+
+    /**
+     * 결제 에피소드 인덱스 무효화에 사용될 채널 토픽을 생성합니다.
+     *
+     * @return 무효화 메시지를 발행하고 수신할 {@link ChannelTopic} 객체
+     */
+    @Bean
+    public ChannelTopic episodeEntitlementInvalidationTopic() {
+        return new ChannelTopic(EpisodeEntitlementIndex.INVALIDATION_CHANNEL);
+    }
+
 
     ;
 //
@@ -11,6 +11,7 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5173")  // Vue.js 개발 서버 주소
                 .allowedMethods("GET", "POST", "PUT", "DELETE")
+                .exposedHeaders("X-Total-Count", "X-Total-Count-Exact") // 목록 총 개수 헤더를 프론트엔드에서 읽을 수 있도록 노출
                 .allowCredentials(true); // Credentials (쿠키 등)을 포함한 요청 허용
     }
 }
@@ -0,0 +1,34 @@
+package com.ham.netnovel.common.message;
+
+import com.ham.netnovel.common.utils.TypeValidationUtil;
+import com.ham.netnovel.episode.service.EpisodeChapterIndexCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 챕터 인덱스 무효화 메시지를 수신하여, 서버 메모리에서 소설의 챕터 인덱스를 제거하는 클래스입니다.
+ *
+ * <p>메시지 형식은 소설 id 입니다.</p>
+ */
+@Slf4j
+@Component
+public class EpisodeChapterIndexInvalidationSubscriber implements MessageListener {
+
+    private final EpisodeChapterIndexCache episodeChapterIndexCache;
+
+    public EpisodeChapterIndexInvalidationSubscriber(EpisodeChapterIndexCache episodeChapterIndexCache) {
+        this.episodeChapterIndexCache = episodeChapterIndexCache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long novelId = TypeValidationUtil.validateLong(new String(message.getBody()));
+            episodeChapterIndexCache.evictLocal(novelId);
+        } catch (Exception ex) {
+            log.error("onMessage 에러, 챕터 인덱스 무효화 실패, message={}", message, ex);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ham.netnovel.common.message;
+
+import com.ham.netnovel.common.utils.TypeValidationUtil;
+import com.ham.netnovel.episode.service.EpisodeContentCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에피소드 본문 캐시 무효화 메시지를 수신하여, 서버 메모리 캐시에서 에피소드를 제거하는 클래스입니다.
+ *
+ * <p>메시지 형식은 에피소드 id 입니다. 모든 서버 인스턴스가 메시지를 수신하므로
+ * 에피소드가 수정/삭제되면 모든 서버의 캐시에서 제거됩니다.</p>
+ */
+@Slf4j
+@Component
+public class EpisodeContentInvalidationSubscriber implements MessageListener {
+
+    private final EpisodeContentCache episodeContentCache;
+
+    public EpisodeContentInvalidationSubscriber(EpisodeContentCache episodeContentCache) {
+        this.episodeContentCache = episodeContentCache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long episodeId = TypeValidationUtil.validateLong(new String(message.getBody()));
+            episodeContentCache.evictLocal(episodeId);
+        } catch (Exception ex) {
+            log.error("onMessage 에러, 에피소드 본문 캐시 무효화 실패, message={}", message, ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ham.netnovel.common.message;
+
+import com.ham.netnovel.coinUseHistory.service.EpisodeEntitlementIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 에피소드 인덱스 무효화 메시지를 수신하여, 서버 메모리에서 유저의 인덱스를 제거하는 클래스입니다.
+ *
+ * <p>메시지 형식은 "서버 id:providerId" 입니다.</p>
+ */
+@Slf4j
+@Component
+public class EpisodeEntitlementInvalidationSubscriber implements MessageListener {
+
+    private final EpisodeEntitlementIndex episodeEntitlementIndex;
+
+    public EpisodeEntitlementInvalidationSubscriber(EpisodeEntitlementIndex episodeEntitlementIndex) {
+        this.episodeEntitlementIndex = episodeEntitlementIndex;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            episodeEntitlementIndex.onInvalidation(new String(message.getBody()));
+        } catch (Exception ex) {
+            log.error("onMessage 에러, 결제 에피소드 인덱스 무효화 실패, message={}", message, ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ham.netnovel.common.message;
+
+import com.ham.netnovel.tag.service.TagAutocompleteIndex;
+import com.ham.netnovel.tag.service.TagService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 자동완성 인덱스 재구성 메시지를 수신하여, 서버 메모리의 Trie 인덱스를 DB 기준으로 재구성하는 클래스입니다.
+ *
+ * <p>메시지 형식은 메시지를 발행한 서버 id 이며, 자신이 발행한 메시지는 이미 재구성했으므로 무시합니다.</p>
+ */
+@Slf4j
+@Component
+public class TagAutocompleteInvalidationSubscriber implements MessageListener {
+
+    private final TagService tagService;
+
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+
+    public TagAutocompleteInvalidationSubscriber(TagService tagService, TagAutocompleteIndex tagAutocompleteIndex) {
+        this.tagService = tagService;
+        this.tagAutocompleteIndex = tagAutocompleteIndex;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            if (tagAutocompleteIndex.isOwnMessage(new String(message.getBody()))) {
+                return;
+            }
+            tagService.refreshTagAutocompleteIndex();
+        } catch (Exception ex) {
+            log.error("onMessage 에러, 태그 자동완성 인덱스 재구성 실패, message={}", message, ex);
+        }
+    }
+}
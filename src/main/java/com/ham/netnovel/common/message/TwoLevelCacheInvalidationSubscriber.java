@@ -0,0 +1,34 @@
+package com.ham.netnovel.common.message;
+
+import com.ham.netnovel.common.cache.TwoLevelCacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 2단계 캐시 무효화 메시지를 수신하여, 서버 메모리 캐시에서 항목을 제거하는 클래스입니다.
+ *
+ * <p>메시지 형식은 {@link TwoLevelCacheManager} 를 참고합니다.</p>
+ */
+@Slf4j
+@Component
+public class TwoLevelCacheInvalidationSubscriber implements MessageListener {
+
+    private final TwoLevelCacheManager twoLevelCacheManager;
+
+    public TwoLevelCacheInvalidationSubscriber(TwoLevelCacheManager twoLevelCacheManager) {
+        this.twoLevelCacheManager = twoLevelCacheManager;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            twoLevelCacheManager.handleInvalidation(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (Exception ex) {
+            log.error("onMessage 에러, 캐시 무효화 실패, message={}", message, ex);
+        }
+    }
+}
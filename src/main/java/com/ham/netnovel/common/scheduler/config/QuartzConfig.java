@@ -1,7 +1,11 @@
 package com.ham.netnovel.common.scheduler.config;
 
 
+import com.ham.netnovel.comment.job.CommentLikeCountReconcileJob;
+import com.ham.netnovel.episode.job.EpisodeContentCompressionJob;
+import com.ham.netnovel.episode.job.EpisodeListCountFillJob;
 import com.ham.netnovel.episode.job.EpisodeViewCountUpdateJob;
+import com.ham.netnovel.novel.job.NovelInfoConsistencyJob;
 import com.ham.netnovel.novelAverageRating.NovelAverageRatingJob;
 import org.quartz.*;
 import org.springframework.context.annotation.Bean;
@@ -54,4 +58,88 @@ public class QuartzConfig {
     }
 
 
+    //압축되지 않은 에피소드 본문을 압축 컬럼으로 이동
+    @Bean
+    public JobDetail episodeContentCompressionJobDetail() {
+        return JobBuilder.newJob(EpisodeContentCompressionJob.class)
+                .withIdentity("episodeContentCompressionJob")//식별자 설정
+                .withDescription("Episode 본문 압축 마이그레이션, 압축되지 않은 Episode 만 진행")//설명추가
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger episodeContentCompressionTrigger() {
+        return TriggerBuilder.newTrigger()
+                .forJob(episodeContentCompressionJobDetail())//트리거와 episodeContentCompressionJob 연결
+                .withIdentity("episodeContentCompressionTrigger")//트리거 식별자 설정
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()//단순 스케쥴 설정
+                        .withIntervalInMinutes(5)//5분마다 실행
+                        .repeatForever())//무한반복설정
+                .build();
+    }
+
+    //에피소드 글자 수, 댓글 수 집계 JobDetail 설정
+    @Bean
+    public JobDetail episodeListCountFillJobDetail() {
+        return JobBuilder.newJob(EpisodeListCountFillJob.class)
+                .withIdentity("episodeListCountFillJob")//식별자 설정
+                .withDescription("Episode 글자 수, 댓글 수 집계, 집계되지 않은 Episode 만 진행")//설명추가
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger episodeListCountFillTrigger() {
+        return TriggerBuilder.newTrigger()
+                .forJob(episodeListCountFillJobDetail())//트리거와 episodeListCountFillJob 연결
+                .withIdentity("episodeListCountFillTrigger")//트리거 식별자 설정
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()//단순 스케쥴 설정
+                        .withIntervalInMinutes(5)//5분마다 실행
+                        .repeatForever())//무한반복설정
+                .build();
+    }
+
+
+    //소설 상세 정보 읽기 모델 검사 JobDetail 설정
+    @Bean
+    public JobDetail novelInfoConsistencyJobDetail() {
+        return JobBuilder.newJob(NovelInfoConsistencyJob.class)
+                .withIdentity("novelInfoConsistencyJob")//식별자 설정
+                .withDescription("Novel 상세 정보 읽기 모델 검사, 원본 테이블과 다르면 보정")//설명추가
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger novelInfoConsistencyTrigger() {
+        return TriggerBuilder.newTrigger()
+                .forJob(novelInfoConsistencyJobDetail())//트리거와 novelInfoConsistencyJob 연결
+                .withIdentity("novelInfoConsistencyTrigger")//트리거 식별자 설정
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()//단순 스케쥴 설정
+                        .withIntervalInMinutes(10)//10분마다 실행
+                        .repeatForever())//무한반복설정
+                .build();
+    }
+
+    //댓글, 대댓글 좋아요 수 보정 JobDetail 설정
+    @Bean
+    public JobDetail commentLikeCountReconcileJobDetail() {
+        return JobBuilder.newJob(CommentLikeCountReconcileJob.class)
+                .withIdentity("commentLikeCountReconcileJob")//식별자 설정
+                .withDescription("Comment, ReComment 좋아요/싫어요 수 검사, 감정표현 테이블과 다르면 보정")//설명추가
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger commentLikeCountReconcileTrigger() {
+        return TriggerBuilder.newTrigger()
+                .forJob(commentLikeCountReconcileJobDetail())//트리거와 commentLikeCountReconcileJob 연결
+                .withIdentity("commentLikeCountReconcileTrigger")//트리거 식별자 설정
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()//단순 스케쥴 설정
+                        .withIntervalInMinutes(30)//30분마다 실행
+                        .repeatForever())//무한반복설정
+                .build();
+    }
 }
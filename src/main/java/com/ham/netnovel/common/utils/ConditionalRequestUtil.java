@@ -0,0 +1,83 @@
+package com.ham.netnovel.common.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 조건부 GET(If-None-Match) 처리를 위한 유틸 클래스입니다.
+ *
+ * <p>응답 본문을 만들기 전에 버전 값(수정일자, 집계값 등)으로 ETag 를 만들고,
+ * 클라이언트가 보낸 ETag 와 같으면 본문 없이 304 응답을 반환하는데 사용합니다.</p>
+ */
+public class ConditionalRequestUtil {
+
+    //ETag 로 사용할 해시 길이(바이트)
+    private static final int ETAG_BYTES = 16;
+
+    /**
+     * 버전 값들로 strong ETag 를 만드는 메서드
+     *
+     * @param parts ETag 를 만들 값, 순서가 다르면 다른 ETag 가 만들어짐
+     * @return 따옴표로 감싼 ETag 문자열
+     */
+    public static String strongETag(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            //구분자를 넣어 ("ab","c") 와 ("a","bc") 가 같은 값이 되지 않도록 함
+            source.append(part).append('\u0000');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", ex);
+        }
+    }
+
+    /**
+     * If-None-Match 헤더 값에 ETag 가 포함되어 있는지 확인하는 메서드
+     * <p>If-None-Match 는 weak 비교를 사용하므로 W/ 접두사는 무시합니다.</p>
+     *
+     * @param ifNoneMatch 클라이언트가 보낸 If-None-Match 헤더 값, 없으면 null
+     * @param etag        현재 ETag
+     * @return 일치하면 true
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문 없는 304 응답을 만드는 메서드
+     *
+     * @param etag         현재 ETag
+     * @param cacheControl 200 응답과 같은 Cache-Control 정책
+     * @return 304 응답
+     */
+    public static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+}
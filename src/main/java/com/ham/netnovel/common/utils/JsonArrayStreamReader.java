@@ -0,0 +1,105 @@
+package com.ham.netnovel.common.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * 요청 본문의 JSON 배열을 원소 하나씩 읽는 Iterator 입니다.
+ *
+ * <p>배열 전체를 메모리에 올리지 않고 {@link #next()} 를 호출할때 다음 원소 하나만 읽어 객체로 변환합니다.
+ * 배열 크기와 관계없이 메모리 사용량은 원소 하나 크기로 일정합니다.</p>
+ *
+ * <p>JSON 형식이 잘못되었거나, 원소 수가 최대값을 넘거나, 검증에 실패하면 {@link IllegalArgumentException} 을 던집니다.</p>
+ *
+ * @param <T> 배열 원소 타입
+ */
+public class JsonArrayStreamReader<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+
+    private final ObjectReader reader;
+
+    private final int maxElements;
+
+    //원소를 읽은 직후 호출, 검증 실패시 예외를 던짐
+    private final Consumer<T> validator;
+
+    private int count;
+
+    //다음 원소의 시작 토큰
+    private JsonToken nextToken;
+
+    /**
+     * @param objectMapper 변환에 사용할 ObjectMapper
+     * @param input        JSON 배열 입력 스트림
+     * @param type         배열 원소 타입
+     * @param maxElements  읽을 수 있는 최대 원소 수
+     * @param validator    원소 검증 함수
+     * @throws IllegalArgumentException 입력이 JSON 배열이 아닌 경우
+     */
+    public JsonArrayStreamReader(ObjectMapper objectMapper, InputStream input, Class<T> type,
+                                 int maxElements, Consumer<T> validator) {
+        this.reader = objectMapper.readerFor(type);
+        this.maxElements = maxElements;
+        this.validator = validator;
+        try {
+            this.parser = objectMapper.getFactory().createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JsonArrayStreamReader 에러, 요청 본문이 JSON 배열이 아닙니다.");
+            }
+            this.nextToken = parser.nextToken();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("JsonArrayStreamReader 에러, JSON 형식이 올바르지 않습니다.", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextToken == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (nextToken != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("JsonArrayStreamReader 에러, 배열 원소가 JSON 객체가 아닙니다. index=" + count);
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (count >= maxElements) {
+            throw new IllegalArgumentException("JsonArrayStreamReader 에러, 최대 원소 수를 넘었습니다. maxElements=" + maxElements);
+        }
+        try {
+            T value = reader.readValue(parser);
+            count++;
+            nextToken = parser.nextToken();
+            validator.accept(value);
+            return value;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("JsonArrayStreamReader 에러, JSON 형식이 올바르지 않습니다. index=" + count, ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
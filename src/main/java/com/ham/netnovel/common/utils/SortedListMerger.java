@@ -0,0 +1,41 @@
+package com.ham.netnovel.common.utils;
+
+import java.util.*;
+
+public class SortedListMerger {
+
+    /**
+     * 같은 기준으로 정렬된 여러 List 를 하나의 정렬된 List 로 합치는 메서드(k-way merge)
+     * 각 List 의 맨 앞 항목만 우선순위 큐에 두므로, 필요한 limit 개만 읽고 멈춥니다.
+     *
+     * @param sortedLists 각각 comparator 순서로 정렬된 List 들
+     * @param comparator  정렬 기준
+     * @param limit       반환할 최대 항목 수
+     * @return 정렬 순서로 합친 최대 limit 개의 List
+     */
+    public static <T> List<T> merge(List<? extends List<? extends T>> sortedLists, Comparator<? super T> comparator, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("merge 에러: limit 는 음수일 수 없습니다.");
+        }
+
+        //[List 번호, 다음에 읽을 index] 를 각 List 의 현재 항목 순서로 보관
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> comparator.compare(sortedLists.get(a[0]).get(a[1]), sortedLists.get(b[0]).get(b[1])));
+        for (int i = 0; i < sortedLists.size(); i++) {
+            if (!sortedLists.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<? extends T> source = sortedLists.get(head[0]);
+            merged.add(source.get(head[1]));
+            if (head[1] + 1 < source.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
@@ -4,11 +4,13 @@ package com.ham.netnovel.episode;
 import com.ham.netnovel.comment.Comment;
 import com.ham.netnovel.coinUseHistory.CoinUseHistory;
 import com.ham.netnovel.coinCostPolicy.CoinCostPolicy;
+import com.ham.netnovel.episode.data.EpisodeContentConverter;
 import com.ham.netnovel.episode.data.EpisodeStatus;
 import com.ham.netnovel.episodeViewCount.EpisodeViewCount;
 import com.ham.netnovel.novel.Novel;
 import com.ham.netnovel.weeklyViewCount.WeeklyViewCount;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -38,16 +40,29 @@ public class Episode {
     @Column(nullable = false)
     private String title;
 
-    //에피소드 내용, 대용량이므로 @Lob 어노테이션으로 관리
+    //압축하지 않은 에피소드 내용(이전 저장 형식), 압축 마이그레이션이 끝나면 null
     @Lob
-    @Column(nullable = false)
+    @Getter(AccessLevel.NONE)
     private String content;
 
+    //압축된 에피소드 내용, EpisodeContentConverter 로 저장시 압축하고 읽을때 압축 해제
+    @Lob
+    @Convert(converter = EpisodeContentConverter.class)
+    @Column(name = "compressed_content")
+    @Getter(AccessLevel.NONE)
+    private String compressedContent;
+
     //에피소드 조회수
     @Column(nullable = false)
     @ColumnDefault("0")
     private Integer view;
 
+    //에피소드 글자 수, 목록 조회시 본문을 읽지 않도록 저장, 이전 에피소드는 집계 전까지 null
+    private Integer letterCount;
+
+    //ACTIVE 상태 댓글 수, 목록 조회시 댓글을 읽지 않도록 저장, 이전 에피소드는 집계 전까지 null
+    private Integer commentCount;
+
     //생성일자
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -87,15 +102,24 @@ public class Episode {
     public Episode(Integer chapter, String title, String content, Novel novel, CoinCostPolicy costPolicy) {
         this.chapter = chapter;
         this.title = title;
-        this.content = content;
+        this.compressedContent = content;
+        this.letterCount = content == null ? 0 : content.length();
+        this.commentCount = 0;
         this.novel = novel;
         this.view = 0;
         this.costPolicy = costPolicy;
     }
 
+    //에피소드 내용 반환, 압축된 내용이 없으면 이전 형식의 내용 반환
+    public String getContent() {
+        return compressedContent != null ? compressedContent : content;
+    }
+
     public void updateEpisode(String title, String content, CoinCostPolicy costPolicy) {
         this.title = title;
-        this.content = content;
+        this.compressedContent = content;
+        this.content = null;
+        this.letterCount = content == null ? 0 : content.length();
         this.costPolicy = costPolicy;
     }
 
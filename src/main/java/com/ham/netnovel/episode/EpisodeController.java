@@ -1,10 +1,14 @@
 package com.ham.netnovel.episode;
 
+import com.ham.netnovel.coinUseHistory.service.CoinUseHistoryService;
 import com.ham.netnovel.common.OAuth.CustomOAuth2User;
 import com.ham.netnovel.common.exception.EpisodeNotPurchasedException;
 import com.ham.netnovel.common.utils.Authenticator;
+import com.ham.netnovel.common.utils.ConditionalRequestUtil;
+import com.ham.netnovel.common.utils.JsonArrayStreamReader;
 import com.ham.netnovel.common.utils.PageableUtil;
 import com.ham.netnovel.common.utils.ValidationErrorHandler;
+import com.ham.netnovel.episode.data.EpisodeContentCodec;
 import com.ham.netnovel.episode.data.IndexDirection;
 import com.ham.netnovel.episode.dto.EpisodeCreateDto;
 import com.ham.netnovel.episode.dto.EpisodeDetailDto;
@@ -13,17 +17,29 @@ import com.ham.netnovel.episode.dto.EpisodeListItemDto;
 import com.ham.netnovel.episode.dto.*;
 import com.ham.netnovel.episode.service.EpisodeManagementService;
 import com.ham.netnovel.episode.service.EpisodeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api")
@@ -34,11 +50,23 @@ public class EpisodeController {
 
     private final Authenticator authenticator;
 
+    private final CoinUseHistoryService coinUseHistoryService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Validator validator;
+
+    //일괄 등록 요청 한번에 등록할 수 있는 최대 에피소드 수
+    private static final int BULK_PUBLISH_MAX_EPISODES = 1_000;
+
     @Autowired
-    public EpisodeController(EpisodeService episodeService, EpisodeManagementService episodeManagementService, Authenticator authenticator) {
+    public EpisodeController(EpisodeService episodeService, EpisodeManagementService episodeManagementService, Authenticator authenticator, CoinUseHistoryService coinUseHistoryService, ObjectMapper objectMapper, Validator validator) {
         this.episodeService = episodeService;
         this.episodeManagementService = episodeManagementService;
         this.authenticator = authenticator;
+        this.coinUseHistoryService = coinUseHistoryService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     /**
@@ -46,41 +74,155 @@ public class EpisodeController {
      *
      * <p>에피소드가 무료인 경우, 인증 여부와 상관없이 에피소드 상세 정보가 반환됩니다.</p>
      * <p>유료인 경우, 사용자의 인증 정보를 확인하고 결제 내역을 검증한 후 에피소드 정보를 반환합니다.</p>
+     * <p>응답에는 수정일자로 만든 ETag 가 포함되며, {@code If-None-Match} 가 일치하면 본문 없이 304 를 반환합니다.
+     * 유료 에피소드는 결제 여부를 확인한 이후에만 304 를 반환합니다.</p>
      *
      * @param authentication 현재 사용자의 인증 정보
      * @param episodeId      조회할 에피소드의 ID
+     * @param ifNoneMatch    클라이언트가 가진 응답의 ETag
      * @return 에피소드 상세 정보를 담은 {@link ResponseEntity} 객체
      * @throws EpisodeNotPurchasedException 유료 에피소드를 구매하지 않은 경우, {@code 402 PAYMENT REQUIRED} 응답과 결제 정보 반환
      * @response 200 OK 에피소드 상세 정보가 성공적으로 조회된 경우
+     * @response 304 NOT MODIFIED 클라이언트가 가진 응답이 최신인 경우
      * @response 401 UNAUTHORIZED 사용자가 인증되지 않은 경우
      * @response 402 PAYMENT REQUIRED 사용자가 에피소드를 구매하지 않은 경우
      */
     @GetMapping("/episodes/{episodeId}")
     public ResponseEntity<?> getEpisodeDetail(
             Authentication authentication,
-            @PathVariable Long episodeId
+            @PathVariable Long episodeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
 
 
-        // authentication(유저 인증 정보)가 null일 경우, providerId에 "NON_LOGIN" 값을 할당
-        // (비로그인 사용자의 무료 에피소드 조회를 위한 값)
-        String providerId;
-        if (authentication == null) {
-            providerId = "NON_LOGIN";
-        }else {
-            CustomOAuth2User principal = authenticator.checkAuthenticate(authentication);
-            providerId = principal.getName();
-        }
+        String providerId = resolveProviderId(authentication);
 
+        EpisodeContentDto episodeContent;
         try {
-            // 유저 인증 정보가 있을 경우, 해당 에피소드의 상세 정보를 불러옴
-            EpisodeDetailDto episodeDetail = episodeManagementService.getEpisodeDetail(providerId, episodeId);
-            // 에피소드 상세 정보를 HTTP 응답으로 전송 (200 OK)
-            return ResponseEntity.ok(episodeDetail);
+            // 결제 여부를 먼저 확인한 후 에피소드 본문 정보를 불러옴, 결제하지 않은 유료 에피소드는 304 를 받을 수 없음
+            episodeContent = episodeManagementService.getEpisodeContent(providerId, episodeId);
         } catch (EpisodeNotPurchasedException e) {
             // 유저가 유료 에피소드를 결제하지 않은 경우, 402 PAYMENT_REQUIRED 상태와 결제 정보를 함께 전송
             return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED).body(e.getPaymentInfo());
         }
+
+        //수정일자로 ETag 생성, 변경이 없으면 본문을 만들지 않고 304 응답
+        String etag = episodeETag(episodeContent, "detail");
+        CacheControl cacheControl = episodeCacheControl(episodeContent);
+        if (ConditionalRequestUtil.isNotModified(ifNoneMatch, etag)) {
+            return ConditionalRequestUtil.notModified(etag, cacheControl);
+        }
+
+        EpisodeDetailDto episodeDetail = EpisodeDetailDto.builder()
+                .episodeId(episodeId)
+                .content(episodeContent.getContent())
+                .title(episodeContent.getTitle())
+                .build();
+        // 에피소드 상세 정보를 HTTP 응답으로 전송 (200 OK)
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(episodeDetail);
+    }
+
+
+    /**
+     * 에피소드 본문만 text/plain 으로 스트리밍하는 API 입니다.
+     *
+     * <p>결제 여부 확인은 {@link #getEpisodeDetail(Authentication, Long, String)} 와 동일하며,
+     * 결제하지 않은 유료 에피소드는 {@link EpisodeNotPurchasedException} 으로 402 응답합니다.
+     * 본문 문자열을 만들지 않고, 캐시에 저장된 압축 데이터를 버퍼 크기 단위로 압축 해제하여 응답 스트림에 바로 씁니다.
+     * 클라이언트가 {@code Accept-Encoding: deflate} 를 지원하고 본문이 deflate 로 압축되어 있으면,
+     * 압축을 해제하지 않고 저장된 데이터를 {@code Content-Encoding: deflate} 로 그대로 전송합니다.</p>
+     *
+     * <p>{@code Range} 요청(단일 구간, UTF-8 바이트 기준)을 지원하여 이어서 읽을 수 있습니다.
+     * Range 요청은 압축하지 않은 본문으로 응답하며, {@code If-Range} 가 현재 ETag 와 다르면 전체 본문을 응답합니다.</p>
+     *
+     * @param authentication 현재 사용자의 인증 정보
+     * @param episodeId      조회할 에피소드의 ID
+     * @param acceptEncoding 클라이언트가 지원하는 압축 방식
+     * @param ifNoneMatch    클라이언트가 가진 응답의 ETag
+     * @param range          요청할 본문 구간
+     * @param ifRange        Range 요청의 기준 ETag
+     * @return 에피소드 본문 스트림을 담은 {@link ResponseEntity} 객체
+     * @response 200 OK 에피소드 본문이 성공적으로 조회된 경우
+     * @response 206 PARTIAL CONTENT 요청한 구간의 본문을 응답한 경우
+     * @response 304 NOT MODIFIED 클라이언트가 가진 응답이 최신인 경우
+     * @response 401 UNAUTHORIZED 유료 에피소드에 대해 사용자가 인증되지 않은 경우
+     * @response 402 PAYMENT REQUIRED 사용자가 에피소드를 구매하지 않은 경우
+     * @response 416 REQUESTED RANGE NOT SATISFIABLE 요청한 구간이 본문 길이를 벗어난 경우
+     */
+    @GetMapping("/episodes/{episodeId}/content")
+    public ResponseEntity<StreamingResponseBody> getEpisodeContent(
+            Authentication authentication,
+            @PathVariable Long episodeId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange
+    ) {
+        String providerId = resolveProviderId(authentication);
+
+        //결제 여부 확인 후 본문 조회, 결제하지 않은 경우 GlobalExceptionAdvice 에서 402 응답
+        EpisodeContentDto episodeContent = episodeManagementService.getEpisodeContent(providerId, episodeId);
+        byte[] encodedContent = episodeContent.getEncodedContent();
+        long contentLength = episodeContent.getContentLength();
+
+        String identityETag = episodeETag(episodeContent, "identity");
+        CacheControl cacheControl = episodeCacheControl(episodeContent);
+
+        //If-Range 가 없거나 현재 ETag 와 같을때만 Range 요청 처리
+        HttpRange requestedRange = (range != null && (ifRange == null || ifRange.equals(identityETag)))
+                ? parseSingleRange(range) : null;
+
+        //압축된 본문을 그대로 전송, 압축을 해제하고 다시 압축하는 과정을 생략
+        boolean sendDeflated = requestedRange == null
+                && EpisodeContentCodec.isDeflate(encodedContent) && acceptsDeflate(acceptEncoding);
+
+        //압축 여부에 따라 응답 바이트가 다르므로 ETag 도 구분
+        String etag = sendDeflated ? episodeETag(episodeContent, "deflate") : identityETag;
+        if (ConditionalRequestUtil.isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+        headers.setETag(etag);
+        headers.setCacheControl(cacheControl);
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (sendDeflated) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "deflate");
+            return ResponseEntity.ok().headers(headers)
+                    .body(output -> EpisodeContentCodec.writeDeflateStream(encodedContent, output));
+        }
+        if (requestedRange == null) {
+            return ResponseEntity.ok().headers(headers).contentLength(contentLength)
+                    .body(output -> EpisodeContentCodec.writeRange(encodedContent, output, 0, contentLength));
+        }
+
+        long start;
+        long end;
+        try {
+            start = requestedRange.getRangeStart(contentLength);
+            end = requestedRange.getRangeEnd(contentLength);
+        } catch (IllegalArgumentException ex) {
+            //구간 시작 위치가 본문 길이를 벗어난 경우
+            start = -1;
+            end = -1;
+        }
+        if (start < 0 || end < start) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength)
+                    .build();
+        }
+        long rangeStart = start;
+        long rangeLength = end - start + 1;
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers).contentLength(rangeLength)
+                .body(output -> EpisodeContentCodec.writeRange(encodedContent, output, rangeStart, rangeLength));
     }
 
 
@@ -106,6 +248,7 @@ public class EpisodeController {
 
     @GetMapping("/novels/{novelId}/episodes")
     public ResponseEntity<List<EpisodeListItemDto>> getEpisodesByNovel(
+            Authentication authentication,
             @PathVariable(name = "novelId") Long novelId,
             @RequestParam(name = "sortBy", defaultValue = "recent") String sortBy,
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
@@ -116,6 +259,14 @@ public class EpisodeController {
         Pageable pageable = PageableUtil.createPageable(pageNumber, pageSize);
         //정렬 조건, 페이지네이션 정보로 에피소드 정보를 받아옴
         List<EpisodeListItemDto> novelByFilter = episodeService.getEpisodesByConditions(sortBy, novelId, pageable);
+
+        //로그인한 유저는 페이지의 모든 에피소드 결제 여부를 한번에 확인하여 표시
+        if (authentication != null && !novelByFilter.isEmpty()) {
+            String providerId = resolveProviderId(authentication);
+            Set<Long> purchasedIds = coinUseHistoryService.getPurchasedEpisodeIds(providerId,
+                    novelByFilter.stream().map(EpisodeListItemDto::getEpisodeId).toList());
+            novelByFilter.forEach(item -> item.setPurchased(purchasedIds.contains(item.getEpisodeId())));
+        }
         //에피소드 정보 전송
         return ResponseEntity.ok(novelByFilter);
 
@@ -171,6 +322,43 @@ public class EpisodeController {
     }
 
 
+    /**
+     * 여러 에피소드를 한번에 등록하는 API 입니다.
+     *
+     * <p>요청자가 소설의 작가인지 먼저 확인한 후 요청 본문을 읽습니다.
+     * 요청 본문은 {@link EpisodeCreateDto} 형식의 JSON 배열이며, 에피소드를 하나씩 읽어 검증하고 일정 개수씩 묶어 저장합니다.
+     * 묶음마다 트랜잭션을 시작하므로 업로드가 느려도 소설 행 잠금과 DB 연결을 점유하지 않고, 메모리에는 묶음 하나만 보관합니다.
+     * 에피소드 번호는 배열 순서대로 부여되며, 소설 업데이트 알림과 최근 게시 날짜 갱신은 마지막에 한번만 실행됩니다.</p>
+     * <p>에피소드 검증에 실패하면 그 에피소드가 포함된 묶음부터 등록되지 않고 BadRequest 응답을 반환합니다.
+     * 이미 저장된 묶음은 유지되므로, 에피소드 목록에서 등록된 에피소드를 확인할 수 있습니다.
+     * 한번에 최대 {@value #BULK_PUBLISH_MAX_EPISODES} 개까지 등록할 수 있습니다.</p>
+     *
+     * @param novelId        소설의  ID
+     * @param body           {@link EpisodeCreateDto} JSON 배열 요청 본문
+     * @param authentication 현재 사용자의 인증 상태를 포함하는 인증 객체.
+     * @return {@code ResponseEntity<String>} 등록된 에피소드 수를 담고 있는 응답 객체 반환
+     */
+    @PostMapping(value = "/novels/{novelId}/episodes/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> publishEpisodes(
+            @PathVariable(name = "novelId") Long novelId,
+            InputStream body,
+            Authentication authentication
+    ) throws IOException {
+        //유저인증정보 체크
+        CustomOAuth2User principal = authenticator.checkAuthenticate(authentication);
+
+        //요청 본문을 읽기 전에 소설 작가인지 확인
+        episodeService.validateNovelAuthor(novelId, principal.getName());
+
+        //요청 본문을 에피소드 하나씩 읽고 검증, 묶음 단위로 저장
+        try (JsonArrayStreamReader<EpisodeCreateDto> reader = new JsonArrayStreamReader<>(
+                objectMapper, body, EpisodeCreateDto.class, BULK_PUBLISH_MAX_EPISODES, this::validateEpisode)) {
+            int published = episodeService.publishEpisodes(novelId, principal.getName(), reader);
+            return ResponseEntity.ok(String.valueOf(published));
+        }
+    }
+
+
     /**
      * 주어진 요청 본문에 포함된 세부 정보를 사용하여 기존 에피소드를 업데이트 하는 API 입니다.
      *
@@ -205,6 +393,46 @@ public class EpisodeController {
     }
 
 
+    /**
+     * 에피소드의 번호를 변경하는 API 입니다.
+     *
+     * <p>에피소드를 요청한 번호로 옮기고, 사이에 있는 에피소드의 번호를 한칸씩 밀어 재정렬합니다.
+     * 요청 본문은 {@link EpisodeMoveDto}를 사용하여 검증되며 문제가 있으면 BadRequest 응답을 반환합니다.</p>
+     *
+     * @param episodeId      이동할 에피소드의 ID
+     * @param episodeMoveDto 이동할 번호를 담고 있는 {@link EpisodeMoveDto} 객체
+     * @param bindingResult  검증 오류 정보를 담고 있는 {@link BindingResult}객체
+     * @param authentication 현재 사용자의 인증 상태를 포함하는 인증 객체.
+     * @return {@code ResponseEntity<String>} 에피소드 이동 결과를 담고 있는 응답 객체 반환
+     */
+    @PostMapping("/episodes/{episodeId}/chapter")
+    public ResponseEntity<String> moveEpisode(
+            @PathVariable(name = "episodeId") Long episodeId,
+            @Valid @RequestBody EpisodeMoveDto episodeMoveDto,
+            BindingResult bindingResult,
+            Authentication authentication
+    ) {
+        //EpisodeMoveDto Validation 에러가 있을경우 badRequest 전송
+        if (bindingResult.hasErrors()) {
+            List<String> errorMessages = ValidationErrorHandler.handleValidationErrorMessages(
+                    bindingResult,
+                    "moveEpisode");
+            return ResponseEntity.badRequest().body(String.join(", ", errorMessages));
+        }
+
+        //유저인증정보 체크
+        CustomOAuth2User principal = authenticator.checkAuthenticate(authentication);
+
+        episodeMoveDto.setEpisodeId(episodeId);//DTO에 에피소드 정보 할당
+        episodeMoveDto.setProviderId(principal.getName());//DTO에 유저 정보 할당
+
+        //에피소드 번호 변경
+        episodeService.moveEpisode(episodeMoveDto);
+
+        return ResponseEntity.ok("ok");
+    }
+
+
     /**
      * 에피소드를 삭제상태로 바꾸는 API 입니다.
      *
@@ -239,4 +467,68 @@ public class EpisodeController {
 
         return ResponseEntity.ok("ok");
     }
+
+
+    // authentication(유저 인증 정보)가 null일 경우, "NON_LOGIN" 값을 반환
+    // (비로그인 사용자의 무료 에피소드 조회를 위한 값)
+    private String resolveProviderId(Authentication authentication) {
+        if (authentication == null) {
+            return "NON_LOGIN";
+        }
+        CustomOAuth2User principal = authenticator.checkAuthenticate(authentication);
+        return principal.getName();
+    }
+
+    //일괄 등록 에피소드 검증, 검증에 실패하면 예외로 던짐
+    private void validateEpisode(EpisodeCreateDto episodeCreateDto) {
+        Set<ConstraintViolation<EpisodeCreateDto>> violations = validator.validate(episodeCreateDto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("publishEpisodes 에러, 에피소드 정보가 올바르지 않습니다. "
+                    + violations.iterator().next().getMessage());
+        }
+    }
+
+    //단일 구간 Range 헤더만 처리, 여러 구간이거나 형식이 잘못되면 null 을 반환하여 전체 본문 응답
+    private HttpRange parseSingleRange(String range) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    //에피소드 id, 수정일자, 응답 형식으로 ETag 생성
+    private String episodeETag(EpisodeContentDto episodeContent, String representation) {
+        return ConditionalRequestUtil.strongETag("episode", episodeContent.getEpisodeId(),
+                episodeContent.getUpdatedAt(), representation);
+    }
+
+    //유료 에피소드는 유저별 응답이므로 공유 캐시(CDN)에 저장하지 않음, 모든 요청은 서버에서 재검증(결제 여부 확인, 조회수 집계)
+    private CacheControl episodeCacheControl(EpisodeContentDto episodeContent) {
+        return episodeContent.getCoinCost() == 0
+                ? CacheControl.noCache().cachePublic()
+                : CacheControl.noCache().cachePrivate();
+    }
+
+    //Accept-Encoding 헤더에 deflate 가 포함되어 있는지 확인, q=0 이면 지원하지 않는것으로 처리
+    private boolean acceptsDeflate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("deflate")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].replace(" ", "");
+                if (parameter.equals("q=0") || parameter.matches("q=0\\.0*")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 }
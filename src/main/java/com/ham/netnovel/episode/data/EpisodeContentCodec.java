@@ -0,0 +1,239 @@
+package com.ham.netnovel.episode.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 에피소드 본문을 압축/해제하는 유틸 클래스입니다.
+ *
+ * <p>압축된 본문은 3바이트 헤더(매직 2바이트 + 코덱 1바이트) 뒤에 데이터가 붙는 형식입니다.
+ * 코덱 값으로 압축 방식을 구분하므로, 이후 다른 압축 방식을 추가해도 기존 데이터를 그대로 읽을 수 있습니다.</p>
+ *
+ * <ul>
+ *     <li>{@link #CODEC_NONE}: 압축하지 않은 UTF-8 문자열, 압축해도 크기가 줄지 않는 짧은 본문에 사용</li>
+ *     <li>{@link #CODEC_DEFLATE}: zlib(RFC 1950) 형식의 deflate 데이터,
+ *     HTTP {@code Content-Encoding: deflate} 와 같은 형식이므로 응답에 그대로 사용할 수 있음</li>
+ * </ul>
+ */
+public final class EpisodeContentCodec {
+
+    private static final byte MAGIC_FIRST = 'E';
+    private static final byte MAGIC_SECOND = 'C';
+
+    public static final byte CODEC_NONE = 0;
+    public static final byte CODEC_DEFLATE = 1;
+
+    public static final int HEADER_LENGTH = 3;
+
+    private static final int BUFFER_SIZE = 8_192;
+
+    private EpisodeContentCodec() {
+    }
+
+    /**
+     * 본문을 압축합니다. 압축한 결과가 원본보다 크면 압축하지 않고 저장합니다.
+     *
+     * @param content 에피소드 본문
+     * @return 헤더가 포함된 압축 데이터, 본문이 null 이면 null
+     */
+    public static byte[] encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length / 2 + HEADER_LENGTH);
+            writeHeader(output, CODEC_DEFLATE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            if (output.size() < raw.length + HEADER_LENGTH) {
+                return output.toByteArray();
+            }
+        } finally {
+            deflater.end();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length + HEADER_LENGTH);
+        writeHeader(output, CODEC_NONE);
+        output.writeBytes(raw);
+        return output.toByteArray();
+    }
+
+    /**
+     * 압축 데이터를 본문 문자열로 복원합니다.
+     *
+     * @param encoded 헤더가 포함된 압축 데이터
+     * @return 에피소드 본문, 데이터가 null 이면 null
+     * @throws IllegalStateException 헤더가 올바르지 않거나, 알 수 없는 코덱이거나, 데이터가 손상된 경우
+     */
+    public static String decode(byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        byte codec = readCodec(encoded);
+        if (codec == CODEC_NONE) {
+            return new String(encoded, HEADER_LENGTH, encoded.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, HEADER_LENGTH, encoded.length - HEADER_LENGTH);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("에피소드 본문 압축 데이터가 손상되었습니다.");
+                }
+                output.write(buffer, 0, inflated);
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("에피소드 본문 압축 해제 실패", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * HTTP {@code Content-Encoding: deflate} 응답 본문으로 그대로 보낼 수 있는 데이터를 반환합니다.
+     *
+     * @param encoded 헤더가 포함된 압축 데이터
+     * @return deflate 코덱이면 헤더를 제외한 zlib 데이터, 다른 코덱이면 null
+     */
+    public static byte[] toDeflateStream(byte[] encoded) {
+        if (encoded == null || readCodec(encoded) != CODEC_DEFLATE) {
+            return null;
+        }
+        return Arrays.copyOfRange(encoded, HEADER_LENGTH, encoded.length);
+    }
+
+    /**
+     * 압축 데이터가 deflate 코덱인지 확인합니다.
+     *
+     * @param encoded 헤더가 포함된 압축 데이터
+     * @return deflate 코덱이면 true, 데이터가 null 이면 false
+     */
+    public static boolean isDeflate(byte[] encoded) {
+        return encoded != null && readCodec(encoded) == CODEC_DEFLATE;
+    }
+
+    /**
+     * 압축 데이터를 UTF-8 본문 바이트로 읽는 스트림을 반환합니다.
+     *
+     * <p>본문 전체를 메모리에 복원하지 않고, 읽는 만큼만 압축을 해제합니다. 반환한 스트림은 사용 후 닫아야 합니다.</p>
+     *
+     * @param encoded 헤더가 포함된 압축 데이터
+     * @return UTF-8 본문 바이트 스트림
+     * @throws IllegalStateException 헤더가 올바르지 않거나, 알 수 없는 코덱인 경우
+     */
+    public static InputStream openStream(byte[] encoded) {
+        ByteArrayInputStream body = new ByteArrayInputStream(encoded, HEADER_LENGTH, encoded.length - HEADER_LENGTH);
+        return readCodec(encoded) == CODEC_NONE ? body : new InflaterInputStream(body);
+    }
+
+    /**
+     * 압축을 해제한 본문의 UTF-8 바이트 수를 반환합니다. 본문을 메모리에 복원하지 않고 스트림으로 계산합니다.
+     *
+     * @param encoded 헤더가 포함된 압축 데이터
+     * @return 본문 바이트 수, 데이터가 null 이면 0
+     * @throws IllegalStateException 헤더가 올바르지 않거나, 데이터가 손상된 경우
+     */
+    public static long decodedLength(byte[] encoded) {
+        if (encoded == null) {
+            return 0;
+        }
+        if (readCodec(encoded) == CODEC_NONE) {
+            return encoded.length - HEADER_LENGTH;
+        }
+        try (InputStream input = openStream(encoded)) {
+            return input.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ex) {
+            throw new IllegalStateException("에피소드 본문 압축 해제 실패", ex);
+        }
+    }
+
+    /**
+     * 본문의 일부 구간을 버퍼 크기 단위로 나누어 출력 스트림에 씁니다. 사용하는 메모리는 버퍼 크기로 일정합니다.
+     *
+     * @param encoded 헤더가 포함된 압축 데이터
+     * @param output  본문을 쓸 출력 스트림
+     * @param start   시작 위치(UTF-8 바이트 기준, 0부터 시작)
+     * @param length  쓸 바이트 수
+     * @throws UncheckedIOException 출력 스트림에 쓰는 도중 오류가 발생한 경우(클라이언트 연결 종료 등)
+     */
+    public static void writeRange(byte[] encoded, OutputStream output, long start, long length) {
+        try (InputStream input = openStream(encoded)) {
+            input.skipNBytes(start);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                output.write(buffer, 0, read);
+                remaining -= read;
+            }
+            output.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * deflate 코덱의 zlib 데이터를 복사하지 않고 버퍼 크기 단위로 출력 스트림에 씁니다.
+     * HTTP {@code Content-Encoding: deflate} 응답에 사용합니다.
+     *
+     * @param encoded 헤더가 포함된 deflate 코덱 압축 데이터
+     * @param output  데이터를 쓸 출력 스트림
+     * @throws IllegalStateException deflate 코덱이 아닌 경우
+     * @throws UncheckedIOException  출력 스트림에 쓰는 도중 오류가 발생한 경우(클라이언트 연결 종료 등)
+     */
+    public static void writeDeflateStream(byte[] encoded, OutputStream output) {
+        if (!isDeflate(encoded)) {
+            throw new IllegalStateException("deflate 코덱이 아닙니다.");
+        }
+        try {
+            for (int offset = HEADER_LENGTH; offset < encoded.length; offset += BUFFER_SIZE) {
+                output.write(encoded, offset, Math.min(BUFFER_SIZE, encoded.length - offset));
+            }
+            output.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte readCodec(byte[] encoded) {
+        if (encoded.length < HEADER_LENGTH || encoded[0] != MAGIC_FIRST || encoded[1] != MAGIC_SECOND) {
+            throw new IllegalStateException("에피소드 본문 압축 헤더가 올바르지 않습니다.");
+        }
+        byte codec = encoded[2];
+        if (codec != CODEC_NONE && codec != CODEC_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 에피소드 본문 코덱입니다. codec=" + codec);
+        }
+        return codec;
+    }
+
+    private static void writeHeader(ByteArrayOutputStream output, byte codec) {
+        output.write(MAGIC_FIRST);
+        output.write(MAGIC_SECOND);
+        output.write(codec);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ham.netnovel.episode.data;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 에피소드 본문을 압축하여 저장하고, 읽을때 압축을 해제하는 JPA 컨버터입니다.
+ * 압축 형식은 {@link EpisodeContentCodec} 을 사용합니다.
+ */
+@Converter
+public class EpisodeContentConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return EpisodeContentCodec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] encoded) {
+        return EpisodeContentCodec.decode(encoded);
+    }
+}
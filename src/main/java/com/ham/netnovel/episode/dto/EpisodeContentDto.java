@@ -0,0 +1,42 @@
+package com.ham.netnovel.episode.dto;
+
+import com.ham.netnovel.episode.data.EpisodeContentCodec;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에피소드 본문 캐시에 저장되는 DTO 입니다.
+ * 에피소드 조회시 결제 여부 확인과 본문 반환에 필요한 값만 담습니다.
+ */
+@Getter
+@Builder
+@ToString
+public class EpisodeContentDto {
+
+    private Long episodeId;
+
+    private Long novelId;
+
+    private String title;
+
+    //EpisodeContentCodec 으로 압축된 본문, 로그에 남기지 않음
+    @ToString.Exclude
+    private byte[] encodedContent;
+
+    //압축을 해제한 본문의 UTF-8 바이트 수, Range 요청 처리에 사용
+    private Long contentLength;
+
+    //에피소드 가격
+    private Integer coinCost;
+
+    //에피소드 수정 일자, 캐시 버전으로 사용
+    private LocalDateTime updatedAt;
+
+    //압축을 해제한 본문 반환
+    public String getContent() {
+        return EpisodeContentCodec.decode(encodedContent);
+    }
+}
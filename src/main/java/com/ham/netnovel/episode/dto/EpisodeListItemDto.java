@@ -2,16 +2,15 @@ package com.ham.netnovel.episode.dto;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.Setter;
-import lombok.ToString;
+import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @ToString
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class EpisodeListItemDto {
 
@@ -38,4 +37,7 @@ public class EpisodeListItemDto {
 
     @Min(0)
     private Integer coinCost;
+
+    //로그인한 유저의 결제 여부, 비로그인시 null
+    private Boolean purchased;
 }
@@ -0,0 +1,22 @@
+package com.ham.netnovel.episode.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpisodeMoveDto {
+
+    private Long episodeId;
+
+    @NotNull
+    @Min(value = 1, message = "에피소드 번호는 1 이상이어야 합니다!")
+    private Integer chapter;//이동할 에피소드 번호
+
+    private String providerId;//에피소드 이동 요청자 정보
+}
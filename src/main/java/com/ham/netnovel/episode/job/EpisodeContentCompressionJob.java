@@ -0,0 +1,48 @@
+package com.ham.netnovel.episode.job;
+
+import com.ham.netnovel.episode.service.EpisodeService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 압축되지 않은(이전 형식) 에피소드 본문을 배치 단위로 압축하는 Job 입니다.
+ *
+ * <p>한번 실행될때 최대 {@code maxBatchesPerRun} 개의 배치를 처리하며, 배치마다 별도의 트랜잭션으로 커밋합니다.
+ * 모든 본문이 압축되면 조회 쿼리 1번만 실행하고 종료합니다.</p>
+ */
+@Component
+@Slf4j
+@DisallowConcurrentExecution
+public class EpisodeContentCompressionJob implements Job {
+
+    private final EpisodeService episodeService;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    public EpisodeContentCompressionJob(EpisodeService episodeService,
+                                        @Value("${episode.content-compression.batch-size:500}") int batchSize,
+                                        @Value("${episode.content-compression.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.episodeService = episodeService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        Long lastId = 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            lastId = episodeService.compressEpisodeContents(lastId, batchSize);
+            if (lastId == null) {
+                return;
+            }
+        }
+        log.info("에피소드 본문 압축 진행중, 다음 실행에서 계속 진행, lastId={}", lastId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ham.netnovel.episode.job;
+
+import com.ham.netnovel.episode.service.EpisodeService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 글자 수, 댓글 수가 집계되지 않은(이전에 작성된) 에피소드의 값을 배치 단위로 채우는 Job 입니다.
+ *
+ * <p>한번 실행될때 최대 {@code maxBatchesPerRun} 개의 배치를 처리하며, 배치마다 별도의 트랜잭션으로 커밋합니다.
+ * 모든 에피소드가 집계되면 조회 쿼리 1번만 실행하고 종료합니다.</p>
+ */
+@Component
+@Slf4j
+@DisallowConcurrentExecution
+public class EpisodeListCountFillJob implements Job {
+
+    private final EpisodeService episodeService;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    public EpisodeListCountFillJob(EpisodeService episodeService,
+                                   @Value("${episode.list-count-fill.batch-size:500}") int batchSize,
+                                   @Value("${episode.list-count-fill.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.episodeService = episodeService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        Long lastId = 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            lastId = episodeService.fillEpisodeListCounts(lastId, batchSize);
+            if (lastId == null) {
+                return;
+            }
+        }
+        log.info("에피소드 글자 수, 댓글 수 집계 진행중, 다음 실행에서 계속 진행, lastId={}", lastId);
+    }
+}
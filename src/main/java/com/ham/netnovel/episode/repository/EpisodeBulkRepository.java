@@ -0,0 +1,23 @@
+package com.ham.netnovel.episode.repository;
+
+import com.ham.netnovel.episode.dto.EpisodeCreateDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EpisodeBulkRepository {
+
+    /**
+     * 에피소드를 한번에 저장합니다.
+     *
+     * <p>JDBC batch 로 실행하며, 에피소드 번호는 {@code firstChapter} 부터 목록 순서대로 1씩 증가합니다.
+     * 본문은 {@link com.ham.netnovel.episode.data.EpisodeContentCodec} 으로 압축하여 저장합니다.</p>
+     *
+     * @param novelId      소설 id
+     * @param firstChapter 첫번째 에피소드의 번호
+     * @param episodes     저장할 에피소드 List, 가격 정책 id 는 검증된 값이어야 함
+     * @param createdAt    생성일자
+     * @return 저장된 에피소드 id List, 목록 순서와 같음
+     */
+    List<Long> insertEpisodes(Long novelId, int firstChapter, List<EpisodeCreateDto> episodes, LocalDateTime createdAt);
+}
@@ -0,0 +1,74 @@
+package com.ham.netnovel.episode.repository;
+
+import com.ham.netnovel.common.exception.RepositoryMethodException;
+import com.ham.netnovel.episode.data.EpisodeContentCodec;
+import com.ham.netnovel.episode.data.EpisodeStatus;
+import com.ham.netnovel.episode.dto.EpisodeCreateDto;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class EpisodeBulkRepositoryImpl implements EpisodeBulkRepository {
+
+    //조회수는 컬럼 기본값(0) 사용
+    private static final String INSERT_SQL = "insert into episode " +
+            "(chapter, title, compressed_content, letter_count, comment_count, created_at, updated_at, status, novel_id, coin_cost_policy_id) " +
+            "values (?, ?, ?, ?, 0, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EpisodeBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> insertEpisodes(Long novelId, int firstChapter, List<EpisodeCreateDto> episodes, LocalDateTime createdAt) {
+        if (episodes.isEmpty()) {
+            return List.of();
+        }
+        try {
+            Timestamp timestamp = Timestamp.valueOf(createdAt);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            EpisodeCreateDto episode = episodes.get(i);
+                            statement.setInt(1, firstChapter + i);
+                            statement.setString(2, episode.getTitle());
+                            statement.setBytes(3, EpisodeContentCodec.encode(episode.getContent()));
+                            statement.setInt(4, episode.getContent().length());
+                            statement.setTimestamp(5, timestamp);
+                            statement.setTimestamp(6, timestamp);
+                            statement.setString(7, EpisodeStatus.ACTIVE.name());
+                            statement.setLong(8, novelId);
+                            statement.setLong(9, episode.getCostPolicyId());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return episodes.size();
+                        }
+                    },
+                    keyHolder);
+
+            List<Long> ids = new ArrayList<>(episodes.size());
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+            return ids;
+        } catch (Exception ex) {
+            throw new RepositoryMethodException("insertEpisodes 메서드 에러 발생", ex);
+        }
+    }
+}
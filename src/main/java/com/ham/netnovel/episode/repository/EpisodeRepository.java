@@ -1,14 +1,15 @@
 package com.ham.netnovel.episode.repository;
 
 import com.ham.netnovel.episode.Episode;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
-public interface EpisodeRepository extends JpaRepository<Episode,Long>, EpisodeSearchRepository {
+public interface EpisodeRepository extends JpaRepository<Episode,Long>, EpisodeSearchRepository, EpisodeBulkRepository {
 
     @Query("select e from Episode e " +
             "join fetch e.novel n " +
@@ -17,9 +18,140 @@ public interface EpisodeRepository extends JpaRepository<Episode,Long>, EpisodeS
             "order by e.createdAt desc") //최신순
     List<Episode> findByNovel(@Param("novelId") Long novelId);
 
-    @Query("SELECT e FROM Episode e " +
-            "WHERE e.novel.id = :novelId AND e.chapter = :chapter")
-    Optional<Episode> findByNovelAndChapter(@Param("novelId") Long novelId, @Param("chapter") Integer chapter);
+    /**
+     * 소설의 챕터 인덱스를 만들기 위해 모든 상태의 에피소드를 조회합니다.
+     *
+     * <p>본문 등 큰 컬럼은 제외하고 인덱스에 필요한 컬럼만 조회합니다.</p>
+     *
+     * @param novelId 소설 id
+     * @return [id, chapter, status, createdAt] 배열 List
+     */
+    @Query("select e.id, e.chapter, e.status, e.createdAt from Episode e " +
+            "where e.novel.id = :novelId")
+    List<Object[]> findChapterIndexRows(@Param("novelId") Long novelId);
 
+    /**
+     * 소설 에피소드의 가장 큰 번호를 조회합니다.
+     *
+     * @param novelId 소설 id
+     * @return 가장 큰 에피소드 번호, 에피소드가 없으면 null
+     */
+    @Query("select max(e.chapter) from Episode e where e.novel.id = :novelId")
+    Integer findMaxChapter(@Param("novelId") Long novelId);
+
+    /**
+     * 에피소드를 다른 번호로 이동하고, 사이에 있는 에피소드의 번호를 한칸씩 밀어 한번의 쿼리로 재정렬합니다.
+     *
+     * <p>{@code low} ~ {@code high} 범위의 에피소드 중 이동하는 에피소드는 {@code chapter} 로,
+     * 나머지는 {@code shift} 만큼 번호를 변경합니다. 번호만 바뀌므로 수정일자는 변경하지 않습니다.</p>
+     *
+     * @param novelId   소설 id
+     * @param episodeId 이동하는 에피소드 id
+     * @param chapter   이동할 번호
+     * @param shift     사이에 있는 에피소드에 더할 값, 뒤로 이동하면 -1, 앞으로 이동하면 1
+     * @param low       변경할 범위의 가장 작은 번호
+     * @param high      변경할 범위의 가장 큰 번호
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Episode e set e.chapter = " +
+            "case when e.id = :episodeId then :chapter else e.chapter + :shift end " +
+            "where e.novel.id = :novelId " +
+            "and e.chapter between :low and :high")
+    int moveChapter(@Param("novelId") Long novelId,
+                    @Param("episodeId") Long episodeId,
+                    @Param("chapter") Integer chapter,
+                    @Param("shift") int shift,
+                    @Param("low") Integer low,
+                    @Param("high") Integer high);
+
+    /**
+     * 에피소드 본문 캐시에 저장할 값을 조회합니다.
+     *
+     * <p>엔티티 대신 필요한 컬럼만 조회하며, 가격 정책을 함께 join 하여 한번의 쿼리로 가져옵니다.
+     * 압축된 본문은 컨버터를 거치지 않도록 네이티브 쿼리로 저장된 바이트를 그대로 조회합니다.
+     * 캐시는 같은 압축 형식으로 본문을 보관하므로 압축 해제 후 다시 압축할 필요가 없습니다.</p>
+     *
+     * @param episodeId 에피소드 id
+     * @return [id, novelId, title, 이전 형식 content, 압축된 content(byte[]), updatedAt, coinCost] 배열, 에피소드가 없으면 빈 List
+     */
+    @Query(value = "select e.id, e.novel_id, e.title, e.content, e.compressed_content, e.updated_at, cp.coin_cost " +
+            "from episode e " +
+            "join coin_cost_policy cp on cp.id = e.coin_cost_policy_id " +
+            "where e.id = :episodeId",
+            nativeQuery = true)
+    List<Object[]> findEpisodeContentById(@Param("episodeId") Long episodeId);
+
+    /**
+     * 압축되지 않은(이전 형식) 본문을 가진 에피소드를 id 순서로 조회합니다.
+     *
+     * @param lastId   이전 배치에서 마지막으로 처리한 에피소드 id, 이 값보다 큰 id 만 조회
+     * @param pageable 배치 크기
+     * @return [id, content] 배열 List
+     */
+    @Query("select e.id, e.content from Episode e " +
+            "where e.id > :lastId " +
+            "and e.compressedContent is null " +
+            "and e.content is not null " +
+            "order by e.id")
+    List<Object[]> findUncompressedContents(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 에피소드 본문을 압축 컬럼으로 옮깁니다. 본문 내용은 그대로이므로 수정일자는 변경하지 않습니다.
+     *
+     * @param episodeId 에피소드 id
+     * @param content   압축할 본문, EpisodeContentConverter 로 압축되어 저장됨
+     * @return 변경된 행 수, 그사이 작가가 수정하여 이미 압축된 경우 0
+     */
+    @Modifying
+    @Query("update Episode e set e.compressedContent = :content, e.content = null " +
+            "where e.id = :episodeId and e.compressedContent is null")
+    int moveContentToCompressedColumn(@Param("episodeId") Long episodeId, @Param("content") String content);
+
+    /**
+     * 에피소드의 댓글 수를 변경합니다. 동시에 댓글이 작성되어도 누락되지 않도록 DB 에서 직접 더합니다.
+     *
+     * <p>댓글 수가 집계되지 않은(null) 에피소드는 변경하지 않으며, 집계 작업에서 다시 계산합니다.</p>
+     *
+     * @param episodeId 에피소드 id
+     * @param delta     더할 값, 댓글 삭제시 음수
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Episode e set e.commentCount = e.commentCount + :delta " +
+            "where e.id = :episodeId and e.commentCount is not null")
+    int addCommentCount(@Param("episodeId") Long episodeId, @Param("delta") int delta);
+
+    /**
+     * 글자 수 또는 댓글 수가 집계되지 않은 에피소드를 id 순서로 조회합니다.
+     *
+     * @param lastId   이전 배치에서 마지막으로 처리한 에피소드 id, 이 값보다 큰 id 만 조회
+     * @param pageable 배치 크기
+     * @return [id, 이전 형식 content, 압축 해제된 content] 배열 List
+     */
+    @Query("select e.id, e.content, e.compressedContent from Episode e " +
+            "where e.id > :lastId " +
+            "and (e.letterCount is null or e.commentCount is null) " +
+            "order by e.id")
+    List<Object[]> findEpisodesWithoutListCounts(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 집계되지 않은 에피소드의 글자 수, 댓글 수를 저장합니다. 집계값만 채우므로 수정일자는 변경하지 않습니다.
+     *
+     * <p>이미 값이 있는 컬럼은 변경하지 않습니다. 댓글 수는 같은 UPDATE 문의 서브쿼리로 ACTIVE 상태 댓글을 세므로,
+     * 조회와 저장 사이에 작성된 댓글이 누락되지 않습니다.</p>
+     *
+     * @param episodeId   에피소드 id
+     * @param letterCount 글자 수
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Episode e set e.letterCount = coalesce(e.letterCount, :letterCount), " +
+            "e.commentCount = coalesce(e.commentCount, " +
+            "(select cast(count(c) as Integer) from Comment c where c.episode.id = e.id and c.status = 'ACTIVE')) " +
+            "where e.id = :episodeId " +
+            "and (e.letterCount is null or e.commentCount is null)")
+    int updateListCounts(@Param("episodeId") Long episodeId,
+                         @Param("letterCount") Integer letterCount);
 
 }
@@ -1,13 +1,23 @@
 package com.ham.netnovel.episode.repository;
 
-import com.ham.netnovel.episode.Episode;
+import com.ham.netnovel.episode.dto.EpisodeListItemDto;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface EpisodeSearchRepository {
 
-
-    List<Episode> findEpisodesByConditions(String sortBy, Long novelId , Pageable pageable);
+    /**
+     * 소설의 에피소드 목록을 정렬 조건에 따라 조회합니다.
+     *
+     * <p>목록에 필요한 컬럼만 DTO 로 조회하며, 본문과 댓글은 읽지 않습니다. 가격 정책은 join 하여 한번의 쿼리로 가져옵니다.</p>
+     *
+     * @param sortBy   정렬 기준(recent, initial)
+     * @param novelId  소설 id
+     * @param pageable 페이지네이션 정보
+     * @return {@link EpisodeListItemDto} List
+     * @throws IllegalArgumentException 정렬 기준이 올바르지 않은 경우
+     */
+    List<EpisodeListItemDto> findEpisodesByConditions(String sortBy, Long novelId , Pageable pageable);
 
 }
@@ -1,10 +1,11 @@
 package com.ham.netnovel.episode.repository;
 
-import com.ham.netnovel.episode.Episode;
+import com.ham.netnovel.coinCostPolicy.QCoinCostPolicy;
 import com.ham.netnovel.episode.QEpisode;
-import com.ham.netnovel.novel.QNovel;
+import com.ham.netnovel.episode.dto.EpisodeListItemDto;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQueryFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -23,14 +24,23 @@ public class EpisodeSearchRepositoryImpl implements EpisodeSearchRepository {
 
 
     @Override
-    public List<Episode> findEpisodesByConditions(String sortBy, Long novelId, Pageable pageable) {
-        QNovel novel = QNovel.novel;
+    public List<EpisodeListItemDto> findEpisodesByConditions(String sortBy, Long novelId, Pageable pageable) {
         QEpisode episode = QEpisode.episode;
-
-
-        return jpaQueryFactory.select(episode)
+        QCoinCostPolicy costPolicy = QCoinCostPolicy.coinCostPolicy;
+
+
+        return jpaQueryFactory.select(Projections.bean(EpisodeListItemDto.class,//DTO에 값을 넣어 반환
+                        episode.id.as("episodeId"),
+                        episode.chapter.as("chapter"),
+                        episode.title.as("title"),
+                        episode.view.as("views"),
+                        //집계 전인 이전 에피소드는 0
+                        episode.letterCount.coalesce(0).as("letterCount"),
+                        episode.commentCount.coalesce(0).as("commentCount"),
+                        episode.createdAt.as("uploadDate"),
+                        costPolicy.coinCost.as("coinCost")))
                 .from(episode)
-                .join(novel).on(episode.novel.id.eq(novel.id))
+                .join(episode.costPolicy, costPolicy)//가격 정책과 join
                 .where(episode.novel.id.eq(novelId))
                 .orderBy(getOrderSpecifier(sortBy))
                 .offset(pageable.getOffset())
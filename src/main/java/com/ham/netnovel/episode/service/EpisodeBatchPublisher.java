@@ -0,0 +1,94 @@
+package com.ham.netnovel.episode.service;
+
+import com.ham.netnovel.coinCostPolicy.service.CoinCostPolicyService;
+import com.ham.netnovel.episode.dto.EpisodeCreateDto;
+import com.ham.netnovel.episode.repository.EpisodeRepository;
+import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
+import com.ham.netnovel.novel.service.NovelService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 에피소드 일괄 등록 요청에서 읽은 에피소드 묶음 하나를 한 트랜잭션으로 저장하는 컴포넌트입니다.
+ *
+ * <p>묶음마다 에피소드 번호를 발급하므로 소설 행 잠금은 묶음을 저장하는 동안만 유지되고, 요청 본문을 읽는 동안에는 잡지 않습니다.
+ * 챕터 인덱스 무효화와 소설 상세 정보의 에피소드 수 증가는 묶음의 커밋 이후에 반영합니다.</p>
+ */
+@Component
+@Slf4j
+public class EpisodeBatchPublisher {
+
+    private final EpisodeRepository episodeRepository;
+
+    private final NovelService novelService;
+
+    private final CoinCostPolicyService costPolicyService;
+
+    private final EpisodeChapterIndexCache episodeChapterIndexCache;
+
+    private final NovelInfoReadModel novelInfoReadModel;
+
+    public EpisodeBatchPublisher(EpisodeRepository episodeRepository, NovelService novelService, CoinCostPolicyService costPolicyService, EpisodeChapterIndexCache episodeChapterIndexCache, NovelInfoReadModel novelInfoReadModel) {
+        this.episodeRepository = episodeRepository;
+        this.novelService = novelService;
+        this.costPolicyService = costPolicyService;
+        this.episodeChapterIndexCache = episodeChapterIndexCache;
+        this.novelInfoReadModel = novelInfoReadModel;
+    }
+
+
+    /**
+     * 등록 요청자와 소설 작가가 일치하는지 확인합니다.
+     *
+     * @param novelId    소설의 ID
+     * @param providerId 등록 요청자의 ID
+     * @return 소설 엔티티, 업데이트 메시지에 사용할 제목과 썸네일을 포함
+     * @throws IllegalArgumentException 유효하지 않은 소설 정보이거나 요청자 정보가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public Novel getAuthorNovel(Long novelId, String providerId) {
+        return novelService.getNovel(novelId)
+                .filter(novel -> providerId.equals(novel.getAuthor().getProviderId()))
+                .orElseThrow(() ->
+                        new IllegalArgumentException("유효하지 않은 Novel 정보이거나 유저 정보가 올바르지 않습니다. novelId= " + novelId));
+    }
+
+    /**
+     * 에피소드 묶음을 저장합니다. 하나라도 실패하면 묶음 전체가 저장되지 않습니다.
+     *
+     * @param novelId     소설의 ID, 요청자가 작가인지 미리 확인되어야 함
+     * @param episodes    저장할 에피소드, 저장 순서대로 연속된 번호 부여
+     * @param publishedAt 생성일자
+     * @return 저장된 에피소드 id List, 목록 순서와 같음
+     * @throws NoSuchElementException 에피소드의 {@code CostPolicyId}에 대한 {@code CoinCostPolicy} 정보가 없는 경우
+     */
+    @Transactional
+    public List<Long> publish(Long novelId, List<EpisodeCreateDto> episodes, LocalDateTime publishedAt) {
+        //사용된 가격 정책을 정책별로 한번씩 확인, 소설 행을 잠그기 전에 모두 검증
+        Set<Long> costPolicyIds = new HashSet<>();
+        for (EpisodeCreateDto episode : episodes) {
+            Long costPolicyId = episode.getCostPolicyId();
+            if (costPolicyIds.add(costPolicyId) && costPolicyService.getPolicyEntity(costPolicyId).isEmpty()) {
+                throw new NoSuchElementException("publishEpisodes 에러, CoinCostPolicy 정보가 없습니다. coinPolicyId= " + costPolicyId);
+            }
+        }
+
+        //묶음의 에피소드 번호를 한번에 발급, 소설 행 잠금은 커밋까지 유지됨
+        int firstChapter = novelService.issueChapters(novelId, episodes.size()) - episodes.size() + 1;
+        List<Long> ids = episodeRepository.insertEpisodes(novelId, firstChapter, episodes, publishedAt);
+
+        //커밋 이후 소설의 챕터 인덱스 무효화, 소설 상세 정보의 에피소드 수 증가
+        episodeChapterIndexCache.evict(novelId);
+        novelInfoReadModel.addEpisodeCount(novelId, ids.size());
+        log.info("에피소드 묶음 저장 완료, novelId={}, 첫 번호={}, 저장 수={}", novelId, firstChapter, ids.size());
+        return ids;
+    }
+}
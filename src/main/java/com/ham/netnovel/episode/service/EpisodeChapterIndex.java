@@ -0,0 +1,141 @@
+package com.ham.netnovel.episode.service;
+
+
+import com.ham.netnovel.episode.data.EpisodeStatus;
+import com.ham.netnovel.episode.data.IndexDirection;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 소설의 에피소드를 챕터 순서로 정렬한 인덱스입니다.
+ *
+ * <p>(챕터, 에피소드 id, 상태) 를 기본형 배열에 보관하며, 만들어진 이후에는 변경되지 않습니다.
+ * 에피소드 id 로 챕터 순서의 위치를 이진 탐색으로 찾고, 그 위치에서 앞/뒤로 이동하여 이전/다음 에피소드를 찾습니다.</p>
+ */
+final class EpisodeChapterIndex {
+
+    private static final EpisodeStatus[] STATUSES = EpisodeStatus.values();
+
+    //챕터 순서(같은 챕터는 id 순서)로 정렬된 값
+    private final int[] chapters;
+    private final long[] episodeIds;
+    private final byte[] statuses;
+
+    //에피소드 id 순서로 정렬된 id 와, 그 에피소드의 챕터 순서 위치
+    private final long[] sortedIds;
+    private final int[] positions;
+
+    //ACTIVE 상태인 에피소드 수
+    private final int activeCount;
+
+    //ACTIVE 상태인 에피소드 중 가장 최근 생성일자, 없으면 null
+    private final LocalDateTime lastActiveCreatedAt;
+
+    //인덱스를 만든 시간(System.nanoTime)
+    private final long loadedAt;
+
+    private EpisodeChapterIndex(int[] chapters, long[] episodeIds, byte[] statuses,
+                                long[] sortedIds, int[] positions,
+                                int activeCount, LocalDateTime lastActiveCreatedAt, long loadedAt) {
+        this.chapters = chapters;
+        this.episodeIds = episodeIds;
+        this.statuses = statuses;
+        this.sortedIds = sortedIds;
+        this.positions = positions;
+        this.activeCount = activeCount;
+        this.lastActiveCreatedAt = lastActiveCreatedAt;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * 소설의 에피소드 목록으로 인덱스를 만듭니다.
+     *
+     * @param rows     [id, chapter, status, createdAt] 배열 List, 순서는 상관없음
+     * @param loadedAt 인덱스를 만든 시간(System.nanoTime)
+     * @return 챕터 인덱스
+     */
+    static EpisodeChapterIndex of(List<Object[]> rows, long loadedAt) {
+        Object[][] sorted = rows.toArray(new Object[0][]);
+        Arrays.sort(sorted, Comparator.<Object[]>comparingInt(row -> (Integer) row[1])
+                .thenComparingLong(row -> (Long) row[0]));
+
+        int size = sorted.length;
+        int[] chapters = new int[size];
+        long[] episodeIds = new long[size];
+        byte[] statuses = new byte[size];
+        int activeCount = 0;
+        LocalDateTime lastActiveCreatedAt = null;
+
+        for (int i = 0; i < size; i++) {
+            Object[] row = sorted[i];
+            episodeIds[i] = (Long) row[0];
+            chapters[i] = (Integer) row[1];
+            EpisodeStatus status = (EpisodeStatus) row[2];
+            statuses[i] = (byte) status.ordinal();
+            if (status == EpisodeStatus.ACTIVE) {
+                activeCount++;
+                LocalDateTime createdAt = (LocalDateTime) row[3];
+                if (createdAt != null && (lastActiveCreatedAt == null || createdAt.isAfter(lastActiveCreatedAt))) {
+                    lastActiveCreatedAt = createdAt;
+                }
+            }
+        }
+
+        //id => 챕터 순서 위치, id 로 이진 탐색하기 위해 id 순서로 정렬
+        Integer[] byId = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            byId[i] = i;
+        }
+        Arrays.sort(byId, Comparator.comparingLong(position -> episodeIds[position]));
+        long[] sortedIds = new long[size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = episodeIds[byId[i]];
+            positions[i] = byId[i];
+        }
+
+        return new EpisodeChapterIndex(chapters, episodeIds, statuses, sortedIds, positions,
+                activeCount, lastActiveCreatedAt, loadedAt);
+    }
+
+    /**
+     * 에피소드의 이전/다음 챕터 중 가장 가까운 ACTIVE 에피소드 id 를 반환합니다.
+     *
+     * @param episodeId 기준 에피소드 id
+     * @param direction 이동 방향
+     * @return 이전/다음 에피소드 id, 기준 에피소드가 인덱스에 없거나 맨 앞/맨 뒤이면 null
+     */
+    Long findBeside(Long episodeId, IndexDirection direction) {
+        int found = Arrays.binarySearch(sortedIds, episodeId);
+        if (found < 0) {
+            return null;
+        }
+        int step = direction == IndexDirection.NEXT ? 1 : -1;
+        int current = positions[found];
+        for (int position = current + step; position >= 0 && position < episodeIds.length; position += step) {
+            //같은 챕터 번호가 중복된 경우는 건너뜀
+            if (chapters[position] == chapters[current]) {
+                continue;
+            }
+            if (STATUSES[statuses[position]] == EpisodeStatus.ACTIVE) {
+                return episodeIds[position];
+            }
+        }
+        return null;
+    }
+
+    int activeCount() {
+        return activeCount;
+    }
+
+    LocalDateTime lastActiveCreatedAt() {
+        return lastActiveCreatedAt;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ham.netnovel.episode.service;
+
+
+import com.ham.netnovel.common.message.RedisMessagePublisher;
+import com.ham.netnovel.episode.repository.EpisodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 소설별 {@link EpisodeChapterIndex} 를 서버 메모리에 보관하는 컴포넌트입니다.
+ *
+ * <p>인덱스가 없으면 소설의 에피소드를 (id, 챕터, 상태, 생성일자) 컬럼만 조회하는 쿼리 1번으로 만듭니다.
+ * 에피소드가 생성/수정/삭제되면 커밋 이후에 인덱스를 제거하고, Redis Pub/Sub 으로 다른 서버에도 제거 메시지를 보냅니다.
+ * 제거된 인덱스는 다음 조회시 다시 만들어집니다.</p>
+ */
+@Component
+@Slf4j
+public class EpisodeChapterIndexCache {
+
+    //무효화 메시지를 발송할 채널
+    public static final String INVALIDATION_CHANNEL = "episode-chapter-index-invalidation-channel";
+
+    private final EpisodeRepository episodeRepository;
+
+    private final RedisMessagePublisher redisMessagePublisher;
+
+    private final long ttlNanos;
+
+    private final int maxNovels;
+
+    //novelId => 챕터 인덱스
+    private final Map<Long, EpisodeChapterIndex> indexes = new ConcurrentHashMap<>();
+
+    //무효화될때마다 증가, 조회 중 무효화가 일어났으면 만든 인덱스를 저장하지 않음
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public EpisodeChapterIndexCache(EpisodeRepository episodeRepository,
+                                    RedisMessagePublisher redisMessagePublisher,
+                                    @Value("${episode.chapter-index.ttl-minutes:30}") long ttlMinutes,
+                                    @Value("${episode.chapter-index.max-novels:5000}") int maxNovels) {
+        this.episodeRepository = episodeRepository;
+        this.redisMessagePublisher = redisMessagePublisher;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+        this.maxNovels = maxNovels;
+    }
+
+
+    /**
+     * 소설의 챕터 인덱스를 반환합니다. 없거나 만료되었으면 DB 에서 다시 만듭니다.
+     *
+     * @param novelId 소설 id
+     * @return 챕터 인덱스, 에피소드가 없는 소설은 빈 인덱스
+     */
+    EpisodeChapterIndex get(Long novelId) {
+        EpisodeChapterIndex cached = indexes.get(novelId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached;
+        }
+
+        long invalidationsBefore = invalidationCount.get();
+        EpisodeChapterIndex loaded = EpisodeChapterIndex.of(episodeRepository.findChapterIndexRows(novelId), now);
+        //조회하는 동안 무효화가 있었으면 이전 값일 수 있으므로 저장하지 않음
+        if (invalidationCount.get() == invalidationsBefore) {
+            if (indexes.size() >= maxNovels) {
+                indexes.clear();
+            }
+            indexes.put(novelId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 소설의 챕터 인덱스를 무효화합니다. 에피소드 생성/수정/삭제 메서드에서 호출합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다.
+     *
+     * @param novelId 소설 id
+     */
+    public void evict(Long novelId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(novelId);
+                }
+            });
+            return;
+        }
+        evictNow(novelId);
+    }
+
+    /**
+     * 무효화 메시지를 받았을때 서버 메모리에서 인덱스를 제거합니다.
+     *
+     * @param novelId 소설 id
+     */
+    public void evictLocal(Long novelId) {
+        invalidationCount.incrementAndGet();
+        indexes.remove(novelId);
+    }
+
+
+    private void evictNow(Long novelId) {
+        evictLocal(novelId);
+        try {
+            redisMessagePublisher.publish(INVALIDATION_CHANNEL, String.valueOf(novelId));
+        } catch (Exception ex) {
+            log.error("evict 메서드 에러 발생, 챕터 인덱스 무효화 메시지 발송 실패, novelId={}", novelId, ex);
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.ham.netnovel.episode.service;
+
+
+import com.ham.netnovel.common.cache.WeightedLruCache;
+import com.ham.netnovel.common.message.RedisMessagePublisher;
+import com.ham.netnovel.episode.Episode;
+import com.ham.netnovel.episode.data.EpisodeContentCodec;
+import com.ham.netnovel.episode.dto.EpisodeContentDto;
+import com.ham.netnovel.episode.repository.EpisodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 에피소드 본문을 2단계(서버 메모리, Redis)로 캐싱하는 컴포넌트입니다.
+ *
+ * <p>1단계는 본문 크기(바이트)의 합으로 크기를 제한하는 서버 메모리 LRU 캐시이며, 자주 읽히는 에피소드를 보관합니다.
+ * 본문은 {@link EpisodeContentCodec} 으로 압축된 상태로 저장하므로, 같은 메모리에 더 많은 에피소드를 보관할 수 있고
+ * 압축된 본문을 그대로 응답할 수 있습니다.
+ * 2단계는 Redis 이며, 키는 {@code episode_content:{episodeId}:{updatedAt}} 형식으로 수정 일자를 버전으로 포함합니다.
+ * 현재 버전은 {@code episode_content:{episodeId}:version} 키에 저장합니다.</p>
+ *
+ * <p>에피소드가 수정/삭제되면 커밋 이후에 현재 버전을 새 수정 일자로 바꾸고,
+ * Redis Pub/Sub 으로 모든 서버에 무효화 메시지를 보내 서버 메모리 캐시에서 제거합니다.
+ * 이전 버전 키는 더이상 읽히지 않으며 만료시간이 지나면 삭제됩니다.</p>
+ *
+ * <p>같은 에피소드를 동시에 조회하면 한 스레드만 Redis/DB 에서 값을 읽고, 나머지 스레드는 그 결과를 기다립니다.</p>
+ */
+@Component
+@Slf4j
+public class EpisodeContentCache {
+
+    //무효화 메시지를 발송할 채널
+    public static final String INVALIDATION_CHANNEL = "episode-content-invalidation-channel";
+
+    private static final String KEY_PREFIX = "episode_content:";
+
+    //항목당 고정 크기(객체 헤더, 제목 외 필드)
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final EpisodeRepository episodeRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisMessagePublisher redisMessagePublisher;
+
+    private final WeightedLruCache<Long, EpisodeContentDto> localCache;
+
+    private final Duration redisTtl;
+
+    //같은 에피소드에 대한 동시 조회를 하나로 합침
+    private final Map<Long, CompletableFuture<Optional<EpisodeContentDto>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    //무효화될때마다 증가, 조회 중 무효화가 일어났으면 읽어온 값을 서버 메모리에 저장하지 않음
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter databaseLoads;
+
+    public EpisodeContentCache(EpisodeRepository episodeRepository,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisMessagePublisher redisMessagePublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${episode.content-cache.local-max-bytes:67108864}") long localMaxBytes,
+                               @Value("${episode.content-cache.local-ttl-minutes:10}") long localTtlMinutes,
+                               @Value("${episode.content-cache.redis-ttl-hours:24}") long redisTtlHours) {
+        this.episodeRepository = episodeRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessagePublisher = redisMessagePublisher;
+        this.localCache = new WeightedLruCache<>(localMaxBytes, TimeUnit.MINUTES.toNanos(localTtlMinutes),
+                EpisodeContentCache::weigh, System::nanoTime);
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+
+        this.localHits = Counter.builder("episode.content.cache.hits").tag("tier", "local").register(meterRegistry);
+        this.redisHits = Counter.builder("episode.content.cache.hits").tag("tier", "redis").register(meterRegistry);
+        this.databaseLoads = Counter.builder("episode.content.cache.misses").register(meterRegistry);
+        FunctionCounter.builder("episode.content.cache.evictions", localCache, WeightedLruCache::evictionCount)
+                .register(meterRegistry);
+        Gauge.builder("episode.content.cache.local.bytes", localCache, WeightedLruCache::weightedSize)
+                .register(meterRegistry);
+        Gauge.builder("episode.content.cache.local.size", localCache, WeightedLruCache::size)
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 에피소드 본문을 조회합니다. 서버 메모리, Redis, DB 순서로 조회하며 상위 캐시에 저장합니다.
+     *
+     * @param episodeId 에피소드 id
+     * @return 에피소드 본문 정보, 에피소드가 없으면 빈 Optional
+     */
+    public Optional<EpisodeContentDto> get(Long episodeId) {
+        EpisodeContentDto cached = localCache.get(episodeId);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<Optional<EpisodeContentDto>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<EpisodeContentDto>> inFlight = inFlightLoads.putIfAbsent(episodeId, created);
+        if (inFlight != null) {
+            //다른 스레드가 조회중이면 결과를 기다림
+            return join(inFlight);
+        }
+
+        try {
+            created.complete(load(episodeId));
+        } catch (RuntimeException ex) {
+            created.completeExceptionally(ex);
+        } finally {
+            inFlightLoads.remove(episodeId, created);
+        }
+        return join(created);
+    }
+
+    /**
+     * 에피소드 본문 캐시를 무효화합니다. 수정/삭제 메서드에서 엔티티 변경 후 호출합니다.
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다. 수정 일자는 flush 시점에 갱신되므로
+     * 커밋 이후에 엔티티의 수정 일자를 새 버전으로 사용합니다.</p>
+     *
+     * @param episode 수정/삭제된 에피소드 엔티티
+     */
+    public void evict(Episode episode) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(episode.getId(), episode.getUpdatedAt());
+                }
+            });
+            return;
+        }
+        evictNow(episode.getId(), episode.getUpdatedAt());
+    }
+
+    /**
+     * 무효화 메시지를 받았을때 서버 메모리 캐시에서 에피소드를 제거합니다.
+     *
+     * @param episodeId 에피소드 id
+     */
+    public void evictLocal(Long episodeId) {
+        invalidationCount.incrementAndGet();
+        localCache.remove(episodeId);
+    }
+
+
+    private void evictNow(Long episodeId, LocalDateTime updatedAt) {
+        evictLocal(episodeId);
+        try {
+            //현재 버전을 변경, 이후 조회는 새 버전 키를 사용
+            String versionKey = versionKey(episodeId);
+            if (updatedAt == null) {
+                redisTemplate.delete(versionKey);
+            } else {
+                redisTemplate.opsForValue().set(versionKey, String.valueOf(toVersion(updatedAt)), redisTtl);
+            }
+            redisMessagePublisher.publish(INVALIDATION_CHANNEL, String.valueOf(episodeId));
+        } catch (Exception ex) {
+            log.error("evict 메서드 에러 발생, 에피소드 본문 캐시 무효화 실패, episodeId={}", episodeId, ex);
+        }
+    }
+
+    private Optional<EpisodeContentDto> load(Long episodeId) {
+        long invalidationsBefore = invalidationCount.get();
+
+        String currentVersion = readRedis(() -> redisTemplate.opsForValue().get(versionKey(episodeId)));
+        if (currentVersion != null) {
+            EpisodeContentDto fromRedis = readRedis(() -> fromHash(episodeId,
+                    redisTemplate.opsForHash().entries(contentKey(episodeId, currentVersion))));
+            if (fromRedis != null) {
+                redisHits.increment();
+                putLocal(episodeId, fromRedis, invalidationsBefore);
+                return Optional.of(fromRedis);
+            }
+        }
+
+        databaseLoads.increment();
+        List<Object[]> rows = episodeRepository.findEpisodeContentById(episodeId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        EpisodeContentDto loaded = fromRow(rows.get(0));
+        String loadedVersion = String.valueOf(toVersion(loaded.getUpdatedAt()));
+
+        //현재 버전이 DB 값과 다르면(조회 중 수정됨) 캐시에 저장하지 않고 반환
+        if (currentVersion != null && !currentVersion.equals(loadedVersion)) {
+            return Optional.of(loaded);
+        }
+        boolean stored = writeRedis(episodeId, loadedVersion, loaded);
+        if (stored) {
+            putLocal(episodeId, loaded, invalidationsBefore);
+        }
+        return Optional.of(loaded);
+    }
+
+    //Redis 에 본문을 저장하고, 현재 버전이 없으면 설정, 저장한 버전이 현재 버전이면 true 반환
+    private boolean writeRedis(Long episodeId, String version, EpisodeContentDto content) {
+        try {
+            String contentKey = contentKey(episodeId, version);
+            redisTemplate.opsForHash().putAll(contentKey, toHash(content));
+            redisTemplate.expire(contentKey, redisTtl);
+            String versionKey = versionKey(episodeId);
+            Boolean created = redisTemplate.opsForValue().setIfAbsent(versionKey, version, redisTtl);
+            return Boolean.TRUE.equals(created) || version.equals(redisTemplate.opsForValue().get(versionKey));
+        } catch (Exception ex) {
+            log.error("writeRedis 메서드 에러 발생, episodeId={}", episodeId, ex);
+            return false;
+        }
+    }
+
+    private void putLocal(Long episodeId, EpisodeContentDto content, long invalidationsBefore) {
+        //조회하는 동안 무효화가 있었으면 이전 값일 수 있으므로 저장하지 않음
+        if (invalidationCount.get() == invalidationsBefore) {
+            localCache.put(episodeId, content);
+        }
+    }
+
+    //Redis 장애시 DB 조회로 넘어가도록 예외를 기록하고 null 반환
+    private <T> T readRedis(Supplier<T> reader) {
+        try {
+            return reader.get();
+        } catch (Exception ex) {
+            log.error("readRedis 메서드 에러 발생, 에피소드 본문 캐시 조회 실패", ex);
+            return null;
+        }
+    }
+
+    private Optional<EpisodeContentDto> join(CompletableFuture<Optional<EpisodeContentDto>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+
+    private static Map<String, String> toHash(EpisodeContentDto content) {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("novelId", String.valueOf(content.getNovelId()));
+        hash.put("title", content.getTitle());
+        //압축된 본문은 Base64 문자열로 저장
+        hash.put("encodedContent", Base64.getEncoder().encodeToString(content.getEncodedContent()));
+        hash.put("contentLength", String.valueOf(content.getContentLength()));
+        hash.put("coinCost", String.valueOf(content.getCoinCost()));
+        hash.put("updatedAt", String.valueOf(toVersion(content.getUpdatedAt())));
+        return hash;
+    }
+
+    private static EpisodeContentDto fromHash(Long episodeId, Map<Object, Object> hash) {
+        //필드가 없으면(이전 형식의 값) 캐시에 없는것으로 처리
+        if (hash == null || !hash.containsKey("encodedContent") || !hash.containsKey("novelId")
+                || !hash.containsKey("contentLength")) {
+            return null;
+        }
+        return EpisodeContentDto.builder()
+                .episodeId(episodeId)
+                .novelId(Long.valueOf((String) hash.get("novelId")))
+                .title((String) hash.get("title"))
+                .encodedContent(Base64.getDecoder().decode((String) hash.get("encodedContent")))
+                .contentLength(Long.valueOf((String) hash.get("contentLength")))
+                .coinCost(Integer.valueOf((String) hash.get("coinCost")))
+                .updatedAt(LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(Long.parseLong((String) hash.get("updatedAt"))), ZoneOffset.UTC))
+                .build();
+    }
+
+    //압축된 본문(row[4])은 DB 에 저장된 바이트를 그대로 사용하고, 이전 형식 본문(row[3])만 압축하여 저장
+    private static EpisodeContentDto fromRow(Object[] row) {
+        byte[] encodedContent;
+        long contentLength;
+        if (row[4] != null) {
+            encodedContent = toBytes(row[4]);
+            //압축 해제한 본문을 메모리에 만들지 않고 스트림으로 길이만 계산
+            contentLength = EpisodeContentCodec.decodedLength(encodedContent);
+        } else {
+            String content = toText(row[3]);
+            encodedContent = EpisodeContentCodec.encode(content);
+            contentLength = content == null ? 0 : content.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return EpisodeContentDto.builder()
+                .episodeId(((Number) row[0]).longValue())
+                .novelId(((Number) row[1]).longValue())
+                .title((String) row[2])
+                .encodedContent(encodedContent)
+                .contentLength(contentLength)
+                .updatedAt(toLocalDateTime(row[5]))
+                .coinCost(((Number) row[6]).intValue())
+                .build();
+    }
+
+    //네이티브 쿼리의 LOB 컬럼은 드라이버 설정에 따라 byte[] 또는 Blob 으로 반환됨
+    private static byte[] toBytes(Object value) {
+        if (value instanceof Blob blob) {
+            try {
+                return blob.getBytes(1, Math.toIntExact(blob.length()));
+            } catch (SQLException ex) {
+                throw new IllegalStateException("에피소드 본문 조회 실패", ex);
+            }
+        }
+        return (byte[]) value;
+    }
+
+    private static String toText(Object value) {
+        if (value instanceof Clob clob) {
+            try {
+                return clob.getSubString(1, Math.toIntExact(clob.length()));
+            } catch (SQLException ex) {
+                throw new IllegalStateException("에피소드 본문 조회 실패", ex);
+            }
+        }
+        return (String) value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    //수정 일자를 ms 단위 숫자로 변환하여 버전으로 사용, 수정 일자가 없으면 0
+    private static long toVersion(LocalDateTime updatedAt) {
+        return updatedAt == null ? 0L : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    //압축된 본문 크기 + 제목(UTF-16, 글자당 2바이트) + 고정 크기
+    private static long weigh(EpisodeContentDto content) {
+        long contentBytes = content.getEncodedContent() == null ? 0 : content.getEncodedContent().length;
+        long titleBytes = content.getTitle() == null ? 0 : content.getTitle().length() * 2L;
+        return contentBytes + titleBytes + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private static String versionKey(Long episodeId) {
+        return KEY_PREFIX + episodeId + ":version";
+    }
+
+    private static String contentKey(Long episodeId, String version) {
+        return KEY_PREFIX + episodeId + ":" + version;
+    }
+}
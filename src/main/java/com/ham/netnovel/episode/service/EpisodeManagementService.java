@@ -3,6 +3,7 @@ package com.ham.netnovel.episode.service;
 import com.ham.netnovel.common.exception.EpisodeNotPurchasedException;
 import com.ham.netnovel.episode.Episode;
 import com.ham.netnovel.episode.data.IndexDirection;
+import com.ham.netnovel.episode.dto.EpisodeContentDto;
 import com.ham.netnovel.episode.dto.EpisodeDetailDto;
 import com.ham.netnovel.episodeViewCount.ViewCountIncreaseDto;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -36,6 +37,21 @@ public interface EpisodeManagementService {
      */
     EpisodeDetailDto getEpisodeDetail(String providerId,Long episodeId);
 
+    /**
+     * 지정된 에피소드의 압축된 본문 정보를 반환합니다.
+     *
+     * <p>결제 여부 확인, 최근 읽은 에피소드 갱신, 조회수 증가는 {@link #getEpisodeDetail(String, Long)} 와 동일합니다.
+     * 본문은 압축을 해제하지 않은 상태로 반환하므로, 응답에 압축된 본문을 그대로 사용할 수 있습니다.</p>
+     *
+     * @param providerId 요청자의 ID (비로그인 사용자는 "NON_LOGIN"으로 전달됨)
+     * @param episodeId 조회할 에피소드의 ID
+     * @return {@link EpisodeContentDto} 압축된 본문을 담은 에피소드 정보
+     * @throws NoSuchElementException 에피소드가 존재하지 않는 경우
+     * @throws AuthenticationCredentialsNotFoundException 사용자가 인증되지 않은 경우
+     * @throws EpisodeNotPurchasedException 유료 에피소드의 결제 내역이 없는 경우
+     */
+    EpisodeContentDto getEpisodeContent(String providerId, Long episodeId);
+
 
 
     /**
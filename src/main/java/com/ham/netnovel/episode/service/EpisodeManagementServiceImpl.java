@@ -6,13 +6,13 @@ import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.common.utils.TypeValidationUtil;
 import com.ham.netnovel.episode.Episode;
 import com.ham.netnovel.episode.repository.EpisodeRepository;
-import com.ham.netnovel.episode.data.EpisodeStatus;
 import com.ham.netnovel.episode.data.IndexDirection;
+import com.ham.netnovel.episode.dto.EpisodeContentDto;
 import com.ham.netnovel.episode.dto.EpisodeDetailDto;
 import com.ham.netnovel.episode.dto.EpisodePaymentDto;
 import com.ham.netnovel.episodeViewCount.ViewCountIncreaseDto;
 import com.ham.netnovel.episodeViewCount.service.EpisodeViewCountService;
-import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.recentRead.service.RecentReadService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -35,12 +35,21 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
 
     private final RecentReadService recentReadService;
 
-    public EpisodeManagementServiceImpl(EpisodeService episodeService, CoinUseHistoryService coinUseHistoryService, EpisodeViewCountService episodeViewCountService, EpisodeRepository episodeRepository, RecentReadService recentReadService) {
+    private final EpisodeContentCache episodeContentCache;
+
+    private final EpisodeChapterIndexCache episodeChapterIndexCache;
+
+    private final NovelInfoReadModel novelInfoReadModel;
+
+    public EpisodeManagementServiceImpl(EpisodeService episodeService, CoinUseHistoryService coinUseHistoryService, EpisodeViewCountService episodeViewCountService, EpisodeRepository episodeRepository, RecentReadService recentReadService, EpisodeContentCache episodeContentCache, EpisodeChapterIndexCache episodeChapterIndexCache, NovelInfoReadModel novelInfoReadModel) {
         this.episodeService = episodeService;
         this.coinUseHistoryService = coinUseHistoryService;
         this.episodeViewCountService = episodeViewCountService;
         this.episodeRepository = episodeRepository;
         this.recentReadService = recentReadService;
+        this.episodeContentCache = episodeContentCache;
+        this.episodeChapterIndexCache = episodeChapterIndexCache;
+        this.novelInfoReadModel = novelInfoReadModel;
     }
 
 
@@ -48,13 +57,31 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
     @Transactional
     public EpisodeDetailDto getEpisodeDetail(String providerId, Long episodeId) {
 
+        //결제 여부 확인, 최근 조회 기록/조회수 갱신 후 에피소드 본문 반환
+        EpisodeContentDto episode = readEpisode(providerId, episodeId);
+
+        //에피소드 정보 DTO로 변환하여 반환
+        return EpisodeDetailDto.builder()
+                .episodeId(episodeId)
+                .content(episode.getContent())
+                .title(episode.getTitle())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public EpisodeContentDto getEpisodeContent(String providerId, Long episodeId) {
+        return readEpisode(providerId, episodeId);
+    }
 
-        //episode 엔티티 유무 확인, 없을경우 예외로 던짐
-        Episode episode = episodeService.getEpisode(episodeId)
+    private EpisodeContentDto readEpisode(String providerId, Long episodeId) {
+
+        //에피소드 본문 캐시(서버 메모리 => Redis => DB 순서)에서 조회, 없을경우 예외로 던짐
+        EpisodeContentDto episode = episodeContentCache.get(episodeId)
                 .orElseThrow(() -> new NoSuchElementException("Episode 정보 없음"));
 
         //에피소드의 coinCost 객체에 저장
-        Integer coinCost = episode.getCostPolicy().getCoinCost();
+        Integer coinCost = episode.getCoinCost();
         //coinCost 검증, null 이거나 음수면 예외로 던짐
         TypeValidationUtil.validateCoinAmount(coinCost);
 
@@ -64,7 +91,7 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
             //유저 정보가 있으면, 최근 조회 목록 업데이트, 없을경우 에피소드 정보 반환
             if (!providerId.equals("NON_LOGIN")) {
                 //유저의 최근 조회 기록 업데이트
-                recentReadService.updateRecentRead(providerId, episodeId);
+                recentReadService.recordRecentRead(providerId, episode.getNovelId(), episodeId);
             }
 
             //유료 에피소드일 경우 처리 로직
@@ -77,30 +104,25 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
             //유저의 결제 기록 확인, 결제 기록이 없으면 예외로 던지고 결제 유도 메시지 전송
             validCoinPurchase(providerId,episode, coinCost);
             //유저의 최근 조회 기록 업데이트
-            recentReadService.updateRecentRead(providerId, episodeId);
+            recentReadService.recordRecentRead(providerId, episode.getNovelId(), episodeId);
         }
 
         //레디스에 저장된 에피소드 조회수 1 증가
         episodeViewCountService.incrementEpisodeViewCountInRedis(episodeId);
-        //에피소드 정보 DTO로 변환하여 반환
-        return EpisodeDetailDto.builder()
-                .episodeId(episodeId)
-                .content(episode.getContent())
-                .title(episode.getTitle())
-                .build();
+        return episode;
     }
 
     private void validCoinPurchase(String providerId,
-                                   Episode episode,
+                                   EpisodeContentDto episode,
                                    Integer coinCost) {
         //유저의 에피소드 결제 내역을 확인, 있을경우 true 없을경우 false 반환
-        boolean result = coinUseHistoryService.hasMemberUsedCoinsForEpisode(providerId, episode.getId());
+        boolean result = coinUseHistoryService.hasMemberUsedCoinsForEpisode(providerId, episode.getEpisodeId());
         //결제 내역이 없을경우 EpisodeNotPurchasedException 로 던짐
         if (!result) {
             //EpisodeNotPurchasedException 에 coinCost 정보도 함께 전달
             throw new EpisodeNotPurchasedException(
-                    "에피소드 결제 내역 없음, providerId = " + providerId + ", episodeId = " + episode.getId(),
-                    EpisodePaymentDto.builder().episodeId(episode.getId())
+                    "에피소드 결제 내역 없음, providerId = " + providerId + ", episodeId = " + episode.getEpisodeId(),
+                    EpisodePaymentDto.builder().episodeId(episode.getEpisodeId())
                             .title(episode.getTitle())
                             .coinCost(coinCost)
                             .build());
@@ -110,27 +132,16 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
     @Override
     @Transactional(readOnly = true)
     public EpisodeDetailDto getBesideEpisode(String providerId, Long episodeId, IndexDirection direction) {
-        //episode 엔티티 유무 확인, 없을경우 예외로 던짐
-        Episode episode = episodeService.getEpisode(episodeId)
+        //에피소드 본문 캐시에서 소설 id 확인, 없을경우 예외로 던짐
+        EpisodeContentDto episode = episodeContentCache.get(episodeId)
                 .orElseThrow(() -> new NoSuchElementException("Episode 정보 없음"));
 
-        //조건에 따라서 대상 에피소드의 다음 챕터 또는 이전 챕터를 가져온다.
-        Integer besideChapter = episode.getChapter() + (direction == IndexDirection.NEXT ? 1 : -1);
-
-        log.info("id={}, next={}", episode.getChapter(), besideChapter);
-        Novel novel = episode.getNovel();
-
-        do {
-            Episode besideEpisode = episodeRepository.findByNovelAndChapter(novel.getId(), besideChapter)
-                    .orElseThrow(() -> new IndexOutOfBoundsException("이미 맨 앞, 맨 뒤의 챕터입니다."));
-
-            //DB에서 찾아온 에피소드가 ACTIVE 상태일경우 에피소드 반환.
-            if (besideEpisode.getStatus().equals(EpisodeStatus.ACTIVE)) {
-                return getEpisodeDetail(providerId, besideEpisode.getId());
-            }
-            besideChapter++;
-        } while (true);
-
+        //소설의 챕터 인덱스에서 이전/다음 챕터 중 가장 가까운 ACTIVE 에피소드를 찾음
+        Long besideEpisodeId = episodeChapterIndexCache.get(episode.getNovelId()).findBeside(episodeId, direction);
+        if (besideEpisodeId == null) {
+            throw new IndexOutOfBoundsException("이미 맨 앞, 맨 뒤의 챕터입니다.");
+        }
+        return getEpisodeDetail(providerId, besideEpisodeId);
     }
 
     @Override
@@ -179,6 +190,8 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
     public boolean updateEpisodeEntityViewColumn(Map<Long, Episode> episodes, List<ViewCountIncreaseDto> viewCountIncreaseDtos) {
         try {
             List<Episode> updatedEpisodes = new ArrayList<>();
+            //소설별 증가한 조회수, 소설 상세 정보 읽기 모델에 반영
+            Map<Long, Long> novelViews = new HashMap<>();
             for (ViewCountIncreaseDto dto : viewCountIncreaseDtos) {
                 Episode episode = episodes.get(dto.getEpisodeId());
                 if (episode == null) {
@@ -187,9 +200,14 @@ public class EpisodeManagementServiceImpl implements EpisodeManagementService {
                 }
                 episode.updateTotalView(dto.getViewCount());
                 updatedEpisodes.add(episode);
+                if (dto.getViewCount() != null) {
+                    novelViews.merge(episode.getNovel().getId(), dto.getViewCount().longValue(), Long::sum);
+                }
             }
             //수정된 Episode 엔티티 저장
             episodeRepository.saveAll(updatedEpisodes);
+            //커밋 이후 소설 상세 정보의 조회수 증가
+            novelViews.forEach(novelInfoReadModel::addViews);
             return true;
         } catch (Exception ex) {
             throw new ServiceMethodException("increaseEpisodeEntityViewFiled 에러발생, ", ex);
@@ -5,6 +5,7 @@ import com.ham.netnovel.episode.Episode;
 import com.ham.netnovel.episode.dto.*;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -45,6 +46,33 @@ public interface EpisodeService {
      */
     void createEpisode(EpisodeCreateDto episodeCreateDto);
 
+    /**
+     * 등록 요청자가 소설의 작가인지 확인합니다. 에피소드 일괄 등록 요청 본문을 읽기 전에 호출합니다.
+     *
+     * @param novelId    소설의 ID
+     * @param providerId 등록 요청자의 ID
+     * @throws IllegalArgumentException 유효하지 않은 소설 정보이거나 요청자 정보가 올바르지 않은 경우
+     */
+    void validateNovelAuthor(Long novelId, String providerId);
+
+    /**
+     * 여러 에피소드를 한번에 등록합니다. 다른 플랫폼에서 연재하던 소설을 옮길때 사용합니다.
+     *
+     * <p>요청자와 소설 작가를 확인한 후, {@code episodes} 에서 일정 개수씩 읽어 묶음마다 한 트랜잭션으로 저장합니다.
+     * 묶음마다 가격 정책을 확인하고 에피소드 번호를 발급하므로, 소설 행 잠금과 DB 연결은 묶음을 저장하는 동안만 사용하고
+     * 메모리에는 묶음 하나만 보관합니다. 묶음 안의 에피소드는 등록 순서대로 연속된 번호가 부여됩니다.</p>
+     * <p>소설 업데이트 메시지 발송과 최근 게시 날짜 갱신은 마지막 묶음을 저장한 후 한번만 실행합니다.
+     * 중간에 예외가 발생하면 실패한 묶음과 이후의 에피소드는 등록되지 않고, 이미 저장된 묶음은 유지됩니다.</p>
+     *
+     * @param novelId    소설의 ID
+     * @param providerId 등록 요청자의 ID
+     * @param episodes   등록할 에피소드, 읽는 중에 검증되며 등록 순서대로 번호 부여
+     * @return 등록된 에피소드 수
+     * @throws IllegalArgumentException 유효하지 않은 소설 정보이거나 요청자 정보가 올바르지 않은 경우, 등록할 에피소드가 없는 경우
+     * @throws NoSuchElementException 에피소드의 {@code CostPolicyId}에 대한 {@code CoinCostPolicy} 정보가 없는 경우
+     */
+    int publishEpisodes(Long novelId, String providerId, Iterator<EpisodeCreateDto> episodes);
+
     /**
      * DB에 저장된 Episode 프로퍼티를 수정하는 메서드
      */
@@ -67,6 +95,20 @@ public interface EpisodeService {
     void deleteEpisode(EpisodeDeleteDto episodeDeleteDto);
 
 
+    /**
+     * 에피소드를 다른 번호로 이동하는 메서드 입니다.
+     *
+     * <p>요청자와 소설 작가가 일치하는지 확인한 후, 에피소드를 {@code chapter} 번호로 옮기고
+     * 사이에 있는 에피소드의 번호를 한칸씩 밀어냅니다. 에피소드를 하나씩 읽지 않고 UPDATE 쿼리 1번으로 재정렬합니다.</p>
+     *
+     * @param episodeMoveDto 이동할 에피소드 ID, 번호, 요청자 정보를 담고 있는 {@link EpisodeMoveDto} 객체
+     * @throws NoSuchElementException 에피소드 정보가 존재하지 않거나 요청자와 작가 정보가 일치하지 않는 경우
+     * @throws IllegalArgumentException 이동할 번호가 소설의 가장 큰 에피소드 번호보다 큰 경우
+     * @throws ServiceMethodException 데이터베이스 작업 중 예외가 발생한 경우
+     */
+    void moveEpisode(EpisodeMoveDto episodeMoveDto);
+
+
     /**
      * 해당 Novel에 속한 모든 Episodes List의 메타 데이터를 가져오는 메서드
      * @param novelId 소설 id
@@ -77,8 +119,8 @@ public interface EpisodeService {
     /**
      * 소설 ID와 필터 조건에 따라 에피소드 목록을 조회하는 메서드 입니다.
      *
-     * <p> 이 메서드는 에피소드 검색 리포지토리에서 주어진 필터를 적용하여 결과를 가져온 뒤,
-     * 각 에피소드 엔티티를 {@link EpisodeListItemDto}로 변환하여 반환합니다.</p>
+     * <p> 이 메서드는 에피소드 검색 리포지토리에서 주어진 필터를 적용하여 {@link EpisodeListItemDto}로 바로 조회합니다.
+     * 글자 수, 댓글 수는 에피소드에 저장된 값을 사용하므로 본문과 댓글은 읽지 않습니다.</p>
      *
      * @param sortBy 정렬 기준
      * @param novelId 소설의 고유 ID
@@ -100,4 +142,41 @@ public interface EpisodeService {
      */
     boolean isEpisodeFree(Long episodeId);
 
+
+    /**
+     * 압축되지 않은(이전 형식) 에피소드 본문을 압축 컬럼으로 옮기는 메서드 입니다.
+     *
+     * <p>{@code lastId} 보다 큰 id 를 가진 에피소드 중 압축되지 않은 에피소드를 id 순서로 최대 {@code batchSize} 개 처리합니다.
+     * 본문 내용은 바뀌지 않으므로 수정일자와 에피소드 본문 캐시는 변경하지 않습니다.</p>
+     *
+     * @param lastId    이전 배치에서 마지막으로 처리한 에피소드 id, 처음 호출시 0
+     * @param batchSize 한번에 처리할 에피소드 수
+     * @return 이번 배치에서 마지막으로 처리한 에피소드 id, 처리할 에피소드가 없으면 null
+     * @throws ServiceMethodException 메서드 실행 중 예외가 발생한 경우
+     */
+    Long compressEpisodeContents(Long lastId, int batchSize);
+
+
+    /**
+     * 에피소드의 댓글 수를 변경하는 메서드 입니다. 댓글 작성/삭제 트랜잭션 안에서 호출합니다.
+     *
+     * @param episodeId 에피소드의 ID
+     * @param delta     더할 값, 댓글 작성시 1, 삭제시 -1
+     */
+    void addCommentCount(Long episodeId, int delta);
+
+
+    /**
+     * 글자 수, 댓글 수가 집계되지 않은(이전에 작성된) 에피소드의 값을 채우는 메서드 입니다.
+     *
+     * <p>{@code lastId} 보다 큰 id 를 가진 에피소드 중 집계되지 않은 에피소드를 id 순서로 최대 {@code batchSize} 개 처리합니다.
+     * 댓글 수는 에피소드별 UPDATE 문 안에서 집계하여 집계 도중 작성된 댓글도 반영하며, 수정일자는 변경하지 않습니다.</p>
+     *
+     * @param lastId    이전 배치에서 마지막으로 처리한 에피소드 id, 처음 호출시 0
+     * @param batchSize 한번에 처리할 에피소드 수
+     * @return 이번 배치에서 마지막으로 처리한 에피소드 id, 처리할 에피소드가 없으면 null
+     * @throws ServiceMethodException 메서드 실행 중 예외가 발생한 경우
+     */
+    Long fillEpisodeListCounts(Long lastId, int batchSize);
+
 }
@@ -11,24 +11,24 @@ import com.ham.netnovel.episode.repository.EpisodeRepository;
 import com.ham.netnovel.episode.data.EpisodeStatus;
 import com.ham.netnovel.episode.dto.*;
 import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.novel.service.NovelService;
 import com.ham.netnovel.novelMetaData.service.NovelMetaDataService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
 
-//ToDo 에피소드 생성, 삭제, 이동 시 episodeNumber 자동 넘버링 및 재정렬 로직 구현
 @Service
 @Slf4j
 public class EpisodeServiceImpl implements EpisodeService {
 
+    //일괄 등록시 한번에 저장하는 에피소드 수
+    private static final int PUBLISH_BATCH_SIZE = 100;
 
     private final EpisodeRepository episodeRepository;
     private final NovelService novelService;
@@ -38,12 +38,24 @@ public class EpisodeServiceImpl implements EpisodeService {
 
     private final NovelMetaDataService novelMetaDataService;
 
-    public EpisodeServiceImpl(EpisodeRepository episodeRepository, NovelService novelService, CoinCostPolicyService costPolicyService, RedisMessagePublisher redisMessagePublisher, NovelMetaDataService novelMetaDataService) {
+    private final EpisodeContentCache episodeContentCache;
+
+    private final EpisodeChapterIndexCache episodeChapterIndexCache;
+
+    private final NovelInfoReadModel novelInfoReadModel;
+
+    private final EpisodeBatchPublisher episodeBatchPublisher;
+
+    public EpisodeServiceImpl(EpisodeRepository episodeRepository, NovelService novelService, CoinCostPolicyService costPolicyService, RedisMessagePublisher redisMessagePublisher, NovelMetaDataService novelMetaDataService, EpisodeContentCache episodeContentCache, EpisodeChapterIndexCache episodeChapterIndexCache, NovelInfoReadModel novelInfoReadModel, EpisodeBatchPublisher episodeBatchPublisher) {
         this.episodeRepository = episodeRepository;
         this.novelService = novelService;
         this.costPolicyService = costPolicyService;
         this.redisMessagePublisher = redisMessagePublisher;
         this.novelMetaDataService = novelMetaDataService;
+        this.episodeContentCache = episodeContentCache;
+        this.episodeChapterIndexCache = episodeChapterIndexCache;
+        this.novelInfoReadModel = novelInfoReadModel;
+        this.episodeBatchPublisher = episodeBatchPublisher;
     }
 
     @Override
@@ -74,16 +86,21 @@ public class EpisodeServiceImpl implements EpisodeService {
                 .orElseThrow(() -> new NoSuchElementException("createEpisode 에러, CoinCostPolicy 정보가 없습니다. coinPolicyId= " + episodeCreateDto.getNovelId()));
 
         try {
+            //소설 행의 번호를 DB 에서 증가시켜 발급, 동시에 생성되어도 번호가 겹치지 않음
+            int chapter = novelService.issueNextChapter(novelProperty.getId());
             //새로운 에피소드 엔티티 생성
             Episode targetRecord = Episode.builder()
                     .title(episodeCreateDto.getTitle())
                     .content(episodeCreateDto.getContent())
                     .costPolicy(costPolicyProperty)
                     .novel(novelProperty)
-                    .chapter(novelProperty.getEpisodes().size() + 1) //자동으로 넘버링 증가
+                    .chapter(chapter)
                     .build();
             //DB에 엔티티 저장
             Episode save = episodeRepository.save(targetRecord);
+            //커밋 이후 소설의 챕터 인덱스 무효화, 소설 상세 정보의 에피소드 수 증가
+            episodeChapterIndexCache.evict(novelProperty.getId());
+            novelInfoReadModel.addEpisodeCount(novelProperty.getId(), 1);
 
 //            Redis로 Novel이 업데이트 되었다는 메시지를 송부
             publishUpdateMessage(
@@ -103,6 +120,70 @@ public class EpisodeServiceImpl implements EpisodeService {
         }
     }
 
+    @Override
+    public void validateNovelAuthor(Long novelId, String providerId) {
+        episodeBatchPublisher.getAuthorNovel(novelId, providerId);
+    }
+
+    @Override
+    public int publishEpisodes(Long novelId, String providerId, Iterator<EpisodeCreateDto> episodes) {
+        //묶음마다 트랜잭션을 시작하므로 이 메서드는 트랜잭션 없이 실행, 작가 확인은 별도 트랜잭션에서 실행
+        Novel novelProperty = episodeBatchPublisher.getAuthorNovel(novelId, providerId);
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        int published = 0;
+        Long lastEpisodeId = null;
+        String lastEpisodeTitle = null;
+        //요청 본문에서 PUBLISH_BATCH_SIZE 개씩 읽어 묶음마다 저장, 본문 전체를 메모리에 보관하지 않음
+        List<EpisodeCreateDto> batch = new ArrayList<>(PUBLISH_BATCH_SIZE);
+        try {
+            while (episodes.hasNext()) {
+                batch.add(episodes.next());
+                if (batch.size() < PUBLISH_BATCH_SIZE && episodes.hasNext()) {
+                    continue;
+                }
+                List<Long> ids = episodeBatchPublisher.publish(novelId, batch, publishedAt);
+                published += ids.size();
+                lastEpisodeId = ids.get(ids.size() - 1);
+                lastEpisodeTitle = batch.get(batch.size() - 1).getTitle();
+                batch.clear();
+            }
+        } catch (RuntimeException ex) {
+            //이미 저장된 묶음은 유지되므로 알림과 최근 게시 날짜는 저장된 에피소드까지 반영
+            log.error("publishEpisodes 메서드 에러 발생, 에피소드 일괄 등록 중단, novelId={}, 등록 수={}", novelId, published, ex);
+            if (published > 0) {
+                try {
+                    completePublish(novelProperty, lastEpisodeId, lastEpisodeTitle, publishedAt);
+                } catch (Exception completeEx) {
+                    log.error("publishEpisodes 메서드 에러 발생, 등록 완료 처리 실패, novelId={}", novelId, completeEx);
+                }
+            }
+            throw ex;
+        }
+        if (published == 0) {
+            throw new IllegalArgumentException("publishEpisodes 에러, 등록할 에피소드가 없습니다. novelId= " + novelId);
+        }
+
+        try {
+            completePublish(novelProperty, lastEpisodeId, lastEpisodeTitle, publishedAt);
+        } catch (Exception ex) {
+            throw new ServiceMethodException("publishEpisodes 메서드 에러 발생", ex);
+        }
+        log.info("에피소드 일괄 등록 완료, novelId={}, 등록 수={}", novelId, published);
+        return published;
+    }
+
+    //에피소드 수와 관계없이 마지막 에피소드로 업데이트 메시지를 한번만 발송하고, 최근 게시 날짜 업데이트
+    private void completePublish(Novel novelProperty, Long lastEpisodeId, String lastEpisodeTitle, LocalDateTime publishedAt) {
+        publishUpdateMessage(
+                novelProperty.getId(),
+                lastEpisodeId,
+                novelProperty.getTitle(),
+                lastEpisodeTitle,
+                novelProperty.getThumbnailFileName());
+        novelMetaDataService.updateNovelLatestEpisodeAt(novelProperty.getId(), publishedAt);
+    }
+
     /*
    Redis를 사용하여 소설 업데이트 메시지를 발송하는 메서드입니다.
 
@@ -152,6 +233,9 @@ public class EpisodeServiceImpl implements EpisodeService {
             episode.updateEpisode(updateTitle, updateContent, updateCostPolicy);
             //DB에 에피소드 엔티티 정보 갱신
             episodeRepository.save(episode);
+            //커밋 이후 에피소드 본문 캐시, 소설의 챕터 인덱스 무효화
+            episodeContentCache.evict(episode);
+            episodeChapterIndexCache.evict(episode.getNovel().getId());
         } catch (Exception ex) {
             //나머지 Repository 작업 예외 처리
             throw new ServiceMethodException("updateEpisode 메서드 에러 발생" + ex + ex.getCause());
@@ -169,12 +253,44 @@ public class EpisodeServiceImpl implements EpisodeService {
             episode.changeStatus(EpisodeStatus.DELETED_BY_USER);
             //엔티티 저장
             episodeRepository.save(episode);
+            //커밋 이후 에피소드 본문 캐시, 소설의 챕터 인덱스 무효화
+            episodeContentCache.evict(episode);
+            episodeChapterIndexCache.evict(episode.getNovel().getId());
         } catch (Exception ex) {
             //나머지 Repository 작업 예외 처리
             throw new ServiceMethodException("deleteEpisode 메서드 에러 발생" + ex + ex.getMessage());
         }
     }
 
+    @Override
+    @Transactional
+    public void moveEpisode(EpisodeMoveDto episodeMoveDto) {
+        //DB에서 에피소드 엔티티 조회, 작가정보와 요청자 정보가 일치하지 않거나 Null 이면 예외로 던짐
+        Episode episode = validateEpisodeAuthor(episodeMoveDto.getEpisodeId(), episodeMoveDto.getProviderId());
+        Long novelId = episode.getNovel().getId();
+
+        int from = episode.getChapter();
+        int to = episodeMoveDto.getChapter();
+        Integer maxChapter = episodeRepository.findMaxChapter(novelId);
+        if (to > maxChapter) {
+            throw new IllegalArgumentException("moveEpisode 에러, 에피소드 번호가 범위를 벗어났습니다. chapter=" + to + ", maxChapter=" + maxChapter);
+        }
+        if (from == to) {
+            return;
+        }
+
+        try {
+            //뒤로 이동하면 사이의 에피소드를 앞으로, 앞으로 이동하면 뒤로 한칸씩 이동
+            int shift = from < to ? -1 : 1;
+            episodeRepository.moveChapter(novelId, episode.getId(), to, shift, Math.min(from, to), Math.max(from, to));
+            //커밋 이후 소설의 챕터 인덱스 무효화
+            episodeChapterIndexCache.evict(novelId);
+        } catch (Exception ex) {
+            //나머지 Repository 작업 예외 처리
+            throw new ServiceMethodException("moveEpisode 메서드 에러 발생", ex);
+        }
+    }
+
     /**
      * 에피소드의 요청자와 소설 작가가 일치하는지 검증합니다.
      *
@@ -199,11 +315,11 @@ public class EpisodeServiceImpl implements EpisodeService {
     @Override
     @Transactional(readOnly = true)
     public EpisodeListInfoDto getNovelEpisodesInfo(Long novelId) {
-        List<Episode> episodeList = episodeRepository.findByNovel(novelId);
-        LocalDateTime lastUpdatedAt = episodeList.isEmpty() ? null : episodeList.get(0).getCreatedAt();
+        //소설의 챕터 인덱스에서 ACTIVE 에피소드 수, 최근 게시일자 조회
+        EpisodeChapterIndex chapterIndex = episodeChapterIndexCache.get(novelId);
         return EpisodeListInfoDto.builder()
-                .chapterCount(episodeList.size())
-                .lastUpdatedAt(lastUpdatedAt)
+                .chapterCount(chapterIndex.activeCount())
+                .lastUpdatedAt(chapterIndex.lastActiveCreatedAt())
                 .build();
     }
 
@@ -211,10 +327,8 @@ public class EpisodeServiceImpl implements EpisodeService {
     @Transactional(readOnly = true)
     public List<EpisodeListItemDto> getEpisodesByConditions(String sortBy, Long novelId, Pageable pageable) {
         try {
-            return episodeRepository.findEpisodesByConditions(sortBy, novelId, pageable)
-                    .stream()
-                    .map(this::convertEntityToListDto) //Episode => EpisodeListItemDto 변환
-                    .collect(Collectors.toList());
+            //본문, 댓글을 읽지 않고 목록에 필요한 컬럼만 DTO 로 조회
+            return episodeRepository.findEpisodesByConditions(sortBy, novelId, pageable);
         } catch (Exception ex) {
             //나머지 Repository 작업 예외 처리
             throw new ServiceMethodException("getNovelByFilter 메서드 에러 발생" + ex + ex.getMessage());
@@ -240,23 +354,52 @@ public class EpisodeServiceImpl implements EpisodeService {
 
     }
 
+    @Override
+    @Transactional
+    public void addCommentCount(Long episodeId, int delta) {
+        episodeRepository.addCommentCount(episodeId, delta);
+    }
 
-    /**
-     * Episode Entity => EpisodeListItemDto 변환 메서드
-     *
-     * @param episode 에피소드 엔티티
-     * @return EpisodeListItemDto
-     */
-    private EpisodeListItemDto convertEntityToListDto(Episode episode) {
-        return EpisodeListItemDto.builder()
-                .episodeId(episode.getId())
-                .chapter(episode.getChapter())
-                .title(episode.getTitle())
-                .views(episode.getView())
-                .letterCount(episode.getContent().length())
-                .commentCount(episode.getComments().size())
-                .uploadDate(episode.getCreatedAt())
-                .coinCost(episode.getCostPolicy().getCoinCost())
-                .build();
+    @Override
+    @Transactional
+    public Long fillEpisodeListCounts(Long lastId, int batchSize) {
+        try {
+            List<Object[]> rows = episodeRepository.findEpisodesWithoutListCounts(lastId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return null;
+            }
+            for (Object[] row : rows) {
+                //압축된 본문이 없으면 이전 형식의 본문 사용
+                String content = row[2] != null ? (String) row[2] : (String) row[1];
+                //댓글 수는 UPDATE 문 안에서 집계
+                episodeRepository.updateListCounts((Long) row[0], content == null ? 0 : content.length());
+            }
+            Long lastProcessedId = (Long) rows.get(rows.size() - 1)[0];
+            log.info("에피소드 글자 수, 댓글 수 집계 배치 완료, 처리 수={}, lastId={}", rows.size(), lastProcessedId);
+            return lastProcessedId;
+        } catch (Exception ex) {
+            throw new ServiceMethodException("fillEpisodeListCounts 메서드 에러 발생", ex);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Long compressEpisodeContents(Long lastId, int batchSize) {
+        try {
+            List<Object[]> rows = episodeRepository.findUncompressedContents(lastId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return null;
+            }
+            int compressed = 0;
+            for (Object[] row : rows) {
+                //본문은 EpisodeContentConverter 에서 압축되어 저장됨
+                compressed += episodeRepository.moveContentToCompressedColumn((Long) row[0], (String) row[1]);
+            }
+            Long lastProcessedId = (Long) rows.get(rows.size() - 1)[0];
+            log.info("에피소드 본문 압축 배치 완료, 압축 수={}, lastId={}", compressed, lastProcessedId);
+            return lastProcessedId;
+        } catch (Exception ex) {
+            throw new ServiceMethodException("compressEpisodeContents 메서드 에러 발생", ex);
+        }
     }
 }
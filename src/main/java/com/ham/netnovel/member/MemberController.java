@@ -30,6 +30,9 @@ import java.util.stream.Collectors;
 @RequestMapping("/api")
 public class MemberController {
 
+    //무한 스크롤 한번에 조회할 수 있는 최대 댓글,대댓글 수
+    private static final int MAX_SCROLL_SIZE = 50;
+
     private final Authenticator authenticator;
 
     private final MemberService memberService;
@@ -99,6 +102,7 @@ public class MemberController {
 
         //새로운 CustomOAuth2User 객체를 만들기 위한 DTO 객체 생성
         MemberOAuthDto memberOAuthDto = MemberOAuthDto.builder()
+                .memberId(principal.getMemberId())
                 .providerId(principal.getName())
                 .role(principal.getRole())
                 .gender(principal.getGender())
@@ -149,6 +153,31 @@ public class MemberController {
     }
 
 
+    /**
+     * 유저가 작성한 댓글, 대댓글을 최신순으로 무한 스크롤하는 API
+     * 첫 요청은 cursor 없이 보내고, 이후에는 응답의 nextCursor 를 보냄. nextCursor 가 null 이면 마지막 페이지
+     *
+     * @param authentication 유저의 인증 정보
+     * @param cursor         이전 응답의 nextCursor
+     * @param pageSize       조회할 댓글,대댓글 수, 1~{@value #MAX_SCROLL_SIZE}
+     * @return ResponseEntity 댓글,대댓글 목록과 다음 커서를 담은 {@link MemberCommentFeedDto}
+     */
+    @GetMapping("/members/me/comments/scroll")
+    public ResponseEntity<MemberCommentFeedDto> scrollMemberComments(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize) {
+
+        //유저 인증 정보가 없으면 badRequest 응답, 정보가 있으면  CustomOAuth2User로 타입캐스팅
+        CustomOAuth2User principal = authenticator.checkAuthenticate(authentication);
+
+        validateScrollSize(pageSize);
+
+        //커서가 잘못되었으면 예외로 던짐
+        return ResponseEntity.ok(memberMyPageService.getMemberCommentFeed(principal.getName(), cursor, pageSize));
+    }
+
+
     /**
      * 인증된 사용자의 선호 소설 목록을 조회하여 반환하는 API입니다.
      *
@@ -269,4 +298,12 @@ public class MemberController {
         return ResponseEntity.ok(memberRecentReadInfo);
     }
 
+
+    //조회할 댓글,대댓글 수가 범위를 벗어나면 badRequest 응답
+    private static void validateScrollSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("scrollMemberComments 에러: pageSize 는 1~" + MAX_SCROLL_SIZE + " 이어야 합니다. pageSize=" + pageSize);
+        }
+    }
+
 }
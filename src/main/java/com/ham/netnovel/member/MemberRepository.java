@@ -4,6 +4,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member,Long> {
@@ -19,5 +21,23 @@ public interface MemberRepository extends JpaRepository<Member,Long> {
             "where m.providerId =:providerId")
     Optional<Member> findByProviderId(@Param("providerId")String providerId);
 
+    /**
+     * OAuth 제공자의 유저 Id값으로 유저 식별 정보만 조회하는 메서드
+     * @param providerId 유저의 providerId값
+     * @return [id, nickName, role] 배열 List, 유저가 없으면 빈 List
+     */
+    @Query("select m.id, m.nickName, m.role from Member m " +
+            "where m.providerId =:providerId")
+    List<Object[]> findIdentityByProviderId(@Param("providerId") String providerId);
+
+    /**
+     * 여러 유저의 providerId 로 유저 id 를 한번에 조회하는 메서드
+     * @param providerIds 유저의 providerId 목록
+     * @return [providerId, id] 배열 List
+     */
+    @Query("select m.providerId, m.id from Member m " +
+            "where m.providerId in :providerIds")
+    List<Object[]> findIdsByProviderIds(@Param("providerIds") Collection<String> providerIds);
+
 
 }
@@ -0,0 +1,22 @@
+package com.ham.netnovel.member.dto;
+
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MemberCommentFeedDto {
+    //유저가 작성한 댓글,대댓글을 무한 스크롤로 반환할때 사용하는 DTO
+
+    //댓글, 대댓글 목록, 최신순
+    private List<MemberCommentDto> comments;
+
+    //다음 페이지 요청시 보낼 커서, 마지막 페이지면 null
+    private String nextCursor;
+
+}
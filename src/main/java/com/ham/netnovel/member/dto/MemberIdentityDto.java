@@ -0,0 +1,29 @@
+package com.ham.netnovel.member.dto;
+
+import com.ham.netnovel.member.data.MemberRole;
+import lombok.*;
+
+/**
+ * providerId 로 찾은 유저의 식별 정보 DTO 입니다.
+ *
+ * <p>요청마다 Member 엔티티를 조회하지 않도록 캐시에 보관하며, 닉네임이나 역할이 변경되면 캐시에서 삭제합니다.</p>
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberIdentityDto {
+
+    //유저 PK
+    private Long memberId;
+
+    //인증 제공자에서 지정한 유저 ID값
+    private String providerId;
+
+    //닉네임
+    private String nickName;
+
+    //역할
+    private MemberRole role;
+}
@@ -13,6 +13,9 @@ import lombok.*;
 @AllArgsConstructor
 public class MemberLoginDto {
 
+    //유저 PK
+    private Long memberId;
+
     //유저 정보 제공자에서 관리하는 유저 Id값
     private String providerId;
     //유저 역할, ADMIN, AUTHOR, READER 3종류
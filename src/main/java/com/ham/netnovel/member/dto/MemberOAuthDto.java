@@ -16,6 +16,12 @@ import java.io.Serializable;
 @AllArgsConstructor
 public class MemberOAuthDto implements Serializable {
 
+    //세션에 저장된 이전 형식(memberId 없음)도 복원되도록 기존 값으로 고정
+    private static final long serialVersionUID = 4014677031574654407L;
+
+    //유저 PK, 이전 형식의 세션이면 null
+    private Long memberId;
+
     //인증 제공자에서 지정한 유저 ID값
     private String providerId;
 
@@ -4,6 +4,7 @@ package com.ham.netnovel.member.service;
 import com.ham.netnovel.member.dto.MemberCoinChargeDto;
 import com.ham.netnovel.member.dto.MemberCoinUseHistoryDto;
 import com.ham.netnovel.member.dto.MemberCommentDto;
+import com.ham.netnovel.member.dto.MemberCommentFeedDto;
 import com.ham.netnovel.member.dto.MemberRecentReadDto;
 import com.ham.netnovel.novel.dto.NovelFavoriteDto;
 import org.springframework.data.domain.Pageable;
@@ -16,8 +17,9 @@ public interface MemberMyPageService {
     /**
      * 유저의 댓글과 대댓글 목록을 조회합니다.
      *
-     * <p>이 메서드는 주어진 사용자 ID에 대한 댓글과 대댓글을 가져와
-     * 두 목록을 합친 후, 생성 시간을 기준으로 최신순으로 정렬하여 반환합니다.</p>
+     * <p>이 메서드는 주어진 사용자 ID에 대한 댓글과 대댓글을 최신순으로 각각 (offset + 페이지 크기) 개 가져와
+     * 생성 시간을 기준으로 병합한 뒤, 요청한 페이지만 반환합니다.
+     * 깊은 페이지는 offset 만큼 더 읽으므로, 무한 스크롤은 {@link #getMemberCommentFeed} 를 사용합니다.</p>
      *
      * @param providerId 유저 정보
      * @param pageable 페이지 정보와 정렬 정보를 담고 있는 {@link Pageable} 객체
@@ -26,6 +28,21 @@ public interface MemberMyPageService {
     List<MemberCommentDto> getMemberCommentAndReCommentList(String providerId,Pageable pageable);
 
 
+    /**
+     * 유저의 댓글과 대댓글을 합친 목록을 커서 이후부터 최신순으로 조회합니다.
+     *
+     * <p>댓글, 대댓글을 각각 커서 이후부터 최대 (size + 1) 개만 조회하여 병합(k-way merge)하므로,
+     * 작성한 댓글 수와 관계없이 페이지 크기만큼의 비용으로 조회합니다.</p>
+     *
+     * @param providerId 유저 정보
+     * @param cursor     이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size       조회할 항목 수
+     * @return 댓글, 대댓글 목록과 다음 커서를 담은 {@link MemberCommentFeedDto}
+     * @throws IllegalArgumentException providerId, 커서가 유효하지 않거나 size 가 1보다 작은 경우
+     */
+    MemberCommentFeedDto getMemberCommentFeed(String providerId, String cursor, int size);
+
+
     /**
      * 사용자의 providerId로, 선호하는 소설 목록을 반환하는 메서드 입니다..
      *
@@ -2,6 +2,7 @@ package com.ham.netnovel.member.service;
 
 import com.ham.netnovel.member.Member;
 import com.ham.netnovel.member.dto.ChangeNickNameDto;
+import com.ham.netnovel.member.dto.MemberIdentityDto;
 import com.ham.netnovel.member.dto.MemberCreateDto;
 import com.ham.netnovel.member.dto.MemberLoginDto;
 import com.ham.netnovel.member.dto.MemberMyPageDto;
@@ -19,6 +20,43 @@ public interface MemberService {
     Optional<Member> getMember(String providerId);
 
 
+    /**
+     * 유저의 id 만 조회하는 메서드, 엔티티가 필요없을때 사용
+     * 유저 식별 정보 캐시를 사용하므로 캐시에 있으면 DB 를 조회하지 않음
+     * @param providerId 유저의 인증 정보
+     * @return Optional<Long> 유저 id
+     */
+    Optional<Long> getMemberId(String providerId);
+
+
+    /**
+     * 유저의 식별 정보(id, 닉네임, 역할)를 조회하는 메서드
+     * 캐시에 있으면 DB 를 조회하지 않으며, 닉네임/역할 변경시 캐시에서 삭제됨
+     * @param providerId 유저의 인증 정보
+     * @return Optional<MemberIdentityDto> 유저 식별 정보
+     */
+    Optional<MemberIdentityDto> getMemberIdentity(String providerId);
+
+
+    /**
+     * 연관관계 저장에 사용할 Member 프록시를 반환하는 메서드
+     * 유저 id 는 식별 정보 캐시에서 찾고, 엔티티는 조회하지 않음
+     * 코인 수 등 유저 정보가 필요한 경우는 getMember 사용
+     * @param providerId 유저의 인증 정보
+     * @return Optional<Member> id 만 채워진 Member 프록시
+     */
+    Optional<Member> getMemberReference(String providerId);
+
+
+    /**
+     * 유저 id 로 연관관계 저장에 사용할 Member 프록시를 반환하는 메서드, 엔티티는 조회하지 않음
+     * 유저가 없으면 프록시를 사용하는 저장 쿼리에서 예외가 발생하므로, 존재가 확인된 id 만 사용
+     * @param memberId 유저 id
+     * @return Member id 만 채워진 Member 프록시
+     */
+    Member getMemberReference(Long memberId);
+
+
     /**
      * 로그인시 인증정보를 위한 유저정보를 가져오는 메서드
      * @param providerId 인증 제공자(naver등)에서의 유저 ID값
@@ -30,8 +68,9 @@ public interface MemberService {
     /**
      * 새로운 유저 정보를 DB에 저장하는 메서드
      * @param memberCreateDto provider(naver등), providerId, email, nickname, role, gender 포함
+     * @return 저장된 유저 id
      */
-    void createNewMember(MemberCreateDto memberCreateDto);
+    Long createNewMember(MemberCreateDto memberCreateDto);
 
 
     /**
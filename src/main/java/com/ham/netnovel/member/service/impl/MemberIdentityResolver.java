@@ -0,0 +1,50 @@
+package com.ham.netnovel.member.service.impl;
+
+import com.ham.netnovel.common.cache.CacheNames;
+import com.ham.netnovel.member.MemberRepository;
+import com.ham.netnovel.member.data.MemberRole;
+import com.ham.netnovel.member.dto.MemberIdentityDto;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * providerId 로 유저 식별 정보를 찾아 캐시에 보관하는 컴포넌트입니다.
+ *
+ * <p>{@link MemberServiceImpl} 안에서 호출해도 캐시를 사용하도록 별도 Bean 으로 분리했습니다.
+ * 캐시 삭제는 닉네임, 역할을 변경하는 {@link MemberServiceImpl} 메서드의 {@code @CacheEvict} 로 커밋 이후에 실행됩니다.</p>
+ */
+@Component
+class MemberIdentityResolver {
+
+    private final MemberRepository memberRepository;
+
+    MemberIdentityResolver(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * 유저 식별 정보를 반환합니다. 캐시에 없을때만 DB 에서 조회합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @return 유저 식별 정보, 유저가 없으면 null
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.MEMBER_IDENTITIES, key = "#providerId", sync = true)
+    public MemberIdentityDto resolve(String providerId) {
+        List<Object[]> rows = memberRepository.findIdentityByProviderId(providerId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        //[id, nickName, role]
+        Object[] row = rows.get(0);
+        return MemberIdentityDto.builder()
+                .memberId((Long) row[0])
+                .providerId(providerId)
+                .nickName((String) row[1])
+                .role((MemberRole) row[2])
+                .build();
+    }
+}
@@ -2,30 +2,41 @@ package com.ham.netnovel.member.service.impl;
 
 import com.ham.netnovel.coinChargeHistory.service.CoinChargeHistoryService;
 import com.ham.netnovel.coinUseHistory.service.CoinUseHistoryService;
+import com.ham.netnovel.comment.data.CommentFeedCursor;
 import com.ham.netnovel.comment.service.CommentService;
+import com.ham.netnovel.common.utils.SortedListMerger;
 import com.ham.netnovel.member.dto.MemberCoinChargeDto;
 import com.ham.netnovel.member.dto.MemberCoinUseHistoryDto;
 import com.ham.netnovel.member.dto.MemberRecentReadDto;
 import com.ham.netnovel.member.service.MemberMyPageService;
 import com.ham.netnovel.member.dto.MemberCommentDto;
+import com.ham.netnovel.member.dto.MemberCommentFeedDto;
 import com.ham.netnovel.novel.dto.NovelFavoriteDto;
 import com.ham.netnovel.novel.service.NovelSearchService;
 import com.ham.netnovel.reComment.service.ReCommentService;
 import com.ham.netnovel.recentRead.service.RecentReadService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 
 @Service
 @Slf4j
 public class MemberMyPageServiceImpl implements MemberMyPageService {
 
+    //댓글, 대댓글을 합친 목록의 정렬 기준, 최신순, 같으면 댓글/대댓글 순서, 같은 종류는 id 역순
+    //CommentFeedCursor 의 정렬 기준과 같아야 함
+    private static final Comparator<MemberCommentDto> FEED_ORDER = Comparator
+            .comparing(MemberCommentDto::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(MemberCommentDto::getType)
+            .thenComparing(MemberCommentDto::getId, Comparator.reverseOrder());
+
 
     private final CommentService commentService;
 
@@ -53,17 +64,50 @@ public class MemberMyPageServiceImpl implements MemberMyPageService {
 
     @Override
     public List<MemberCommentDto> getMemberCommentAndReCommentList(String providerId, Pageable pageable) {
-        // 두 개의 스트림을 합치고 정렬한 후 리스트로 변환하여 반환
-        return Stream.concat(
-                        //댓글(comment) List를 가져와 stream 생성
-                        commentService.getMemberCommentList(providerId, pageable).stream(),
-                        //대댓글(reComment) List를 가져와 stream 생성
-                        reCommentService.getMemberReCommentList(providerId, pageable).stream()
-                )
-                //멤버변수인 생성 시간을 기준으로 재정렬
-                .sorted(Comparator.comparing(MemberCommentDto::getCreatedAt).reversed())
-                // 정렬된 스트림을 리스트 형태로 수집하여 반환
-                .collect(Collectors.toList());
+        //요청한 페이지까지 필요한 수, 각 목록의 최신 항목 중 이 수만큼만 병합에 사용될 수 있음
+        int required = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        Pageable head = PageRequest.of(0, Math.max(1, required));
+
+        List<MemberCommentDto> merged = SortedListMerger.merge(List.of(
+                        //댓글(comment) 최신순 List
+                        commentService.getMemberCommentList(providerId, head),
+                        //대댓글(reComment) 최신순 List
+                        reCommentService.getMemberReCommentList(providerId, head)),
+                FEED_ORDER, required);
+
+        //병합한 목록에서 요청한 페이지만 반환
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        return new ArrayList<>(merged.subList(from, merged.size()));
+    }
+
+
+    @Override
+    public MemberCommentFeedDto getMemberCommentFeed(String providerId, String cursor, int size) {
+        //유저 providerId 유효성 검사
+        validateProviderId(providerId, "getMemberCommentFeed");
+        if (size < 1) {
+            throw new IllegalArgumentException("getMemberCommentFeed 에러: size 는 1 이상이어야 합니다. size=" + size);
+        }
+        //커서가 잘못되었으면 IllegalArgumentException 으로 던짐
+        CommentFeedCursor after = CommentFeedCursor.decode(cursor);
+
+        //다음 페이지가 있는지 확인하기 위해 각 목록에서 1개 더 조회 후 병합
+        List<MemberCommentDto> merged = SortedListMerger.merge(List.of(
+                        commentService.getMemberCommentList(providerId, after, size + 1),
+                        reCommentService.getMemberReCommentList(providerId, after, size + 1)),
+                FEED_ORDER, size + 1);
+
+        boolean hasNext = merged.size() > size;
+        List<MemberCommentDto> page = hasNext ? merged.subList(0, size) : merged;
+        String nextCursor = null;
+        if (hasNext) {
+            MemberCommentDto last = page.get(page.size() - 1);
+            nextCursor = new CommentFeedCursor(last.getCreatedAt(), last.getType(), last.getId()).encode();
+        }
+        return MemberCommentFeedDto.builder()
+                .comments(new ArrayList<>(page))
+                .nextCursor(nextCursor)
+                .build();
     }
 
 
@@ -1,18 +1,22 @@
 package com.ham.netnovel.member.service.impl;
 
 
+import com.ham.netnovel.common.cache.CacheNames;
 import com.ham.netnovel.common.exception.NotEnoughCoinsException;
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.common.utils.TypeValidationUtil;
 import com.ham.netnovel.member.Member;
 import com.ham.netnovel.member.MemberRepository;
 import com.ham.netnovel.member.data.MemberRole;
+import com.ham.netnovel.member.dto.MemberIdentityDto;
 import com.ham.netnovel.member.dto.MemberMyPageDto;
 import com.ham.netnovel.member.service.MemberService;
 import com.ham.netnovel.member.dto.ChangeNickNameDto;
 import com.ham.netnovel.member.dto.MemberCreateDto;
 import com.ham.netnovel.member.dto.MemberLoginDto;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +29,15 @@ class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
 
+    private final NovelInfoReadModel novelInfoReadModel;
 
-    public MemberServiceImpl(MemberRepository memberRepository) {
+    private final MemberIdentityResolver memberIdentityResolver;
+
+
+    public MemberServiceImpl(MemberRepository memberRepository, NovelInfoReadModel novelInfoReadModel, MemberIdentityResolver memberIdentityResolver) {
         this.memberRepository = memberRepository;
+        this.novelInfoReadModel = novelInfoReadModel;
+        this.memberIdentityResolver = memberIdentityResolver;
     }
 
 
@@ -43,6 +53,42 @@ class MemberServiceImpl implements MemberService {
         return memberRepository.findByProviderId(providerId);
     }
 
+    @Override
+    public Optional<Long> getMemberId(String providerId) {
+
+        //파라미터 Null, 비어있는지 체크
+        if (TypeValidationUtil.isNullOrEmpty(providerId)) {
+            throw new IllegalArgumentException("getMemberId 메서드 에러 providerId 값이 Null 이거나 비었습니다.");
+        }
+
+        return getMemberIdentity(providerId).map(MemberIdentityDto::getMemberId);
+    }
+
+    @Override
+    public Optional<MemberIdentityDto> getMemberIdentity(String providerId) {
+
+        //파라미터 Null, 비어있는지 체크
+        if (TypeValidationUtil.isNullOrEmpty(providerId)) {
+            throw new IllegalArgumentException("getMemberIdentity 메서드 에러 providerId 값이 Null 이거나 비었습니다.");
+        }
+
+        return Optional.ofNullable(memberIdentityResolver.resolve(providerId));
+    }
+
+    @Override
+    public Optional<Member> getMemberReference(String providerId) {
+        //id 만 채워진 프록시 반환, 연관관계 저장시 SELECT 를 실행하지 않음
+        return getMemberId(providerId).map(this::getMemberReference);
+    }
+
+    @Override
+    public Member getMemberReference(Long memberId) {
+        if (memberId == null) {
+            throw new IllegalArgumentException("getMemberReference 메서드 에러 memberId 값이 Null 입니다.");
+        }
+        return memberRepository.getReferenceById(memberId);
+    }
+
     @Override
     public MemberLoginDto getMemberLoginInfo(String providerId) {
 
@@ -53,6 +99,7 @@ class MemberServiceImpl implements MemberService {
         if (optionalMember.isPresent()) {
             Member member = optionalMember.get();
             return MemberLoginDto.builder()
+                    .memberId(member.getId())
                     .providerId(member.getProviderId())
                     .nickName(member.getNickName())
                     .role(member.getRole())
@@ -67,7 +114,9 @@ class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
-    public void createNewMember(MemberCreateDto memberCreateDto) {
+    //가입 전에 조회되어 캐시된 빈 값 삭제
+    @CacheEvict(cacheNames = CacheNames.MEMBER_IDENTITIES, key = "#memberCreateDto.providerId")
+    public Long createNewMember(MemberCreateDto memberCreateDto) {
 
         //파라미터로 받은 DTO를 Member 엔티티로 변환
         try {
@@ -80,7 +129,7 @@ class MemberServiceImpl implements MemberService {
                     0);//초기 코인 갯수 0개 설정
 
             //새로운 유저 저장
-            memberRepository.save(member);
+            return memberRepository.save(member).getId();
 
 
         } catch (Exception ex) {//예외 발생시 RuntimeException으로 던짐, 트랜잭션 자동롤백
@@ -92,6 +141,8 @@ class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
+    //커밋 이후 유저 식별 정보 캐시 삭제
+    @CacheEvict(cacheNames = CacheNames.MEMBER_IDENTITIES, key = "#changeNickNameDto.providerId")
     public void updateMemberNickName(ChangeNickNameDto changeNickNameDto) {
 
         Member member = getMember(changeNickNameDto.getProviderId())
@@ -105,6 +156,8 @@ class MemberServiceImpl implements MemberService {
             //엔티티 닉네임 변경
             member.changeNickName(nickName);
             memberRepository.save(member);
+            //커밋 이후 작가 닉네임이 들어있는 소설 상세 정보 읽기 모델 삭제
+            novelInfoReadModel.evictByAuthor(member.getProviderId());
         } catch (Exception ex) {
             //에러 발생시 예외로 던지고 트랜잭션 롤백
             throw new ServiceMethodException("updateMemberNickName 메서드 에러 발생");
@@ -192,6 +245,8 @@ class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
+    //커밋 이후 유저 식별 정보 캐시 삭제
+    @CacheEvict(cacheNames = CacheNames.MEMBER_IDENTITIES, key = "#member.providerId")
     public void changeMemberToAuthor(Member member) {
         //파라미터 null체크
         if (member==null){
@@ -47,6 +47,9 @@ public class Novel {
     @JoinColumn(name = "member_id")
     private Member author;
 
+    //마지막으로 발급한 에피소드 번호, 에피소드 생성시 DB 에서 원자적으로 증가, 이전 소설은 첫 발급 전까지 null
+    private Integer lastChapter;
+
     //작품 에피소드들
     @OneToMany(mappedBy = "novel")
     private List<Episode> episodes = new ArrayList<>();
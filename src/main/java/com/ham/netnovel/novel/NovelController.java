@@ -2,16 +2,21 @@ package com.ham.netnovel.novel;
 
 import com.ham.netnovel.common.OAuth.CustomOAuth2User;
 import com.ham.netnovel.common.utils.Authenticator;
+import com.ham.netnovel.common.utils.ConditionalRequestUtil;
 import com.ham.netnovel.common.utils.PageableUtil;
+import com.ham.netnovel.common.utils.TypeValidationUtil;
 import com.ham.netnovel.common.utils.ValidationErrorHandler;
 import com.ham.netnovel.novel.data.NovelSearchType;
 import com.ham.netnovel.novel.dto.*;
 import com.ham.netnovel.novel.service.NovelEditingService;
 import com.ham.netnovel.novel.service.NovelSearchService;
 import com.ham.netnovel.novel.service.NovelService;
+import com.ham.netnovel.novelRanking.service.NovelRankingService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.Authentication;
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -28,27 +34,79 @@ import java.util.List;
 @RestController
 @RequestMapping("/api")
 public class NovelController {
+
+    //목록 총 개수 응답 헤더, 프론트엔드 페이지 수 계산에 사용
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String TOTAL_COUNT_EXACT_HEADER = "X-Total-Count-Exact";
+
+    //소설 상세 정보는 1분간 캐시 후 ETag 로 재검증
+    private static final CacheControl NOVEL_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    //랭킹은 배치 작업으로만 바뀌므로 5분간 캐시 후 ETag 로 재검증
+    private static final CacheControl RANKING_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
     private final NovelService novelService;
     private final Authenticator authenticator;
     private final NovelEditingService novelEditingService;
 
     private final NovelSearchService novelSearchService;
-    public NovelController(NovelService novelService, Authenticator authenticator, NovelEditingService novelEditingService, NovelSearchService novelSearchService) {
+
+    private final NovelRankingService novelRankingService;
+    public NovelController(NovelService novelService, Authenticator authenticator, NovelEditingService novelEditingService, NovelSearchService novelSearchService, NovelRankingService novelRankingService) {
         this.novelService = novelService;
         this.authenticator = authenticator;
         this.novelEditingService = novelEditingService;
         this.novelSearchService = novelSearchService;
+        this.novelRankingService = novelRankingService;
     }
 
     /**
      * 소설 상세 페이지에서 Novel 데이터 응답하는 API
      *
+     * <p>소설 정보는 읽기 모델에서 키 1개로 조회하며, 조회한 값으로 만든 ETag 를 응답합니다.
+     * {@code If-None-Match} 가 일치하면 본문 없이 304 를 응답합니다.</p>
+     *
      * @param novelId novelId를 담은 url path variable
+     * @param ifNoneMatch 클라이언트가 가진 응답의 ETag
      * @return ResponseEntity
      */
     @GetMapping("/novels/{novelId}")
-    public ResponseEntity<NovelInfoDto> getNovel(@PathVariable("novelId") Long novelId) {
-        return ResponseEntity.ok(novelService.getNovelInfo(novelId));
+    public ResponseEntity<NovelInfoDto> getNovel(@PathVariable("novelId") Long novelId,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        NovelInfoDto novelInfo = novelService.getNovelInfo(novelId);
+        //소설 정보가 같으면 본문 없이 304 응답
+        String etag = ConditionalRequestUtil.strongETag("novel", novelId, novelInfo.toString());
+        if (ConditionalRequestUtil.isNotModified(ifNoneMatch, etag)) {
+            return ConditionalRequestUtil.notModified(etag, NOVEL_CACHE_CONTROL);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(NOVEL_CACHE_CONTROL)
+                .body(novelInfo);
+    }
+
+    /**
+     * 여러 소설의 카드 정보를 한번에 조회하는 API 입니다.
+     *
+     * <p>홈, 서재 페이지에서 소설마다 /novels/{novelId} 를 호출하지 않도록, 최대 100개의 소설 정보를
+     * 한번의 요청으로 반환합니다. 응답 리스트는 요청한 id 순서를 유지하며, 존재하지 않는 소설은 제외됩니다.</p>
+     *
+     * @param ids "," 로 구분된 소설 id 문자열 (예: "1,2,3"), 최대 100개
+     * @return {@link ResponseEntity<>} 소설 정보 리스트를 HTTP 200 응답으로 반환합니다.
+     * @throws IllegalArgumentException id 형식이 잘못되었거나, 비어있거나, 100개를 초과하는 경우
+     */
+    @GetMapping("/novels/batch")
+    public ResponseEntity<List<NovelInfoDto>> getNovelCards(@RequestParam(name = "ids") String ids) {
+
+        //"," 로 구분된 id 들을 분리하여 List 객체에 담음, 숫자가 아니면 예외로 던짐
+        List<Long> idList = Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(TypeValidationUtil::validateLong)
+                .toList();
+
+        //소설 정보를 요청한 순서대로 조회하여 전송
+        return ResponseEntity.ok(novelSearchService.getNovelCards(idList));
     }
 
     /**
@@ -64,6 +122,8 @@ public class NovelController {
      * @param pageSize   한 페이지에 포함될 항목의 수 {@link Integer} 객체  입니다. 기본값은 100입니다.
      * @return {@link ResponseEntity<>} 소설 정보가 포함된 리스트를 HTTP 200 응답으로 반환합니다.
      * 응답 본문에는 소설 정보 리스트가 담겨 있습니다.
+     * 조건에 맞는 소설의 총 개수는 X-Total-Count 헤더에, 총 개수가 정확한 값인지(추정값이면 false) 여부는
+     * X-Total-Count-Exact 헤더에 담겨 있습니다.
      */
     @GetMapping("/novels/browse")
     public ResponseEntity<List<NovelListDto>> getNovelsBySearchCondition(
@@ -88,7 +148,12 @@ public class NovelController {
         Pageable pageable = PageableUtil.createPageable(pageNumber, pageSize);
         //조건을 메서드에 전달하여, 소설 정보 List를 받아옴
         List<NovelListDto> novels = novelSearchService.getNovelsBySearchCondition(sortBy, pageable, idList);
-        return ResponseEntity.ok(novels);//소설 정보 전송
+        //페이지 수 계산을 위한 총 개수, 캐시 또는 태그 비트맵으로 계산
+        NovelCountDto novelCount = novelSearchService.getNovelCountBySearchCondition(idList);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(novelCount.getTotalCount()))
+                .header(TOTAL_COUNT_EXACT_HEADER, String.valueOf(novelCount.isExact()))
+                .body(novels);//소설 정보 전송
     }
 
     /**
@@ -147,6 +212,7 @@ public class NovelController {
      * @param period     소설 랭킹을 조회할 기간을 나타내는 {@link String} 객체입니다.. (예: "weekly", "monthly" 등)
      * @param pageNumber 조회할 페이지 번호입니다. 기본값은 0입니다.
      * @param pageSize   한 페이지에 포함될 항목의 수입니다. 기본값은 100입니다.
+     * @param ifNoneMatch 클라이언트가 가진 응답의 ETag, 랭킹 보드 버전이 같으면 본문 없이 304 를 응답합니다.
      * @return {@link ResponseEntity<> } 소설 정보가 포함된 랭킹 순서의 리스트를 HTTP 200 응답으로 반환합니다.
      * 응답 본문에는 랭킹이 반영된 소설 목록이 담겨 있습니다.
      */
@@ -154,7 +220,8 @@ public class NovelController {
     public ResponseEntity<List<NovelListDto>> getNovelsByRanking(
             @RequestParam("period") String period,
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
-            @RequestParam(name = "pageSize", defaultValue = "100") int pageSize) {
+            @RequestParam(name = "pageSize", defaultValue = "100") int pageSize,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
 
         //페이지 사이즈 수 제한
@@ -164,11 +231,22 @@ public class NovelController {
 
         //페이지네이션 객체 생성
         Pageable pageable = PageableUtil.createPageable(pageNumber, pageSize);
+
+        //랭킹 보드 버전이 같으면 소설 정보를 조회하지 않고 304 응답
+        String etag = ConditionalRequestUtil.strongETag("ranking", period,
+                novelRankingService.getNovelRankingBoardVersion(period), pageNumber, pageSize);
+        if (ConditionalRequestUtil.isNotModified(ifNoneMatch, etag)) {
+            return ConditionalRequestUtil.notModified(etag, RANKING_CACHE_CONTROL);
+        }
+
         //유저가 요청한 랭킹 기간에 따라, 소설 정보를 랭킹 순서대로 정렬하여 List에 담음
         List<NovelListDto> rankedNovels = novelSearchService.getNovelsByRanking(period, pageable);
 
 
-        return ResponseEntity.ok(rankedNovels);//소설 정보 전송
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(RANKING_CACHE_CONTROL)
+                .body(rankedNovels);//소설 정보 전송
     }
 
     /**
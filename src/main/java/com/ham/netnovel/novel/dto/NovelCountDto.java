@@ -0,0 +1,17 @@
+package com.ham.netnovel.novel.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NovelCountDto {//소설 목록의 총 개수를 전달할때 사용하는 DTO
+
+    private long totalCount;//조건에 맞는 소설 총 개수
+
+    private boolean exact;//true 면 정확한 값, false 면 추정값
+
+}
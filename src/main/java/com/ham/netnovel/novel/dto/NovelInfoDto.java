@@ -33,7 +33,7 @@ public class NovelInfoDto {
     private String authorName; //작가 닉네임
 
     @NotNull
-    private Integer views; //조회수
+    private Long views; //조회수, 에피소드 조회수 총합이므로 int 범위를 넘을 수 있음
 
     @NotNull
     private BigDecimal averageRating; //평균 별점
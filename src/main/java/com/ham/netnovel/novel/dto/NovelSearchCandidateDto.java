@@ -0,0 +1,26 @@
+package com.ham.netnovel.novel.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NovelSearchCandidateDto {//제목 검색 결과의 점수 계산에 필요한 최소 정보만 담는 DTO
+
+    private Long id; //소설 id
+
+    private String title; //소설 제목
+
+    private long totalView; //총조회수
+
+    private int totalFavorites; //총좋아요수
+
+    private LocalDateTime latestUpdateAt;//최근업데이트시간
+
+
+}
@@ -0,0 +1,54 @@
+package com.ham.netnovel.novel.job;
+
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소설 상세 정보 읽기 모델을 원본 테이블에서 다시 만든 값과 비교하여 보정하는 Job 입니다.
+ *
+ * <p>한번 실행될때 최대 {@code maxBatchesPerRun} 개의 배치를 검사하며, 다음 실행은 마지막으로 검사한 소설 다음부터 이어서 검사합니다.
+ * 모든 소설을 검사하면 처음부터 다시 검사합니다. 읽기 모델에 저장되지 않은 소설은 DB 를 조회하지 않습니다.
+ * 검사 위치는 실행마다 Job 객체가 새로 만들어지므로 JobDataMap 에 저장합니다.</p>
+ */
+@Component
+@Slf4j
+@DisallowConcurrentExecution
+@PersistJobDataAfterExecution
+public class NovelInfoConsistencyJob implements Job {
+
+    private final NovelInfoReadModel novelInfoReadModel;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    //다음 실행에서 이어서 검사할 위치를 저장하는 JobDataMap key
+    private static final String LAST_ID_KEY = "lastId";
+
+    public NovelInfoConsistencyJob(NovelInfoReadModel novelInfoReadModel,
+                                   @Value("${novel.info-read-model.verify-batch-size:200}") int batchSize,
+                                   @Value("${novel.info-read-model.verify-max-batches-per-run:5}") int maxBatchesPerRun) {
+        this.novelInfoReadModel = novelInfoReadModel;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
+        long lastId = jobDataMap.containsKey(LAST_ID_KEY) ? jobDataMap.getLong(LAST_ID_KEY) : 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Long verified = novelInfoReadModel.verifyBatch(lastId, batchSize);
+            if (verified == null) {
+                //모든 소설을 검사했으면 처음부터 다시 검사
+                lastId = 0L;
+                break;
+            }
+            lastId = verified;
+        }
+        jobDataMap.put(LAST_ID_KEY, lastId);
+    }
+}
@@ -1,8 +1,10 @@
 package com.ham.netnovel.novel.repository;
 
 import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.tag.Tag;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -118,8 +120,102 @@ public interface NovelRepository extends JpaRepository<Novel, Long>, NovelSearch
     List<Object[]> findNovelLatestUpdatedEpisode(Pageable pageable);
 
 
+    /**
+     * 둘러보기 목록에 노출되는 소설(메타데이터가 있는 소설)의 수를 반환합니다.
+     *
+     * @return 메타데이터가 있는 소설 수
+     */
+    @Query("select count(n) " +
+            "from Novel n " +
+            "join n.novelMetaData md")
+    long countListedNovels();
+
+
+    /**
+     * 둘러보기 목록에 노출되는 소설(메타데이터가 있는 소설)의 id와 태그 id 쌍을 반환합니다.
+     *
+     * @return 첫번째 요소는 소설 id, 두번째 요소는 태그 id 인 배열의 리스트
+     */
+    @Query("select nt.id.novelId, nt.id.tagId " +
+            "from NovelTag nt " +
+            "join nt.novel n " +
+            "join n.novelMetaData md")
+    List<Object[]> findListedNovelTagPairs();
+
+    /**
+     * 소설 상세 정보 읽기 모델을 만들 값을 조회합니다.
+     *
+     * <p>에피소드, 선호작 엔티티를 읽지 않고 집계값만 한번의 쿼리로 조회합니다.</p>
+     *
+     * @param novelId 소설 id
+     * @return [제목, 소개, 연재 상태, 섬네일 파일명, 작가 닉네임, 평균 별점, 조회수 합, 에피소드 수, 선호작 수] 배열,
+     * 소설이 없으면 빈 List
+     */
+    @Query("select n.title, n.description, n.type, n.thumbnailFileName, m.nickName, ar.averageRating, " +
+            "(select coalesce(sum(e.view), 0) from Episode e where e.novel = n), " +
+            "(select count(e2) from Episode e2 where e2.novel = n), " +
+            "(select count(f) from FavoriteNovel f where f.novel = n) " +
+            "from Novel n " +
+            "join n.author m " +
+            "left join n.novelAverageRating ar " +
+            "where n.id = :novelId")
+    List<Object[]> findNovelInfoSource(@Param("novelId") Long novelId);
+
+    /**
+     * 소설에 등록된 태그를 조회합니다.
+     *
+     * @param novelId 소설 id
+     * @return 태그 엔티티 List
+     */
+    @Query("select t from NovelTag nt " +
+            "join nt.tag t " +
+            "where nt.novel.id = :novelId " +
+            "order by t.id")
+    List<Tag> findTagsByNovelId(@Param("novelId") Long novelId);
 
+    /**
+     * id 순서로 소설 id 를 조회합니다. 소설 상세 정보 읽기 모델 검사에서 사용합니다.
+     *
+     * @param lastId   이전 배치에서 마지막으로 처리한 소설 id, 이 값보다 큰 id 만 조회
+     * @param pageable 배치 크기
+     * @return 소설 id List
+     */
+    @Query("select n.id from Novel n where n.id > :lastId order by n.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 작가의 모든 소설 id 를 조회합니다.
+     *
+     * @param providerId 작가의 providerId
+     * @return 소설 id List
+     */
+    @Query("select n.id from Novel n where n.author.providerId = :providerId")
+    List<Long> findIdsByAuthor(@Param("providerId") String providerId);
 
 
+    /**
+     * 소설의 마지막 에피소드 번호를 {@code count} 만큼 증가시킵니다. 동시에 에피소드가 생성되어도 같은 번호가 발급되지 않도록 DB 에서 직접 더합니다.
+     *
+     * <p>변경된 소설 행은 트랜잭션이 끝날때까지 잠기므로, 같은 소설의 에피소드 생성은 순서대로 번호를 받습니다.
+     * 번호가 저장되지 않은(null) 이전 소설은 에피소드의 가장 큰 번호부터 이어서 발급합니다.</p>
+     *
+     * @param novelId 소설 id
+     * @param count   발급할 번호 수
+     * @return 변경된 행 수, 소설이 없으면 0
+     */
+    @Modifying
+    @Query("update Novel n set n.lastChapter = " +
+            "coalesce(n.lastChapter, (select coalesce(max(e.chapter), 0) from Episode e where e.novel = n)) + :count " +
+            "where n.id = :novelId")
+    int increaseLastChapter(@Param("novelId") Long novelId, @Param("count") int count);
+
+    /**
+     * 소설의 마지막 에피소드 번호를 조회합니다. 엔티티가 아닌 값을 조회하므로 영속성 컨텍스트와 관계없이 DB 값을 반환합니다.
+     *
+     * @param novelId 소설 id
+     * @return 마지막 에피소드 번호, 발급된 적이 없으면 null
+     */
+    @Query("select n.lastChapter from Novel n where n.id = :novelId")
+    Integer findLastChapter(@Param("novelId") Long novelId);
 
 }
@@ -1,17 +1,22 @@
 package com.ham.netnovel.novel.repository;
 
 import com.ham.netnovel.novel.data.NovelSortOrder;
+import com.ham.netnovel.novel.dto.NovelInfoDto;
 import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.dto.NovelSearchCandidateDto;
+import com.ham.netnovel.tag.dto.TagDataDto;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface NovelSearchRepository {
 
     /**
      * 주어진 정렬 기준과 페이지 정보를 바탕으로 소설 목록을 조회합니다.
      * <p>
-     * 이 메서드는 소설의 기본 정보를 조회하고, 각 소설에 대해 태그 정보를 추가로 조회하여 최종 결과를 반환합니다.
+     * 이 메서드는 조건과 정렬에 맞는 현재 페이지의 소설 id 만 조회한 후,
+     * {@link #findNovelListDtosByIds(List)} 로 소설 정보와 태그를 조립하여 반환합니다.
      * </p>
      *
      * @param novelSortOrder {@link NovelSortOrder} 소설을 정렬할 기준을 나타내는 열거형 객체
@@ -24,18 +29,59 @@ public interface NovelSearchRepository {
 
 
     /**
-     * 검색어를 기반으로 소설 목록을 검색하여 반환합니다.
+     * 검색어와 제목이 일치하는 소설을 관련도 점수 계산용 후보로 조회합니다.
      * <p>
-     * 검색된 소설 정보를 NovelListDto로 변환하여 페이징 처리된 결과를 반환합니다.
-     * 해당 메서드는 검색어에 대해 Full-Text 검색을 수행하고,
-     * 각 소설의 관련 정보를 DTO로 변환하여 반환합니다.
+     * Full-Text 검색으로 찾은 소설의 id, 제목, 메타데이터(조회수, 좋아요수, 최근 업데이트 시간)만 조회하며,
+     * Full-Text 관련도가 높은 순서로 최대 candidateLimit 개를 반환합니다.
      * </p>
      *
-     * @param searchWord 검색어
-     * @param pageable       {@link Pageable} 페이지 정보를 포함하는 객체 (페이지 번호, 페이지 크기 등)
-     * @return {@link List<NovelListDto>} 정렬 기준과 페이지 정보에 따라 조회된 소설 목록을 포함하는 리스트
+     * @param searchWord     검색어
+     * @param candidateLimit 조회할 후보의 최대 갯수
+     * @return {@link List<NovelSearchCandidateDto>} 후보 소설 목록
+     */
+    List<NovelSearchCandidateDto> findSearchCandidates(String searchWord, int candidateLimit);
+
+
+    /**
+     * 소설 id 목록으로 소설 정보를 조회하여 반환합니다.
+     * <p>
+     * 반환되는 리스트는 파라미터로 받은 id 순서를 유지하며, 존재하지 않는 id 는 제외됩니다.
+     * </p>
+     * <p>
+     * 둘러보기, 랭킹, 제목 검색, 작가 검색이 모두 이 메서드로 목록 카드를 조립하므로
+     * 소설 수와 관계없이 쿼리 수가 일정합니다(소설 정보 1회, 태그 1회).
+     * </p>
+     *
+     * @param novelIds 조회할 소설 id 목록
+     * @return {@link List<NovelListDto>} 소설 목록을 포함하는 리스트
+     */
+    List<NovelListDto> findNovelListDtosByIds(List<Long> novelIds);
+
+
+    /**
+     * 소설 id 목록으로 소설 상세 카드 정보를 조회하여 반환합니다.
+     * <p>
+     * 소설 기본 정보, 에피소드 집계(조회수 총합, 화수), 선호작 수, 태그를 각각 한번씩 조회하므로
+     * 소설 수와 관계없이 쿼리 수가 일정합니다. 엔티티의 지연 로딩을 사용하지 않습니다.
+     * </p>
+     * <p>
+     * 반환되는 리스트는 파라미터로 받은 id 순서를 유지하며, 존재하지 않는 id 는 제외됩니다.
+     * thumbnailUrl 에는 섬네일 파일명이 담겨 있습니다.
+     * </p>
+     *
+     * @param novelIds 조회할 소설 id 목록
+     * @return {@link List<NovelInfoDto>} 소설 정보 리스트
+     */
+    List<NovelInfoDto> findNovelInfoDtosByIds(List<Long> novelIds);
+
+
+    /**
+     * 소설 id 목록에 해당하는 소설들의 태그를 한번의 쿼리로 조회합니다.
+     *
+     * @param novelIds 소설 id 목록
+     * @return 소설 id 를 key, 태그 DTO 리스트를 value 로 하는 {@link Map}, 태그가 없는 소설은 포함되지 않음
      */
-    List<NovelListDto> findBySearchWord(String searchWord,Pageable pageable);
+    Map<Long, List<TagDataDto>> findTagsByNovelIds(List<Long> novelIds);
 
 
 
@@ -1,15 +1,21 @@
 package com.ham.netnovel.novel.repository;
 
+import com.ham.netnovel.FavoriteNovel.QFavoriteNovel;
 import com.ham.netnovel.common.exception.RepositoryMethodException;
+import com.ham.netnovel.episode.QEpisode;
 import com.ham.netnovel.member.QMember;
 import com.ham.netnovel.member.data.MemberRole;
 import com.ham.netnovel.novel.QNovel;
 import com.ham.netnovel.novel.data.NovelSortOrder;
+import com.ham.netnovel.novel.dto.NovelInfoDto;
 import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.dto.NovelSearchCandidateDto;
+import com.ham.netnovel.novelAverageRating.QNovelAverageRating;
 import com.ham.netnovel.novelMetaData.QNovelMetaData;
 import com.ham.netnovel.novelTag.QNovelTag;
 import com.ham.netnovel.tag.QTag;
 import com.ham.netnovel.tag.dto.TagDataDto;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -23,9 +29,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -57,17 +69,8 @@ public class NovelSearchRepositoryImpl implements NovelSearchRepository {
             // 파라미터로 받은 조건으로 ORDER BY 조건 생성
             OrderSpecifier<?> orderSpecifier = getOrderSpecifier(novelSortOrder, novelMetaData);
 
-            //조건을 통해 찾은 Novel 엔티티를 DTO로 변환하여 반환하는 쿼리문 생성
-            var query = jpaQueryFactory.select(Projections.bean(NovelListDto.class,//DTO에 값을 넣어 반환
-                            novel.id.as("id"),
-                            novel.title.as("title"),
-                            novel.description.as("description"),
-                            member.providerId.as("providerId"),
-                            member.nickName.as("authorName"),
-                            novelMetaData.totalFavorites.as("totalFavorites"),
-                            novelMetaData.totalViews.as("totalView"),
-                            novelMetaData.latestEpisodeAt.as("latestUpdateAt"),
-                            novel.thumbnailFileName.as("thumbnailUrl")))
+            //조건과 정렬에 맞는 현재 페이지의 소설 id 만 조회하는 쿼리문 생성
+            var query = jpaQueryFactory.select(novel.id)
                     .from(novel)
                     .join(novel.novelMetaData,novelMetaData)//메타 데이터와 JOIN
                     .join(novel.author, member);//member 테이블과 Join
@@ -82,18 +85,13 @@ public class NovelSearchRepositoryImpl implements NovelSearchRepository {
             }
 
             //페이지네이션 및 정렬조건 추가
-            List<NovelListDto> novelListDtos = query.offset(pageable.getOffset())//페이지 시작 지점, 0부터 시작함
+            List<Long> novelIds = query.offset(pageable.getOffset())//페이지 시작 지점, 0부터 시작함
                     .limit(pageable.getPageSize())//한페이지에 보여줄 데이터의 개수
                     .orderBy(orderSpecifier)
                     .fetch();
 
-
-            //소설 DTO에 태그 정보를 추가
-            for (NovelListDto dto : novelListDtos) {
-                loadTagsForNovel(dto);
-            }
-            //소설 DTO List 반환
-            return novelListDtos;
+            //랭킹, 제목 검색과 같은 방식으로 소설 카드 정보를 정렬 순서대로 조립하여 반환
+            return findNovelListDtosByIds(novelIds);
 
         } catch (Exception ex) {
             throw new RepositoryMethodException("findNovelsBySearchConditions 메서드 에러" + ex + ex.getMessage());
@@ -103,33 +101,25 @@ public class NovelSearchRepositoryImpl implements NovelSearchRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public List<NovelListDto> findBySearchWord(String searchWord, Pageable pageable) {
+    public List<NovelSearchCandidateDto> findSearchCandidates(String searchWord, int candidateLimit) {
 
         //파라미터 null, 공백 체크
-        if (searchWord == null || searchWord.trim().isEmpty()) {
+        if (searchWord == null || searchWord.trim().isEmpty() || candidateLimit <= 0) {
             return Collections.emptyList();
         }
 
-        int pageSize = pageable.getPageSize();// 한 페이지에 표시할 항목 수
-        int pageNumber = pageable.getPageNumber();
-        int offset = pageNumber * pageSize; // 오프셋 계산
-
-
-        //Native 쿼리문 생성, MySQL 문법 사용
+        //Native 쿼리문 생성, MySQL 문법 사용, 점수 계산에 필요한 컬럼만 선택
         String queryStr =
                 "SELECT n.id as novelId, " +
-                        "n.title as novelTitle," +
-                        "n.thumbnail_file_name as fileName, " +
+                        "n.title as novelTitle, " +
                         "nm.total_views as totalViews, " +
                         "nm.total_favorites as totalFavorites, " +
-                        "nm.latest_episode_at as latestAt, " +
-                        "m.provider_id as providerId, " +
-                        "m.nick_name as nick_name " +  // 필요한 필드만 선택
+                        "nm.latest_episode_at as latestAt " +
                         "FROM novel n " +
                         "JOIN novel_meta_data nm ON n.id = nm.novel_id " +
-                        "JOIN member m ON m.id = n.member_id " +
                         "WHERE MATCH(n.title) AGAINST(:searchWord IN BOOLEAN MODE) " +//index 사용
-                        "LIMIT :limit OFFSET :offset";//페이지네이션
+                        "ORDER BY MATCH(n.title) AGAINST(:searchWord IN BOOLEAN MODE) DESC " +//Full-Text 관련도 순으로 후보 선택
+                        "LIMIT :limit";
 
         try {
             //네이티브 쿼리 객체 생성
@@ -137,35 +127,153 @@ public class NovelSearchRepositoryImpl implements NovelSearchRepository {
 
             //매개변수화된 쿼리, 쿼리문에 파라미터 할당
             query.setParameter("searchWord", searchWord);
-            query.setParameter("offset", offset);
-            query.setParameter("limit", pageSize);
+            query.setParameter("limit", candidateLimit);
 
             //쿼리문 실행후 반환된 결과 객체 생성
             List<Object[]> resultList = query.getResultList();
 
             //DB에서 찾은 결과 DTO로 변환하여 반환
-            List<NovelListDto> novelListDtos = resultList.stream()
-                    .map(objects -> NovelListDto.builder()
-                            .id((Long) objects[0])
+            return resultList.stream()
+                    .map(objects -> NovelSearchCandidateDto.builder()
+                            .id(((Number) objects[0]).longValue())
                             .title((String) objects[1])
-                            .thumbnailUrl((String) objects[2])
-                            .totalView(objects[3] != null ? ((Number) objects[3]).longValue() : 0L) // null-safe 변환
-                            .totalFavorites(objects[4] != null ? ((Number) objects[4]).intValue() : 0) // null-safe 변환
-                            .latestUpdateAt(objects[5] != null ? ((Timestamp) objects[5]).toLocalDateTime() : null) // null-safe 변환
-                            .providerId((String) objects[6])
-                            .authorName((String) objects[7])
-                            .build()).toList();
+                            .totalView(objects[2] != null ? ((Number) objects[2]).longValue() : 0L) // null-safe 변환
+                            .totalFavorites(objects[3] != null ? ((Number) objects[3]).intValue() : 0) // null-safe 변환
+                            .latestUpdateAt(objects[4] != null ? ((Timestamp) objects[4]).toLocalDateTime() : null) // null-safe 변환
+                            .build())
+                    .toList();
+        } catch (Exception ex) {
+            throw new RepositoryMethodException("findSearchCandidates 메서드 에러" + ex + ex.getMessage());
+        }
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NovelListDto> findNovelListDtosByIds(List<Long> novelIds) {
 
-            for (NovelListDto dto : novelListDtos) {
-                loadTagsForNovel(dto);
-            }
+        if (novelIds == null || novelIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        QNovelMetaData novelMetaData = QNovelMetaData.novelMetaData;
+        QNovel novel = QNovel.novel;
+        QMember member = QMember.member;
+
+        try {
+            //id 목록에 해당하는 소설을 DTO로 변환하여 조회
+            Map<Long, NovelListDto> dtoMap = jpaQueryFactory.select(Projections.bean(NovelListDto.class,//DTO에 값을 넣어 반환
+                            novel.id.as("id"),
+                            novel.title.as("title"),
+                            novel.description.as("description"),
+                            member.providerId.as("providerId"),
+                            member.nickName.as("authorName"),
+                            novelMetaData.totalFavorites.as("totalFavorites"),
+                            novelMetaData.totalViews.as("totalView"),
+                            novelMetaData.latestEpisodeAt.as("latestUpdateAt"),
+                            novel.thumbnailFileName.as("thumbnailUrl")))
+                    .from(novel)
+                    .leftJoin(novel.novelMetaData, novelMetaData)//메타 데이터가 없는 소설(랭킹 등)도 반환
+                    .join(novel.author, member)//member 테이블과 Join
+                    .where(novel.id.in(novelIds))
+                    .fetch()
+                    .stream()
+                    .collect(Collectors.toMap(NovelListDto::getId, Function.identity()));
+
+            //파라미터로 받은 id 순서대로 정렬
+            List<NovelListDto> novelListDtos = novelIds.stream()
+                    .map(dtoMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+
+            //소설 DTO에 태그 정보를 추가(쿼리 1회)
+            loadTagsForNovels(novelListDtos);
             return novelListDtos;
+
         } catch (Exception ex) {
-            throw new RepositoryMethodException("findBySearchWord 메서드 에러" + ex + ex.getMessage());
+            throw new RepositoryMethodException("findNovelListDtosByIds 메서드 에러" + ex + ex.getMessage());
         }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NovelInfoDto> findNovelInfoDtosByIds(List<Long> novelIds) {
+
+        if (novelIds == null || novelIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        QNovel novel = QNovel.novel;
+        QMember member = QMember.member;
+        QNovelAverageRating novelAverageRating = QNovelAverageRating.novelAverageRating;
+        QEpisode episode = QEpisode.episode;
+        QFavoriteNovel favoriteNovel = QFavoriteNovel.favoriteNovel;
+
+        try {
+            //1. 소설 기본 정보, 작가명, 평균 별점
+            List<Tuple> novels = jpaQueryFactory.select(novel.id, novel.title, novel.description, novel.type,
+                            novel.thumbnailFileName, member.nickName, novelAverageRating.averageRating)
+                    .from(novel)
+                    .join(novel.author, member)
+                    .leftJoin(novel.novelAverageRating, novelAverageRating)//별점 기록이 없어도 소설 반환
+                    .where(novel.id.in(novelIds))
+                    .fetch();
+
+            //2. 에피소드 조회수 총합, 에피소드 수
+            Map<Long, Tuple> episodeStats = jpaQueryFactory.select(episode.novel.id, episode.view.sum(), episode.count())
+                    .from(episode)
+                    .where(episode.novel.id.in(novelIds))
+                    .groupBy(episode.novel.id)
+                    .fetch()
+                    .stream()
+                    .collect(Collectors.toMap(tuple -> tuple.get(episode.novel.id), Function.identity()));
+
+            //3. 선호작 수
+            Map<Long, Long> favoriteCounts = jpaQueryFactory.select(favoriteNovel.novel.id, favoriteNovel.count())
+                    .from(favoriteNovel)
+                    .where(favoriteNovel.novel.id.in(novelIds))
+                    .groupBy(favoriteNovel.novel.id)
+                    .fetch()
+                    .stream()
+                    .collect(Collectors.toMap(tuple -> tuple.get(favoriteNovel.novel.id),
+                            tuple -> tuple.get(favoriteNovel.count())));
+
+            //4. 태그
+            Map<Long, List<TagDataDto>> tagsByNovel = findTagsByNovelIds(novelIds);
+
+            //조회 결과를 DTO 로 조립
+            Map<Long, NovelInfoDto> dtoMap = new HashMap<>();
+            for (Tuple row : novels) {
+                Long novelId = row.get(novel.id);
+                Tuple stats = episodeStats.get(novelId);
+                //sum 결과 타입은 DB 방언에 따라 다르므로 Number 로 조회
+                Number viewSum = stats == null ? null : stats.get(1, Number.class);
+                Number episodeCount = stats == null ? null : stats.get(2, Number.class);
+                BigDecimal averageRating = row.get(novelAverageRating.averageRating);
+
+                dtoMap.put(novelId, NovelInfoDto.builder()
+                        .id(novelId)
+                        .title(row.get(novel.title))
+                        .desc(row.get(novel.description))
+                        .type(row.get(novel.type))
+                        .authorName(row.get(member.nickName))
+                        .views(viewSum == null ? 0L : viewSum.longValue())
+                        .averageRating(averageRating == null ? BigDecimal.valueOf(0) : averageRating)
+                        .episodeCount(episodeCount == null ? 0 : episodeCount.intValue())
+                        .favoriteCount(favoriteCounts.getOrDefault(novelId, 0L).intValue())
+                        .tags(tagsByNovel.getOrDefault(novelId, new ArrayList<>()))
+                        .thumbnailUrl(row.get(novel.thumbnailFileName))//섬네일 파일명, URL 변환은 서비스 계층에서 진행
+                        .build());
+            }
 
+            //파라미터로 받은 id 순서대로 정렬
+            return novelIds.stream()
+                    .map(dtoMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
 
+        } catch (Exception ex) {
+            throw new RepositoryMethodException("findNovelInfoDtosByIds 메서드 에러" + ex + ex.getMessage());
+        }
     }
 
     @Override
@@ -183,56 +291,66 @@ public class NovelSearchRepositoryImpl implements NovelSearchRepository {
                 .where(member.nickName.contains(authorName)//검색어로 Member 엔티티를 찾음
                         .and(member.role.eq(MemberRole.AUTHOR)));//Member ROLE이 AUTHOR 인 조건 추가
 
-        List<NovelListDto> novelListDtos = jpaQueryFactory.select(Projections.bean(NovelListDto.class,//DTO에 값을 넣어 반환
-                        novel.id.as("id"),
-                        novel.title.as("title"),
-                        member.providerId.as("providerId"),
-                        member.nickName.as("authorName"),
-                        novelMetaData.totalFavorites.as("totalFavorites"),
-                        novelMetaData.totalViews.as("totalView"),
-                        novelMetaData.latestEpisodeAt.as("latestUpdateAt"),
-                        novel.thumbnailFileName.as("thumbnailUrl")))
-
+        //현재 페이지의 소설 id 를 최신 업데이트 순으로 조회
+        List<Long> novelIds = jpaQueryFactory.select(novel.id)
                 .from(novel)
-                .join(novel.novelMetaData)//메타 데이터와 JOIN
-                .join(novel.author, member)//멤버 테이블과 조인
-                .where(member.id.in(subQuery))  // 서브쿼리로 MemberId 필터링
+                .join(novel.novelMetaData, novelMetaData)//메타 데이터와 JOIN
+                .where(novel.author.id.in(subQuery))  // 서브쿼리로 MemberId 필터링
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(novelMetaData.latestEpisodeAt.desc()) // 정렬 조건 추가
                 .fetch();
 
-        for (NovelListDto dto : novelListDtos) {
-            loadTagsForNovel(dto);
-        }
-
-        //소설 DTO List 반환
-        return novelListDtos;
+        //다른 목록 조회와 같은 방식으로 소설 카드 정보를 정렬 순서대로 조립하여 반환
+        return findNovelListDtosByIds(novelIds);
 
     }
 
     /**
-     * 주어진 소설 DTO에 대해 태그 정보를 조회하여 설정합니다.
+     * 주어진 소설 DTO 들에 대해 태그 정보를 조회하여 설정합니다.
      *
-     * <p>파라미터로 받은 소설에 관련된 태그를 조회하여 해당 소설의 DTO에 태그 정보를 추가합니다.</p>
+     * <p>소설마다 태그 쿼리를 실행하지 않고, 모든 소설의 태그를 한번의 쿼리로 조회하여 각 DTO에 할당합니다.</p>
      *
-     * @param dto {@link NovelListDto} 태그 정보를 설정할 소설 DTO
+     * @param dtos {@link NovelListDto} 태그 정보를 설정할 소설 DTO 리스트
      */
-    private void loadTagsForNovel(NovelListDto dto) {
+    private void loadTagsForNovels(List<NovelListDto> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        Map<Long, List<TagDataDto>> tagsByNovel = findTagsByNovelIds(dtos.stream().map(NovelListDto::getId).toList());
+        for (NovelListDto dto : dtos) {
+            dto.setTags(tagsByNovel.getOrDefault(dto.getId(), new ArrayList<>()));
+        }
+    }
+
+    @Override
+    public Map<Long, List<TagDataDto>> findTagsByNovelIds(List<Long> novelIds) {
+
+        if (novelIds == null || novelIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
         QNovelTag novelTag = QNovelTag.novelTag;
         QTag tag = QTag.tag;
 
-        //소설의 태그들을 DTO로 변환하여, NovelListDto 에 할당
-        List<TagDataDto> tagDataDtos = jpaQueryFactory.select(Projections.bean(TagDataDto.class,
-                        tag.id.as("id"),
-                        tag.name.as("name"),
-                        tag.status.as("status")))
+        //소설 id 와 태그 정보를 함께 조회
+        List<Tuple> tuples = jpaQueryFactory.select(novelTag.novel.id, tag.id, tag.name, tag.status)
                 .from(novelTag)
-                .join(tag).on(tag.id.eq(novelTag.tag.id))//NovelTag와 JOIN
-                .where(novelTag.novel.id.eq(dto.getId()))
+                .join(novelTag.tag, tag)//NovelTag와 JOIN
+                .where(novelTag.novel.id.in(novelIds))
                 .fetch();
-        dto.setTags(tagDataDtos);
+
+        //소설 id 별로 태그 DTO 리스트로 묶어서 반환
+        Map<Long, List<TagDataDto>> tagsByNovel = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            tagsByNovel.computeIfAbsent(tuple.get(novelTag.novel.id), key -> new ArrayList<>())
+                    .add(TagDataDto.builder()
+                            .id(tuple.get(tag.id))
+                            .name(tuple.get(tag.name))
+                            .status(tuple.get(tag.status))
+                            .build());
+        }
+        return tagsByNovel;
     }
 
 
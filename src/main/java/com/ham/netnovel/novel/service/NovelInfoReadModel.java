@@ -0,0 +1,312 @@
+package com.ham.netnovel.novel.service;
+
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ham.netnovel.novel.data.NovelType;
+import com.ham.netnovel.novel.dto.NovelInfoDto;
+import com.ham.netnovel.novel.repository.NovelRepository;
+import com.ham.netnovel.s3.S3Service;
+import com.ham.netnovel.tag.Tag;
+import com.ham.netnovel.tag.dto.TagDataDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 소설 상세 정보({@link NovelInfoDto})를 소설마다 Redis hash 1개로 저장하는 읽기 모델입니다.
+ *
+ * <p>키는 {@code novel_info:{novelId}} 이며, 소설 상세 조회는 키 1개만 조회합니다.
+ * 값이 없으면 집계 쿼리 1번과 태그 조회 쿼리 1번으로 만들어 저장합니다.</p>
+ *
+ * <p>쓰기 작업(에피소드 등록, 선호작 토글, 평균 별점 갱신, 조회수 반영)은 커밋 이후에 해당 필드만 변경합니다.
+ * 값이 없는 소설은 변경하지 않으며, 다음 조회시 DB 에서 다시 만듭니다.
+ * 태그, 제목 등 소설 정보가 바뀌면 값을 삭제합니다.</p>
+ *
+ * <p>값을 만드는 동안 다른 서버의 변경이 누락될 수 있으므로, {@link #verify(Long)} 로 DB 에서 다시 만든 값과 비교하여 보정합니다.</p>
+ */
+@Component
+@Slf4j
+public class NovelInfoReadModel {
+
+    private static final String KEY_PREFIX = "novel_info:";
+
+    //값이 있을때만 필드에 더함
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "end " +
+                    "return nil", Long.class);
+
+    //값이 있을때만 필드를 변경
+    private static final RedisScript<Long> SET_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "return redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "end " +
+                    "return nil", Long.class);
+
+    private static final List<String> FIELDS = List.of("id", "title", "desc", "authorName", "type", "thumbnailUrl",
+            "averageRating", "views", "favoriteCount", "episodeCount", "tags");
+
+    private static final TypeReference<List<TagDataDto>> TAG_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final NovelRepository novelRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final S3Service s3Service;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration ttl;
+
+    private final Counter repaired;
+
+    public NovelInfoReadModel(NovelRepository novelRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              S3Service s3Service,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${novel.info-read-model.ttl-hours:168}") long ttlHours) {
+        this.novelRepository = novelRepository;
+        this.redisTemplate = redisTemplate;
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.repaired = Counter.builder("novel.info.read_model.repaired").register(meterRegistry);
+    }
+
+
+    /**
+     * 소설 상세 정보를 반환합니다. 저장된 값이 없으면 DB 에서 만들어 저장합니다.
+     *
+     * @param novelId 소설 id
+     * @return 소설 상세 정보, 소설이 없으면 빈 Optional
+     */
+    public Optional<NovelInfoDto> get(Long novelId) {
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(novelId));
+            if (hash.keySet().containsAll(FIELDS)) {
+                return Optional.of(fromHash(hash));
+            }
+        } catch (Exception ex) {
+            //Redis 에러시 DB 에서 조회
+            log.error("get 메서드 에러 발생, 소설 상세 정보 조회 실패, novelId={}", novelId, ex);
+        }
+
+        Optional<Map<String, String>> built = build(novelId);
+        built.ifPresent(hash -> save(novelId, hash));
+        return built.map(this::fromHash);
+    }
+
+    /**
+     * DB 에서 다시 만든 값과 저장된 값을 비교하여, 다르면 DB 값으로 덮어씁니다. 저장된 값이 없는 소설은 확인하지 않습니다.
+     *
+     * @param novelId 소설 id
+     * @return 값을 보정했으면 true
+     */
+    public boolean verify(Long novelId) {
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(key(novelId));
+        if (stored.isEmpty()) {
+            return false;
+        }
+        Optional<Map<String, String>> built = build(novelId);
+        if (built.isEmpty()) {
+            //삭제된 소설
+            redisTemplate.delete(key(novelId));
+            return true;
+        }
+        if (new HashMap<>(built.get()).equals(stored)) {
+            return false;
+        }
+        log.warn("소설 상세 정보 불일치 보정, novelId={}, stored={}, rebuilt={}", novelId, stored, built.get());
+        save(novelId, built.get());
+        repaired.increment();
+        return true;
+    }
+
+    /**
+     * id 순서로 소설 {@code batchSize} 개의 저장된 값을 검사합니다.
+     *
+     * @param lastId    이전 배치에서 마지막으로 검사한 소설 id, 처음 호출시 0
+     * @param batchSize 한번에 검사할 소설 수
+     * @return 이번 배치에서 마지막으로 검사한 소설 id, 검사할 소설이 없으면 null
+     */
+    public Long verifyBatch(Long lastId, int batchSize) {
+        List<Long> novelIds = novelRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+        if (novelIds.isEmpty()) {
+            return null;
+        }
+        int repairedCount = 0;
+        for (Long novelId : novelIds) {
+            try {
+                if (verify(novelId)) {
+                    repairedCount++;
+                }
+            } catch (Exception ex) {
+                log.error("verifyBatch 메서드 에러 발생, 소설 상세 정보 검사 실패, novelId={}", novelId, ex);
+            }
+        }
+        Long lastVerifiedId = novelIds.get(novelIds.size() - 1);
+        log.info("소설 상세 정보 검사 배치 완료, 검사 수={}, 보정 수={}, lastId={}", novelIds.size(), repairedCount, lastVerifiedId);
+        return lastVerifiedId;
+    }
+
+    //에피소드가 등록되면 호출, 커밋 이후 반영
+    public void addEpisodeCount(Long novelId, int delta) {
+        afterCommit(() -> increment(novelId, "episodeCount", delta));
+    }
+
+    //선호작이 추가/취소되면 호출, 커밋 이후 반영
+    public void addFavoriteCount(Long novelId, int delta) {
+        afterCommit(() -> increment(novelId, "favoriteCount", delta));
+    }
+
+    //에피소드 조회수가 DB 에 반영되면 호출, 커밋 이후 반영
+    public void addViews(Long novelId, long delta) {
+        afterCommit(() -> increment(novelId, "views", delta));
+    }
+
+    //평균 별점이 갱신되면 호출, 커밋 이후 반영
+    public void updateAverageRating(Long novelId, BigDecimal averageRating) {
+        afterCommit(() -> execute(SET_IF_PRESENT, novelId, "averageRating", averageRating.toPlainString()));
+    }
+
+    //태그, 제목, 섬네일 등 집계값이 아닌 정보가 바뀌면 호출, 커밋 이후 값을 삭제하여 다음 조회시 다시 만듦
+    public void evict(Long novelId) {
+        afterCommit(() -> delete(novelId));
+    }
+
+    //작가 닉네임이 바뀌면 호출, 커밋 이후 작가의 모든 소설 값을 삭제
+    public void evictByAuthor(String providerId) {
+        List<Long> novelIds = novelRepository.findIdsByAuthor(providerId);
+        afterCommit(() -> novelIds.forEach(this::delete));
+    }
+
+
+    //원본 테이블에서 값을 만듦
+    private Optional<Map<String, String>> build(Long novelId) {
+        List<Object[]> rows = novelRepository.findNovelInfoSource(novelId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        List<TagDataDto> tags = novelRepository.findTagsByNovelId(novelId).stream()
+                .map(Tag::getData)
+                .toList();
+        BigDecimal averageRating = row[5] != null ? (BigDecimal) row[5] : BigDecimal.valueOf(0);
+
+        Map<String, String> hash = new HashMap<>();
+        hash.put("id", String.valueOf(novelId));
+        hash.put("title", (String) row[0]);
+        hash.put("desc", (String) row[1]);
+        hash.put("type", row[2] == null ? "" : ((NovelType) row[2]).name());
+        hash.put("thumbnailUrl", s3Service.generateCloudFrontUrl((String) row[3], "original"));
+        hash.put("authorName", (String) row[4]);
+        hash.put("averageRating", averageRating.toPlainString());
+        hash.put("views", String.valueOf(((Number) row[6]).longValue()));
+        hash.put("episodeCount", String.valueOf(((Number) row[7]).longValue()));
+        hash.put("favoriteCount", String.valueOf(((Number) row[8]).longValue()));
+        hash.put("tags", writeTags(tags));
+        return Optional.of(hash);
+    }
+
+    private void save(Long novelId, Map<String, String> hash) {
+        try {
+            String key = key(novelId);
+            redisTemplate.delete(key);
+            redisTemplate.opsForHash().putAll(key, hash);
+            redisTemplate.expire(key, ttl);
+        } catch (Exception ex) {
+            log.error("save 메서드 에러 발생, 소설 상세 정보 저장 실패, novelId={}", novelId, ex);
+        }
+    }
+
+    private NovelInfoDto fromHash(Map<?, ?> hash) {
+        String type = (String) hash.get("type");
+        return NovelInfoDto.builder()
+                .id(Long.valueOf((String) hash.get("id")))
+                .title((String) hash.get("title"))
+                .desc((String) hash.get("desc"))
+                .authorName((String) hash.get("authorName"))
+                .type(type.isEmpty() ? null : NovelType.valueOf(type))
+                .thumbnailUrl((String) hash.get("thumbnailUrl"))
+                .averageRating(new BigDecimal((String) hash.get("averageRating")))
+                .views(Long.valueOf((String) hash.get("views")))
+                .episodeCount(Integer.valueOf((String) hash.get("episodeCount")))
+                .favoriteCount(Integer.valueOf((String) hash.get("favoriteCount")))
+                .tags(readTags((String) hash.get("tags")))
+                .build();
+    }
+
+    private void increment(Long novelId, String field, long delta) {
+        if (delta != 0) {
+            execute(INCREMENT_IF_PRESENT, novelId, field, String.valueOf(delta));
+        }
+    }
+
+    private void execute(RedisScript<Long> script, Long novelId, String field, String value) {
+        try {
+            redisTemplate.execute(script, List.of(key(novelId)), field, value);
+        } catch (Exception ex) {
+            //반영에 실패하면 값을 삭제하여 다음 조회시 다시 만듦
+            log.error("소설 상세 정보 갱신 실패, novelId={}, field={}", novelId, field, ex);
+            delete(novelId);
+        }
+    }
+
+    private void delete(Long novelId) {
+        try {
+            redisTemplate.delete(key(novelId));
+        } catch (Exception ex) {
+            log.error("소설 상세 정보 삭제 실패, novelId={}", novelId, ex);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private String writeTags(List<TagDataDto> tags) {
+        try {
+            return objectMapper.writeValueAsString(tags);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("소설 태그 변환 실패", ex);
+        }
+    }
+
+    private List<TagDataDto> readTags(String tags) {
+        try {
+            return objectMapper.readValue(tags, TAG_LIST_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("소설 태그 변환 실패", ex);
+        }
+    }
+
+    private String key(Long novelId) {
+        return KEY_PREFIX + novelId;
+    }
+}
@@ -0,0 +1,196 @@
+package com.ham.netnovel.novel.service;
+
+
+import com.ham.netnovel.novel.dto.NovelSearchCandidateDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 소설 제목 검색 결과의 관련도 점수를 계산하여 상위 K개를 선택하는 컴포넌트입니다.
+ *
+ * <p>점수는 제목 일치도(완전일치, 접두사일치, 포함, 2-gram 유사도)와 소설의 인기도(총조회수, 총좋아요수),
+ * 최신성(최근 에피소드 업데이트 시간)을 가중합하여 계산합니다. 각 가중치는 설정값으로 변경할 수 있습니다.</p>
+ *
+ * <p>상위 K개 선택은 크기가 K로 제한된 최소 힙을 사용하므로, 계산 비용은 전체 소설 수가 아닌
+ * 후보 수에 비례합니다.</p>
+ */
+@Component
+@Slf4j
+public class NovelSearchScorer {
+
+    //제목 일치 유형별 점수
+    private static final double EXACT_MATCH_SCORE = 1.0;
+    private static final double PREFIX_MATCH_SCORE = 0.8;
+    private static final double CONTAINS_MATCH_SCORE = 0.6;
+    private static final double NGRAM_MATCH_SCORE = 0.5;
+
+    private final double textWeight;
+
+    private final double viewsWeight;
+
+    private final double favoritesWeight;
+
+    private final double recencyWeight;
+
+    //최신성 점수가 절반으로 줄어드는 시간(시간 단위)
+    private final double recencyHalfLifeHours;
+
+    public NovelSearchScorer(@Value("${novel.search.weight.text:0.6}") double textWeight,
+                             @Value("${novel.search.weight.views:0.2}") double viewsWeight,
+                             @Value("${novel.search.weight.favorites:0.1}") double favoritesWeight,
+                             @Value("${novel.search.weight.recency:0.1}") double recencyWeight,
+                             @Value("${novel.search.recency-half-life-hours:168}") double recencyHalfLifeHours) {
+        this.textWeight = textWeight;
+        this.viewsWeight = viewsWeight;
+        this.favoritesWeight = favoritesWeight;
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeHours = recencyHalfLifeHours;
+    }
+
+
+    /**
+     * 후보 소설의 점수를 계산하여 점수가 높은 상위 K개의 소설 id 를 반환합니다.
+     *
+     * <p>조회수, 좋아요수는 후보중 최대값 기준 로그 스케일로 정규화하여 인기 작품이 점수를 독점하지 않도록 합니다.
+     * 점수가 같으면 조회수가 많은 소설, 그 다음 id 가 작은 소설이 앞에 위치합니다.</p>
+     *
+     * @param searchWord 검색어
+     * @param candidates 점수를 계산할 후보 소설 {@link List}
+     * @param k          반환할 소설의 최대 갯수
+     * @return 점수 내림차순으로 정렬된 소설 id {@link List}
+     */
+    public List<Long> selectTopNovelIds(String searchWord, List<NovelSearchCandidateDto> candidates, int k) {
+
+        if (k <= 0 || candidates == null || candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        //정규화 기준이 되는 후보중 최대 조회수, 좋아요수
+        long maxViews = 0;
+        int maxFavorites = 0;
+        for (NovelSearchCandidateDto candidate : candidates) {
+            maxViews = Math.max(maxViews, candidate.getTotalView());
+            maxFavorites = Math.max(maxFavorites, candidate.getTotalFavorites());
+        }
+        double viewsNorm = Math.log1p(maxViews);
+        double favoritesNorm = Math.log1p(maxFavorites);
+
+        String normalizedWord = normalize(searchWord);
+        Set<String> wordBigrams = bigrams(normalizedWord);
+        LocalDateTime now = LocalDateTime.now();
+
+        //점수가 가장 낮은 후보가 root 에 위치하는 최소 힙, 크기를 k로 제한
+        PriorityQueue<ScoredNovel> heap = new PriorityQueue<>(Math.min(k, candidates.size()) + 1);
+        for (NovelSearchCandidateDto candidate : candidates) {
+            double score = textWeight * textScore(normalizedWord, wordBigrams, candidate.getTitle())
+                    + viewsWeight * (viewsNorm == 0 ? 0 : Math.log1p(candidate.getTotalView()) / viewsNorm)
+                    + favoritesWeight * (favoritesNorm == 0 ? 0 : Math.log1p(candidate.getTotalFavorites()) / favoritesNorm)
+                    + recencyWeight * recencyScore(candidate.getLatestUpdateAt(), now);
+
+            ScoredNovel scored = new ScoredNovel(candidate.getId(), candidate.getTotalView(), score);
+            if (heap.size() < k) {
+                heap.offer(scored);
+            } else if (scored.compareTo(heap.peek()) > 0) {
+                //힙의 최저 점수보다 높을 때만 교체
+                heap.poll();
+                heap.offer(scored);
+            }
+        }
+
+        //힙에서 꺼낸 순서(오름차순)를 뒤집어 점수 내림차순으로 반환
+        Long[] novelIds = new Long[heap.size()];
+        for (int i = novelIds.length - 1; i >= 0; i--) {
+            novelIds[i] = heap.poll().novelId;
+        }
+        return Arrays.asList(novelIds);
+    }
+
+
+    /**
+     * 제목 일치도 점수를 계산합니다.
+     *
+     * @param normalizedWord 정규화된 검색어
+     * @param wordBigrams    검색어의 2-gram 집합
+     * @param title          소설 제목
+     * @return 0~1 범위의 제목 일치도 점수
+     */
+    double textScore(String normalizedWord, Set<String> wordBigrams, String title) {
+        if (title == null || normalizedWord.isEmpty()) {
+            return 0;
+        }
+        String normalizedTitle = normalize(title);
+        if (normalizedTitle.equals(normalizedWord)) {
+            return EXACT_MATCH_SCORE;
+        }
+        if (normalizedTitle.startsWith(normalizedWord)) {
+            return PREFIX_MATCH_SCORE;
+        }
+        if (normalizedTitle.contains(normalizedWord)) {
+            return CONTAINS_MATCH_SCORE;
+        }
+
+        //검색어와 제목의 2-gram Dice 계수
+        Set<String> titleBigrams = bigrams(normalizedTitle);
+        if (wordBigrams.isEmpty() || titleBigrams.isEmpty()) {
+            return 0;
+        }
+        int overlap = 0;
+        for (String bigram : wordBigrams) {
+            if (titleBigrams.contains(bigram)) {
+                overlap++;
+            }
+        }
+        return NGRAM_MATCH_SCORE * (2.0 * overlap / (wordBigrams.size() + titleBigrams.size()));
+    }
+
+    //최근 업데이트 시간이 반감기마다 절반으로 줄어드는 0~1 범위의 점수, 업데이트 기록이 없으면 0
+    private double recencyScore(LocalDateTime latestUpdateAt, LocalDateTime now) {
+        if (latestUpdateAt == null || recencyHalfLifeHours <= 0) {
+            return 0;
+        }
+        double ageHours = Math.max(0, Duration.between(latestUpdateAt, now).toMinutes() / 60.0);
+        return Math.pow(0.5, ageHours / recencyHalfLifeHours);
+    }
+
+    //공백 제거, 소문자로 변환
+    private static String normalize(String word) {
+        return word == null ? "" : word.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    //문자열의 2-gram 집합, 한 글자면 해당 글자를 그대로 사용
+    private static Set<String> bigrams(String word) {
+        if (word.length() < 2) {
+            return word.isEmpty() ? Collections.emptySet() : Collections.singleton(word);
+        }
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < word.length() - 1; i++) {
+            result.add(word.substring(i, i + 2));
+        }
+        return result;
+    }
+
+
+    /**
+     * 힙에 저장되는 점수가 계산된 소설 정보
+     */
+    private record ScoredNovel(Long novelId, long totalView, double score) implements Comparable<ScoredNovel> {
+
+        @Override
+        public int compareTo(ScoredNovel other) {
+            int result = Double.compare(score, other.score);
+            if (result == 0) {
+                result = Long.compare(totalView, other.totalView);
+            }
+            if (result == 0) {
+                //id 가 작을수록 우선순위가 높음
+                result = Long.compare(other.novelId, novelId);
+            }
+            return result;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.ham.netnovel.novel.service;
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.novel.data.NovelSearchType;
 import com.ham.netnovel.novel.dto.NovelFavoriteDto;
+import com.ham.netnovel.novel.dto.NovelInfoDto;
+import com.ham.netnovel.novel.dto.NovelCountDto;
 import com.ham.netnovel.novel.dto.NovelListDto;
 import org.springframework.data.domain.Pageable;
 
@@ -32,12 +34,30 @@ public interface NovelSearchService {
     List<NovelListDto> getNovelsBySearchCondition(String sortOrder, Pageable pageable, List<Long> tagIds);
 
 
+    /**
+     * 둘러보기 조건(선택한 태그)에 해당하는 소설의 총 개수를 반환하는 메서드입니다.
+     *
+     * <p>
+     * 별도의 count 쿼리 없이 {@link NovelTagBitmapIndex} 의 태그 비트맵으로 계산합니다.
+     * 메타데이터 버전이 바뀐 직후에는 인덱스가 재구성될때까지 추정값을 반환하며, 이때 exact 값은 false 입니다.
+     * </p>
+     *
+     * @param tagIds 선택한 태그 id 목록, 비어있으면 전체 소설 수
+     * @return 총 개수와 정확한 값 여부를 담은 {@link NovelCountDto}
+     * @throws ServiceMethodException 계산 중 예외 발생 시 예외를 던집니다.
+     */
+    NovelCountDto getNovelCountBySearchCondition(List<Long> tagIds);
+
+
     /**
      * 검색어를 기반으로 소설 목록을 검색하여 반환합니다.
      * <p>
      * 검색된 소설 정보를 NovelListDto로 변환하여 페이징 처리된 결과를 반환합니다.
      * 조회된 소설 목록의 썸네일 URL은 S3 서비스의 CloudFront URL로 변환됩니다.
      * </p>
+     * <p>
+     * 제목 검색은 {@link NovelSearchScorer} 로 제목 일치도와 인기도, 최신성을 합산한 점수 순으로 정렬됩니다.
+     * </p>
      *
      * @param searchWord 유저가 입력한  검색어 {@link String} 객체
      * @param pageable 페이지 정보 및 페이징 조건을 포함하는 {@link Pageable} 객체입니다.
@@ -87,4 +107,22 @@ public interface NovelSearchService {
      */
     List<NovelFavoriteDto> getFavoriteNovels(String providerId);
 
+
+    /**
+     * 소설 id 목록으로 여러 소설의 카드 정보를 한번에 조회하는 메서드입니다.
+     *
+     * <p>
+     * 소설마다 {@link NovelService#getNovelInfo(Long)} 를 호출하면 에피소드, 선호작, 태그가 소설마다 지연 로딩되므로,
+     * projection 조회로 소설 수와 관계없이 일정한 수의 쿼리로 조회합니다.
+     * 반환되는 리스트는 요청한 id 순서를 유지하며, 중복 id 는 한번만, 존재하지 않는 id 는 제외하고 반환합니다.
+     * </p>
+     *
+     * @param novelIds 조회할 소설 id 목록, 최대 100개
+     * @return 소설 카드 정보 {@link NovelInfoDto} 리스트, 섬네일 URL은 CloudFront URL로 변환되어 반환됩니다.
+     * @throws IllegalArgumentException id 목록이 비어있거나 100개를 초과하는 경우
+     * @throws ServiceMethodException 조회 중 예외 발생 시 예외를 던집니다.
+     */
+    List<NovelInfoDto> getNovelCards(List<Long> novelIds);
+
+
 }
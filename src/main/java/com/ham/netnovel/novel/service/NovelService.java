@@ -77,6 +77,31 @@ public interface NovelService {
     NovelInfoDto getNovelInfo(Long novelId);
 
 
+    /**
+     * 소설의 다음 에피소드 번호를 발급합니다. 에피소드 생성 트랜잭션 안에서 호출합니다.
+     * <p>
+     * 소설의 에피소드를 읽지 않고 소설 행의 번호를 DB 에서 1 증가시킨 후 그 값을 반환합니다.
+     * 같은 소설에 동시에 에피소드가 생성되어도 서로 다른 번호가 발급됩니다.
+     *</p>
+     *
+     * @param novelId 소설의 ID
+     * @return 발급된 에피소드 번호
+     * @throws NoSuchElementException 소설 정보를 찾을 수 없을 때 발생
+     */
+    int issueNextChapter(Long novelId);
+
+
+    /**
+     * 소설의 연속된 에피소드 번호 {@code count} 개를 한번에 발급합니다. 에피소드 일괄 등록 트랜잭션 안에서 호출합니다.
+     *
+     * @param novelId 소설의 ID
+     * @param count   발급할 번호 수
+     * @return 발급된 번호 중 가장 큰 번호, 가장 작은 번호는 반환값 - count + 1
+     * @throws NoSuchElementException 소설 정보를 찾을 수 없을 때 발생
+     */
+    int issueChapters(Long novelId, int count);
+
+
 
     /**
      * 별점 점수가 있는 Novel의 id값들을 List로 반환하는 메서드
@@ -0,0 +1,187 @@
+package com.ham.netnovel.novel.service;
+
+
+import com.ham.netnovel.novel.dto.NovelCountDto;
+import com.ham.netnovel.novel.repository.NovelRepository;
+import com.ham.netnovel.novelMetaData.service.NovelMetaDataVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 소설 둘러보기 목록의 총 개수를 계산하기 위한 태그별 소설 비트맵 인덱스입니다.
+ *
+ * <p>태그 id 마다 해당 태그를 가진 소설 id 를 {@link BitSet} 으로 저장합니다. 여러 태그를 선택한 경우
+ * 비트맵 AND 연산의 cardinality 가 목록의 총 개수가 되므로, GROUP BY 가 포함된 count 쿼리를 실행하지 않습니다.</p>
+ *
+ * <p>인덱스는 {@link NovelMetaDataVersion} 버전과 함께 저장됩니다. 버전이 바뀌면 비동기로 재구성하며,
+ * 재구성이 끝나기 전까지는 이전 인덱스로 계산한 추정값(exact=false)을 반환합니다.
+ * 정확한 값은 버전과 필터별로 캐싱합니다.</p>
+ *
+ * <p>Redis 장애로 버전을 알 수 없으면 캐시를 사용하지 않고 현재 인덱스의 추정값을 반환합니다.
+ * 이때 만든 인덱스는 장애가 복구된 뒤 버전이 달라지므로 비동기로 다시 재구성됩니다.</p>
+ */
+@Component
+@Slf4j
+public class NovelTagBitmapIndex {
+
+    //캐싱할 필터 조합의 최대 갯수, 초과하면 캐시를 비움
+    private static final int MAX_CACHED_FILTERS = 1_000;
+
+    private final NovelRepository novelRepository;
+
+    private final NovelMetaDataVersion novelMetaDataVersion;
+
+    //현재 사용중인 인덱스, 재구성시 통째로 교체
+    private volatile Snapshot snapshot;
+
+    //재구성 중복 실행 방지
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    //"버전:정렬된 태그 id" 를 key 로 정확한 총 개수 캐싱
+    private final Map<String, Long> countCache = new ConcurrentHashMap<>();
+
+    public NovelTagBitmapIndex(NovelRepository novelRepository, NovelMetaDataVersion novelMetaDataVersion) {
+        this.novelRepository = novelRepository;
+        this.novelMetaDataVersion = novelMetaDataVersion;
+    }
+
+
+    /**
+     * 선택한 태그를 모두 가진 소설의 총 개수를 반환합니다.
+     *
+     * @param tagIds 선택한 태그 id 목록, null 이거나 비어있으면 전체 소설 수 반환
+     * @return 총 개수와 정확한 값인지 여부를 담은 {@link NovelCountDto}
+     */
+    public NovelCountDto count(List<Long> tagIds) {
+
+        long version = novelMetaDataVersion.getVersion();
+        if (version == NovelMetaDataVersion.UNKNOWN_VERSION) {
+            //버전을 알 수 없으면 캐시를 사용하지 않고 현재 인덱스로 추정값 반환, 인덱스가 없으면 DB 에서 생성
+            Snapshot current = snapshot;
+            if (current == null) {
+                current = rebuild(version);
+            }
+            return new NovelCountDto(current.count(tagIds), false);
+        }
+        String cacheKey = version + ":" + normalizeTagIds(tagIds);
+
+        //같은 버전에서 계산한 값이 있으면 바로 반환
+        Long cached = countCache.get(cacheKey);
+        if (cached != null) {
+            return new NovelCountDto(cached, true);
+        }
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            //첫 호출은 인덱스를 동기로 생성
+            current = rebuild(version);
+        } else if (current.version != version) {
+            //버전이 바뀌었으면 비동기로 재구성하고, 이전 인덱스로 추정값 반환
+            rebuildAsync(version);
+            return new NovelCountDto(current.count(tagIds), false);
+        }
+
+        long totalCount = current.count(tagIds);
+        if (countCache.size() >= MAX_CACHED_FILTERS) {
+            countCache.clear();
+        }
+        countCache.put(cacheKey, totalCount);
+        return new NovelCountDto(totalCount, true);
+    }
+
+
+    /**
+     * DB 에서 소설-태그 관계를 읽어 인덱스를 새로 만들고 교체합니다.
+     *
+     * @param version 인덱스를 만들기 직전에 읽은 메타데이터 버전
+     * @return 새로 만든 인덱스
+     */
+    private synchronized Snapshot rebuild(long version) {
+        //다른 스레드가 이미 같은 버전으로 재구성했으면 그대로 사용
+        Snapshot current = snapshot;
+        if (current != null && current.version == version) {
+            return current;
+        }
+
+        Map<Long, BitSet> tagBitmaps = new HashMap<>();
+        for (Object[] pair : novelRepository.findListedNovelTagPairs()) {
+            int novelId = Math.toIntExact((Long) pair[0]);
+            tagBitmaps.computeIfAbsent((Long) pair[1], key -> new BitSet()).set(novelId);
+        }
+        Snapshot created = new Snapshot(version, novelRepository.countListedNovels(), tagBitmaps);
+
+        this.snapshot = created;
+        //이전 버전의 캐시는 더이상 사용되지 않으므로 비움
+        countCache.keySet().removeIf(key -> !key.startsWith(version + ":"));
+        log.info("소설 태그 비트맵 인덱스 재구성 완료, version={}, 태그 수={}", version, tagBitmaps.size());
+        return created;
+    }
+
+    private void rebuildAsync(long version) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            try {
+                rebuild(version);
+            } catch (Exception ex) {
+                log.error("rebuildAsync 메서드 에러 발생, 소설 태그 비트맵 인덱스 재구성 실패", ex);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    //캐시 key 로 사용하기 위해 태그 id 를 중복 제거, 정렬
+    private String normalizeTagIds(List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return "";
+        }
+        return new TreeSet<>(tagIds).toString();
+    }
+
+
+    /**
+     * 특정 버전의 불변 인덱스
+     */
+    private static final class Snapshot {
+
+        private final long version;
+
+        //메타데이터가 있는 전체 소설 수
+        private final long totalCount;
+
+        private final Map<Long, BitSet> tagBitmaps;
+
+        private Snapshot(long version, long totalCount, Map<Long, BitSet> tagBitmaps) {
+            this.version = version;
+            this.totalCount = totalCount;
+            this.tagBitmaps = tagBitmaps;
+        }
+
+        private long count(List<Long> tagIds) {
+            if (tagIds == null || tagIds.isEmpty()) {
+                return totalCount;
+            }
+            BitSet result = null;
+            for (Long tagId : new TreeSet<>(tagIds)) {
+                BitSet bitmap = tagBitmaps.get(tagId);
+                //소설이 하나도 없는 태그가 포함되면 결과는 0
+                if (bitmap == null) {
+                    return 0;
+                }
+                if (result == null) {
+                    result = (BitSet) bitmap.clone();
+                } else {
+                    result.and(bitmap);
+                }
+            }
+            return result == null ? 0 : result.cardinality();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.ham.netnovel.novel.dto.NovelCreateDto;
 import com.ham.netnovel.novel.dto.NovelUpdateDto;
 import com.ham.netnovel.novel.repository.NovelRepository;
 import com.ham.netnovel.novel.service.NovelEditingService;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.novelTag.dto.NovelTagCreateDto;
 import com.ham.netnovel.novelTag.dto.NovelTagDeleteDto;
 import com.ham.netnovel.novelTag.service.NovelTagService;
@@ -36,10 +37,13 @@ public class NovelEditingServiceImpl implements NovelEditingService {
 
     private final NovelRepository novelRepository;
 
-    public NovelEditingServiceImpl(NovelTagService novelTagService, MemberService memberService, NovelRepository novelRepository) {
+    private final NovelInfoReadModel novelInfoReadModel;
+
+    public NovelEditingServiceImpl(NovelTagService novelTagService, MemberService memberService, NovelRepository novelRepository, NovelInfoReadModel novelInfoReadModel) {
         this.novelTagService = novelTagService;
         this.memberService = memberService;
         this.novelRepository = novelRepository;
+        this.novelInfoReadModel = novelInfoReadModel;
     }
 
 
@@ -127,6 +131,8 @@ public class NovelEditingServiceImpl implements NovelEditingService {
             updateNovelIfPresent(novel::updateType, novelUpdateDto.getType());
             //DB에 Novel 엔티티 변경내용 저장
             novelRepository.save(novel);
+            //커밋 이후 소설 상세 정보 읽기 모델 삭제
+            novelInfoReadModel.evict(novel.getId());
 
             // 유저가 선택한 태그 이름을 양쪽 공백 제거 후 중복 제거 후 List 객체 생성
             List<String> newTagNames = novelUpdateDto.getTagNames()
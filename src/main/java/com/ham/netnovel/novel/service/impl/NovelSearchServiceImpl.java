@@ -5,20 +5,26 @@ import com.ham.netnovel.common.utils.TypeValidationUtil;
 import com.ham.netnovel.novel.Novel;
 import com.ham.netnovel.novel.data.NovelSearchType;
 import com.ham.netnovel.novel.data.NovelSortOrder;
+import com.ham.netnovel.novel.dto.NovelCountDto;
 import com.ham.netnovel.novel.dto.NovelFavoriteDto;
+import com.ham.netnovel.novel.dto.NovelInfoDto;
 import com.ham.netnovel.novel.dto.NovelListDto;
+import com.ham.netnovel.novel.dto.NovelSearchCandidateDto;
 import com.ham.netnovel.novel.repository.NovelRepository;
+import com.ham.netnovel.novel.service.NovelSearchScorer;
 import com.ham.netnovel.novel.service.NovelSearchService;
+import com.ham.netnovel.novel.service.NovelTagBitmapIndex;
 import com.ham.netnovel.novelRanking.service.NovelRankingService;
 import com.ham.netnovel.s3.S3Service;
 import com.ham.netnovel.tag.dto.TagDataDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,10 +42,28 @@ public class NovelSearchServiceImpl implements NovelSearchService {
 
     private final NovelRankingService novelRankingService;
 
-    public NovelSearchServiceImpl(NovelRepository novelRepository, S3Service s3Service, NovelRankingService novelRankingService) {
+    private final NovelSearchScorer novelSearchScorer;
+
+    private final NovelTagBitmapIndex novelTagBitmapIndex;
+
+    //getNovelCards 로 한번에 조회할 수 있는 소설의 최대 갯수
+    public static final int MAX_NOVEL_CARDS = 100;
+
+    //제목 검색시 점수를 계산할 후보 소설의 최대 갯수
+    private final int searchCandidateLimit;
+
+    public NovelSearchServiceImpl(NovelRepository novelRepository,
+                                  S3Service s3Service,
+                                  NovelRankingService novelRankingService,
+                                  NovelSearchScorer novelSearchScorer,
+                                  NovelTagBitmapIndex novelTagBitmapIndex,
+                                  @Value("${novel.search.candidate-limit:1000}") int searchCandidateLimit) {
         this.novelRepository = novelRepository;
         this.s3Service = s3Service;
         this.novelRankingService = novelRankingService;
+        this.novelSearchScorer = novelSearchScorer;
+        this.novelTagBitmapIndex = novelTagBitmapIndex;
+        this.searchCandidateLimit = searchCandidateLimit;
     }
 
     @Override
@@ -62,6 +86,16 @@ public class NovelSearchServiceImpl implements NovelSearchService {
 
         }
     }
+    @Override
+    public NovelCountDto getNovelCountBySearchCondition(List<Long> tagIds) {
+        try {
+            //태그 비트맵 인덱스로 총 개수 계산
+            return novelTagBitmapIndex.count(tagIds);
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getNovelCountBySearchCondition 메서드 에러" + ex + ex.getMessage());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<NovelListDto> getNovelsBySearchWord(String searchWord, NovelSearchType novelSearchType, Pageable pageable) {
@@ -76,8 +110,8 @@ public class NovelSearchServiceImpl implements NovelSearchService {
             switch (novelSearchType) {
                 //작가이름 검색
                 case AUTHOR_NAME -> novelListDtos = novelRepository.findByAuthorName(validateWord, pageable);
-                //소설제목 검색
-                default -> novelListDtos = novelRepository.findBySearchWord(validateWord, pageable);
+                //소설제목 검색, 관련도 점수 순으로 정렬
+                default -> novelListDtos = getNovelsByTitleRelevance(validateWord, pageable);
             }
             return generateThumbnailUrls(novelListDtos);
 
@@ -87,6 +121,38 @@ public class NovelSearchServiceImpl implements NovelSearchService {
     }
 
 
+    /**
+     * 제목 검색 결과를 관련도 점수 순으로 정렬하여 현재 페이지의 소설 목록을 반환합니다.
+     *
+     * <p>Full-Text 검색으로 후보 소설의 id와 메타데이터만 조회한 후, {@link NovelSearchScorer}로
+     * 현재 페이지 끝까지의 상위 K개를 선택합니다. 이후 현재 페이지에 해당하는 소설만 상세 정보를 조회합니다.</p>
+     *
+     * @param searchWord 검증된 검색어
+     * @param pageable   페이지 정보
+     * @return 관련도 순으로 정렬된 {@link NovelListDto} 리스트, 후보 범위를 벗어난 페이지는 빈 리스트
+     */
+    private List<NovelListDto> getNovelsByTitleRelevance(String searchWord, Pageable pageable) {
+
+        //현재 페이지의 시작 인덱스, 후보 범위를 벗어나면 빈 리스트 반환
+        int startIndex = (int) pageable.getOffset();
+        if (startIndex >= searchCandidateLimit) {
+            return Collections.emptyList();
+        }
+
+        //점수 계산용 후보 조회
+        List<NovelSearchCandidateDto> candidates = novelRepository.findSearchCandidates(searchWord, searchCandidateLimit);
+
+        //현재 페이지 끝까지 상위 K개 선택
+        List<Long> rankedIds = novelSearchScorer.selectTopNovelIds(searchWord, candidates, startIndex + pageable.getPageSize());
+        if (startIndex >= rankedIds.size()) {
+            return Collections.emptyList();
+        }
+
+        //현재 페이지에 해당하는 소설만 상세 정보 조회(점수 순서 유지)
+        return novelRepository.findNovelListDtosByIds(rankedIds.subList(startIndex, rankedIds.size()));
+    }
+
+
     @Override
     @Transactional(readOnly = true)
     public List<NovelListDto> getNovelsByRanking(String period, Pageable pageable) {
@@ -110,13 +176,9 @@ public class NovelSearchServiceImpl implements NovelSearchService {
                 novelIds.add((Long) rankingDatas.get("novelId"));
             }
 
-            // 소설 엔티티를 조회한 후, 랭킹 순서대로 정렬하고 DTO로 변환하여 반환
-            // JPA는 기본적으로 ID 순으로 정렬하므로, 랭킹 순서대로 정렬
-            return novelRepository.findByNovelIds(novelIds)
-                    .stream()
-                    .sorted(Comparator.comparing(novel -> novelIds.indexOf(novel.getId()))) // 랭킹 순서로 정렬(JPA는 엔티티 id 순서로 정렬함)
-                    .map(this::convertEntityToListDto)//엔티티 DTO로 변환
-                    .collect(Collectors.toList());
+            // 소설 카드 정보를 랭킹 순서(id 순서)대로 조회하여 섬네일 URL 생성후 반환
+            // 둘러보기, 검색과 같은 projection 조회를 사용하므로 소설 수와 관계없이 쿼리 수가 일정함
+            return generateThumbnailUrls(novelRepository.findNovelListDtosByIds(novelIds));
 
         } catch (Exception ex) {
             throw new ServiceMethodException("getNovelsByRanking 메서드 에러 발생" + ex.getMessage());
@@ -124,6 +186,32 @@ public class NovelSearchServiceImpl implements NovelSearchService {
         }
 
     }
+    @Override
+    @Transactional(readOnly = true)
+    public List<NovelInfoDto> getNovelCards(List<Long> novelIds) {
+
+        //파라미터 검증, null 이거나 비어있으면 안되고 최대 100개까지 조회 가능
+        if (novelIds == null || novelIds.isEmpty()) {
+            throw new IllegalArgumentException("getNovelCards 메서드 에러, 소설 id 목록이 비어있습니다.");
+        }
+        //중복 id 제거, 요청 순서는 유지
+        List<Long> distinctIds = novelIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_NOVEL_CARDS) {
+            throw new IllegalArgumentException("getNovelCards 메서드 에러, 한번에 조회할 수 있는 소설 수를 초과했습니다. size=" + distinctIds.size());
+        }
+
+        try {
+            //소설 카드 정보를 요청한 순서대로 조회(쿼리 수 일정), 섬네일 URL 생성
+            return novelRepository.findNovelInfoDtosByIds(distinctIds)
+                    .stream()
+                    .peek(novelInfoDto -> novelInfoDto.setThumbnailUrl(
+                            s3Service.generateCloudFrontUrl(novelInfoDto.getThumbnailUrl(), "original")))
+                    .collect(Collectors.toList());
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getNovelCards 메서드 에러 발생" + ex + ex.getMessage());
+        }
+    }
+
     //단순히 엔티티 List만 반환하는 메서드
     //Null체크, DTO 변환은 MemberMyPageService에서 진행
     @Override
@@ -141,31 +229,6 @@ public class NovelSearchServiceImpl implements NovelSearchService {
     }
 
 
-    /**
-     * 랭킹과 같이 대량의 소설정보를 전달시 사용하는 DTO로 변환하는 메서드 입니다.
-     *
-     * @param novel 소설 엔티티
-     * @return NovelListDto
-     */
-    NovelListDto convertEntityToListDto(Novel novel) {
-        //작품의 태그들 가져오기
-        List<TagDataDto> dataDtoList = novel.getNovelTags().stream()
-                .map(novelTag -> novelTag.getTag().getData())
-                .toList();
-
-        //AWS cloud front 섬네일 이미지 URL 객체 반환
-        String thumbnailUrl = s3Service.generateCloudFrontUrl(novel.getThumbnailFileName(), "mini");
-
-        //DTO 반환
-        return NovelListDto.builder()
-                .thumbnailUrl(String.valueOf(thumbnailUrl))
-                .title(novel.getTitle())
-                .authorName(novel.getAuthor().getNickName())
-                .id(novel.getId())
-                .totalFavorites(novel.getFavorites().size())
-                .tags(dataDtoList).build();
-    }
-
     NovelFavoriteDto convertEntityToFavoriteDto(Novel novel){
 
         //작품의 태그들 가져오기
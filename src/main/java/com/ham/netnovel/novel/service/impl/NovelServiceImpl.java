@@ -6,6 +6,7 @@ import com.ham.netnovel.novel.Novel;
 import com.ham.netnovel.novel.repository.NovelRepository;
 import com.ham.netnovel.novel.data.NovelStatus;
 import com.ham.netnovel.novel.dto.*;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.novel.service.NovelService;
 import com.ham.netnovel.novelAverageRating.NovelAverageRating;
 import com.ham.netnovel.s3.S3Service;
@@ -28,12 +29,14 @@ import java.util.stream.Collectors;
 public class NovelServiceImpl implements NovelService {
     private final NovelRepository novelRepository;
     private final S3Service s3Service;
+    private final NovelInfoReadModel novelInfoReadModel;
 
 
     @Autowired
-    public NovelServiceImpl(NovelRepository novelRepository, S3Service s3Service) {
+    public NovelServiceImpl(NovelRepository novelRepository, S3Service s3Service, NovelInfoReadModel novelInfoReadModel) {
         this.novelRepository = novelRepository;
         this.s3Service = s3Service;
+        this.novelInfoReadModel = novelInfoReadModel;
     }
 
     @Override
@@ -91,22 +94,33 @@ public class NovelServiceImpl implements NovelService {
         //Novel 삭제 처리
         targetNovel.changeStatus(NovelStatus.DELETED_BY_USER);
         novelRepository.save(targetNovel);
+        novelInfoReadModel.evict(targetNovel.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public NovelInfoDto getNovelInfo(Long novelId) {
-        //Novel DB 데이터 검증
-        Novel targetNovel = novelRepository.findById(novelId)
+        //읽기 모델에서 조회, 없으면 집계 쿼리로 만들어 저장
+        return novelInfoReadModel.get(novelId)
                 .orElseThrow(() -> new NoSuchElementException("getNovelInfo 에러, Novel 정보가 없습니다 novel id="+novelId));
-        try {
-            return convertEntityToInfoDto(targetNovel);
-        } catch (Exception ex) {
-            throw new ServiceMethodException("getNovelInfo 메서드 에러 발생: " + ex.getMessage());
-        }
     }
 
 
+    @Override
+    @Transactional
+    public int issueNextChapter(Long novelId) {
+        return issueChapters(novelId, 1);
+    }
+
+    @Override
+    @Transactional
+    public int issueChapters(Long novelId, int count) {
+        if (novelRepository.increaseLastChapter(novelId, count) == 0) {
+            throw new NoSuchElementException("issueChapters 에러, Novel 정보가 없습니다 novel id=" + novelId);
+        }
+        return novelRepository.findLastChapter(novelId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Long> getRatedNovelIds() {
@@ -145,6 +159,8 @@ public class NovelServiceImpl implements NovelService {
             novel.updateThumbnailFileName(fileName);
             //수정된 Novel 엔티티 DB에 저장
             novelRepository.save(novel);
+            //커밋 이후 소설 상세 정보 읽기 모델 삭제
+            novelInfoReadModel.evict(novel.getId());
             //true 반환
             return true;
 
@@ -220,7 +236,7 @@ public class NovelServiceImpl implements NovelService {
         String thumbnailUrl = s3Service.generateCloudFrontUrl(novel.getThumbnailFileName(), "original");
 
         //작품의 모든 에피소드 조회수 총합
-        int viewsSum = novel.getEpisodes().stream().mapToInt(Episode::getView).sum();
+        long viewsSum = novel.getEpisodes().stream().mapToLong(Episode::getView).sum();
 
         return NovelInfoDto.builder()
                 .id(novel.getId())
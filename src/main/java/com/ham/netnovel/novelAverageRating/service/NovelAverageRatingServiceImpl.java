@@ -2,6 +2,7 @@ package com.ham.netnovel.novelAverageRating.service;
 
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.novel.service.NovelService;
 import com.ham.netnovel.novelAverageRating.NovelAverageRating;
 import com.ham.netnovel.novelAverageRating.NovelAverageRatingRepository;
@@ -28,10 +29,13 @@ public class NovelAverageRatingServiceImpl implements NovelAverageRatingService
 
     private final NovelService novelService;
 
-    public NovelAverageRatingServiceImpl(NovelAverageRatingRepository novelAverageRatingRepository, NovelRatingService novelRatingService, NovelService novelService) {
+    private final NovelInfoReadModel novelInfoReadModel;
+
+    public NovelAverageRatingServiceImpl(NovelAverageRatingRepository novelAverageRatingRepository, NovelRatingService novelRatingService, NovelService novelService, NovelInfoReadModel novelInfoReadModel) {
         this.novelAverageRatingRepository = novelAverageRatingRepository;
         this.novelRatingService = novelRatingService;
         this.novelService = novelService;
+        this.novelInfoReadModel = novelInfoReadModel;
     }
 
 
@@ -79,6 +83,8 @@ public class NovelAverageRatingServiceImpl implements NovelAverageRatingService
                 updateNovelAverageRating(novelAverageRating, averageValue, listSize);
                 log.info("NovelAverageRating 갱신 완료, novelId =" + novelId);
             }
+            //커밋 이후 소설 상세 정보의 평균 별점 변경
+            novelInfoReadModel.updateAverageRating(novelId, averageValue);
         } catch (Exception ex) {
             //나머지 예외처리
             throw new ServiceMethodException("updateNovelAverageRating 메서드 에러 발생" + ex.getMessage());
@@ -26,10 +26,13 @@ public class NovelMetaDataServiceImpl implements NovelMetaDataService {
 
     private final NovelMetaDataRepository novelMetaDataRepository;
 
+    private final NovelMetaDataVersion novelMetaDataVersion;
 
-    public NovelMetaDataServiceImpl(NovelService novelService, NovelMetaDataRepository novelMetaDataRepository) {
+
+    public NovelMetaDataServiceImpl(NovelService novelService, NovelMetaDataRepository novelMetaDataRepository, NovelMetaDataVersion novelMetaDataVersion) {
         this.novelService = novelService;
         this.novelMetaDataRepository = novelMetaDataRepository;
+        this.novelMetaDataVersion = novelMetaDataVersion;
     }
 
 
@@ -70,6 +73,8 @@ public class NovelMetaDataServiceImpl implements NovelMetaDataService {
                                         .ifPresent(novel -> {
                                             NovelMetaData novelMetaData = buildNovelMetaDataEntity(novel, 0L, 0, latestDate);
                                             novelMetaDataRepository.save(novelMetaData);
+                                            //목록에 노출되는 소설이 추가되었으므로 메타데이터 버전 증가
+                                            novelMetaDataVersion.increaseVersion();
                                         });
                                 log.warn("소설 NovelMetaDate 엔티티 생성 완료, novelId={}", novelId);
                             });
@@ -139,6 +144,8 @@ public class NovelMetaDataServiceImpl implements NovelMetaDataService {
                                                  MetaDataType type) {
 
         List<NovelMetaData> novelMetaDataList = new ArrayList<>();
+        //새로 생성된 메타데이터 수
+        int createdCount = 0;
 
         for (Long novelId : novelIds) {
 
@@ -178,6 +185,7 @@ public class NovelMetaDataServiceImpl implements NovelMetaDataService {
 
                 //List에 엔티티 저장
                 novelMetaDataList.add(createdNovelMetaData);
+                createdCount++;
 
                 //로그출력
                 log.info("NovelMetaData 엔티티 생성, novelId={}", novelId);
@@ -197,6 +205,10 @@ public class NovelMetaDataServiceImpl implements NovelMetaDataService {
         try {
             novelMetaDataRepository.saveAll(novelMetaDataList);
             log.info("NovelMetaData 엔티티 DB 저장 완료, 엔티티 수 ={}", novelMetaDataList.size());
+            //목록에 노출되는 소설이 추가되었으면 메타데이터 버전 증가
+            if (createdCount > 0) {
+                novelMetaDataVersion.increaseVersion();
+            }
 
         } catch (Exception ex) {
             throw new ServiceMethodException("updateOrCreateNovelMetaData 메서드 에러" + ex + ex.getMessage());
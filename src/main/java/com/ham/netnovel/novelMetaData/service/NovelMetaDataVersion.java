@@ -0,0 +1,78 @@
+package com.ham.netnovel.novelMetaData.service;
+
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 소설 목록 구성이 바뀔때마다 증가하는 메타데이터 버전을 관리하는 컴포넌트입니다.
+ *
+ * <p>소설 메타데이터가 새로 생성되거나(목록에 노출되는 소설 추가), 소설의 태그가 추가/삭제되면 버전이 증가합니다.
+ * 목록 총 개수와 같이 메타데이터로부터 계산한 값을 캐싱할때, 캐시 키에 버전을 포함하여 무효화 여부를 판단합니다.</p>
+ *
+ * <p>여러 서버 인스턴스가 같은 버전을 보도록 Redis 에 저장합니다.</p>
+ */
+@Component
+@Slf4j
+public class NovelMetaDataVersion {
+
+    //Redis key
+    private static final String VERSION_KEY = "novel_meta_data:version";
+
+    //Redis 장애로 버전을 조회하지 못했을때 반환하는 값
+    public static final long UNKNOWN_VERSION = -1L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public NovelMetaDataVersion(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 현재 메타데이터 버전을 반환합니다. 버전이 저장되어 있지 않으면 0을 반환합니다.
+     *
+     * <p>목록 조회 경로에서 호출되므로 Redis 조회에 실패해도 예외를 던지지 않고
+     * {@link #UNKNOWN_VERSION} 을 반환합니다. 호출한 쪽은 버전 기반 캐시를 사용하지 않아야 합니다.</p>
+     *
+     * @return 현재 버전, 조회에 실패하면 {@link #UNKNOWN_VERSION}
+     */
+    public long getVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (Exception ex) {
+            log.error("getVersion 메서드 에러 발생, 소설 메타데이터 버전 조회 실패", ex);
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    /**
+     * 메타데이터 버전을 1 증가시킵니다. 증가에 실패해도 호출한 작업은 계속 진행합니다.
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 증가시킵니다. 커밋 전에 증가시키면 다른 스레드가
+     * 커밋되지 않은 데이터로 새 버전의 캐시를 만들 수 있기 때문입니다.</p>
+     */
+    public void increaseVersion() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increaseVersionNow();
+                }
+            });
+            return;
+        }
+        increaseVersionNow();
+    }
+
+    private void increaseVersionNow() {
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (Exception ex) {
+            log.error("increaseVersion 메서드 에러 발생, 소설 메타데이터 버전 증가 실패", ex);
+        }
+    }
+}
@@ -142,4 +142,14 @@ public interface NovelRankingService {
     List<Map<String, Object>> getNovelRankingFromRedis(String period, Integer startIndex, Integer endIndex);
 
 
+    /**
+     * 오늘 날짜 랭킹 보드의 버전을 반환하는 메서드
+     * <p>랭킹이 Redis 에 저장되거나 삭제될때마다 버전이 증가합니다. 랭킹 목록 조건부 GET 의 ETag 를 만드는데 사용합니다.</p>
+     *
+     * @param period daily, weekly, monthly 중 하나의 기간
+     * @return "날짜:버전" 형식의 문자열, 오늘 저장된 랭킹이 없으면 버전은 0
+     */
+    String getNovelRankingBoardVersion(String period);
+
+
 }
@@ -357,6 +357,8 @@ public class NovelRankingServiceImpl implements NovelRankingService {
         }
         // redis에  데이터 만료 시간 설정, 1일로 설정
         redisTemplate.expire(key, Duration.ofDays(1));
+        //랭킹 보드 버전 증가
+        increaseBoardVersion(periodForKey);
     }
 
     @Override
@@ -371,6 +373,8 @@ public class NovelRankingServiceImpl implements NovelRankingService {
 
         String key = periodForKey + "_rankings:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         redisTemplate.delete(key);
+        //랭킹 보드 버전 증가
+        increaseBoardVersion(periodForKey);
 
 
     }
@@ -407,5 +411,24 @@ public class NovelRankingServiceImpl implements NovelRankingService {
 
     }
 
+    @Override
+    public String getNovelRankingBoardVersion(String period) {
+        String periodForKey = switch (period) {
+            case "weekly" -> "weekly";
+            case "monthly" -> "monthly";
+            default -> "daily";
+        };
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String version = redisTemplate.opsForValue().get(periodForKey + "_rankings_version:" + today);
+        return today + ":" + (version == null ? "0" : version);
+    }
+
+    //오늘 날짜 랭킹 보드 버전을 1 증가, 랭킹 데이터와 같이 1일 후 만료
+    private void increaseBoardVersion(String periodForKey) {
+        String versionKey = periodForKey + "_rankings_version:" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, Duration.ofDays(1));
+    }
+
 
 }
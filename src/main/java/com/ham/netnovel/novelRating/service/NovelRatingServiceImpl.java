@@ -37,8 +37,8 @@ public class NovelRatingServiceImpl implements NovelRatingService {
     @Transactional
     public void saveNovelRating(NovelRatingSaveDto novelRatingSaveDto) {
 
-        //멤버 엔티티 조회, 없을경우 예외로 던짐
-        Member member = memberService.getMember(novelRatingSaveDto.getProviderId())
+        //멤버 프록시 조회(SELECT 없음), 없을경우 예외로 던짐
+        Member member = memberService.getMemberReference(novelRatingSaveDto.getProviderId())
                 .orElseThrow(() ->
                         new NoSuchElementException("saveNovelRating 메서드 에러, 유저 정보가 null입니다. providerId=" + novelRatingSaveDto.getProviderId()));
 
@@ -2,6 +2,7 @@ package com.ham.netnovel.novelTag.service;
 
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.novel.Novel;
+import com.ham.netnovel.novel.service.NovelInfoReadModel;
 import com.ham.netnovel.novel.service.NovelService;
 import com.ham.netnovel.novelTag.NovelTag;
 import com.ham.netnovel.novelTag.NovelTagId;
@@ -9,6 +10,7 @@ import com.ham.netnovel.novelTag.NovelTagRepository;
 import com.ham.netnovel.novelTag.dto.NovelTagCreateDto;
 import com.ham.netnovel.novelTag.dto.NovelTagDeleteDto;
 import com.ham.netnovel.novelTag.dto.NovelTagListDto;
+import com.ham.netnovel.novelMetaData.service.NovelMetaDataVersion;
 import com.ham.netnovel.tag.Tag;
 import com.ham.netnovel.tag.service.TagService;
 import lombok.extern.slf4j.Slf4j;
@@ -27,12 +29,16 @@ public class NovelTagServiceImpl implements NovelTagService {
     private final NovelTagRepository novelTagRepository;
     private final NovelService novelService;
     private final TagService tagService;
+    private final NovelMetaDataVersion novelMetaDataVersion;
+    private final NovelInfoReadModel novelInfoReadModel;
 
     @Autowired
-    public NovelTagServiceImpl(NovelTagRepository novelTagRepository, NovelService novelService, TagService tagService) {
+    public NovelTagServiceImpl(NovelTagRepository novelTagRepository, NovelService novelService, TagService tagService, NovelMetaDataVersion novelMetaDataVersion, NovelInfoReadModel novelInfoReadModel) {
         this.novelTagRepository = novelTagRepository;
         this.novelService = novelService;
         this.tagService = tagService;
+        this.novelMetaDataVersion = novelMetaDataVersion;
+        this.novelInfoReadModel = novelInfoReadModel;
     }
 
     @Override
@@ -87,6 +93,10 @@ public class NovelTagServiceImpl implements NovelTagService {
                                 .novel(novel)
                                 .tag(tag)
                                 .build());
+                        //태그별 소설 목록이 바뀌었으므로 메타데이터 버전 증가
+                        novelMetaDataVersion.increaseVersion();
+                        //커밋 이후 소설 상세 정보 읽기 모델 삭제
+                        novelInfoReadModel.evict(novel.getId());
 
                         return true;
                     });
@@ -110,6 +120,10 @@ public class NovelTagServiceImpl implements NovelTagService {
         try {
             //해당 NovelTag 삭제
             novelTagRepository.delete(novelTag);
+            //태그별 소설 목록이 바뀌었으므로 메타데이터 버전 증가
+            novelMetaDataVersion.increaseVersion();
+            //커밋 이후 소설 상세 정보 읽기 모델 삭제
+            novelInfoReadModel.evict(deleteDto.getNovelId());
 
         } catch (Exception ex) {
             throw new ServiceMethodException("deleteNovelTag() Error : " + ex.getMessage());
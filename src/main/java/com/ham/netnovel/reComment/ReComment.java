@@ -3,12 +3,12 @@ package com.ham.netnovel.reComment;
 
 import com.ham.netnovel.comment.Comment;
 import com.ham.netnovel.comment.CommentStatus;
-import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.member.Member;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,6 +19,10 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @Getter
+@Table(name = "re_comment", indexes = @Index(
+        //유저가 작성한 대댓글 최신순 조회
+        name = "idx_re_comment_member_created",
+        columnList = "member_id, created_at, id"))
 public class ReComment {
 
     @Id
@@ -54,11 +58,23 @@ public class ReComment {
     @OneToMany(mappedBy = "reComment", fetch = FetchType.LAZY)
     private List<ReCommentLike>  reCommentLikes =new ArrayList<>();
 
+    //좋아요 수, 감정표현 등록/삭제시 DB 에서 원자적으로 증감, 조회시 좋아요 테이블을 읽지 않도록 저장
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer likes;
+
+    //싫어요 수, 좋아요 수와 같은 방식으로 증감
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer disLikes;
+
     @Builder
     public ReComment(String content, Comment comment, Member member) {
         this.content = content;
         this.comment = comment;
         this.member = member;
+        this.likes = 0;
+        this.disLikes = 0;
     }
 
     //대댓글 엔티티 내용 변경
@@ -71,20 +87,6 @@ public class ReComment {
         this.status = status;
     }
 
-    //좋아요 수를 반환하는 메서드
-    public int getTotalLikes(){
-        return (int) reCommentLikes.stream()
-                .filter(commentLike -> commentLike.getLikeType() == LikeType.LIKE)
-                .count();
-
-    }
-    //싫어요 수를 반환하는 메서드
-    public int getTotalDisLikes(){
-        return (int) reCommentLikes.stream()
-                .filter(commentLike -> commentLike.getLikeType() == LikeType.DISLIKE)
-                .count();
-
-    }
 
 
 
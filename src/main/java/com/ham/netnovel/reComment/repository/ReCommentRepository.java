@@ -3,6 +3,7 @@ package com.ham.netnovel.reComment.repository;
 import com.ham.netnovel.reComment.ReComment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,12 +16,68 @@ public interface ReCommentRepository extends JpaRepository<ReComment, Long>, ReC
             "where r.comment.id = :commentId")
     List<ReComment> findByCommentId(@Param("commentId")Long commentId);
 
+    /**
+     * 여러 댓글에 달린 대댓글을 작성자와 함께 한번에 조회합니다. 댓글 페이지를 만들때 사용합니다.
+     *
+     * @param commentIds 댓글 id List
+     * @return 대댓글 id 순서로 정렬된 대댓글 List
+     */
+    @Query("select r from ReComment r " +
+            "join fetch r.member m " +//Member 테이블과 join(N:1)
+            "where r.comment.id in :commentIds " +
+            "order by r.id")
+    List<ReComment> findByCommentIdsWithMember(@Param("commentIds") List<Long> commentIds);
+
 
     @Query("select r from ReComment  r " +
             "where r.member.providerId =:providerId " +
             "order by r.createdAt desc ")
     List<ReComment> findByMember(@Param("providerId")String providerId, Pageable pageable);
 
+    /**
+     * 대댓글의 좋아요/싫어요 수를 DB 에서 원자적으로 증감합니다. 집계값만 변경하므로 수정일자는 변경하지 않습니다.
+     *
+     * @param reCommentId    대댓글 id
+     * @param likeDelta    좋아요 수 증감값
+     * @param disLikeDelta 싫어요 수 증감값
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update ReComment r set r.likes = r.likes + :likeDelta, r.disLikes = r.disLikes + :disLikeDelta " +
+            "where r.id = :reCommentId")
+    int addLikeCounts(@Param("reCommentId") Long reCommentId,
+                      @Param("likeDelta") int likeDelta,
+                      @Param("disLikeDelta") int disLikeDelta);
+
+    /**
+     * {@code lastId} 보다 큰 대댓글 id 를 id 순서로 조회합니다. 좋아요 수 보정 작업에서 배치 범위를 정할때 사용합니다.
+     *
+     * @param lastId 이전 배치의 마지막 대댓글 id, 처음이면 0
+     * @return 대댓글 id List
+     */
+    @Query("select r.id from ReComment r " +
+            "where r.id > :lastId " +
+            "order by r.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 
+    /**
+     * id 범위 대댓글의 좋아요/싫어요 수를 감정표현 테이블에서 센 값으로 보정합니다. 수정일자는 변경하지 않습니다.
+     *
+     * <p>UPDATE 문 안에서 감정표현 수를 세므로, 조회와 저장 사이에 커밋된 감정표현 등록/삭제를 덮어쓰지 않습니다.
+     * 저장된 값과 센 값이 다른 대댓글만 변경합니다.</p>
+     *
+     * @param fromId 범위 시작 id, 포함하지 않음
+     * @param toId   범위 끝 id, 포함
+     * @return 보정된 대댓글 수
+     */
+    @Modifying
+    @Query("update ReComment r set " +
+            "r.likes = (select cast(count(l) as Integer) from ReCommentLike l where l.reComment.id = r.id and l.likeType = 'LIKE'), " +
+            "r.disLikes = (select cast(count(l) as Integer) from ReCommentLike l where l.reComment.id = r.id and l.likeType = 'DISLIKE') " +
+            "where r.id > :fromId " +
+            "and r.id <= :toId " +
+            "and (r.likes <> (select cast(count(l) as Integer) from ReCommentLike l where l.reComment.id = r.id and l.likeType = 'LIKE') " +
+            "or r.disLikes <> (select cast(count(l) as Integer) from ReCommentLike l where l.reComment.id = r.id and l.likeType = 'DISLIKE'))")
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
 }
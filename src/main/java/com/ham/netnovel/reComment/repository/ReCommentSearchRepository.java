@@ -3,12 +3,33 @@ package com.ham.netnovel.reComment.repository;
 import com.ham.netnovel.member.dto.MemberCommentDto;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReCommentSearchRepository {
 
 
 
+    /**
+     * 유저가 작성한 대댓글을 최신순으로 페이지만큼 조회합니다. 좋아요/싫어요 수는 대댓글에 저장된 값을 사용합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param pageable   페이지 정보
+     * @return 생성시간 역순, 같으면 id 역순으로 정렬된 {@link MemberCommentDto} List
+     */
     List<MemberCommentDto> findReCommentByMember(String providerId, Pageable pageable);
 
+
+    /**
+     * 유저가 작성한 대댓글을 커서 이후부터 최신순으로 최대 limit 개 조회합니다.
+     * {@code createdAt < 커서 생성시간 or (createdAt = 커서 생성시간 and id < idBound)} 인 대댓글만 조회합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param createdAt  커서 생성시간, 첫 페이지는 null
+     * @param idBound    생성시간이 커서와 같은 대댓글의 id 상한
+     * @param limit      조회할 최대 대댓글 수
+     * @return 생성시간 역순, 같으면 id 역순으로 정렬된 {@link MemberCommentDto} List
+     */
+    List<MemberCommentDto> findReCommentByMemberBefore(String providerId, LocalDateTime createdAt, long idBound, int limit);
+
 }
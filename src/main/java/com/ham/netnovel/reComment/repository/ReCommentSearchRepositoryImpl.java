@@ -2,12 +2,11 @@ package com.ham.netnovel.reComment.repository;
 
 import com.ham.netnovel.comment.QComment;
 import com.ham.netnovel.comment.data.CommentType;
-import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.episode.QEpisode;
 import com.ham.netnovel.member.dto.MemberCommentDto;
 import com.ham.netnovel.novel.QNovel;
 import com.ham.netnovel.reComment.QReComment;
-import com.ham.netnovel.reComment.QReCommentLike;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 @Slf4j
@@ -33,11 +32,26 @@ public class ReCommentSearchRepositoryImpl implements ReCommentSearchRepository
     @Override
     @Transactional(readOnly = true)
     public List<MemberCommentDto> findReCommentByMember(String providerId, Pageable pageable) {
+        return findByMember(providerId, null, pageable.getOffset(), pageable.getPageSize());
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberCommentDto> findReCommentByMemberBefore(String providerId, LocalDateTime createdAt, long idBound, int limit) {
+        QReComment reComment = QReComment.reComment;
+        //커서 이후 대댓글만 조회, 첫 페이지면 조건 없음
+        BooleanExpression afterCursor = createdAt == null ? null
+                : reComment.createdAt.lt(createdAt)
+                .or(reComment.createdAt.eq(createdAt).and(reComment.id.lt(idBound)));
+        return findByMember(providerId, afterCursor, 0, limit);
+    }
+
 
+    private List<MemberCommentDto> findByMember(String providerId, BooleanExpression afterCursor, long offset, long limit) {
 
         QReComment reComment = QReComment.reComment;
         QEpisode episode = QEpisode.episode;
-        QReCommentLike reCommentLike = QReCommentLike.reCommentLike;
         QNovel novel = QNovel.novel;
         QComment comment = QComment.comment;
 
@@ -48,8 +62,8 @@ public class ReCommentSearchRepositoryImpl implements ReCommentSearchRepository
                         reComment.createdAt,
                         episode.id,
                         episode.title,
-                        reCommentLike.likeType.when(LikeType.LIKE).then(1).otherwise(0).sum(), // as 없이 사용
-                        reCommentLike.likeType.when(LikeType.DISLIKE).then(1).otherwise(0).sum(), // as 없이 사용
+                        reComment.likes, // 저장된 좋아요 수, 좋아요 테이블을 조인하지 않음
+                        reComment.disLikes, // 저장된 싫어요 수
                         novel.title,
                         novel.id,
                         comment.id
@@ -57,9 +71,11 @@ public class ReCommentSearchRepositoryImpl implements ReCommentSearchRepository
                 .from(reComment)
                 .join(reComment.comment, comment)
                 .join(reComment.comment.episode, episode)
-                .leftJoin(reComment.reCommentLikes, reCommentLike) // 좋아요/싫어요 테이블 조인
-                .where(reComment.member.providerId.eq(providerId))
-                .groupBy(reComment.id)
+                .join(episode.novel, novel)
+                .where(reComment.member.providerId.eq(providerId), afterCursor)
+                .orderBy(reComment.createdAt.desc(), reComment.id.desc())//최신순, 같으면 id 역순
+                .offset(offset)
+                .limit(limit)
                 .fetch()
                 .stream()
                 .map(tuple -> MemberCommentDto.builder()//DTO로 변환
@@ -70,8 +86,8 @@ public class ReCommentSearchRepositoryImpl implements ReCommentSearchRepository
                         .createdAt(tuple.get(reComment.createdAt))
                         .novelTitle(tuple.get(novel.title))
                         .novelId(tuple.get(novel.id))
-                        .likes(Optional.ofNullable(tuple.get(5, Integer.class)).orElse(0)) // null 방지
-                        .disLikes(Optional.ofNullable(tuple.get(6, Integer.class)).orElse(0)) // null 방지
+                        .likes(tuple.get(reComment.likes))
+                        .disLikes(tuple.get(reComment.disLikes))
                         .isEditable(true)
                         .type(CommentType.RECOMMENT)
                         .commentId(tuple.get(comment.id))
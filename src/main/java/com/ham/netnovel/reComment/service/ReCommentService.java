@@ -1,5 +1,7 @@
 package com.ham.netnovel.reComment.service;
 
+import com.ham.netnovel.comment.data.CommentFeedCursor;
+import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.member.dto.MemberCommentDto;
 import com.ham.netnovel.reComment.ReComment;
@@ -83,5 +85,40 @@ public interface ReCommentService {
     List<MemberCommentDto> getMemberReCommentList(String providerId, Pageable pageable);
 
 
+    /**
+     * 유저가 작성한 대댓글을 커서 이후부터 최신순으로 최대 limit 개 반환하는 메서드 입니다.
+     * 댓글, 대댓글을 합친 목록을 만들때 사용합니다.
+     *
+     * @param providerId 유저 정보
+     * @param after      합친 목록의 커서, 첫 페이지는 null
+     * @param limit      조회할 최대 대댓글 수
+     * @return 생성시간 역순, 같으면 id 역순으로 정렬된 {@link MemberCommentDto} List
+     * @throws ServiceMethodException 대댓글을 가져오는 중 오류가 발생한 경우
+     */
+    List<MemberCommentDto> getMemberReCommentList(String providerId, CommentFeedCursor after, int limit);
+
+
+    /**
+     * 대댓글의 좋아요/싫어요 수를 변경하는 메서드 입니다. 감정표현 등록/삭제 트랜잭션 안에서 호출합니다.
+     *
+     * @param reCommentId 대댓글의 ID
+     * @param likeType  변경할 감정표현 종류
+     * @param delta     더할 값, 등록시 1, 삭제시 -1
+     */
+    void addLikeCount(Long reCommentId, LikeType likeType, int delta);
+
+
+    /**
+     * 저장된 좋아요/싫어요 수를 감정표현 테이블에서 센 값과 비교하여 보정하는 메서드 입니다.
+     *
+     * <p>{@code lastId} 보다 큰 id 를 가진 대댓글을 id 순서로 최대 {@code batchSize} 개 검사하며,
+     * 감정표현 수를 세는 것과 저장을 UPDATE 문 하나로 실행하여 값이 다른 대댓글만 변경합니다. 수정일자는 변경하지 않습니다.</p>
+     *
+     * @param lastId    이전 배치에서 마지막으로 검사한 대댓글 id, 처음 호출시 0
+     * @param batchSize 한번에 검사할 대댓글 수
+     * @return 이번 배치에서 마지막으로 검사한 대댓글 id, 검사할 대댓글이 없으면 null
+     * @throws ServiceMethodException 메서드 실행 중 예외가 발생한 경우
+     */
+    Long reconcileLikeCounts(Long lastId, int batchSize);
 
 }
@@ -3,8 +3,10 @@ package com.ham.netnovel.reComment.service;
 
 import com.ham.netnovel.comment.Comment;
 import com.ham.netnovel.comment.CommentStatus;
+import com.ham.netnovel.comment.data.CommentFeedCursor;
 import com.ham.netnovel.comment.data.CommentType;
 import com.ham.netnovel.comment.service.CommentService;
+import com.ham.netnovel.commentLike.data.LikeType;
 import com.ham.netnovel.common.exception.ServiceMethodException;
 import com.ham.netnovel.episode.Episode;
 import com.ham.netnovel.member.Member;
@@ -17,6 +19,7 @@ import com.ham.netnovel.reComment.dto.ReCommentDeleteDto;
 import com.ham.netnovel.reComment.dto.ReCommentListDto;
 import com.ham.netnovel.reComment.dto.ReCommentUpdateDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,8 +50,8 @@ public class ReCommentServiceImpl implements ReCommentService {
     @Override
     @Transactional
     public void createReComment(ReCommentCreateDto reCommentCreateDto) {
-        //Member 엔티티 조회, null 이면 예외로 던짐
-        Member member = memberService.getMember(reCommentCreateDto.getProviderId())
+        //Member 프록시 조회(SELECT 없음), null 이면 예외로 던짐
+        Member member = memberService.getMemberReference(reCommentCreateDto.getProviderId())
                 .orElseThrow(() -> new NoSuchElementException("createReComment 에러, Member 정보가 없습니다."
                         + reCommentCreateDto.getProviderId()));
 
@@ -165,6 +168,18 @@ public class ReCommentServiceImpl implements ReCommentService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberCommentDto> getMemberReCommentList(String providerId, CommentFeedCursor after, int limit) {
+        try {
+            return (after == null)
+                    ? reCommentRepository.findReCommentByMemberBefore(providerId, null, Long.MAX_VALUE, limit)
+                    : reCommentRepository.findReCommentByMemberBefore(providerId, after.createdAt(), after.idBoundFor(CommentType.RECOMMENT), limit);
+        } catch (Exception ex) {
+            throw new ServiceMethodException("getMemberReCommentList 메서드 에러 발생"+ex+ex.getMessage()); // 예외 던지기
+        }
+    }
+
     private MemberCommentDto convertToMemberCommentDto(ReComment recomment) {
         if (recomment==null) {
             throw new IllegalArgumentException("convertToMemberCommentDto 에러, 파라미터가 null 입니다.");
@@ -182,10 +197,42 @@ public class ReCommentServiceImpl implements ReCommentService {
                 .episodeTitle(episode.getTitle())
                 .createdAt(recomment.getCreatedAt())
                 .isEditable(true)//수정가능여부 true
-                .likes(recomment.getTotalLikes())
-                .disLikes(recomment.getTotalDisLikes())
+                .likes(recomment.getLikes())
+                .disLikes(recomment.getDisLikes())
                 .build();
 
     }
 
+
+    @Override
+    @Transactional
+    public void addLikeCount(Long reCommentId, LikeType likeType, int delta) {
+        int updated = likeType == LikeType.LIKE
+                ? reCommentRepository.addLikeCounts(reCommentId, delta, 0)
+                : reCommentRepository.addLikeCounts(reCommentId, 0, delta);
+        if (updated == 0) {
+            throw new NoSuchElementException("addLikeCount 메서드 에러, 대댓글 정보가 없습니다. reCommentId=" + reCommentId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Long reconcileLikeCounts(Long lastId, int batchSize) {
+        try {
+            List<Long> ids = reCommentRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return null;
+            }
+            Long lastCheckedId = ids.get(ids.size() - 1);
+            //감정표현 수를 세는 것과 저장을 UPDATE 문 하나로 실행
+            int corrected = reCommentRepository.reconcileLikeCounts(lastId, lastCheckedId);
+            if (corrected > 0) {
+                log.warn("대댓글 좋아요 수 보정 완료, 보정 수={}, lastId={}", corrected, lastCheckedId);
+            }
+            return lastCheckedId;
+        } catch (Exception ex) {
+            throw new ServiceMethodException("reconcileLikeCounts 메서드 에러 발생", ex);
+        }
+    }
+
 }
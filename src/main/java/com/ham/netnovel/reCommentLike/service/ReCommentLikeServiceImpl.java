@@ -34,8 +34,8 @@ public class ReCommentLikeServiceImpl implements ReCommentLikeService {
     @Override
     @Transactional
     public LikeResult toggleReCommentLikeStatus(ReCommentLikeToggleDto dto) {
-        //멤버 엔티티 조회, 없을경우 예외로 던짐
-        Member member = memberService.getMember(dto.getProviderId())
+        //멤버 프록시 조회(SELECT 없음), 없을경우 예외로 던짐
+        Member member = memberService.getMemberReference(dto.getProviderId())
                 .orElseThrow(() -> new NoSuchElementException("toggleReCommentLikeStatus 메서드 에러, 유저 정보가 null입니다. providerId=" + dto.getProviderId()));
 
         ReComment reComment = reCommentService.getReComment(dto.getReCommentId())
@@ -59,12 +59,16 @@ public class ReCommentLikeServiceImpl implements ReCommentLikeService {
                         .build();
                 //DB에 저장
                 reCommentLikeRepository.save(newReCommentLike);
+                //대댓글의 좋아요/싫어요 수 1 증가
+                reCommentService.addLikeCount(reComment.getId(), dto.getLikeType(), 1);
                 log.info("대댓글 감정 등록 완료, memberId={}, commentId={}", member.getId(), reComment.getId());
                 return LikeResult.CREATION;//생성상태 반환
 
             } else if (reCommentLike.get().getLikeType().equals(dto.getLikeType())) {
                 //찾은 값이 있으면(좋아요 누른 기록이 있음) 좋아요 기록 삭제, false 반환
                 reCommentLikeRepository.delete(reCommentLike.get());
+                //대댓글의 좋아요/싫어요 수 1 감소
+                reCommentService.addLikeCount(reComment.getId(), reCommentLike.get().getLikeType(), -1);
                 log.info("대댓글 감정 삭제 완료, memberId={}, commentId={}", member.getId(), reComment.getId());
                 return LikeResult.DELETION;//삭제상태 반환
             } else {
@@ -0,0 +1,19 @@
+package com.ham.netnovel.recentRead;
+
+import com.ham.netnovel.recentRead.dto.RecentReadUpdateDto;
+
+import java.util.List;
+
+public interface RecentReadBulkRepository {
+
+    /**
+     * 최근 본 에피소드 기록을 한번에 저장합니다.
+     *
+     * <p>유저와 소설의 기록이 없으면 새로 저장하고, 있으면 저장된 기록보다 최근에 읽은 경우에만 에피소드와 수정일자를 변경합니다.
+     * 따라서 이전 기록이 나중에 저장되어도 최근 기록을 덮어쓰지 않습니다.
+     * JDBC batch 로 실행하므로 기록 수와 관계없이 기록을 조회하는 쿼리를 실행하지 않습니다.</p>
+     *
+     * @param updates 저장할 기록 List
+     */
+    void upsertRecentReads(List<RecentReadUpdateDto> updates);
+}
@@ -0,0 +1,44 @@
+package com.ham.netnovel.recentRead;
+
+import com.ham.netnovel.common.exception.RepositoryMethodException;
+import com.ham.netnovel.recentRead.dto.RecentReadUpdateDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public class RecentReadBulkRepositoryImpl implements RecentReadBulkRepository {
+
+    private static final String UPSERT_SQL = "insert into recent_read " +
+            "(member_id, novel_id, episode_id, created_at, updated_at) values (?, ?, ?, ?, ?) " +
+            //이미 더 최근 기록이 저장되어 있으면 덮어쓰지 않음, 저장 순서와 관계없이 마지막에 읽은 에피소드가 남음
+            //MySQL 은 왼쪽부터 할당하므로 episode_id 를 먼저 비교한 후 updated_at 을 갱신
+            "on duplicate key update " +
+            "episode_id = if(values(updated_at) >= updated_at, values(episode_id), episode_id), " +
+            "updated_at = greatest(updated_at, values(updated_at))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecentReadBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertRecentReads(List<RecentReadUpdateDto> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, updates, updates.size(), (statement, update) -> {
+                Timestamp readAt = Timestamp.valueOf(update.getReadAt());
+                statement.setLong(1, update.getMemberId());
+                statement.setLong(2, update.getNovelId());
+                statement.setLong(3, update.getEpisodeId());
+                statement.setTimestamp(4, readAt);
+                statement.setTimestamp(5, readAt);
+            });
+        } catch (Exception ex) {
+            throw new RepositoryMethodException("upsertRecentReads 메서드 에러 발생", ex);
+        }
+    }
+}
@@ -4,10 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 
-public interface RecentReadRepository extends JpaRepository<RecentRead,RecentReadId> {
+public interface RecentReadRepository extends JpaRepository<RecentRead,RecentReadId>, RecentReadBulkRepository {
 
 
     @Query("select rr " +
@@ -20,6 +21,21 @@ public interface RecentReadRepository extends JpaRepository<RecentRead,RecentRea
                                             Pageable pageable);
 
 
+    /**
+     * 유저의 최근 본 기록이 DB 에 있는 소설 id 를 조회합니다. 저장 전 기록이 새 소설인지 확인할때 사용합니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param novelIds   확인할 소설 id 목록
+     * @return 기록이 있는 소설 id List
+     */
+    @Query("select rr.novel.id " +
+            "from RecentRead rr " +
+            "where rr.member.providerId = :providerId " +
+            "and rr.novel.id in :novelIds")
+    List<Long> findNovelIdsByMemberProviderId(@Param("providerId") String providerId,
+                                              @Param("novelIds") Collection<Long> novelIds);
+
+
 
 
 }
@@ -0,0 +1,26 @@
+package com.ham.netnovel.recentRead.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 본 에피소드 기록을 일괄 저장(upsert)할때 사용하는 DTO 입니다.
+ */
+@Getter
+@Builder
+@ToString
+public class RecentReadUpdateDto {
+
+    private Long memberId;
+
+    private Long novelId;
+
+    //유저가 마지막으로 읽은 에피소드
+    private Long episodeId;
+
+    //에피소드를 읽은 시간
+    private LocalDateTime readAt;
+}
@@ -31,8 +31,19 @@ public interface RecentReadService {
     void updateRecentRead(String providerId, Long episodeId);
 
 
+    /**
+     * 유저가 읽은 에피소드를 최근 본 에피소드 버퍼에 기록하는 메서드
+     * DB 에는 즉시 저장하지 않고, 같은 소설의 기록을 합쳐 일정 시간마다 한번에 저장함
+     * @param providerId 에피소드를 읽은 유저의 providerId값
+     * @param novelId 에피소드가 속한 소설의 Id
+     * @param episodeId 유저가 읽은 에피소드의 Id
+     */
+    void recordRecentRead(String providerId, Long novelId, Long episodeId);
+
+
     /**
      * 유저가 최근 본 에피소드와 에피소드의 소설 정보를 반환하는 메서드
+     * 버퍼에 남아있는 유저의 기록은 버퍼에서 제거하지 않고 조회 결과에 반영함
      * @param providerId 유저 정보
      * @param pageable 페이지네이션 보
      * @return List MemberRecentReadDto 유저가 최근본 소설,에피소드 정보를 List로 반환
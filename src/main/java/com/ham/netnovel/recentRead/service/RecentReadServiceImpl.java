@@ -16,8 +16,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.NoSuchElementException;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,11 +32,14 @@ public class RecentReadServiceImpl implements RecentReadService {
 
     private final S3Service s3Service;
 
-    public RecentReadServiceImpl(RecentReadRepository recentReadRepository, MemberService memberService, EpisodeService episodeService, S3Service s3Service) {
+    private final RecentReadWriteBehindBuffer recentReadWriteBehindBuffer;
+
+    public RecentReadServiceImpl(RecentReadRepository recentReadRepository, MemberService memberService, EpisodeService episodeService, S3Service s3Service, RecentReadWriteBehindBuffer recentReadWriteBehindBuffer) {
         this.recentReadRepository = recentReadRepository;
         this.memberService = memberService;
         this.episodeService = episodeService;
         this.s3Service = s3Service;
+        this.recentReadWriteBehindBuffer = recentReadWriteBehindBuffer;
     }
 
     @Override
@@ -64,8 +67,8 @@ public class RecentReadServiceImpl implements RecentReadService {
     @Override
     @Transactional
     public void updateRecentRead(String providerId, Long episodeId) {
-        //멤버 엔티티 객체에 저장
-        Member member = memberService.getMember(providerId)
+        //멤버 프록시 객체에 저장(SELECT 없음)
+        Member member = memberService.getMemberReference(providerId)
                 .orElseThrow(() -> new NoSuchElementException("Member 가  엔티티가 null 입니다."));
         //에피소드 엔티티 객체에 저장
         Episode episode = episodeService.getEpisode(episodeId)
@@ -96,24 +99,85 @@ public class RecentReadServiceImpl implements RecentReadService {
 
     }
 
+    @Override
+    public void recordRecentRead(String providerId, Long novelId, Long episodeId) {
+        //버퍼에 추가, DB 에는 일정 시간마다 모아서 저장
+        recentReadWriteBehindBuffer.record(providerId, novelId, episodeId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<MemberRecentReadDto> getMemberRecentReads(String providerId, Pageable pageable) {
         try {
-            return recentReadRepository.findByMemberProviderId(providerId, pageable)
+            List<MemberRecentReadDto> page = recentReadRepository.findByMemberProviderId(providerId, pageable)
                     .stream()
                     //소설 정보를 DTO로 변환해서 List 객체로  반환
                     .map(this::convertToMemberRecentReadDto)
                     .collect(Collectors.toList());//List로 collect
+            //버퍼에 남아있는 유저의 기록을 목록에 반영, 버퍼에서는 제거하지 않음
+            return overlayPendingReads(providerId, pageable, page);
         } catch (Exception ex) {
             throw new ServiceMethodException("getMemberRecentReads 메서드 에러 발생" + ex.getMessage(), ex);
         }
 
     }
 
+    /**
+     * 아직 저장되지 않은 기록을 조회한 페이지에 반영합니다.
+     *
+     * <p>페이지에 있는 소설은 에피소드와 수정시간을 저장 전 기록으로 바꾸고,
+     * DB 에 기록이 없는 새 소설은 첫 페이지 앞에 최근에 읽은 순서로 붙입니다.</p>
+     */
+    private List<MemberRecentReadDto> overlayPendingReads(String providerId, Pageable pageable, List<MemberRecentReadDto> page) {
+        List<RecentReadWriteBehindBuffer.PendingRead> pending = recentReadWriteBehindBuffer.pendingReads(providerId);
+        if (pending.isEmpty()) {
+            return page;
+        }
+        Map<Long, MemberRecentReadDto> pageByNovel = new HashMap<>();
+        for (MemberRecentReadDto dto : page) {
+            pageByNovel.put(dto.getId(), dto);
+        }
+
+        List<RecentReadWriteBehindBuffer.PendingRead> notOnPage = new ArrayList<>();
+        for (RecentReadWriteBehindBuffer.PendingRead read : pending) {
+            MemberRecentReadDto dto = pageByNovel.get(read.novelId());
+            if (dto == null) {
+                notOnPage.add(read);
+                continue;
+            }
+            if (!read.episodeId().equals(dto.getEpisodeId())) {
+                episodeService.getEpisode(read.episodeId()).ifPresent(episode -> {
+                    dto.setEpisodeId(episode.getId());
+                    dto.setEpisodeTitle(episode.getTitle());
+                });
+            }
+            dto.setUpdatedAt(read.readAt());
+        }
+        //새 소설은 첫 페이지에만 붙임
+        if (pageable.getOffset() != 0 || notOnPage.isEmpty()) {
+            return page;
+        }
+
+        Set<Long> storedNovelIds = new HashSet<>(recentReadRepository.findNovelIdsByMemberProviderId(
+                providerId, notOnPage.stream().map(RecentReadWriteBehindBuffer.PendingRead::novelId).toList()));
+        List<MemberRecentReadDto> merged = new ArrayList<>(notOnPage.size() + page.size());
+        for (RecentReadWriteBehindBuffer.PendingRead read : notOnPage) {
+            if (storedNovelIds.contains(read.novelId())) {
+                continue;
+            }
+            episodeService.getEpisode(read.episodeId())
+                    .map(episode -> toMemberRecentReadDto(episode.getNovel(), episode, read.readAt()))
+                    .ifPresent(merged::add);
+        }
+        merged.addAll(page);
+        return merged;
+    }
+
     private MemberRecentReadDto convertToMemberRecentReadDto(RecentRead recentRead){
-        Episode episode = recentRead.getEpisode();//에피소드 엔티티 객체에 저장
-        Novel novel = recentRead.getNovel();//노벨 엔티티 객체에 저장
+        return toMemberRecentReadDto(recentRead.getNovel(), recentRead.getEpisode(), recentRead.getUpdatedAt());
+    }
+
+    private MemberRecentReadDto toMemberRecentReadDto(Novel novel, Episode episode, LocalDateTime updatedAt) {
         String thumbnailUrl = s3Service.generateCloudFrontUrl(novel.getThumbnailFileName(),"normal");
         return MemberRecentReadDto.builder()//DTO로 변환하여 반환
                 .id(novel.getId())
@@ -122,7 +186,7 @@ public class RecentReadServiceImpl implements RecentReadService {
                 .authorName(novel.getAuthor().getNickName())
                 .episodeTitle(episode.getTitle())
                 .episodeId(episode.getId())
-                .updatedAt(recentRead.getUpdatedAt())
+                .updatedAt(updatedAt)
                 .thumbnailUrl(thumbnailUrl)
                 .build();
 
@@ -0,0 +1,268 @@
+package com.ham.netnovel.recentRead.service;
+
+
+import com.ham.netnovel.member.MemberRepository;
+import com.ham.netnovel.recentRead.RecentReadRepository;
+import com.ham.netnovel.recentRead.dto.RecentReadUpdateDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 본 에피소드 기록을 모아서 저장하는 write-behind 버퍼입니다.
+ *
+ * <p>에피소드를 읽을때마다 DB 에 저장하지 않고, (유저, 소설) 별로 마지막에 읽은 에피소드만 메모리에 보관합니다.
+ * 같은 소설을 여러번 읽으면 하나의 기록으로 합쳐지며, 일정 시간마다 모아둔 기록을 JDBC batch upsert 로 저장합니다.</p>
+ *
+ * <p>버퍼 크기는 제한되어 있으며, 가득 차면 가장 오래된 기록을 버립니다. 에피소드 조회 요청은 DB 저장을 기다리지 않습니다.
+ * 버려진 기록 수는 {@code recent_read.buffer.dropped} 지표로 확인할 수 있습니다.</p>
+ *
+ * <p>저장에 실패한 기록은 버퍼로 되돌려 다음 저장시 다시 시도합니다. 되돌리는 동안 같은 유저, 소설의 새 기록이 들어왔으면 새 기록을 유지합니다.
+ * DB 에는 더 최근 기록만 덮어쓰므로 저장 순서를 맞추기 위한 잠금을 사용하지 않습니다.</p>
+ */
+@Component
+@Slf4j
+public class RecentReadWriteBehindBuffer {
+
+    //한번에 저장하는 기록 수(IN 절, JDBC batch 크기)
+    private static final int BATCH_SIZE = 1_000;
+
+    private final RecentReadRepository recentReadRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final int maxPending;
+
+    private final long flushIntervalMillis;
+
+    //(providerId, novelId) => 마지막으로 읽은 에피소드, 입력 순서 유지(가장 오래된 기록이 맨 앞)
+    private LinkedHashMap<PendingKey, PendingRead> pending = new LinkedHashMap<>();
+
+    //providerId => 버퍼에 있는 유저의 기록 key, 유저 한명의 기록만 꺼낼때 사용
+    private Map<String, Set<PendingKey>> keysByMember = new HashMap<>();
+
+    //flushAll 이 저장 중인 기록과 key 목록, 저장이 끝날때까지 조회에 함께 보여줌
+    private Map<PendingKey, PendingRead> flushingPending = Map.of();
+
+    private Map<String, Set<PendingKey>> flushingKeys = Map.of();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recent-read-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter droppedCounter;
+
+    public RecentReadWriteBehindBuffer(RecentReadRepository recentReadRepository,
+                                       MemberRepository memberRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${recent-read.buffer.max-pending:50000}") int maxPending,
+                                       @Value("${recent-read.buffer.flush-interval-millis:3000}") long flushIntervalMillis) {
+        this.recentReadRepository = recentReadRepository;
+        this.memberRepository = memberRepository;
+        this.maxPending = maxPending;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.droppedCounter = Counter.builder("recent_read.buffer.dropped").register(meterRegistry);
+        Gauge.builder("recent_read.buffer.pending", this, RecentReadWriteBehindBuffer::pendingCount)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::flushAll, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //애플리케이션 종료시 남은 기록 저장
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        flushAll();
+    }
+
+
+    /**
+     * 최근 본 에피소드 기록을 버퍼에 추가합니다. 같은 유저, 소설의 이전 기록은 덮어씁니다.
+     *
+     * @param providerId 유저의 providerId
+     * @param novelId    소설 id
+     * @param episodeId  읽은 에피소드 id
+     */
+    public void record(String providerId, Long novelId, Long episodeId) {
+        PendingKey key = new PendingKey(providerId, novelId);
+        PendingRead read = new PendingRead(providerId, novelId, episodeId, LocalDateTime.now());
+        synchronized (this) {
+            //기존 기록을 지우고 다시 넣어 맨 뒤(최신)로 이동
+            pending.remove(key);
+            putPending(key, read);
+            dropOverflow();
+        }
+    }
+
+    /**
+     * 버퍼에 있는 모든 기록을 DB 에 저장합니다.
+     */
+    public void flushAll() {
+        List<PendingRead> reads;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            reads = new ArrayList<>(pending.values());
+            flushingPending = pending;
+            flushingKeys = keysByMember;
+            pending = new LinkedHashMap<>();
+            keysByMember = new HashMap<>();
+        }
+        try {
+            write(reads);
+        } catch (Exception ex) {
+            //저장하지 못한 기록은 버퍼로 되돌려져 다음 저장시 다시 시도됨
+            log.error("flushAll 메서드 에러 발생, 최근 본 에피소드 기록 저장 실패", ex);
+        } finally {
+            //저장되었거나 버퍼로 되돌려졌으므로 저장 중 목록에서 제거
+            synchronized (this) {
+                flushingPending = Map.of();
+                flushingKeys = Map.of();
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 있는 유저의 기록을 복사하여 반환합니다. 최근 본 목록을 조회할때 아직 저장되지 않은 기록을 함께 보여주기 위해 사용합니다.
+     *
+     * <p>버퍼에서 제거하지 않으므로 조회가 실패해도 기록은 다음 저장시 DB 에 반영됩니다.
+     * {@link #flushAll()} 이 저장 중인 기록도 포함하며, 같은 소설의 기록이 버퍼에 다시 들어왔으면 버퍼의 기록을 반환합니다.
+     * 유저별 key 목록으로 해당 유저의 기록만 복사하므로, 버퍼 전체 크기와 관계없이 유저의 기록 수에 비례하는 시간이 걸립니다.</p>
+     *
+     * @param providerId 유저의 providerId
+     * @return 유저의 저장 전 기록 List, 최근에 읽은 순서
+     */
+    public List<PendingRead> pendingReads(String providerId) {
+        List<PendingRead> reads = new ArrayList<>();
+        synchronized (this) {
+            Set<PendingKey> keys = new HashSet<>(keysByMember.getOrDefault(providerId, Set.of()));
+            keys.addAll(flushingKeys.getOrDefault(providerId, Set.of()));
+            for (PendingKey key : keys) {
+                PendingRead read = pending.get(key);
+                if (read == null) {
+                    read = flushingPending.get(key);
+                }
+                if (read != null) {
+                    reads.add(read);
+                }
+            }
+        }
+        reads.sort(Comparator.comparing(PendingRead::readAt).reversed());
+        return reads;
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+
+    //BATCH_SIZE 단위로 나누어 저장, 실패하면 저장하지 못한 기록을 버퍼로 되돌리고 예외를 던짐
+    private void write(List<PendingRead> reads) {
+        for (int from = 0; from < reads.size(); from += BATCH_SIZE) {
+            try {
+                writeBatch(reads.subList(from, Math.min(from + BATCH_SIZE, reads.size())));
+            } catch (RuntimeException ex) {
+                restore(reads.subList(from, reads.size()));
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * 저장하지 못한 기록을 버퍼 앞쪽(오래된 쪽)으로 되돌립니다.
+     *
+     * <p>같은 유저, 소설의 기록이 이미 버퍼에 있으면 그 사이에 새로 읽은 기록이므로 되돌리지 않습니다.
+     * 되돌린 후 최대 크기를 넘으면 가장 오래된 기록부터 버립니다.</p>
+     *
+     * @param failed 저장하지 못한 기록, 버퍼에 들어온 순서
+     */
+    private synchronized void restore(List<PendingRead> failed) {
+        LinkedHashMap<PendingKey, PendingRead> current = pending;
+        pending = new LinkedHashMap<>();
+        for (PendingRead read : failed) {
+            PendingKey key = new PendingKey(read.providerId(), read.novelId());
+            if (!current.containsKey(key)) {
+                putPending(key, read);
+            }
+        }
+        //이미 key 목록에 있는 기록이므로 pending 에만 다시 넣음
+        pending.putAll(current);
+        dropOverflow();
+    }
+
+    //호출하는 쪽에서 synchronized(this) 필요
+    private void putPending(PendingKey key, PendingRead read) {
+        pending.put(key, read);
+        keysByMember.computeIfAbsent(key.providerId(), providerId -> new HashSet<>()).add(key);
+    }
+
+    //최대 크기를 넘은 만큼 가장 오래된 기록부터 버림, 호출하는 쪽에서 synchronized(this) 필요
+    private void dropOverflow() {
+        Iterator<PendingKey> iterator = pending.keySet().iterator();
+        while (pending.size() > maxPending && iterator.hasNext()) {
+            PendingKey eldest = iterator.next();
+            iterator.remove();
+            Set<PendingKey> keys = keysByMember.get(eldest.providerId());
+            if (keys != null) {
+                keys.remove(eldest);
+                if (keys.isEmpty()) {
+                    keysByMember.remove(eldest.providerId());
+                }
+            }
+            droppedCounter.increment();
+        }
+    }
+
+    //providerId 를 유저 id 로 변환하여 한번에 저장, 탈퇴 등으로 유저가 없으면 제외
+    private void writeBatch(List<PendingRead> reads) {
+        Set<String> providerIds = new HashSet<>();
+        for (PendingRead read : reads) {
+            providerIds.add(read.providerId());
+        }
+        Map<String, Long> memberIds = new HashMap<>();
+        for (Object[] row : memberRepository.findIdsByProviderIds(providerIds)) {
+            memberIds.put((String) row[0], (Long) row[1]);
+        }
+
+        List<RecentReadUpdateDto> updates = new ArrayList<>(reads.size());
+        for (PendingRead read : reads) {
+            Long memberId = memberIds.get(read.providerId());
+            if (memberId == null) {
+                continue;
+            }
+            updates.add(RecentReadUpdateDto.builder()
+                    .memberId(memberId)
+                    .novelId(read.novelId())
+                    .episodeId(read.episodeId())
+                    .readAt(read.readAt())
+                    .build());
+        }
+        recentReadRepository.upsertRecentReads(updates);
+        log.debug("최근 본 에피소드 기록 저장, 기록 수={}", updates.size());
+    }
+
+
+    private record PendingKey(String providerId, Long novelId) {
+    }
+
+    //저장 전 기록, 최근 본 목록 조회에서 사용
+    record PendingRead(String providerId, Long novelId, Long episodeId, LocalDateTime readAt) {
+    }
+}
@@ -2,7 +2,6 @@ package com.ham.netnovel.tag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,19 +13,19 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
 
     /**
-     * 주어진 검색어를 기반으로 태그 이름 목록을 조회하는 메서드 입니다.
+     * ACTIVE 상태인 태그의 이름과 태그를 사용하는 소설 수를 조회하는 메서드 입니다.
      * <p>
-     * 태그 이름이 검색어를 포함하는 경우에 해당하는 태그 이름을 반환합니다.
-     * 검색어는 부분 일치로 검색됩니다.
+     * 태그 자동완성 인덱스 구성에 사용되며, 소설에 사용되지 않은 태그는 사용 소설 수 0으로 반환합니다.
      * </p>
      *
-     * @param searchWord 검색할 태그의 일부 또는 전체 이름
-     * @return 검색어와 일치하는 태그 이름 목록
+     * @return 첫번째 요소는 태그 이름, 두번째 요소는 태그를 사용하는 소설 수인 배열의 리스트
      */
-    @Query("select t.name " +
+    @Query("select t.name, count(nt) " +
             "from Tag t " +
-            "where t.name like %:searchWord%")
-    List<String> findBySearchWord(@Param("searchWord")String searchWord);
+            "left join t.novelTags nt " +
+            "where t.status = 'ACTIVE' " +
+            "group by t.id, t.name")
+    List<Object[]> findActiveTagUsageCounts();
 
     //unique 속성의 name 값 중복 확인
     boolean existsByName(String name);
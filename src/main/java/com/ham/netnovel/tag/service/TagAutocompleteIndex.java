@@ -0,0 +1,246 @@
+package com.ham.netnovel.tag.service;
+
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 태그 자동완성을 위한 인메모리 Trie 인덱스 클래스입니다.
+ *
+ * <p>태그명을 한글 자모 단위로 분해하여 Trie 를 구성합니다. 한글 입력은 조합중인 음절(예: "판" 입력 도중의 "파")로
+ * 전달되기 때문에, 음절이 아닌 자모 단위로 접두사를 비교해야 "파" 입력시 "판타지"를 추천할 수 있습니다.
+ * 겹받침(ㄺ), 이중모음(ㅘ)도 기본 자모로 분해하므로 받침이 다음 음절의 초성으로 넘어가는 경우도 일치합니다.</p>
+ *
+ * <p>각 노드는 해당 접두사로 시작하는 태그중 사용 소설 수가 많은 상위 {@value #MAX_SUGGESTIONS}개의 태그명을
+ * 미리 저장합니다. 따라서 조회는 접두사 길이에 비례하며, DB 접근 없이 결과 리스트 외의 객체를 생성하지 않습니다.</p>
+ *
+ * <p>인덱스는 불변 객체로 생성되며, {@link #rebuild(List)} 호출시 새 Trie 를 만든 뒤 참조를 교체합니다.
+ * 조회중인 스레드는 교체 전/후 중 하나의 완전한 Trie 만 보게 됩니다.</p>
+ */
+@Component
+@Slf4j
+public class TagAutocompleteIndex {
+
+    //노드별로 저장하는 추천 태그명의 최대 갯수
+    public static final int MAX_SUGGESTIONS = 10;
+
+    //태그 생성/삭제시 다른 서버에 인덱스 재구성을 알리는 채널
+    public static final String INVALIDATION_CHANNEL = "tag-autocomplete-invalidation-channel";
+
+    //한글 음절 유니코드 범위 및 조합 상수
+    private static final char HANGUL_SYLLABLE_BEGIN = 0xAC00;
+    private static final char HANGUL_SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    //초성 19자
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    //중성 21자, 이중모음은 기본 모음으로 분해
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"};
+
+    //종성 28자(받침 없음 포함), 겹받침은 기본 자음으로 분해
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    //단독으로 입력된 겹자모(ㄳ, ㅘ 등)의 분해 결과, 호환용 자모(0x3131~0x3163) 범위를 index 로 사용
+    private static final char COMPAT_JAMO_BEGIN = 0x3131;
+    private static final char COMPAT_JAMO_END = 0x3163;
+    private static final String[] COMPAT_JAMO = new String[COMPAT_JAMO_END - COMPAT_JAMO_BEGIN + 1];
+
+    static {
+        String compounds = "ㄳㄱㅅㄵㄴㅈㄶㄴㅎㄺㄹㄱㄻㄹㅁㄼㄹㅂㄽㄹㅅㄾㄹㅌㄿㄹㅍㅀㄹㅎㅄㅂㅅ"
+                + "ㅘㅗㅏㅙㅗㅐㅚㅗㅣㅝㅜㅓㅞㅜㅔㅟㅜㅣㅢㅡㅣ";
+        for (char c = COMPAT_JAMO_BEGIN; c <= COMPAT_JAMO_END; c++) {
+            COMPAT_JAMO[c - COMPAT_JAMO_BEGIN] = String.valueOf(c);
+        }
+        for (int i = 0; i < compounds.length(); i += 3) {
+            COMPAT_JAMO[compounds.charAt(i) - COMPAT_JAMO_BEGIN] = compounds.substring(i + 1, i + 3);
+        }
+    }
+
+    //현재 사용중인 Trie 의 루트 노드, rebuild 시 통째로 교체됨
+    private volatile Node root = Node.EMPTY;
+
+    //재구성 메시지를 보낸 서버를 구분하기 위한 id, 자신이 보낸 메시지는 무시함
+    private final String nodeId = UUID.randomUUID().toString();
+
+
+    /**
+     * 접두사로 시작하는 태그명을 사용 소설 수가 많은 순서대로 반환합니다.
+     *
+     * <p>영문은 대소문자를 구분하지 않으며, 한글은 자모 단위로 비교합니다.</p>
+     *
+     * @param prefix 검색어(접두사)
+     * @return 추천 태그명 {@link List}, 일치하는 태그가 없으면 빈 리스트 반환
+     */
+    public List<String> search(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            char c = prefix.charAt(i);
+            if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+                //완성형 음절은 초성, 중성, 종성으로 분해하여 탐색
+                int index = c - HANGUL_SYLLABLE_BEGIN;
+                node = walk(node, CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+                node = walk(node, JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                node = walk(node, JONG[index % JONG_COUNT]);
+            } else if (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END) {
+                //조합중인 단독 자모
+                node = walk(node, COMPAT_JAMO[c - COMPAT_JAMO_BEGIN]);
+            } else {
+                node = node.child(Character.toLowerCase(c));
+            }
+        }
+
+        if (node == null || node.suggestions.length == 0) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(node.suggestions));
+    }
+
+    /**
+     * 태그명과 사용 소설 수 목록으로 Trie 를 새로 만들어 교체합니다.
+     *
+     * @param tagUsages 첫번째 요소는 태그명({@link String}), 두번째 요소는 사용 소설 수({@link Number})인 배열의 {@link List}
+     */
+    public void rebuild(List<Object[]> tagUsages) {
+        //사용 소설 수 내림차순, 동률이면 태그명 오름차순으로 정렬
+        List<Object[]> sorted = new ArrayList<>(tagUsages);
+        sorted.sort(Comparator.<Object[]>comparingLong(row -> ((Number) row[1]).longValue()).reversed()
+                .thenComparing(row -> (String) row[0]));
+
+        //순위가 높은 태그부터 삽입하므로, 각 노드는 먼저 들어온 MAX_SUGGESTIONS 개만 저장하면 상위 K개가 됨
+        NodeBuilder builderRoot = new NodeBuilder();
+        for (Object[] row : sorted) {
+            String tagName = (String) row[0];
+            NodeBuilder node = builderRoot;
+            node.offer(tagName);
+            for (char jamo : decompose(tagName).toCharArray()) {
+                node = node.children.computeIfAbsent(jamo, key -> new NodeBuilder());
+                node.offer(tagName);
+            }
+        }
+
+        this.root = builderRoot.freeze();
+        log.info("태그 자동완성 인덱스 재구성 완료, 태그 수={}", sorted.size());
+    }
+
+
+    /**
+     * 현재 서버의 id 를 반환합니다. 재구성 메시지의 내용으로 사용됩니다.
+     *
+     * @return 서버 id
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 재구성 메시지가 현재 서버에서 발행된 것인지 확인합니다.
+     *
+     * @param message 수신된 메시지 내용
+     * @return 현재 서버가 발행한 메시지면 true
+     */
+    public boolean isOwnMessage(String message) {
+        return nodeId.equals(message);
+    }
+
+
+    /**
+     * 문자열을 Trie 의 키로 사용하는 자모 문자열로 변환합니다.
+     *
+     * @param word 변환할 문자열
+     * @return 한글은 기본 자모로 분해되고 영문은 소문자로 변환된 문자열
+     */
+    static String decompose(String word) {
+        StringBuilder sb = new StringBuilder(word.length() * 3);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+                int index = c - HANGUL_SYLLABLE_BEGIN;
+                sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else if (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END) {
+                sb.append(COMPAT_JAMO[c - COMPAT_JAMO_BEGIN]);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    //자모 문자열을 따라 자식 노드로 이동, 경로가 없으면 null 반환
+    private static Node walk(Node node, String jamo) {
+        for (int i = 0; i < jamo.length() && node != null; i++) {
+            node = node.child(jamo.charAt(i));
+        }
+        return node;
+    }
+
+
+    /**
+     * 조회용 불변 노드, 자식 노드는 정렬된 키 배열에서 이진탐색으로 찾습니다.
+     */
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(new char[0], new Node[0], new String[0]);
+
+        private final char[] keys;
+        private final Node[] children;
+        private final String[] suggestions;
+
+        private Node(char[] keys, Node[] children, String[] suggestions) {
+            this.keys = keys;
+            this.children = children;
+            this.suggestions = suggestions;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    /**
+     * Trie 구성시에만 사용하는 가변 노드
+     */
+    private static final class NodeBuilder {
+
+        private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<String> suggestions = new ArrayList<>(MAX_SUGGESTIONS);
+
+        private void offer(String tagName) {
+            if (suggestions.size() < MAX_SUGGESTIONS) {
+                suggestions.add(tagName);
+            }
+        }
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, frozen, suggestions.toArray(new String[0]));
+        }
+    }
+
+
+}
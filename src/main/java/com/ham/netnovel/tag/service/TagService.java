@@ -64,6 +64,10 @@ public interface TagService {
      * <p>
      * 검색어에 포함된 특수 문자를 제거하고, 검색어가 비어있거나 10자를 초과할 경우 빈 리스트를 반환합니다.
      * </p>
+     * <p>
+     * 검색은 DB 가 아닌 {@link TagAutocompleteIndex} 에서 자모 단위 접두사로 수행되며,
+     * 사용 소설 수가 많은 태그부터 최대 {@value TagAutocompleteIndex#MAX_SUGGESTIONS}개를 반환합니다.
+     * </p>
      *
      * @param searchWord 검색할 태그의 일부 또는 전체 이름
      * @return 검색어와 일치하는 태그 이름 목록. 검색어가 유효하지 않은 경우 빈 리스트 반환.
@@ -71,6 +75,15 @@ public interface TagService {
     List<String> getTagNamesBySearchWord(String searchWord);
 
 
+    /**
+     * 태그 자동완성 인덱스를 DB 기준으로 재구성하는 메서드입니다.
+     *
+     * <p>애플리케이션 시작시, 태그 생성/삭제 트랜잭션 커밋 후 호출됩니다.
+     * 재구성중 예외가 발생하면 기존 인덱스를 유지합니다.</p>
+     */
+    void refreshTagAutocompleteIndex();
+
+
     /**
      * 새로운 태그를 생성하는 메서드입니다.
      *
@@ -1,6 +1,8 @@
 package com.ham.netnovel.tag.service;
 
+import com.ham.netnovel.common.cache.CacheNames;
 import com.ham.netnovel.common.exception.ServiceMethodException;
+import com.ham.netnovel.common.message.RedisMessagePublisher;
 import com.ham.netnovel.common.utils.TypeValidationUtil;
 import com.ham.netnovel.tag.Tag;
 import com.ham.netnovel.tag.TagRepository;
@@ -9,8 +11,16 @@ import com.ham.netnovel.tag.dto.TagDataDto;
 import com.ham.netnovel.tag.dto.TagDeleteDto;
 import com.ham.netnovel.tag.dto.TagFindDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.List;
@@ -23,8 +33,18 @@ public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
 
-    public TagServiceImpl(TagRepository tagRepository) {
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+
+    private final RedisMessagePublisher redisMessagePublisher;
+
+    private final CacheManager cacheManager;
+
+    public TagServiceImpl(TagRepository tagRepository, TagAutocompleteIndex tagAutocompleteIndex,
+                          RedisMessagePublisher redisMessagePublisher, CacheManager cacheManager) {
         this.tagRepository = tagRepository;
+        this.tagAutocompleteIndex = tagAutocompleteIndex;
+        this.redisMessagePublisher = redisMessagePublisher;
+        this.cacheManager = cacheManager;
     }
 
 
@@ -42,6 +62,7 @@ public class TagServiceImpl implements TagService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.TAGS, key = "'name:' + #tagName", sync = true)
     public TagDataDto getTagDtoByName(String tagName) {
         //DB에서 검색하여 결과 DTO로 변환하여 반환, 검색결과가 없을경우 빈객체 반환
         return getTagByName(tagName)
@@ -50,6 +71,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.TAGS, key = "'id:' + #tagId", sync = true)
     public TagDataDto getTagDtoById(Long tagId) {
         // tagId가 null인 경우 바로 빈 객체 반환
         if (tagId == null) {
@@ -95,13 +117,26 @@ public class TagServiceImpl implements TagService {
             return Collections.emptyList();
         }
 
-        //검색어 기반으로 태그 검색하여 반환
-        return tagRepository.findBySearchWord(validateSearchWord);
+        //자동완성 인덱스에서 접두사로 태그 검색하여 반환(DB 접근 없음)
+        return tagAutocompleteIndex.search(validateSearchWord);
 
     }
 
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshTagAutocompleteIndex() {
+        try {
+            //ACTIVE 상태 태그의 이름과 사용 소설 수로 인덱스를 새로 만들어 교체
+            tagAutocompleteIndex.rebuild(tagRepository.findActiveTagUsageCounts());
+        } catch (Exception ex) {
+            //인덱스 재구성에 실패하면 기존 인덱스를 그대로 사용
+            log.error("refreshTagAutocompleteIndex 메서드 에러 발생", ex);
+        }
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.TAGS, allEntries = true)
     public Tag createTag(String tagName) {
 
         //파라미터 검증, 태그가 null 이거나 비어있으면 안되고, 10글자 이하의 한글/숫자/영문 이여야함
@@ -123,6 +158,8 @@ public class TagServiceImpl implements TagService {
 
             Tag save = tagRepository.save(tag);
             log.info("새로운 Tag 생성 완료, 태그명 ={} ", save.getId());
+            //트랜잭션 커밋 후 자동완성 인덱스 재구성
+            refreshTagAutocompleteIndexAfterCommit();
             return save;
 
         } catch (Exception ex) {
@@ -138,7 +175,12 @@ public class TagServiceImpl implements TagService {
             // DB에 태그 엔티티가 없으면 새로만들어서 반환
             Optional<Tag> tagByName = getTagByName(tagName);
 
-            return tagByName.orElseGet(() -> createTag(tagName));
+            return tagByName.orElseGet(() -> {
+                Tag created = createTag(tagName);
+                //내부 호출은 프록시를 거치지 않아 createTag 의 @CacheEvict 가 실행되지 않으므로 직접 비움
+                evictTagCache();
+                return created;
+            });
         } catch (Exception ex) {
             throw new ServiceMethodException("getOrCreateTag 에러 : " + ex + ex.getMessage());
         }
@@ -188,18 +230,67 @@ public class TagServiceImpl implements TagService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.TAGS, allEntries = true)
     public void deleteTag(TagDeleteDto deleteDto) {
         Tag targetRecord = tagRepository.findById(deleteDto.getTagId())
                 .orElseThrow(() -> new NoSuchElementException("Tag 정보 없음"));
         try {
             targetRecord.changeStatus(TagStatus.DELETED_BY_USER);
             tagRepository.save(targetRecord);
+            //트랜잭션 커밋 후 자동완성 인덱스 재구성
+            refreshTagAutocompleteIndexAfterCommit();
         } catch (Exception ex) {
             throw new ServiceMethodException("deleteTag() Error : " + ex.getMessage());
         }
     }
 
 
+    /**
+     * 태그 캐시를 모두 비웁니다. 캐시 매니저가 트랜잭션을 인식하므로 트랜잭션 안에서 호출되면 커밋 이후에 비웁니다.
+     */
+    private void evictTagCache() {
+        Cache cache = cacheManager.getCache(CacheNames.TAGS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 태그 자동완성 인덱스를 재구성합니다.
+     *
+     * <p>커밋 전에 재구성하면 롤백된 태그가 인덱스에 남을 수 있고,
+     * 같은 트랜잭션에서 생성되는 NovelTag 가 사용 소설 수에 반영되지 않으므로 커밋 이후에 실행합니다.
+     * 트랜잭션이 없으면 즉시 재구성합니다.</p>
+     */
+    private void refreshTagAutocompleteIndexAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshTagAutocompleteIndexOnAllNodes();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshTagAutocompleteIndexOnAllNodes();
+            }
+        });
+    }
+
+    /**
+     * 현재 서버의 자동완성 인덱스를 재구성하고, 다른 서버에 재구성 메시지를 발행합니다.
+     *
+     * <p>메시지 발행에 실패해도 현재 서버의 인덱스는 재구성됩니다.
+     * 다른 서버는 다음 태그 생성/삭제 또는 재시작시 재구성됩니다.</p>
+     */
+    private void refreshTagAutocompleteIndexOnAllNodes() {
+        refreshTagAutocompleteIndex();
+        try {
+            redisMessagePublisher.publish(TagAutocompleteIndex.INVALIDATION_CHANNEL, tagAutocompleteIndex.getNodeId());
+        } catch (Exception ex) {
+            log.error("refreshTagAutocompleteIndexOnAllNodes 메서드 에러 발생, 자동완성 인덱스 재구성 메시지 발송 실패", ex);
+        }
+    }
+
+
     //null 파라미터 넣지 말것!!
     private TagDataDto convertToTagDataDto(Tag tag) {
 
@@ -0,0 +1,44 @@
+package com.ham.netnovel.comment.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+
+    @Test
+    void restoresCreatedAtAndId() {
+        //given
+        CommentCursor cursor = new CommentCursor(LocalDateTime.of(2024, 8, 1, 12, 30, 15, 123_456_000), 42L);
+
+        //when
+        CommentCursor decoded = CommentCursor.decode(cursor.encode());
+
+        //then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void returnsNullForFirstPage() {
+        //then
+        assertThat(CommentCursor.decode(null)).isNull();
+        assertThat(CommentCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        //given
+        String notBase64 = "%%%";
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2024-08-01T12:30:15".getBytes());
+        String badId = Base64.getUrlEncoder().encodeToString("2024-08-01T12:30:15|abc".getBytes());
+
+        //then
+        assertThatThrownBy(() -> CommentCursor.decode(notBase64)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentCursor.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ham.netnovel.comment.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentFeedCursorTest {
+
+    @Test
+    void restoresCreatedAtTypeAndId() {
+        //given
+        CommentFeedCursor cursor = new CommentFeedCursor(LocalDateTime.of(2024, 8, 1, 12, 30), CommentType.RECOMMENT, 7L);
+
+        //when
+        CommentFeedCursor decoded = CommentFeedCursor.decode(cursor.encode());
+
+        //then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void boundsIdByTypeOrder() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 30);
+        CommentFeedCursor afterComment = new CommentFeedCursor(createdAt, CommentType.COMMENT, 7L);
+        CommentFeedCursor afterReComment = new CommentFeedCursor(createdAt, CommentType.RECOMMENT, 7L);
+
+        //then
+        //댓글 다음에는 같은 시간의 대댓글이 모두 남아있음
+        assertThat(afterComment.idBoundFor(CommentType.COMMENT)).isEqualTo(7L);
+        assertThat(afterComment.idBoundFor(CommentType.RECOMMENT)).isEqualTo(Long.MAX_VALUE);
+        //대댓글 다음에는 같은 시간의 댓글이 모두 지나감
+        assertThat(afterReComment.idBoundFor(CommentType.COMMENT)).isZero();
+        assertThat(afterReComment.idBoundFor(CommentType.RECOMMENT)).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsUnknownType() {
+        //given
+        String encoded = java.util.Base64.getUrlEncoder().encodeToString("2024-08-01T12:30|REPLY|7".getBytes());
+
+        //then
+        assertThatThrownBy(() -> CommentFeedCursor.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ham.netnovel.comment.service;
+
+import com.ham.netnovel.comment.Comment;
+import com.ham.netnovel.comment.CommentRepository;
+import com.ham.netnovel.commentLike.data.LikeType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CommentLikeCountTest {
+
+    private static final Long COMMENT_ID = 16L;//테스트용 comment
+
+    private final CommentService commentService;
+
+    private final CommentRepository commentRepository;
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    CommentLikeCountTest(CommentService commentService, CommentRepository commentRepository, EntityManager entityManager) {
+        this.commentService = commentService;
+        this.commentRepository = commentRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Test
+    void addLikeCountChangesStoredCounter() {
+        //given
+        Comment before = find(COMMENT_ID);
+        int likes = before.getLikes();
+        int disLikes = before.getDisLikes();
+
+        //when
+        commentService.addLikeCount(COMMENT_ID, LikeType.LIKE, 1);
+        commentService.addLikeCount(COMMENT_ID, LikeType.DISLIKE, 1);
+        commentService.addLikeCount(COMMENT_ID, LikeType.DISLIKE, -1);
+
+        //then
+        Comment after = find(COMMENT_ID);
+        assertThat(after.getLikes()).isEqualTo(likes + 1);
+        assertThat(after.getDisLikes()).isEqualTo(disLikes);
+    }
+
+    @Test
+    void reconcileRestoresDriftedCounter() {
+        //given 첫 댓글을 보정한 뒤 저장된 좋아요 수를 어긋나게 변경
+        Long commentId = commentService.reconcileLikeCounts(0L, 1);
+        assertThat(commentId).isNotNull();
+        Comment reconciled = find(commentId);
+        int likes = reconciled.getLikes();
+        int disLikes = reconciled.getDisLikes();
+        commentService.addLikeCount(commentId, LikeType.LIKE, 5);
+        assertThat(find(commentId).getLikes()).isEqualTo(likes + 5);
+
+        //when
+        Long lastId = commentService.reconcileLikeCounts(0L, 1);
+
+        //then 감정표현 테이블에서 센 값으로 되돌아감
+        Comment after = find(commentId);
+        assertThat(lastId).isEqualTo(commentId);
+        assertThat(after.getLikes()).isEqualTo(likes);
+        assertThat(after.getDisLikes()).isEqualTo(disLikes);
+    }
+
+    //벌크 update 결과를 읽도록 영속성 컨텍스트를 비운 뒤 조회
+    private Comment find(Long commentId) {
+        entityManager.flush();
+        entityManager.clear();
+        return commentRepository.findById(commentId).orElseThrow();
+    }
+}
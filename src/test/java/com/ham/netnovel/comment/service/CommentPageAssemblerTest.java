@@ -0,0 +1,72 @@
+package com.ham.netnovel.comment.service;
+
+import com.ham.netnovel.comment.data.CommentSortOrder;
+import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentPageAssemblerTest {
+
+    private final CommentService commentService;
+
+    private final Statistics statistics;
+
+
+    @Autowired
+    CommentPageAssemblerTest(CommentService commentService, EntityManagerFactory entityManagerFactory) {
+        this.commentService = commentService;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /*
+    테스트 항목
+    1. 댓글 페이지 크기와 관계없이 SQL 실행 횟수가 2번(댓글 페이지, 대댓글) 이하인지 확인
+     */
+    @Test
+    public void episodeCommentPageUsesFixedStatementCount() {
+        //given
+        Long episodeId = 2306L;//테스트용 episode
+
+        //when
+        statistics.clear();
+        List<CommentEpisodeListDto> smallPage = commentService.getEpisodeComment(episodeId,
+                PageRequest.of(0, 5), null, CommentSortOrder.RECENT);
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<CommentEpisodeListDto> largePage = commentService.getEpisodeComment(episodeId,
+                PageRequest.of(0, 50), null, CommentSortOrder.RECENT);
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        //then
+        System.out.println("댓글 " + smallPage.size() + "개, SQL " + smallPageStatements + "번");
+        System.out.println("댓글 " + largePage.size() + "개, SQL " + largePageStatements + "번");
+        assertThat(smallPageStatements).isLessThanOrEqualTo(2);
+        assertThat(largePageStatements).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void novelCommentPageUsesFixedStatementCount() {
+        //given
+        Long novelId = 1L;//테스트용 novel
+
+        //when
+        statistics.clear();
+        List<CommentEpisodeListDto> page = commentService.getNovelCommentListByRecent(novelId, PageRequest.of(0, 50));
+
+        //then
+        System.out.println("댓글 " + page.size() + "개, SQL " + statistics.getPrepareStatementCount() + "번");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ham.netnovel.comment.service;
+
+import com.ham.netnovel.comment.CommentRepository;
+import com.ham.netnovel.comment.data.CommentSortOrder;
+import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentScoreIndexTest {
+
+    private static final Long EPISODE_ID = 2306L;//테스트용 episode
+
+    private static final String KEY = "comment_score:episode:" + EPISODE_ID;
+
+    private static final String LOCK_KEY = KEY + ":building-lock";
+
+    private final CommentScoreIndex commentScoreIndex;
+
+    private final CommentRepository commentRepository;
+
+    private final CommentService commentService;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    CommentScoreIndexTest(CommentScoreIndex commentScoreIndex,
+                          CommentRepository commentRepository,
+                          CommentService commentService,
+                          RedisTemplate<String, String> redisTemplate) {
+        this.commentScoreIndex = commentScoreIndex;
+        this.commentRepository = commentRepository;
+        this.commentService = commentService;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        redisTemplate.delete(List.of(KEY, LOCK_KEY));
+    }
+
+    @Test
+    void memberKeepsIdOrder() {
+        //when 자리수가 다른 id
+        String small = CommentScoreIndex.member(9L);
+        String large = CommentScoreIndex.member(10L);
+
+        //then 문자열 순서가 id 순서와 같음
+        assertThat(small.compareTo(large)).isNegative();
+        assertThat(Long.valueOf(large)).isEqualTo(10L);
+    }
+
+    @Test
+    void ordersByScoreThenNewestId() {
+        //given
+        redisTemplate.delete(List.of(KEY, LOCK_KEY));
+        List<Long> expected = commentRepository.findActiveScoresByEpisode(EPISODE_ID).stream()
+                .sorted(Comparator.<Object[]>comparingLong(row -> ((Number) row[1]).longValue())
+                        .thenComparingLong(row -> (Long) row[0])
+                        .reversed())
+                .limit(20)
+                .map(row -> (Long) row[0])
+                .toList();
+
+        //when
+        List<Long> page = commentScoreIndex.findEpisodePage(EPISODE_ID, PageRequest.of(0, 20));
+
+        //then 추천 점수 역순, 같으면 id 역순
+        assertThat(page).containsExactlyElementsOf(expected);
+        assertThat(redisTemplate.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void prunesInactiveIdFromIndex() {
+        //given 인덱스를 만든 뒤 DB 에 없는 id 를 가장 높은 점수로 추가
+        redisTemplate.delete(List.of(KEY, LOCK_KEY));
+        commentScoreIndex.findEpisodePage(EPISODE_ID, PageRequest.of(0, 20));
+        Long missingId = Long.MAX_VALUE;
+        commentScoreIndex.added(missingId, EPISODE_ID, null);
+        commentScoreIndex.addScore(missingId, EPISODE_ID, null, 1_000_000);
+        assertThat(redisTemplate.opsForZSet().score(KEY, CommentScoreIndex.member(missingId))).isNotNull();
+
+        //when
+        List<CommentEpisodeListDto> comments = commentService.getEpisodeComment(
+                EPISODE_ID, PageRequest.of(0, 20), null, CommentSortOrder.LIKES);
+
+        //then 응답에서 빠지고 인덱스에서도 제거됨
+        assertThat(comments).extracting(CommentEpisodeListDto::getId).doesNotContain(missingId);
+        assertThat(redisTemplate.opsForZSet().score(KEY, CommentScoreIndex.member(missingId))).isNull();
+    }
+
+    @Test
+    void fallsBackToDbWhileAnotherRequestBuilds() {
+        //given 다른 요청이 인덱스를 만드는 중
+        redisTemplate.delete(KEY);
+        redisTemplate.opsForValue().set(LOCK_KEY, "1", Duration.ofSeconds(30));
+
+        //when
+        List<Long> page = commentScoreIndex.findEpisodePage(EPISODE_ID, PageRequest.of(0, 20));
+        List<CommentEpisodeListDto> comments = commentService.getEpisodeComment(
+                EPISODE_ID, PageRequest.of(0, 20), null, CommentSortOrder.LIKES);
+
+        //then 인덱스를 만들지 않고 DB 정렬로 조회
+        assertThat(page).isNull();
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(comments).isNotNull();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ham.netnovel.comment.service;
+
+import com.ham.netnovel.comment.dto.CommentEpisodeListDto;
+import com.ham.netnovel.comment.dto.PendingCommentDto;
+import com.ham.netnovel.common.exception.RepositoryMethodException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentWriteBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 8, 1, 12, 30, 15, 123_456_000);
+
+    @Test
+    void prependsPendingCommentsNewestFirst() {
+        //given
+        List<PendingCommentDto> pending = List.of(pending("유저2", "두번째", NOW.plusSeconds(1)), pending("유저1", "첫번째", NOW));
+        List<CommentEpisodeListDto> page = List.of(persisted(10L, "유저3", "저장된 댓글", NOW.minusMinutes(1)));
+
+        //when
+        List<CommentEpisodeListDto> merged = CommentWriteBuffer.prependPending(pending, page);
+
+        //then
+        assertThat(merged).extracting(CommentEpisodeListDto::getContent)
+                .containsExactly("두번째", "첫번째", "저장된 댓글");
+        assertThat(merged.get(0).getId()).isNull();
+        assertThat(merged.get(0).isEditable()).isFalse();
+        assertThat(merged.get(0).getReCommentList()).isEmpty();
+    }
+
+    @Test
+    void skipsPendingCommentAlreadyOnPage() {
+        //given 저장 이후 저장 전 목록에서 제거되기 전에 조회된 댓글
+        List<PendingCommentDto> pending = List.of(pending("유저1", "댓글", NOW));
+        List<CommentEpisodeListDto> page = List.of(persisted(11L, "유저1", "댓글", NOW));
+
+        //when
+        List<CommentEpisodeListDto> merged = CommentWriteBuffer.prependPending(pending, page);
+
+        //then
+        assertThat(merged).extracting(CommentEpisodeListDto::getId).containsExactly(11L);
+    }
+
+    @Test
+    void dropsOnlyDataErrors() {
+        //given
+        Exception missingEpisode = new RepositoryMethodException("insertComments 메서드 에러 발생",
+                new DataIntegrityViolationException("foreign key"));
+        Exception connectionFailure = new RepositoryMethodException("insertComments 메서드 에러 발생",
+                new CannotGetJdbcConnectionException("connection"));
+
+        //then 데이터 에러만 버리고, 연결 실패는 다시 저장
+        assertThat(CommentWriteBuffer.isDataError(missingEpisode)).isTrue();
+        assertThat(CommentWriteBuffer.isDataError(connectionFailure)).isFalse();
+    }
+
+
+    private static PendingCommentDto pending(String nickName, String content, LocalDateTime createdAt) {
+        return PendingCommentDto.builder()
+                .memberId(1L)
+                .nickName(nickName)
+                .episodeId(1L)
+                .novelId(1L)
+                .episodeTitle("에피소드")
+                .content(content)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static CommentEpisodeListDto persisted(Long id, String nickName, String content, LocalDateTime createdAt) {
+        return CommentEpisodeListDto.builder()
+                .id(id)
+                .nickName(nickName)
+                .content(content)
+                .createdAt(createdAt)
+                .build();
+    }
+}
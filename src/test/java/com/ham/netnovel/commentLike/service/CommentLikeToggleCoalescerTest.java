@@ -0,0 +1,150 @@
+package com.ham.netnovel.commentLike.service;
+
+import com.ham.netnovel.commentLike.data.LikeResult;
+import com.ham.netnovel.commentLike.data.LikeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentLikeToggleCoalescerTest {
+
+    //DB 대신 감정표현 상태를 메모리에 보관하는 writer
+    private static class RecordingWriter extends CommentLikeWriter {
+
+        private LikeType stored;
+
+        private int toggles;
+
+        private final List<String> applied = new ArrayList<>();
+
+        //실패시킬 apply 호출 수
+        private int failures;
+
+        RecordingWriter() {
+            super(null, null);
+        }
+
+        @Override
+        public LikeResult toggle(Long memberId, Long commentId, LikeType likeType) {
+            toggles++;
+            if (stored == likeType) {
+                stored = null;
+                return LikeResult.DELETION;
+            }
+            if (stored == null) {
+                stored = likeType;
+                return LikeResult.CREATION;
+            }
+            return LikeResult.FAILURE;
+        }
+
+        @Override
+        public void apply(Long memberId, Long commentId, LikeType from, LikeType to) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("반영 실패");
+            }
+            applied.add(from + "=>" + to);
+            stored = to;
+        }
+    }
+
+    private final RecordingWriter writer = new RecordingWriter();
+
+    private final CommentLikeToggleCoalescer coalescer =
+            new CommentLikeToggleCoalescer(writer, new SimpleMeterRegistry(), 60_000, 100);
+
+    @Test
+    void collapsesBurstIntoNetChange() {
+        //when
+        List<LikeResult> results = List.of(
+                coalescer.toggle(1L, 10L, LikeType.LIKE),
+                coalescer.toggle(1L, 10L, LikeType.LIKE),
+                coalescer.toggle(1L, 10L, LikeType.DISLIKE),
+                coalescer.toggle(1L, 10L, LikeType.DISLIKE));
+        coalescer.flush(true);
+
+        //then
+        assertThat(results).containsExactly(LikeResult.CREATION, LikeResult.DELETION, LikeResult.CREATION, LikeResult.DELETION);
+        assertThat(writer.toggles).isEqualTo(1);
+        //좋아요 저장 후 모두 취소되었으므로 삭제만 반영
+        assertThat(writer.applied).containsExactly("LIKE=>null");
+        assertThat(writer.stored).isNull();
+    }
+
+    @Test
+    void skipsWriteWhenBurstEndsInStoredState() {
+        //when
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+        coalescer.flush(true);
+
+        //then
+        assertThat(writer.applied).isEmpty();
+        assertThat(writer.stored).isEqualTo(LikeType.LIKE);
+    }
+
+    @Test
+    void keepsFailureForOppositeType() {
+        //when
+        LikeResult first = coalescer.toggle(1L, 10L, LikeType.LIKE);
+        LikeResult second = coalescer.toggle(1L, 10L, LikeType.DISLIKE);
+
+        //then
+        assertThat(first).isEqualTo(LikeResult.CREATION);
+        assertThat(second).isEqualTo(LikeResult.FAILURE);
+    }
+
+    @Test
+    void writesImmediatelyAfterBurstIsFlushed() {
+        //given
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+        coalescer.flush(true);
+
+        //when
+        LikeResult result = coalescer.toggle(1L, 10L, LikeType.LIKE);
+
+        //then
+        assertThat(result).isEqualTo(LikeResult.DELETION);
+        assertThat(writer.toggles).isEqualTo(2);
+    }
+
+    @Test
+    void retriesFailedFlushOnce() {
+        //given
+        writer.failures = 1;
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+
+        //when 첫 반영은 실패, 다음 flush 에서 다시 반영
+        coalescer.flush(true);
+        coalescer.flush(true);
+
+        //then
+        assertThat(writer.applied).containsExactly("LIKE=>null");
+        assertThat(writer.stored).isNull();
+    }
+
+    @Test
+    void dropsBurstAfterSecondFailure() {
+        //given
+        writer.failures = 2;
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+        coalescer.toggle(1L, 10L, LikeType.LIKE);
+
+        //when
+        coalescer.flush(true);
+        coalescer.flush(true);
+        LikeResult result = coalescer.toggle(1L, 10L, LikeType.LIKE);
+
+        //then 버린 뒤의 전환은 DB 상태에서 바로 반영
+        assertThat(writer.applied).isEmpty();
+        assertThat(result).isEqualTo(LikeResult.DELETION);
+        assertThat(writer.toggles).isEqualTo(2);
+    }
+}
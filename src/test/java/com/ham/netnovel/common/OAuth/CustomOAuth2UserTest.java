@@ -0,0 +1,66 @@
+package com.ham.netnovel.common.OAuth;
+
+import com.ham.netnovel.member.data.Gender;
+import com.ham.netnovel.member.data.MemberRole;
+import com.ham.netnovel.member.dto.MemberOAuthDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomOAuth2UserTest {
+
+    //memberId 가 추가되기 전 형식으로 세션에 저장된 CustomOAuth2User(providerId=naver_1, nickName=reader, READER, MALE)
+    private static final String LEGACY_SESSION_PRINCIPAL =
+            "rO0ABXNyAC5jb20uaGFtLm5ldG5vdmVsLmNvbW1vbi5PQXV0aC5DdXN0b21PQXV0aDJVc2VyOaxu9rXHtg0CAAFMAA5tZW1iZXJP" +
+            "QXV0aER0b3QALExjb20vaGFtL25ldG5vdmVsL21lbWJlci9kdG8vTWVtYmVyT0F1dGhEdG87eHBzcgAqY29tLmhhbS5uZXRub3Zl" +
+            "bC5tZW1iZXIuZHRvLk1lbWJlck9BdXRoRHRvN7b/fVLtTccCAARMAAZnZW5kZXJ0ACVMY29tL2hhbS9uZXRub3ZlbC9tZW1iZXIv" +
+            "ZGF0YS9HZW5kZXI7TAAIbmlja05hbWV0ABJMamF2YS9sYW5nL1N0cmluZztMAApwcm92aWRlcklkcQB+AAVMAARyb2xldAApTGNv" +
+            "bS9oYW0vbmV0bm92ZWwvbWVtYmVyL2RhdGEvTWVtYmVyUm9sZTt4cH5yACNjb20uaGFtLm5ldG5vdmVsLm1lbWJlci5kYXRhLkdl" +
+            "bmRlcgAAAAAAAAAAEgAAeHIADmphdmEubGFuZy5FbnVtAAAAAAAAAAASAAB4cHQABE1BTEV0AAZyZWFkZXJ0AAduYXZlcl8xfnIA" +
+            "J2NvbS5oYW0ubmV0bm92ZWwubWVtYmVyLmRhdGEuTWVtYmVyUm9sZQAAAAAAAAAAEgAAeHEAfgAJdAAGUkVBREVS";
+
+    @Test
+    void restoresLegacySessionPrincipalWithoutMemberId() throws Exception {
+        //when
+        CustomOAuth2User user = (CustomOAuth2User) deserialize(Base64.getDecoder().decode(LEGACY_SESSION_PRINCIPAL));
+
+        //then
+        assertThat(user.getName()).isEqualTo("naver_1");
+        assertThat(user.getNickName()).isEqualTo("reader");
+        assertThat(user.getRole()).isEqualTo(MemberRole.READER);
+        assertThat(user.getMemberId()).isNull();
+    }
+
+    @Test
+    void keepsMemberIdThroughSession() throws Exception {
+        //given
+        CustomOAuth2User user = new CustomOAuth2User(MemberOAuthDto.builder()
+                .memberId(7L)
+                .providerId("naver_1")
+                .nickName("reader")
+                .role(MemberRole.READER)
+                .gender(Gender.MALE)
+                .build());
+
+        //when
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(user);
+        }
+        CustomOAuth2User restored = (CustomOAuth2User) deserialize(bytes.toByteArray());
+
+        //then
+        assertThat(restored.getMemberId()).isEqualTo(7L);
+        assertThat(restored.getName()).isEqualTo("naver_1");
+    }
+
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
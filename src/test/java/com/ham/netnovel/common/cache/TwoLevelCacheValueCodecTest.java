@@ -0,0 +1,63 @@
+package com.ham.netnovel.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ham.netnovel.tag.TagStatus;
+import com.ham.netnovel.tag.dto.TagDataDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoLevelCacheValueCodecTest {
+
+    private final TwoLevelCacheValueCodec codec = new TwoLevelCacheValueCodec(new ObjectMapper());
+
+    @Test
+    void restoresDtoWithOriginalType() {
+        //given
+        TagDataDto tag = TagDataDto.builder().id(1L).name("판타지").status(TagStatus.ACTIVE).build();
+
+        //when
+        Object decoded = codec.decode(codec.encode(tag));
+
+        //then
+        assertThat(decoded).isInstanceOf(TagDataDto.class);
+        assertThat(((TagDataDto) decoded).getName()).isEqualTo("판타지");
+        assertThat(((TagDataDto) decoded).getStatus()).isEqualTo(TagStatus.ACTIVE);
+    }
+
+    @Test
+    void restoresListAndScalarValues() {
+        //given
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        //when
+        Object decodedIds = codec.decode(codec.encode(ids));
+        Object decodedName = codec.decode(codec.encode("판타지"));
+
+        //then
+        assertThat(decodedIds).isEqualTo(ids);
+        assertThat(decodedName).isEqualTo("판타지");
+    }
+
+    @Test
+    void restoresNullValueAsSameInstance() {
+        //when
+        Object decoded = codec.decode(codec.encode(NullValue.INSTANCE));
+
+        //then
+        assertThat(decoded).isSameAs(NullValue.INSTANCE);
+    }
+
+    @Test
+    void rejectsTypeOutsideProject() {
+        //given
+        String encoded = "[\"javax.management.ObjectName\",\"a:b=c\"]";
+
+        //then
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ham.netnovel.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedLruCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final WeightedLruCache<Long, String> cache =
+            new WeightedLruCache<>(10, 100, value -> value.length(), clock::get);
+
+    @Test
+    void evictsLeastRecentlyUsedByWeight() {
+        //given
+        cache.put(1L, "aaaa");
+        cache.put(2L, "bbbb");
+        //1번을 조회하여 최근 사용으로 변경
+        cache.get(1L);
+
+        //when
+        cache.put(3L, "cccc");
+
+        //then
+        assertThat(cache.get(1L)).isEqualTo("aaaa");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isEqualTo("cccc");
+        assertThat(cache.weightedSize()).isEqualTo(8);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsEntryHeavierThanMaxWeight() {
+        //given
+        cache.put(1L, "aaaa");
+
+        //when
+        boolean stored = cache.put(2L, "b".repeat(11));
+
+        //then
+        assertThat(stored).isFalse();
+        assertThat(cache.get(1L)).isEqualTo("aaaa");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void replacesEntryWithSameKey() {
+        //given
+        cache.put(1L, "aaaa");
+
+        //when
+        cache.put(1L, "aa");
+
+        //then
+        assertThat(cache.get(1L)).isEqualTo("aa");
+        assertThat(cache.weightedSize()).isEqualTo(2);
+    }
+
+    @Test
+    void expiresEntryAfterTtl() {
+        //given
+        cache.put(1L, "aaaa");
+
+        //when
+        clock.addAndGet(100);
+
+        //then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.weightedSize()).isZero();
+    }
+}
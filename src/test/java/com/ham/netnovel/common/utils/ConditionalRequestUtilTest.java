@@ -0,0 +1,38 @@
+package com.ham.netnovel.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestUtilTest {
+
+    @Test
+    void createsStableQuotedETag() {
+        //given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 8, 1, 10, 30);
+
+        //when
+        String etag = ConditionalRequestUtil.strongETag("episode", 1L, updatedAt, "identity");
+
+        //then
+        assertThat(etag).startsWith("\"").endsWith("\"").hasSize(34);
+        assertThat(ConditionalRequestUtil.strongETag("episode", 1L, updatedAt, "identity")).isEqualTo(etag);
+        assertThat(ConditionalRequestUtil.strongETag("episode", 1L, updatedAt, "deflate")).isNotEqualTo(etag);
+        //구분자가 있으므로 값을 이어붙인 결과가 같아도 다른 ETag
+        assertThat(ConditionalRequestUtil.strongETag("ab", "c"))
+                .isNotEqualTo(ConditionalRequestUtil.strongETag("a", "bc"));
+    }
+
+    @Test
+    void matchesIfNoneMatchHeader() {
+        String etag = "\"abc\"";
+
+        assertThat(ConditionalRequestUtil.isNotModified("\"abc\"", etag)).isTrue();
+        assertThat(ConditionalRequestUtil.isNotModified("\"xyz\", W/\"abc\"", etag)).isTrue();
+        assertThat(ConditionalRequestUtil.isNotModified("*", etag)).isTrue();
+        assertThat(ConditionalRequestUtil.isNotModified("\"xyz\"", etag)).isFalse();
+        assertThat(ConditionalRequestUtil.isNotModified(null, etag)).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ham.netnovel.common.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonArrayStreamReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsArrayElementsInOrder() throws Exception {
+        //given
+        InputStream input = toStream("[{\"title\":\"1화\"},{\"title\":\"2화\"},{\"title\":\"3화\"}]");
+
+        //when
+        List<String> titles = new ArrayList<>();
+        try (JsonArrayStreamReader<Chapter> reader =
+                     new JsonArrayStreamReader<>(objectMapper, input, Chapter.class, 10, chapter -> { })) {
+            reader.forEachRemaining(chapter -> titles.add(chapter.title));
+        }
+
+        //then
+        assertThat(titles).containsExactly("1화", "2화", "3화");
+    }
+
+    @Test
+    void rejectsTooManyElements() {
+        //given
+        InputStream input = toStream("[{\"title\":\"1화\"},{\"title\":\"2화\"}]");
+        JsonArrayStreamReader<Chapter> reader =
+                new JsonArrayStreamReader<>(objectMapper, input, Chapter.class, 1, chapter -> { });
+
+        //when
+        reader.next();
+
+        //then
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        //배열이 아닌 본문
+        assertThatThrownBy(() -> new JsonArrayStreamReader<>(objectMapper, toStream("{\"title\":\"1화\"}"), Chapter.class, 10, chapter -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        //객체가 아닌 원소
+        JsonArrayStreamReader<Chapter> reader =
+                new JsonArrayStreamReader<>(objectMapper, toStream("[1]"), Chapter.class, 10, chapter -> { });
+        assertThatThrownBy(reader::hasNext).isInstanceOf(IllegalArgumentException.class);
+
+        //검증 실패
+        JsonArrayStreamReader<Chapter> validated = new JsonArrayStreamReader<>(objectMapper, toStream("[{\"title\":\"\"}]"), Chapter.class, 10,
+                chapter -> {
+                    if (chapter.title.isEmpty()) {
+                        throw new IllegalArgumentException("제목 없음");
+                    }
+                });
+        assertThatThrownBy(validated::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class Chapter {
+        public String title;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ham.netnovel.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedListMergerTest {
+
+    @Test
+    void mergesDescendingListsInOrder() {
+        //given
+        List<Integer> comments = List.of(9, 6, 5, 1);
+        List<Integer> reComments = List.of(8, 7, 2);
+
+        //when
+        List<Integer> merged = SortedListMerger.merge(List.of(comments, reComments), Comparator.reverseOrder(), 10);
+
+        //then
+        assertThat(merged).containsExactly(9, 8, 7, 6, 5, 2, 1);
+    }
+
+    @Test
+    void stopsAtLimit() {
+        //given
+        List<Integer> first = List.of(1, 4, 7);
+        List<Integer> second = List.of(2, 5, 8);
+        List<Integer> third = List.of(3, 6, 9);
+
+        //when
+        List<Integer> merged = SortedListMerger.merge(List.of(first, second, third), Comparator.naturalOrder(), 4);
+
+        //then
+        assertThat(merged).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void skipsEmptyLists() {
+        //when
+        List<Integer> merged = SortedListMerger.merge(List.of(List.<Integer>of(), List.of(3, 1)), Comparator.reverseOrder(), 5);
+
+        //then
+        assertThat(merged).containsExactly(3, 1);
+    }
+}
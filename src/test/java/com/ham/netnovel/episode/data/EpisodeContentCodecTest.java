@@ -0,0 +1,96 @@
+package com.ham.netnovel.episode.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EpisodeContentCodecTest {
+
+    @Test
+    void compressesAndRestoresLongContent() {
+        //given
+        String content = "그는 검을 들어 올렸다. ".repeat(500);
+
+        //when
+        byte[] encoded = EpisodeContentCodec.encode(content);
+
+        //then
+        assertThat(encoded[2]).isEqualTo(EpisodeContentCodec.CODEC_DEFLATE);
+        assertThat(encoded.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(EpisodeContentCodec.decode(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    void storesShortContentWithoutCompression() {
+        //given
+        String content = "짧은 본문";
+
+        //when
+        byte[] encoded = EpisodeContentCodec.encode(content);
+
+        //then
+        assertThat(encoded[2]).isEqualTo(EpisodeContentCodec.CODEC_NONE);
+        assertThat(EpisodeContentCodec.decode(encoded)).isEqualTo(content);
+        assertThat(EpisodeContentCodec.toDeflateStream(encoded)).isNull();
+    }
+
+    @Test
+    void deflateStreamIsValidZlibData() throws Exception {
+        //given
+        String content = "다음 화에 계속. ".repeat(300);
+        byte[] deflated = EpisodeContentCodec.toDeflateStream(EpisodeContentCodec.encode(content));
+
+        //when, HTTP 클라이언트와 같이 헤더 없이 zlib 데이터만으로 압축 해제
+        Inflater inflater = new Inflater();
+        inflater.setInput(deflated);
+        byte[] buffer = new byte[content.getBytes(StandardCharsets.UTF_8).length];
+        int length = inflater.inflate(buffer);
+        inflater.end();
+
+        //then
+        assertThat(new String(buffer, 0, length, StandardCharsets.UTF_8)).isEqualTo(content);
+    }
+
+    @Test
+    void writesByteRangeOfCompressedContent() {
+        //given
+        String content = "그는 검을 들어 올렸다. ".repeat(500);
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = EpisodeContentCodec.encode(content);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        EpisodeContentCodec.writeRange(encoded, output, 100, 5_000);
+
+        //then
+        assertThat(EpisodeContentCodec.decodedLength(encoded)).isEqualTo(raw.length);
+        assertThat(output.toByteArray()).isEqualTo(Arrays.copyOfRange(raw, 100, 5_100));
+    }
+
+    @Test
+    void writesDeflateStreamWithoutHeader() {
+        //given
+        byte[] encoded = EpisodeContentCodec.encode("다음 화에 계속. ".repeat(300));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        EpisodeContentCodec.writeDeflateStream(encoded, output);
+
+        //then
+        assertThat(output.toByteArray()).isEqualTo(EpisodeContentCodec.toDeflateStream(encoded));
+    }
+
+    @Test
+    void rejectsUnknownHeader() {
+        assertThatThrownBy(() -> EpisodeContentCodec.decode("plain".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> EpisodeContentCodec.decode(new byte[]{'E', 'C', 9}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ham.netnovel.episode.service;
+
+import com.ham.netnovel.episode.data.EpisodeStatus;
+import com.ham.netnovel.episode.data.IndexDirection;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpisodeChapterIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 7, 1, 12, 0);
+
+    //챕터 1~5, 3챕터는 삭제됨, 입력 순서는 정렬되지 않음
+    private final EpisodeChapterIndex index = EpisodeChapterIndex.of(List.of(
+            row(50L, 5, EpisodeStatus.ACTIVE, BASE.plusDays(5)),
+            row(10L, 1, EpisodeStatus.ACTIVE, BASE.plusDays(1)),
+            row(30L, 3, EpisodeStatus.DELETED_BY_USER, BASE.plusDays(6)),
+            row(20L, 2, EpisodeStatus.ACTIVE, BASE.plusDays(2)),
+            row(40L, 4, EpisodeStatus.HIDDEN_BY_ADMIN, BASE.plusDays(4))
+    ), 0L);
+
+    @Test
+    void findsNextAndPreviousActiveChapter() {
+        assertThat(index.findBeside(10L, IndexDirection.NEXT)).isEqualTo(20L);
+        assertThat(index.findBeside(50L, IndexDirection.PREVIOUS)).isEqualTo(20L);
+        //삭제, 숨김 처리된 챕터는 건너뜀
+        assertThat(index.findBeside(20L, IndexDirection.NEXT)).isEqualTo(50L);
+        //삭제된 에피소드에서도 이동 가능
+        assertThat(index.findBeside(30L, IndexDirection.PREVIOUS)).isEqualTo(20L);
+    }
+
+    @Test
+    void returnsNullAtEdgesOrUnknownEpisode() {
+        assertThat(index.findBeside(10L, IndexDirection.PREVIOUS)).isNull();
+        assertThat(index.findBeside(50L, IndexDirection.NEXT)).isNull();
+        assertThat(index.findBeside(99L, IndexDirection.NEXT)).isNull();
+    }
+
+    @Test
+    void countsOnlyActiveEpisodes() {
+        assertThat(index.activeCount()).isEqualTo(3);
+        assertThat(index.lastActiveCreatedAt()).isEqualTo(BASE.plusDays(5));
+
+        EpisodeChapterIndex empty = EpisodeChapterIndex.of(List.of(), 0L);
+        assertThat(empty.activeCount()).isZero();
+        assertThat(empty.lastActiveCreatedAt()).isNull();
+        assertThat(empty.findBeside(1L, IndexDirection.NEXT)).isNull();
+    }
+
+    private static Object[] row(Long id, Integer chapter, EpisodeStatus status, LocalDateTime createdAt) {
+        return new Object[]{id, chapter, status, createdAt};
+    }
+}
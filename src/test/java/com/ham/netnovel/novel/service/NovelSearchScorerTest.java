@@ -0,0 +1,73 @@
+package com.ham.netnovel.novel.service;
+
+import com.ham.netnovel.novel.dto.NovelSearchCandidateDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+class NovelSearchScorerTest {
+
+    NovelSearchScorer scorer = new NovelSearchScorer(0.6, 0.2, 0.1, 0.1, 168);
+
+    @Test
+    void exactMatchFirstTest() {
+        //given 인기도, 최신성이 같은 후보
+        LocalDateTime now = LocalDateTime.now();
+        List<NovelSearchCandidateDto> candidates = List.of(
+                candidate(1L, "전지적 독자 시점 외전", 100L, 1, now),
+                candidate(2L, "독자", 100L, 1, now),
+                candidate(3L, "독자의 시간", 100L, 1, now));
+
+        //when
+        List<Long> result = scorer.selectTopNovelIds("독자", candidates, 3);
+
+        //then 완전일치 > 접두사일치 > 포함 순
+        Assertions.assertThat(result).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void popularityTieBreakTest() {
+        //given 제목 일치도가 같으면 인기 작품이 앞에 위치
+        LocalDateTime now = LocalDateTime.now();
+        List<NovelSearchCandidateDto> candidates = List.of(
+                candidate(1L, "마법사의 귀환", 10L, 1, now),
+                candidate(2L, "마법사의 모험", 100000L, 500, now));
+
+        //when
+        List<Long> result = scorer.selectTopNovelIds("마법사", candidates, 2);
+
+        //then
+        Assertions.assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void boundedTopKTest() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        List<NovelSearchCandidateDto> candidates = List.of(
+                candidate(1L, "검", 1L, 0, now),
+                candidate(2L, "검의 노래", 2L, 0, now),
+                candidate(3L, "노래하는 검", 3L, 0, now));
+
+        //when
+        List<Long> result = scorer.selectTopNovelIds("검", candidates, 2);
+
+        //then 상위 2개만 반환
+        Assertions.assertThat(result).containsExactly(1L, 2L);
+        Assertions.assertThat(scorer.selectTopNovelIds("검", candidates, 0)).isEmpty();
+    }
+
+    private NovelSearchCandidateDto candidate(Long id, String title, long views, int favorites, LocalDateTime latest) {
+        return NovelSearchCandidateDto.builder()
+                .id(id)
+                .title(title)
+                .totalView(views)
+                .totalFavorites(favorites)
+                .latestUpdateAt(latest)
+                .build();
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.ham.netnovel.recentRead.service;
+
+import com.ham.netnovel.member.MemberRepository;
+import com.ham.netnovel.recentRead.RecentReadRepository;
+import com.ham.netnovel.recentRead.dto.RecentReadUpdateDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentReadWriteBehindBufferTest {
+
+    //DB 대신 저장된 기록을 메모리에 보관하는 repository
+    private static class RecordingRepository {
+
+        private final List<RecentReadUpdateDto> saved = new ArrayList<>();
+
+        //실패시킬 저장 호출 수
+        private int failures;
+
+        //저장이 실패하기 직전에 실행, 저장 중에 새 기록이 들어오는 상황에 사용
+        private Runnable beforeFailure = () -> {
+        };
+
+        private RecentReadRepository recentReadRepository() {
+            return (RecentReadRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{RecentReadRepository.class}, (proxy, method, args) -> {
+                        if (!method.getName().equals("upsertRecentReads")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        if (failures > 0) {
+                            failures--;
+                            beforeFailure.run();
+                            throw new IllegalStateException("저장 실패");
+                        }
+                        @SuppressWarnings("unchecked")
+                        List<RecentReadUpdateDto> updates = (List<RecentReadUpdateDto>) args[0];
+                        saved.addAll(updates);
+                        return null;
+                    });
+        }
+
+        //providerId "유저1" => 유저 id 1
+        private static MemberRepository memberRepository() {
+            return (MemberRepository) Proxy.newProxyInstance(RecordingRepository.class.getClassLoader(),
+                    new Class<?>[]{MemberRepository.class}, (proxy, method, args) -> {
+                        if (!method.getName().equals("findIdsByProviderIds")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        List<Object[]> rows = new ArrayList<>();
+                        for (Object providerId : (Collection<?>) args[0]) {
+                            rows.add(new Object[]{providerId, Long.valueOf(((String) providerId).substring(2))});
+                        }
+                        return rows;
+                    });
+        }
+    }
+
+    private final RecordingRepository repository = new RecordingRepository();
+
+    private RecentReadWriteBehindBuffer buffer(int maxPending) {
+        return new RecentReadWriteBehindBuffer(repository.recentReadRepository(), RecordingRepository.memberRepository(),
+                new SimpleMeterRegistry(), maxPending, 60_000);
+    }
+
+    @Test
+    void keepsLastEpisodePerNovel() {
+        //given
+        RecentReadWriteBehindBuffer buffer = buffer(100);
+        buffer.record("유저1", 10L, 100L);
+        buffer.record("유저1", 10L, 101L);
+        buffer.record("유저1", 20L, 200L);
+
+        //when
+        buffer.flushAll();
+
+        //then
+        assertThat(repository.saved).extracting(RecentReadUpdateDto::getEpisodeId).containsExactly(101L, 200L);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void restoresFailedReadsForNextFlush() {
+        //given
+        RecentReadWriteBehindBuffer buffer = buffer(100);
+        repository.failures = 1;
+        buffer.record("유저1", 10L, 100L);
+
+        //when 첫 저장은 실패, 다음 저장에서 반영
+        buffer.flushAll();
+        int pendingAfterFailure = buffer.pendingCount();
+        buffer.flushAll();
+
+        //then
+        assertThat(pendingAfterFailure).isEqualTo(1);
+        assertThat(repository.saved).extracting(RecentReadUpdateDto::getEpisodeId).containsExactly(100L);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void keepsNewerReadOverRestoredRead() {
+        //given 저장 중에 같은 소설의 다음 에피소드를 읽음
+        RecentReadWriteBehindBuffer buffer = buffer(100);
+        repository.failures = 1;
+        repository.beforeFailure = () -> buffer.record("유저1", 10L, 101L);
+        buffer.record("유저1", 10L, 100L);
+
+        //when
+        buffer.flushAll();
+        buffer.flushAll();
+
+        //then 되돌린 이전 기록이 아닌 새 기록이 저장됨
+        assertThat(repository.saved).extracting(RecentReadUpdateDto::getEpisodeId).containsExactly(101L);
+    }
+
+    @Test
+    void dropsOldestWhenFull() {
+        //given
+        RecentReadWriteBehindBuffer buffer = buffer(2);
+        buffer.record("유저1", 10L, 100L);
+        buffer.record("유저1", 20L, 200L);
+        buffer.record("유저2", 30L, 300L);
+
+        //when
+        buffer.flushAll();
+
+        //then
+        assertThat(repository.saved).extracting(RecentReadUpdateDto::getNovelId).containsExactly(20L, 30L);
+    }
+
+    @Test
+    void dropsOldestWhenRestoreOverflows() {
+        //given 저장 중에 새 기록이 들어와 되돌리면 최대 크기를 넘음
+        RecentReadWriteBehindBuffer buffer = buffer(2);
+        repository.failures = 1;
+        repository.beforeFailure = () -> {
+            buffer.record("유저1", 30L, 300L);
+            buffer.record("유저1", 40L, 400L);
+        };
+        buffer.record("유저1", 10L, 100L);
+        buffer.record("유저1", 20L, 200L);
+
+        //when
+        buffer.flushAll();
+        buffer.flushAll();
+
+        //then 되돌린 기록이 가장 오래되었으므로 버려짐
+        assertThat(repository.saved).extracting(RecentReadUpdateDto::getNovelId).containsExactly(30L, 40L);
+    }
+
+    @Test
+    void pendingReadsDoesNotRemoveFromBuffer() {
+        //given
+        RecentReadWriteBehindBuffer buffer = buffer(100);
+        buffer.record("유저1", 10L, 100L);
+        buffer.record("유저1", 20L, 200L);
+        buffer.record("유저2", 30L, 300L);
+
+        //when
+        List<RecentReadWriteBehindBuffer.PendingRead> reads = buffer.pendingReads("유저1");
+
+        //then 유저의 기록만 반환하고 버퍼에 남김
+        assertThat(reads).extracting(RecentReadWriteBehindBuffer.PendingRead::novelId).containsExactlyInAnyOrder(20L, 10L);
+        assertThat(buffer.pendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    void pendingReadsIncludesReadsBeingFlushed() {
+        //given 저장 중에 최근 본 목록을 조회
+        RecentReadWriteBehindBuffer buffer = buffer(100);
+        List<RecentReadWriteBehindBuffer.PendingRead> duringFlush = new ArrayList<>();
+        repository.failures = 1;
+        repository.beforeFailure = () -> duringFlush.addAll(buffer.pendingReads("유저1"));
+        buffer.record("유저1", 10L, 100L);
+
+        //when
+        buffer.flushAll();
+
+        //then
+        assertThat(duringFlush).extracting(RecentReadWriteBehindBuffer.PendingRead::episodeId).containsExactly(100L);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ham.netnovel.tag.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+class TagAutocompleteIndexTest {
+
+    TagAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagAutocompleteIndex();
+        List<Object[]> tagUsages = new ArrayList<>();
+        tagUsages.add(new Object[]{"판타지", 30L});
+        tagUsages.add(new Object[]{"판타지로맨스", 50L});
+        tagUsages.add(new Object[]{"파나마", 1L});
+        tagUsages.add(new Object[]{"닭가슴살", 2L});
+        tagUsages.add(new Object[]{"Action", 5L});
+        index.rebuild(tagUsages);
+    }
+
+    @Test
+    void composingSyllableTest() {
+        //조합중인 음절 "파" 로 "판타지" 계열 태그 검색, 사용 소설 수 내림차순
+        List<String> result = index.search("파");
+
+        Assertions.assertThat(result).containsExactly("판타지로맨스", "판타지", "파나마");
+    }
+
+    @Test
+    void finalConsonantTest() {
+        //"판" 의 받침 ㄴ 이 다음 음절의 초성인 경우도 일치
+        Assertions.assertThat(index.search("판")).containsExactly("판타지로맨스", "판타지", "파나마");
+        //겹받침 입력 도중(닭 -> 달ㄱ)도 일치
+        Assertions.assertThat(index.search("닭")).containsExactly("닭가슴살");
+        Assertions.assertThat(index.search("달")).containsExactly("닭가슴살");
+    }
+
+    @Test
+    void caseInsensitiveTest() {
+        Assertions.assertThat(index.search("ac")).containsExactly("Action");
+    }
+
+    @Test
+    void noMatchTest() {
+        Assertions.assertThat(index.search("무협")).isEmpty();
+        Assertions.assertThat(index.search("")).isEmpty();
+    }
+
+    @Test
+    void rebuildTest() {
+        //재구성하면 이전 인덱스는 교체됨
+        List<Object[]> tagUsages = new ArrayList<>();
+        tagUsages.add(new Object[]{"무협", 3L});
+        index.rebuild(tagUsages);
+
+        Assertions.assertThat(index.search("무")).containsExactly("무협");
+        Assertions.assertThat(index.search("판")).isEmpty();
+    }
+
+}